@@ -113,7 +113,7 @@ public final class CloudletComponent
 			}
 			{
 				this.channelIdentifier = UUID.randomUUID ().toString ();
-				this.channel = ZeroMqChannel.create (this.channelIdentifier, this.threading, this.exceptions);
+				this.channel = ZeroMqChannel.create (this.channelIdentifier, this.threading, this.componentEnvironment.loops, this.exceptions);
 				this.transcript.traceDebugging ("using the interoperability identity `%s`...", this.channelIdentifier);
 				this.transcript.traceDebugging ("using the interoperability channel `%{object:identifier}`...", this.channel);
 			}
@@ -21,13 +21,22 @@
 package eu.mosaic_cloud.platform.implementation.v2.cloudlets.connectors.kvstore;
 
 
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.implementation.v2.cloudlets.connectors.core.BaseConnector;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnector;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.DeleteBulkFailedArguments;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.DeleteBulkSucceededArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.DeleteFailedArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.DeleteSucceededArguments;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.GetBulkFailedArguments;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.GetBulkSucceededArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.GetFailedArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.GetSucceededArguments;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.SetBulkFailedArguments;
+import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.SetBulkSucceededArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.SetFailedArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback.SetSucceededArguments;
 import eu.mosaic_cloud.platform.v2.cloudlets.core.CloudletController;
@@ -72,6 +81,33 @@ public abstract class BaseKvStoreConnector<TConnector extends eu.mosaic_cloud.pl
 		return completion;
 	}
 	
+	@Override
+	public CallbackCompletion<List<String>> deleteBulk (final List<String> keys) {
+		return this.deleteBulk (keys, null);
+	}
+	
+	@Override
+	public CallbackCompletion<List<String>> deleteBulk (final List<String> keys, final TExtra extra) {
+		this.transcript.traceDebugging ("deleting the records with `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+		final CallbackCompletion<List<String>> completion = this.connector.deleteBulk (keys);
+		if (this.callback != null) {
+			completion.observe (new CallbackCompletionObserver () {
+				@SuppressWarnings ("synthetic-access")
+				@Override
+				public CallbackCompletion<Void> completed (final CallbackCompletion<?> completion_) {
+					assert (completion_ == completion);
+					if (completion.getException () != null) {
+						BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for delete bulk failure for `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+						return BaseKvStoreConnector.this.callback.deleteBulkFailed (BaseKvStoreConnector.this.context, new DeleteBulkFailedArguments<TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, keys, completion.getException (), extra));
+					}
+					BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for delete bulk success for `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+					return BaseKvStoreConnector.this.callback.deleteBulkSucceeded (BaseKvStoreConnector.this.context, new DeleteBulkSucceededArguments<TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, keys, completion.getOutcome (), extra));
+				}
+			});
+		}
+		return completion;
+	}
+	
 	@Override
 	public CallbackCompletion<TValue> get (final String key) {
 		return this.get (key, null);
@@ -99,6 +135,33 @@ public abstract class BaseKvStoreConnector<TConnector extends eu.mosaic_cloud.pl
 		return completion;
 	}
 	
+	@Override
+	public CallbackCompletion<Map<String, TValue>> getBulk (final List<String> keys) {
+		return this.getBulk (keys, null);
+	}
+	
+	@Override
+	public CallbackCompletion<Map<String, TValue>> getBulk (final List<String> keys, final TExtra extra) {
+		this.transcript.traceDebugging ("getting the records with `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+		final CallbackCompletion<Map<String, TValue>> completion = this.connector.getBulk (keys);
+		if (this.callback != null) {
+			completion.observe (new CallbackCompletionObserver () {
+				@SuppressWarnings ("synthetic-access")
+				@Override
+				public CallbackCompletion<Void> completed (final CallbackCompletion<?> completion_) {
+					assert (completion_ == completion);
+					if (completion.getException () != null) {
+						BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for get bulk failure for `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+						return BaseKvStoreConnector.this.callback.getBulkFailed (BaseKvStoreConnector.this.context, new GetBulkFailedArguments<TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, keys, completion.getException (), extra));
+					}
+					BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for get bulk success for `%d` keys and extra `%{object}`...", Integer.valueOf (keys.size ()), extra);
+					return BaseKvStoreConnector.this.callback.getBulkSucceeded (BaseKvStoreConnector.this.context, new GetBulkSucceededArguments<TValue, TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, keys, completion.getOutcome (), extra));
+				}
+			});
+		}
+		return completion;
+	}
+	
 	@Override
 	public CallbackCompletion<Void> set (final String key, final TValue value) {
 		return this.set (key, value, null);
@@ -125,4 +188,31 @@ public abstract class BaseKvStoreConnector<TConnector extends eu.mosaic_cloud.pl
 		}
 		return completion;
 	}
+	
+	@Override
+	public CallbackCompletion<List<String>> setBulk (final Map<String, TValue> values) {
+		return this.setBulk (values, null);
+	}
+	
+	@Override
+	public CallbackCompletion<List<String>> setBulk (final Map<String, TValue> values, final TExtra extra) {
+		this.transcript.traceDebugging ("setting the records with `%d` keys and extra `%{object}`...", Integer.valueOf (values.size ()), extra);
+		final CallbackCompletion<List<String>> completion = this.connector.setBulk (values);
+		if (this.callback != null) {
+			completion.observe (new CallbackCompletionObserver () {
+				@SuppressWarnings ("synthetic-access")
+				@Override
+				public CallbackCompletion<Void> completed (final CallbackCompletion<?> completion_) {
+					assert (completion_ == completion);
+					if (completion.getException () != null) {
+						BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for set bulk failure for `%d` keys and extra `%{object}`...", Integer.valueOf (values.size ()), extra);
+						return BaseKvStoreConnector.this.callback.setBulkFailed (BaseKvStoreConnector.this.context, new SetBulkFailedArguments<TValue, TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, values, completion.getException (), extra));
+					}
+					BaseKvStoreConnector.this.transcript.traceDebugging ("triggering the callback for set bulk success for `%d` keys and extra `%{object}`...", Integer.valueOf (values.size ()), extra);
+					return BaseKvStoreConnector.this.callback.setBulkSucceeded (BaseKvStoreConnector.this.context, new SetBulkSucceededArguments<TValue, TExtra> (BaseKvStoreConnector.this.cloudlet, BaseKvStoreConnector.this, values, completion.getOutcome (), extra));
+				}
+			});
+		}
+		return completion;
+	}
 }
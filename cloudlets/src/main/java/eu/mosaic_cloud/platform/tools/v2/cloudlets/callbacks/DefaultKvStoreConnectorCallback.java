@@ -21,6 +21,9 @@
 package eu.mosaic_cloud.platform.tools.v2.cloudlets.callbacks;
 
 
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore.KvStoreConnectorCallback;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 
@@ -34,6 +37,24 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		super ();
 	}
 	
+	@Override
+	public CallbackCompletion<Void> deleteBulkFailed (final TContext context, final DeleteBulkFailedArguments<TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.deleteBulkFailed (context, arguments.error, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "deleteBulkFailed", context, arguments, false, false));
+	}
+	
+	@Override
+	public CallbackCompletion<Void> deleteBulkSucceeded (final TContext context, final DeleteBulkSucceededArguments<TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.deleteBulkSucceeded (context, arguments.failedKeys, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "deleteBulkSucceeded", context, arguments, true, false));
+	}
+	
 	@Override
 	public CallbackCompletion<Void> deleteFailed (final TContext context, final DeleteFailedArguments<TExtra> arguments) {
 		this.enforceCallbackArguments (context, arguments);
@@ -52,6 +73,24 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "deleteSucceeded", context, arguments, true, false));
 	}
 	
+	@Override
+	public CallbackCompletion<Void> getBulkFailed (final TContext context, final GetBulkFailedArguments<TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.getBulkFailed (context, arguments.error, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "getBulkFailed", context, arguments, false, false));
+	}
+	
+	@Override
+	public CallbackCompletion<Void> getBulkSucceeded (final TContext context, final GetBulkSucceededArguments<TValue, TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.getBulkSucceeded (context, arguments.values, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "getBulkSucceeded", context, arguments, true, false));
+	}
+	
 	@Override
 	public CallbackCompletion<Void> getFailed (final TContext context, final GetFailedArguments<TExtra> arguments) {
 		this.enforceCallbackArguments (context, arguments);
@@ -70,6 +109,24 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "getSucceeded", context, arguments, true, false));
 	}
 	
+	@Override
+	public CallbackCompletion<Void> setBulkFailed (final TContext context, final SetBulkFailedArguments<TValue, TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.setBulkFailed (context, arguments.error, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "setBulkFailed", context, arguments, false, false));
+	}
+	
+	@Override
+	public CallbackCompletion<Void> setBulkSucceeded (final TContext context, final SetBulkSucceededArguments<TValue, TExtra> arguments) {
+		this.enforceCallbackArguments (context, arguments);
+		final CallbackCompletion<Void> maybeCompleted = this.setBulkSucceeded (context, arguments.failedKeys, arguments.extra);
+		if (maybeCompleted != DefaultCallback.NotImplemented)
+			return (maybeCompleted);
+		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "setBulkSucceeded", context, arguments, true, false));
+	}
+	
 	@Override
 	public CallbackCompletion<Void> setFailed (final TContext context, final SetFailedArguments<TValue, TExtra> arguments) {
 		this.enforceCallbackArguments (context, arguments);
@@ -88,6 +145,14 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		return (this.handleUnhandledCallback (KvStoreConnectorCallback.class, "setSucceeded", context, arguments, true, false));
 	}
 	
+	protected CallbackCompletion<Void> deleteBulkFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
+	protected CallbackCompletion<Void> deleteBulkSucceeded (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final List<String> failedKeys, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
 	protected CallbackCompletion<Void> deleteFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
 		return (DefaultCallback.NotImplemented);
 	}
@@ -96,6 +161,14 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		return (DefaultCallback.NotImplemented);
 	}
 	
+	protected CallbackCompletion<Void> getBulkFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
+	protected CallbackCompletion<Void> getBulkSucceeded (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Map<String, TValue> values, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
 	protected CallbackCompletion<Void> getFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
 		return (DefaultCallback.NotImplemented);
 	}
@@ -104,6 +177,14 @@ public class DefaultKvStoreConnectorCallback<TContext, TValue, TExtra>
 		return (DefaultCallback.NotImplemented);
 	}
 	
+	protected CallbackCompletion<Void> setBulkFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
+	protected CallbackCompletion<Void> setBulkSucceeded (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final List<String> failedKeys, @SuppressWarnings ("unused") final TExtra extra) {
+		return (DefaultCallback.NotImplemented);
+	}
+	
 	protected CallbackCompletion<Void> setFailed (@SuppressWarnings ("unused") final TContext context, @SuppressWarnings ("unused") final Throwable error, @SuppressWarnings ("unused") final TExtra extra) {
 		return (DefaultCallback.NotImplemented);
 	}
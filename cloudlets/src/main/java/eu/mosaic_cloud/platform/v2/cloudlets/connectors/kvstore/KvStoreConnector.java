@@ -21,6 +21,9 @@
 package eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore;
 
 
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.core.Connector;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 
@@ -36,15 +39,33 @@ public interface KvStoreConnector<TValue extends Object, TExtra extends Object>
 	
 	public abstract CallbackCompletion<Void> delete (String key, TExtra extra);
 	
+	@Override
+	@Deprecated
+	public abstract CallbackCompletion<List<String>> deleteBulk (List<String> keys);
+	
+	public abstract CallbackCompletion<List<String>> deleteBulk (List<String> keys, TExtra extra);
+	
 	@Override
 	@Deprecated
 	public abstract CallbackCompletion<TValue> get (String key);
 	
 	public abstract CallbackCompletion<TValue> get (String key, TExtra extra);
 	
+	@Override
+	@Deprecated
+	public abstract CallbackCompletion<Map<String, TValue>> getBulk (List<String> keys);
+	
+	public abstract CallbackCompletion<Map<String, TValue>> getBulk (List<String> keys, TExtra extra);
+	
 	@Override
 	@Deprecated
 	public abstract CallbackCompletion<Void> set (String key, TValue data);
 	
 	public abstract CallbackCompletion<Void> set (String key, TValue value, TExtra extra);
+	
+	@Override
+	@Deprecated
+	public abstract CallbackCompletion<List<String>> setBulk (Map<String, TValue> values);
+	
+	public abstract CallbackCompletion<List<String>> setBulk (Map<String, TValue> values, TExtra extra);
 }
@@ -21,6 +21,10 @@
 package eu.mosaic_cloud.platform.v2.cloudlets.connectors.kvstore;
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.core.Connector;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.core.ConnectorCallback;
 import eu.mosaic_cloud.platform.v2.cloudlets.connectors.core.ConnectorOperationFailedArguments;
@@ -33,18 +37,71 @@ public interface KvStoreConnectorCallback<TContext extends Object, TValue extend
 			extends
 				ConnectorCallback<TContext>
 {
+	public abstract CallbackCompletion<Void> deleteBulkFailed (TContext context, DeleteBulkFailedArguments<TExtra> arguments);
+	
+	public abstract CallbackCompletion<Void> deleteBulkSucceeded (TContext context, DeleteBulkSucceededArguments<TExtra> arguments);
+	
 	public abstract CallbackCompletion<Void> deleteFailed (TContext context, DeleteFailedArguments<TExtra> arguments);
 	
 	public abstract CallbackCompletion<Void> deleteSucceeded (TContext context, DeleteSucceededArguments<TExtra> arguments);
 	
+	public abstract CallbackCompletion<Void> getBulkFailed (TContext context, GetBulkFailedArguments<TExtra> arguments);
+	
+	public abstract CallbackCompletion<Void> getBulkSucceeded (TContext context, GetBulkSucceededArguments<TValue, TExtra> arguments);
+	
 	public abstract CallbackCompletion<Void> getFailed (TContext context, GetFailedArguments<TExtra> arguments);
 	
 	public abstract CallbackCompletion<Void> getSucceeded (TContext context, GetSucceededArguments<TValue, TExtra> arguments);
 	
+	public abstract CallbackCompletion<Void> setBulkFailed (TContext context, SetBulkFailedArguments<TValue, TExtra> arguments);
+	
+	public abstract CallbackCompletion<Void> setBulkSucceeded (TContext context, SetBulkSucceededArguments<TValue, TExtra> arguments);
+	
 	public abstract CallbackCompletion<Void> setFailed (TContext context, SetFailedArguments<TValue, TExtra> arguments);
 	
 	public abstract CallbackCompletion<Void> setSucceeded (TContext context, SetSucceededArguments<TValue, TExtra> arguments);
 	
+	public static abstract class BulkOperationFailedArguments<TExtra extends Object>
+				extends ConnectorOperationFailedArguments<TExtra>
+	{
+		BulkOperationFailedArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final Throwable error, final TExtra extra) {
+			super (cloudlet, connector, error, extra);
+			this.keys = keys;
+		}
+		
+		public final List<String> keys;
+	}
+	
+	public static abstract class BulkOperationSucceededArguments<TExtra extends Object>
+				extends ConnectorOperationSucceededArguments<TExtra>
+	{
+		BulkOperationSucceededArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final TExtra extra) {
+			super (cloudlet, connector, extra);
+			this.keys = keys;
+		}
+		
+		public final List<String> keys;
+	}
+	
+	public static final class DeleteBulkFailedArguments<TExtra extends Object>
+				extends BulkOperationFailedArguments<TExtra>
+	{
+		public DeleteBulkFailedArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final Throwable error, final TExtra extra) {
+			super (cloudlet, connector, keys, error, extra);
+		}
+	}
+	
+	public static final class DeleteBulkSucceededArguments<TExtra extends Object>
+				extends BulkOperationSucceededArguments<TExtra>
+	{
+		public DeleteBulkSucceededArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final List<String> failedKeys, final TExtra extra) {
+			super (cloudlet, connector, keys, extra);
+			this.failedKeys = failedKeys;
+		}
+		
+		public final List<String> failedKeys;
+	}
+	
 	public static final class DeleteFailedArguments<TExtra extends Object>
 				extends OperationFailedArguments<TExtra>
 	{
@@ -61,6 +118,25 @@ public interface KvStoreConnectorCallback<TContext extends Object, TValue extend
 		}
 	}
 	
+	public static final class GetBulkFailedArguments<TExtra extends Object>
+				extends BulkOperationFailedArguments<TExtra>
+	{
+		public GetBulkFailedArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final Throwable error, final TExtra extra) {
+			super (cloudlet, connector, keys, error, extra);
+		}
+	}
+	
+	public static final class GetBulkSucceededArguments<TValue extends Object, TExtra extends Object>
+				extends BulkOperationSucceededArguments<TExtra>
+	{
+		public GetBulkSucceededArguments (final CloudletController<?> cloudlet, final Connector connector, final List<String> keys, final Map<String, TValue> values, final TExtra extra) {
+			super (cloudlet, connector, keys, extra);
+			this.values = values;
+		}
+		
+		public final Map<String, TValue> values;
+	}
+	
 	public static final class GetFailedArguments<TExtra extends Object>
 				extends OperationFailedArguments<TExtra>
 	{
@@ -102,6 +178,30 @@ public interface KvStoreConnectorCallback<TContext extends Object, TValue extend
 		public final String key;
 	}
 	
+	public static final class SetBulkFailedArguments<TValue, TExtra extends Object>
+				extends BulkOperationFailedArguments<TExtra>
+	{
+		public SetBulkFailedArguments (final CloudletController<?> cloudlet, final Connector connector, final Map<String, TValue> values, final Throwable error, final TExtra extra) {
+			super (cloudlet, connector, new ArrayList<String> (values.keySet ()), error, extra);
+			this.values = values;
+		}
+		
+		public final Map<String, TValue> values;
+	}
+	
+	public static final class SetBulkSucceededArguments<TValue extends Object, TExtra extends Object>
+				extends BulkOperationSucceededArguments<TExtra>
+	{
+		public SetBulkSucceededArguments (final CloudletController<?> cloudlet, final Connector connector, final Map<String, TValue> values, final List<String> failedKeys, final TExtra extra) {
+			super (cloudlet, connector, new ArrayList<String> (values.keySet ()), extra);
+			this.values = values;
+			this.failedKeys = failedKeys;
+		}
+		
+		public final List<String> failedKeys;
+		public final Map<String, TValue> values;
+	}
+	
 	public static final class SetFailedArguments<TValue, TExtra extends Object>
 				extends OperationFailedArguments<TExtra>
 	{
@@ -43,12 +43,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import eu.mosaic_cloud.components.core.ChannelMessageCoder;
 import eu.mosaic_cloud.components.core.ComponentCallbacks;
 import eu.mosaic_cloud.components.core.ComponentCallbacksProvider;
 import eu.mosaic_cloud.components.core.ComponentController;
 import eu.mosaic_cloud.components.core.ComponentEnvironment;
 import eu.mosaic_cloud.components.core.ComponentIdentifier;
 import eu.mosaic_cloud.components.tools.DefaultChannelMessageCoder;
+import eu.mosaic_cloud.components.tools.NegotiatingChannelMessageCoder;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackHandler;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackIsolate;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackProxy;
@@ -64,6 +66,7 @@ import eu.mosaic_cloud.tools.json.tools.DefaultJsonCoder;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
@@ -184,7 +187,15 @@ public final class BasicComponentHarnessMain
 		final Piper inputPiper = new Piper (Channels.newChannel (inputStream), inputPipe.sink (), environment.threading, environment.exceptions);
 		final Piper outputPiper = new Piper (outputPipe.source (), Channels.newChannel (outputStream), environment.threading, environment.exceptions);
 		environment.transcript.traceDebugging ("creating coder...");
-		final DefaultChannelMessageCoder coder = DefaultChannelMessageCoder.create ();
+		// NOTE: the negotiating coder is opt-in; it speaks JSON until the peer advertises the binary encoding.
+		final String coderName = arguments.getChannelCoder ();
+		final ChannelMessageCoder coder;
+		if ((coderName == null) || coderName.equals ("json"))
+			coder = DefaultChannelMessageCoder.create ();
+		else if (coderName.equals ("negotiating"))
+			coder = NegotiatingChannelMessageCoder.create ();
+		else
+			throw (new IllegalArgumentException (String.format ("invalid channel coder `%s`", coderName)));
 		environment.transcript.traceDebugging ("creating channel...");
 		final BasicChannel channel = BasicChannel.create (inputPipe.source (), outputPipe.sink (), coder, environment.reactor, environment.threading, environment.exceptions);
 		environment.transcript.traceDebugging ("initializing channel...");
@@ -234,7 +245,7 @@ public final class BasicComponentHarnessMain
 		component.initialize ();
 		environment.transcript.traceDebugging ("creating callbacks...");
 		final ComponentController componentController = component.getController ();
-		final ComponentEnvironment componentEnvironment = ComponentEnvironment.create (environment.identifier, environment.classLoader, environment.reactor, environment.threading, environment.exceptions, environment.options);
+		final ComponentEnvironment componentEnvironment = ComponentEnvironment.create (environment.identifier, environment.classLoader, environment.reactor, environment.threading, environment.loops, environment.exceptions, environment.options);
 		final ComponentCallbacks componentCallbacks;
 		try {
 			componentCallbacks = callbacksProvider.provide (componentEnvironment);
@@ -311,7 +322,12 @@ public final class BasicComponentHarnessMain
 			transcript.traceDebugging ("initializing callbacks reactor....");
 			reactor.initialize ();
 		}
-		final Environment environment = new Environment (identifier, classLoader, reactor, threading, transcript, exceptions, options);
+		final EventLoopGroup loops;
+		{
+			transcript.traceDebugging ("creating event loops...");
+			loops = EventLoopGroup.create (threading, BasicComponentHarnessMain.class, exceptions);
+		}
+		final Environment environment = new Environment (identifier, classLoader, reactor, threading, loops, transcript, exceptions, options);
 		return (environment);
 	}
 	
@@ -348,6 +364,9 @@ public final class BasicComponentHarnessMain
 		@Option (longName = "component-callbacks-configuration", minimum = 0, maximum = Integer.MAX_VALUE, defaultToNull = true)
 		public abstract List<String> getCallbacksOptions ();
 		
+		@Option (longName = "component-channel-coder", exactly = 1, defaultToNull = true)
+		public abstract String getChannelCoder ();
+		
 		@Option (longName = "component-channel-endpoint", exactly = 1, defaultToNull = true)
 		public abstract String getChannelEndpoint ();
 		
@@ -363,12 +382,13 @@ public final class BasicComponentHarnessMain
 	
 	public static final class Environment
 	{
-		public Environment (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final Transcript transcript, final ExceptionTracer exceptions, final Map<String, Object> options) {
+		public Environment (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final Transcript transcript, final ExceptionTracer exceptions, final Map<String, Object> options) {
 			super ();
 			Preconditions.checkNotNull (identifier);
 			Preconditions.checkNotNull (classLoader);
 			Preconditions.checkNotNull (reactor);
 			Preconditions.checkNotNull (threading);
+			Preconditions.checkNotNull (loops);
 			Preconditions.checkNotNull (transcript);
 			Preconditions.checkNotNull (exceptions);
 			Preconditions.checkNotNull (options);
@@ -376,6 +396,7 @@ public final class BasicComponentHarnessMain
 			this.classLoader = classLoader;
 			this.reactor = reactor;
 			this.threading = threading;
+			this.loops = loops;
 			this.transcript = transcript;
 			this.exceptions = exceptions;
 			this.options = options;
@@ -384,6 +405,7 @@ public final class BasicComponentHarnessMain
 		public final ClassLoader classLoader;
 		public final ExceptionTracer exceptions;
 		public final ComponentIdentifier identifier;
+		public final EventLoopGroup loops;
 		public final Map<String, Object> options;
 		public final CallbackReactor reactor;
 		public final ThreadingContext threading;
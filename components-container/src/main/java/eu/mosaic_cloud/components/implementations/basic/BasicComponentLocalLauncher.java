@@ -120,6 +120,11 @@ public final class BasicComponentLocalLauncher
 						return (componentConfiguration);
 					}
 					
+					@Override
+					public final String getChannelCoder () {
+						return (null);
+					}
+					
 					@Override
 					public final String getChannelEndpoint () {
 						return (channelAddressEncoded);
@@ -30,6 +30,7 @@ import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
 import eu.mosaic_cloud.tools.miscellaneous.SupplementaryEnvironment;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
 
 import com.google.common.base.Preconditions;
 
@@ -37,7 +38,7 @@ import com.google.common.base.Preconditions;
 public final class ComponentEnvironment
 			extends Object
 {
-	private ComponentEnvironment (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions, final Map<String, Object> supplementary) {
+	private ComponentEnvironment (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions, final Map<String, Object> supplementary) {
 		super ();
 		Preconditions.checkNotNull (identifier);
 		Preconditions.checkNotNull (classLoader);
@@ -49,6 +50,7 @@ public final class ComponentEnvironment
 		this.classLoader = classLoader;
 		this.reactor = reactor;
 		this.threading = threading;
+		this.loops = loops;
 		this.exceptions = exceptions;
 		this.supplementary = SupplementaryEnvironment.create (supplementary, new UncaughtExceptionHandler () {
 			@Override
@@ -61,15 +63,21 @@ public final class ComponentEnvironment
 	public final ClassLoader classLoader;
 	public final ExceptionTracer exceptions;
 	public final ComponentIdentifier identifier;
+	// NOTE: the event loops shared by the channels of the component (if provided, otherwise each channel uses its own threads).
+	public final EventLoopGroup loops;
 	public final CallbackReactor reactor;
 	public final SupplementaryEnvironment supplementary;
 	public final ThreadingContext threading;
 	
 	public static final ComponentEnvironment create (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
-		return (new ComponentEnvironment (identifier, classLoader, reactor, threading, exceptions, new HashMap<String, Object> ()));
+		return (new ComponentEnvironment (identifier, classLoader, reactor, threading, null, exceptions, new HashMap<String, Object> ()));
 	}
 	
 	public static final ComponentEnvironment create (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions, final Map<String, Object> supplementary) {
-		return (new ComponentEnvironment (identifier, classLoader, reactor, threading, exceptions, supplementary));
+		return (new ComponentEnvironment (identifier, classLoader, reactor, threading, null, exceptions, supplementary));
+	}
+	
+	public static final ComponentEnvironment create (final ComponentIdentifier identifier, final ClassLoader classLoader, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions, final Map<String, Object> supplementary) {
+		return (new ComponentEnvironment (identifier, classLoader, reactor, threading, loops, exceptions, supplementary));
 	}
 }
@@ -25,18 +25,24 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import eu.mosaic_cloud.components.httpg.jetty.connector.MessageHandler.MessageFormatException;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 
+import org.eclipse.jetty.io.Buffer;
+import org.eclipse.jetty.io.ByteArrayBuffer;
 import org.eclipse.jetty.io.ByteArrayEndPoint;
 import org.eclipse.jetty.io.ConnectedEndPoint;
 import org.eclipse.jetty.io.EndPoint;
 import org.eclipse.jetty.io.EofException;
 import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.AbstractHttpConnection;
 import org.eclipse.jetty.server.BlockingHttpConnection;
 import org.eclipse.jetty.util.log.Log;
 import org.json.JSONException;
+import org.json.JSONObject;
 
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
@@ -60,6 +66,7 @@ public class AmqpConnector
 		this._inputQueueName = queueName;
 		this._autoDeclareQueue = autoDeclareQueue;
 		this._connections = Collections.synchronizedSet (new HashSet<EndPoint> ());
+		this._buffers = new ArrayBlockingQueue<ByteArrayBuffer> (AmqpConnector.MAX_POOLED_BUFFERS);
 	}
 	
 	@Override
@@ -137,6 +144,19 @@ public class AmqpConnector
 		return new BlockingHttpConnection (this, endp, this.getServer ());
 	}
 	
+	private ByteArrayBuffer acquireBuffer () {
+		final ByteArrayBuffer buffer = this._buffers.poll ();
+		return (buffer != null) ? buffer : new ByteArrayBuffer (AmqpConnector.BUFFER_SIZE);
+	}
+	
+	private void releaseBuffer (final ByteArrayBuffer buffer) {
+		// NOTE: the buffers grown for large responses are pooled too, up to a limit, instead of being re-grown for each one
+		if (buffer.capacity () <= AmqpConnector.MAX_POOLED_BUFFER_SIZE) {
+			buffer.clear ();
+			this._buffers.offer (buffer);
+		}
+	}
+	
 	private void setupConnection ()
 				throws IOException {
 		Log.info ("Opening AmqpConnector");
@@ -161,6 +181,7 @@ public class AmqpConnector
 	
 	protected final Set<EndPoint> _connections;
 	private final boolean _autoDeclareQueue;
+	private final ArrayBlockingQueue<ByteArrayBuffer> _buffers;
 	private Channel _channel = null;
 	private Connection _connection = null;
 	private ConnectionFactory _connectionFactory = null;
@@ -173,6 +194,9 @@ public class AmqpConnector
 	private final String _userName;
 	private final String _userPassword;
 	private final String _virtualHost;
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+	private static final int MAX_POOLED_BUFFERS = 16;
 	
 	protected class ConnectorEndPoint
 				extends ByteArrayEndPoint
@@ -181,34 +205,78 @@ public class AmqpConnector
 					Runnable
 	{
 		public ConnectorEndPoint (final QueueMessage msg) {
-			super (msg.get_http_request (), 128);
+			super (msg.get_http_request_head (), 0);
+			// NOTE: the request body is read straight from the delivered message, once the request head was consumed
+			this._body = (msg.get_body_length () > 0) ? new ByteArrayBuffer (msg.get_body (), msg.get_body_offset (), msg.get_body_length ()) : null;
 			this._jettyConnection = AmqpConnector.this.newConnection (this);
 			this.set_message (msg);
+			this._released = new AtomicBoolean (false);
+			this.setOut (AmqpConnector.this.acquireBuffer ());
 			this.setGrowOutput (true);
 		}
 		
 		@Override
 		public void close ()
 					throws IOException {
-			if (!this._closed) {
-				try {
+			// NOTE: every exit path (dispatch failure, `run` failure, normal completion) ends up here, thus this is the only
+			//-- place where the output buffer is released
+			try {
+				if (!this._closed)
 					this.sendResponse ();
-				} catch (final JSONException e) {
-					// FIXME: Handle this...
-					Log.warn (e);
-				}
+			} catch (final JSONException e) {
+				// FIXME: Handle this...
+				Log.warn (e);
+			} finally {
+				super.close ();
+				if (this._released.compareAndSet (false, true))
+					AmqpConnector.this.releaseBuffer (this.getOut ());
 			}
-			super.close ();
 		}
 		
 		public void dispatch ()
 					throws IOException {
-			if ((AmqpConnector.this.getThreadPool () == null) || !AmqpConnector.this.getThreadPool ().dispatch (this)) {
-				Log.warn ("dispatch failed for {}", this._jettyConnection);
-				this.close ();
+			boolean dispatched = false;
+			try {
+				dispatched = (AmqpConnector.this.getThreadPool () != null) && AmqpConnector.this.getThreadPool ().dispatch (this);
+			} finally {
+				if (!dispatched) {
+					Log.warn ("dispatch failed for {}", this._jettyConnection);
+					this.close ();
+				}
 			}
 		}
 		
+		@Override
+		public int fill (final Buffer buffer)
+					throws IOException {
+			if ((this._body != null) && (this.getIn ().length () == 0)) {
+				this.setIn (this._body);
+				this._body = null;
+			}
+			return super.fill (buffer);
+		}
+		
+		@Override
+		public int flush (final Buffer buffer)
+					throws IOException {
+			// NOTE: the output grows geometrically, instead of exactly to the needed size (as `ByteArrayEndPoint` does)
+			if ((this._response == null) && (this._jettyConnection instanceof AbstractHttpConnection) && ((AbstractHttpConnection) this._jettyConnection).getResponse ().isCommitted ()) {
+				try {
+					this._response = MessageHandler.describeResponse ((AbstractHttpConnection) this._jettyConnection);
+				} catch (final JSONException e) {
+					throw new IOException (e);
+				}
+			}
+			final ByteArrayBuffer out = this.getOut ();
+			if (!this._closed && (buffer.length () > out.space ())) {
+				final ByteArrayBuffer grown = new ByteArrayBuffer (Math.max (out.capacity () * 2, out.length () + buffer.length ()));
+				grown.put (out);
+				this.setOut (grown);
+				AmqpConnector.this.releaseBuffer (out);
+			}
+			return super.flush (buffer);
+		}
+		
 		public QueueMessage get_message () {
 			return this._message;
 		}
@@ -233,19 +301,14 @@ public class AmqpConnector
 				}
 			} catch (final EofException e) {
 				Log.debug ("EOF", e);
-				try {
-					this.close ();
-				} catch (final IOException e2) {
-					Log.ignore (e2);
-				}
 			} catch (final Exception e) {
 				Log.warn ("handle failed?", e);
+			} finally {
 				try {
 					this.close ();
 				} catch (final IOException e2) {
 					Log.ignore (e2);
 				}
-			} finally {
 				AmqpConnector.this.connectionClosed (this._jettyConnection);
 				AmqpConnector.this._connections.remove (this);
 			}
@@ -267,10 +330,20 @@ public class AmqpConnector
 					throws IOException, JSONException {
 			final QueueMessage msg = this.get_message ();
 			final Channel c = msg.get_channel ();
-			c.basicPublish (msg.get_callback_exchange (), msg.get_callback_routing_key (), null, MessageHandler.encodeMessage (this.getOut ().array (), msg.get_callback_identifier ()));
+			final ByteArrayBuffer out = this.getOut ();
+			final byte[] response;
+			if (this._response != null) {
+				response = MessageHandler.encodeResponse (this._response, out.array (), out.getIndex (), out.length (), msg.get_callback_identifier ());
+			} else {
+				response = MessageHandler.encodeMessage (out.asArray (), msg.get_callback_identifier ());
+			}
+			c.basicPublish (msg.get_callback_exchange (), msg.get_callback_routing_key (), null, response);
 		}
 		
 		volatile org.eclipse.jetty.io.Connection _jettyConnection;
+		private ByteArrayBuffer _body;
 		private QueueMessage _message;
+		private final AtomicBoolean _released;
+		private JSONObject _response;
 	}
 }
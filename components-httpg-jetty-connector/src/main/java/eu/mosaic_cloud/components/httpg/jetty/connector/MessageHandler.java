@@ -28,12 +28,18 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.AbstractHttpConnection;
+import org.eclipse.jetty.server.Response;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -44,45 +50,42 @@ public class MessageHandler
 {
 	public static QueueMessage decodeMessage (final QueueingConsumer.Delivery delivery)
 				throws MessageFormatException, IOException {
+		// NOTE: the message is decoded in place, the resulting message only referencing (and not copying) the body
 		final byte[] message_body = delivery.getBody ();
-		final ByteArrayInputStream is = new ByteArrayInputStream (message_body);
-		final DataInputStream dis = new DataInputStream (is);
-		int metadataLength = 0;
-		try {
-			metadataLength = dis.readInt ();
-		} catch (final IOException e) {
+		if (message_body.length < 4) {
 			throw new MessageFormatException ("Expecting metadata length bug got nothing!");
 		}
-		if (metadataLength > message_body.length) {
+		final int metadataLength = MessageHandler.readInt (message_body, 0);
+		if ((metadataLength < 0) || (metadataLength > (message_body.length - 4))) {
 			throw new MessageFormatException ("Expecting metadata length but found garbage");
 		}
-		final byte[] raw_headers = new byte[metadataLength];
-		if (dis.read (raw_headers) != metadataLength) {
-			throw new MessageFormatException ("Could not read metadata");
-		}
 		JSONObject headers = null;
 		try {
-			headers = new JSONObject (new String (raw_headers));
+			headers = new JSONObject (new String (message_body, 4, metadataLength, MessageHandler._charset));
 		} catch (final JSONException e) {
 			throw new MessageFormatException ("Failed parsing JSON object: " + e.getMessage ());
 		}
-		byte[] body = new byte[0];
+		byte[] body = message_body;
+		int body_offset = 4 + metadataLength;
+		int body_length = 0;
 		final String body_method = headers.optString ("http-body", "empty");
 		if (body_method.equalsIgnoreCase ("empty")) {} else if (body_method.equalsIgnoreCase ("following")) {
-			final int bodyLength = dis.readInt ();
-			if (bodyLength > (message_body.length - metadataLength)) {
+			if ((body_offset + 4) > message_body.length) {
 				throw new MessageFormatException ("Expected body length but found garbage");
 			}
-			body = new byte[bodyLength];
-			if (dis.read (body) != bodyLength) {
-				throw new MessageFormatException ("Could not read body");
+			body_length = MessageHandler.readInt (message_body, body_offset);
+			body_offset += 4;
+			if ((body_length < 0) || (body_length > (message_body.length - body_offset))) {
+				throw new MessageFormatException ("Expected body length but found garbage");
 			}
 		} else if (body_method.equalsIgnoreCase ("embedded")) {
 			body = headers.optString ("http-body-content").getBytes ();
+			body_offset = 0;
+			body_length = body.length;
 		} else {
 			throw new MessageFormatException ("Unknown body encapsulation method");
 		}
-		final QueueMessage _msg = new QueueMessage (headers, body);
+		final QueueMessage _msg = new QueueMessage (headers, body, body_offset, body_length);
 		try {
 			final String callback_exchange = headers.getString ("callback-exchange");
 			final String callback_identifier = headers.getString ("callback-identifier");
@@ -95,7 +98,7 @@ public class MessageHandler
 		}
 		_msg.set_delivery (delivery);
 		try {
-			_msg.set_http_request (MessageHandler.generate_full_http_request (headers, body));
+			_msg.set_http_request_head (MessageHandler.generate_http_request_head (headers));
 		} catch (final JSONException e) {
 			throw new MessageFormatException ("Error generating http request: " + e.getMessage ());
 		}
@@ -178,10 +181,110 @@ public class MessageHandler
 		return ostream.toByteArray ();
 	}
 	
+	public static JSONObject describeResponse (final AbstractHttpConnection connection)
+				throws JSONException {
+		// NOTE: the status and the headers are taken straight from the Jetty response, which must be done once the response is
+		//-- committed, but before the connection recycles it (i.e. when its head is flushed)
+		final Response response = connection.getResponse ();
+		final String protocol = connection.getRequest ().getProtocol ();
+		final String http_version = ((protocol != null) && protocol.startsWith ("HTTP/")) ? protocol.substring (5) : "1.1";
+		final String response_message = (response.getReason () != null) ? response.getReason () : HttpStatus.getMessage (response.getStatus ());
+		final HttpFields fields = connection.getResponseFields ();
+		final JSONObject http_headers = new JSONObject ();
+		for (final String header_name : fields.getFieldNamesCollection ()) {
+			if (MessageHandler._ignored_http_headers.contains (header_name) || "Transfer-Encoding".equalsIgnoreCase (header_name)) {
+				continue;
+			}
+			final StringBuilder header_value = new StringBuilder ();
+			for (final Enumeration<String> values = fields.getValues (header_name); values.hasMoreElements ();) {
+				if (header_value.length () > 0) {
+					header_value.append (", ");
+				}
+				header_value.append (values.nextElement ());
+			}
+			http_headers.put (header_name, header_value.toString ());
+		}
+		final JSONObject json = new JSONObject ();
+		json.put ("version", 1).put ("http-version", http_version).put ("http-code", response.getStatus ()).put ("http-status", response_message).put ("http-headers", http_headers);
+		return json;
+	}
+	
+	public static byte[] encodeResponse (final JSONObject response, final byte[] out, final int offset, final int length, final String callback_identifier)
+				throws HttpFormatException, JSONException {
+		// NOTE: the generated output is used only for the body (which is de-chunked, as the message carries its length
+		//-- anyway), the rest of the message being described by `describeResponse`
+		final int end = offset + length;
+		int startOfBody = offset;
+		while (true) {
+			if ((startOfBody + 4) > end) {
+				throw new HttpFormatException ("Error reading HTTP response");
+			}
+			if ((out[startOfBody] == '\r') && (out[startOfBody + 1] == '\n') && (out[startOfBody + 2] == '\r') && (out[startOfBody + 3] == '\n')) {
+				startOfBody += 4;
+				break;
+			}
+			startOfBody++;
+		}
+		final boolean chunked = new String (out, offset, startOfBody - offset, MessageHandler._headerCharset).toLowerCase ().contains ("\r\ntransfer-encoding: chunked\r\n");
+		final JSONObject json = new JSONObject (response, JSONObject.getNames (response));
+		json.put ("callback-identifier", callback_identifier).put ("http-body", "following");
+		final byte[] json_data = json.toString ().getBytes ();
+		final int body_length = chunked ? MessageHandler.dechunk (out, startOfBody, end, null, 0) : (end - startOfBody);
+		final byte[] message = new byte[json_data.length + body_length + 8];
+		MessageHandler.writeInt (message, 0, json_data.length);
+		System.arraycopy (json_data, 0, message, 4, json_data.length);
+		MessageHandler.writeInt (message, 4 + json_data.length, body_length);
+		if (chunked) {
+			MessageHandler.dechunk (out, startOfBody, end, message, 8 + json_data.length);
+		} else {
+			System.arraycopy (out, startOfBody, message, 8 + json_data.length, body_length);
+		}
+		return message;
+	}
+	
+	private static int dechunk (final byte[] in, final int offset, final int end, final byte[] out, final int outOffset)
+				throws HttpFormatException {
+		int position = offset;
+		int length = 0;
+		while (true) {
+			while ((position < end) && ((in[position] == '\r') || (in[position] == '\n'))) {
+				position++;
+			}
+			int size = 0;
+			int digits = 0;
+			while ((position < end) && (in[position] != '\r') && (in[position] != ';')) {
+				final int digit = Character.digit (in[position], 16);
+				if ((digit < 0) || (size > (Integer.MAX_VALUE >> 4))) {
+					throw new HttpFormatException ("Invalid chunk size");
+				}
+				size = (size << 4) + digit;
+				digits++;
+				position++;
+			}
+			while ((position < end) && (in[position] != '\n')) {
+				position++;
+			}
+			position++;
+			if ((digits == 0) || (position > end)) {
+				throw new HttpFormatException ("Invalid chunk size");
+			}
+			if (size == 0) {
+				return length;
+			}
+			if (size > (end - position)) {
+				throw new HttpFormatException ("Truncated chunk");
+			}
+			if (out != null) {
+				System.arraycopy (in, position, out, outOffset + length, size);
+			}
+			length += size;
+			position += size;
+		}
+	}
+	
 	@SuppressWarnings ("unchecked")
-	private static byte[] generate_full_http_request (final JSONObject headers, final byte[] body)
-				throws JSONException, IOException, MessageFormatException {
-		final ByteArrayOutputStream outs = new ByteArrayOutputStream ();
+	private static byte[] generate_http_request_head (final JSONObject headers)
+				throws JSONException, MessageFormatException {
 		String uri = null;
 		String method = null;
 		JSONObject http_headers = null;
@@ -201,19 +304,29 @@ public class MessageHandler
 			throw new MessageFormatException ("Could not find request method in message: " + e.getMessage ());
 		}
 		final Iterator<String> it = http_headers.keys ();
-		final String request = method + " " + uri + " " + "HTTP/1.1\r\n";
-		outs.write (request.getBytes ());
+		final StringBuilder request = new StringBuilder ();
+		request.append (method).append (' ').append (uri).append (" HTTP/1.1\r\n");
 		while (it.hasNext ()) {
 			final String header_name = it.next ();
-			final String header_value = http_headers.getString (header_name);
-			final String header = header_name + ": " + header_value + "\r\n";
-			outs.write (header.getBytes ());
+			request.append (header_name).append (": ").append (http_headers.getString (header_name)).append ("\r\n");
 		}
-		outs.write ("\r\n".getBytes ());
-		outs.write (body);
-		return outs.toByteArray ();
+		request.append ("\r\n");
+		return request.toString ().getBytes ();
+	}
+	
+	private static int readInt (final byte[] in, final int offset) {
+		return ((in[offset] & 0xff) << 24) | ((in[offset + 1] & 0xff) << 16) | ((in[offset + 2] & 0xff) << 8) | (in[offset + 3] & 0xff);
+	}
+	
+	private static void writeInt (final byte[] out, final int offset, final int value) {
+		out[offset] = (byte) (value >>> 24);
+		out[offset + 1] = (byte) (value >>> 16);
+		out[offset + 2] = (byte) (value >>> 8);
+		out[offset + 3] = (byte) value;
 	}
 	
+	private static final Charset _charset = Charset.forName ("UTF-8");
+	private static final Charset _headerCharset = Charset.forName ("ISO-8859-1");
 	private static String[] _headers = {"Connection", "Content-Length"};
 	private static HashSet<String> _ignored_http_headers = new HashSet<String> (Arrays.asList (MessageHandler._headers));
 	
@@ -34,14 +34,26 @@ public class QueueMessage
 				Serializable
 {
 	public QueueMessage (final JSONObject headers, final byte[] body) {
+		this (headers, body, 0, body.length);
+	}
+	
+	public QueueMessage (final JSONObject headers, final byte[] body, final int body_offset, final int body_length) {
 		this._headers = headers;
-		this.set_body (body);
+		this.set_body (body, body_offset, body_length);
 	}
 	
 	public byte[] get_body () {
 		return this._body;
 	}
 	
+	public int get_body_length () {
+		return this._body_length;
+	}
+	
+	public int get_body_offset () {
+		return this._body_offset;
+	}
+	
 	public String get_callback_exchange () {
 		return this._callback_exchange;
 	}
@@ -66,12 +78,18 @@ public class QueueMessage
 		return this._headers;
 	}
 	
-	public byte[] get_http_request () {
-		return this._http_request;
+	public byte[] get_http_request_head () {
+		return this._http_request_head;
 	}
 	
 	public void set_body (final byte[] _body) {
+		this.set_body (_body, 0, _body.length);
+	}
+	
+	public void set_body (final byte[] _body, final int _body_offset, final int _body_length) {
 		this._body = _body;
+		this._body_offset = _body_offset;
+		this._body_length = _body_length;
 	}
 	
 	public void set_callback_exchange (final String _callback_exchange) {
@@ -98,17 +116,19 @@ public class QueueMessage
 		this._headers = _headers;
 	}
 	
-	public void set_http_request (final byte[] _http_request) {
-		this._http_request = _http_request;
+	public void set_http_request_head (final byte[] _http_request_head) {
+		this._http_request_head = _http_request_head;
 	}
 	
 	private byte[] _body;
+	private int _body_length;
+	private int _body_offset;
 	private String _callback_exchange = null;
 	private String _callback_identifier = null;
 	private String _callback_routing_key = null;
 	transient private Channel _channel = null;
 	transient private Delivery _delivery = null;
 	transient private JSONObject _headers = null;
-	private byte[] _http_request = null;
+	private byte[] _http_request_head = null;
 	private static final long serialVersionUID = 6681953494107319042L;
 }
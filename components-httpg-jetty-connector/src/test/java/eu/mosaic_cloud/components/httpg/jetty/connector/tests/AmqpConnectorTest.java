@@ -0,0 +1,262 @@
+/*
+ * #%L
+ * mosaic-components-httpg-jetty-connector
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.components.httpg.jetty.connector.tests;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import eu.mosaic_cloud.components.httpg.jetty.connector.AmqpConnector;
+import eu.mosaic_cloud.components.httpg.jetty.connector.MessageHandler;
+import eu.mosaic_cloud.components.httpg.jetty.connector.QueueMessage;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.QueueingConsumer;
+
+
+/**
+ * Tests the connector inside a Jetty server, with the requests fed straight to the acceptor and the responses captured from a
+ * stub channel, instead of going through the broker.
+ */
+public class AmqpConnectorTest
+{
+	@Before
+	public void setUp ()
+				throws Exception {
+		this.responses = new LinkedBlockingQueue<byte[]> ();
+		this.channel = (Channel) Proxy.newProxyInstance (Channel.class.getClassLoader (), new Class<?>[] {Channel.class}, new InvocationHandler () {
+			@Override
+			public Object invoke (final Object proxy, final Method method, final Object[] arguments) {
+				Assert.assertEquals ("basicPublish", method.getName ());
+				Assert.assertEquals ("callback-exchange", arguments[0]);
+				Assert.assertEquals ("callback-routing-key", arguments[1]);
+				AmqpConnectorTest.this.responses.add ((byte[]) arguments[arguments.length - 1]);
+				return null;
+			}
+		});
+		this.connector = new TestConnector ();
+		this.server = new Server ();
+		this.server.addConnector (this.connector);
+		this.server.setHandler (new TestHandler ());
+		this.server.start ();
+	}
+	
+	@After
+	public void tearDown ()
+				throws Exception {
+		this.server.stop ();
+	}
+	
+	@Test
+	public void testChunkedResponse ()
+				throws Exception {
+		final JSONObject response = this.execute ("GET", "/chunked", null);
+		Assert.assertEquals (200, response.getInt ("http-code"));
+		Assert.assertFalse (response.getJSONObject ("http-headers").has ("Transfer-Encoding"));
+		Assert.assertEquals ("hello world", new String (this.body, AmqpConnectorTest.CHARSET));
+	}
+	
+	@Test
+	public void testLargeResponse ()
+				throws Exception {
+		final JSONObject response = this.execute ("GET", "/large", null);
+		Assert.assertEquals (200, response.getInt ("http-code"));
+		Assert.assertArrayEquals (AmqpConnectorTest.createContent (AmqpConnectorTest.LARGE_SIZE), this.body);
+		// NOTE: the output buffers (the grown one included) are reused by the following requests
+		this.execute ("GET", "/large", null);
+		Assert.assertArrayEquals (AmqpConnectorTest.createContent (AmqpConnectorTest.LARGE_SIZE), this.body);
+	}
+	
+	@Test
+	public void testRequestBody ()
+				throws Exception {
+		final byte[] content = AmqpConnectorTest.createContent (64 * 1024);
+		final JSONObject response = this.execute ("POST", "/echo", content);
+		Assert.assertEquals (201, response.getInt ("http-code"));
+		Assert.assertEquals ("Created", response.getString ("http-status"));
+		Assert.assertEquals ("1.1", response.getString ("http-version"));
+		Assert.assertEquals ("callback-identifier", response.getString ("callback-identifier"));
+		final JSONObject headers = response.getJSONObject ("http-headers");
+		Assert.assertEquals ("a", headers.getString ("X-Test"));
+		Assert.assertEquals ("b, c", headers.getString ("X-Multi"));
+		Assert.assertFalse (headers.has ("Content-Length"));
+		Assert.assertArrayEquals (content, this.body);
+	}
+	
+	@Test
+	public void testStatus ()
+				throws Exception {
+		final JSONObject response = this.execute ("GET", "/missing", null);
+		Assert.assertEquals (404, response.getInt ("http-code"));
+		Assert.assertEquals ("Not Found", response.getString ("http-status"));
+	}
+	
+	private JSONObject execute (final String method, final String uri, final byte[] content)
+				throws Exception {
+		final JSONObject headers = new JSONObject ();
+		headers.put ("Host", "localhost");
+		headers.put ("Content-Length", Integer.toString ((content != null) ? content.length : 0));
+		final JSONObject metadata = new JSONObject ();
+		metadata.put ("version", 1).put ("callback-exchange", "callback-exchange").put ("callback-identifier", "callback-identifier").put ("callback-routing-key", "callback-routing-key").put ("http-method", method).put ("http-uri", uri).put ("http-headers", headers).put ("http-body", (content != null) ? "following" : "empty");
+		final byte[] json = metadata.toString ().getBytes (AmqpConnectorTest.CHARSET);
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream ();
+		AmqpConnectorTest.writeInt (stream, json.length);
+		stream.write (json);
+		if (content != null) {
+			AmqpConnectorTest.writeInt (stream, content.length);
+			stream.write (content);
+		}
+		final QueueMessage message = MessageHandler.decodeMessage (new QueueingConsumer.Delivery (new Envelope (1, false, "exchange", "routing-key"), null, stream.toByteArray ()));
+		message.set_channel (this.channel);
+		this.connector.messages.add (message);
+		final byte[] response = this.responses.poll (AmqpConnectorTest.TIMEOUT, TimeUnit.MILLISECONDS);
+		Assert.assertNotNull (response);
+		final int jsonLength = AmqpConnectorTest.readInt (response, 0);
+		final int bodyLength = AmqpConnectorTest.readInt (response, 4 + jsonLength);
+		Assert.assertEquals (response.length, 8 + jsonLength + bodyLength);
+		this.body = Arrays.copyOfRange (response, 8 + jsonLength, response.length);
+		final JSONObject outcome = new JSONObject (new String (response, 4, jsonLength, AmqpConnectorTest.CHARSET));
+		Assert.assertEquals ("following", outcome.getString ("http-body"));
+		return outcome;
+	}
+	
+	private byte[] body;
+	private Channel channel;
+	private TestConnector connector;
+	private BlockingQueue<byte[]> responses;
+	private Server server;
+	private static final Charset CHARSET = Charset.forName ("UTF-8");
+	private static final int LARGE_SIZE = 100 * 1024;
+	private static final long TIMEOUT = 5000;
+	
+	private static byte[] createContent (final int size) {
+		final byte[] content = new byte[size];
+		for (int index = 0; index < size; index++) {
+			content[index] = (byte) ('a' + (index % 26));
+		}
+		return content;
+	}
+	
+	private static int readInt (final byte[] in, final int offset) {
+		return ((in[offset] & 0xff) << 24) | ((in[offset + 1] & 0xff) << 16) | ((in[offset + 2] & 0xff) << 8) | (in[offset + 3] & 0xff);
+	}
+	
+	private static void writeInt (final OutputStream stream, final int value)
+				throws IOException {
+		stream.write (value >>> 24);
+		stream.write (value >>> 16);
+		stream.write (value >>> 8);
+		stream.write (value);
+	}
+	
+	private static final class TestConnector
+				extends AmqpConnector
+	{
+		TestConnector () {
+			super ("exchange", "routing-key", "queue", "localhost", "guest", "guest", 5672, "/", false);
+			this.messages = new LinkedBlockingQueue<QueueMessage> ();
+		}
+		
+		@Override
+		public Object getConnection () {
+			// NOTE: the acceptors run only as long as the connector has an underlying connection
+			return this.messages;
+		}
+		
+		@Override
+		public void open () {
+			// NOTE: the messages are fed by the test, thus there is no broker to connect to
+		}
+		
+		@Override
+		protected void accept (final int acceptorID)
+					throws IOException, InterruptedException {
+			final QueueMessage message = this.messages.poll (100, TimeUnit.MILLISECONDS);
+			if (message != null) {
+				new ConnectorEndPoint (message).dispatch ();
+			}
+		}
+		
+		final BlockingQueue<QueueMessage> messages;
+	}
+	
+	private static final class TestHandler
+				extends AbstractHandler
+	{
+		TestHandler () {
+			super ();
+		}
+		
+		@Override
+		public void handle (final String target, final Request base, final HttpServletRequest request, final HttpServletResponse response)
+					throws IOException {
+			if ("/echo".equals (target)) {
+				final ByteArrayOutputStream content = new ByteArrayOutputStream ();
+				final InputStream input = request.getInputStream ();
+				final byte[] buffer = new byte[4096];
+				for (int read = input.read (buffer); read != -1; read = input.read (buffer)) {
+					content.write (buffer, 0, read);
+				}
+				response.setStatus (HttpServletResponse.SC_CREATED);
+				response.setHeader ("X-Test", "a");
+				response.addHeader ("X-Multi", "b");
+				response.addHeader ("X-Multi", "c");
+				response.getOutputStream ().write (content.toByteArray ());
+			} else if ("/chunked".equals (target)) {
+				response.getOutputStream ().write ("hello ".getBytes (AmqpConnectorTest.CHARSET));
+				response.flushBuffer ();
+				response.getOutputStream ().write ("world".getBytes (AmqpConnectorTest.CHARSET));
+			} else if ("/large".equals (target)) {
+				final byte[] content = AmqpConnectorTest.createContent (AmqpConnectorTest.LARGE_SIZE);
+				for (int offset = 0; offset < content.length; offset += 10 * 1024) {
+					response.getOutputStream ().write (content, offset, Math.min (10 * 1024, content.length - offset));
+					response.flushBuffer ();
+				}
+			} else {
+				return;
+			}
+			base.setHandled (true);
+		}
+	}
+}
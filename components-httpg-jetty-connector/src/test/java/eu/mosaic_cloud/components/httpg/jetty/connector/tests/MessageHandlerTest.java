@@ -0,0 +1,124 @@
+/*
+ * #%L
+ * mosaic-components-httpg-jetty-connector
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.components.httpg.jetty.connector.tests;
+
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import eu.mosaic_cloud.components.httpg.jetty.connector.MessageHandler;
+import eu.mosaic_cloud.components.httpg.jetty.connector.MessageHandler.HttpFormatException;
+
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class MessageHandlerTest
+{
+	@Before
+	public void setUp ()
+				throws Exception {
+		final JSONObject headers = new JSONObject ();
+		headers.put ("X-Test", "a");
+		this.response = new JSONObject ();
+		this.response.put ("version", 1).put ("http-version", "1.1").put ("http-code", 201).put ("http-status", "Created").put ("http-headers", headers);
+	}
+	
+	@Test
+	public void testEncodeChunked ()
+				throws Exception {
+		final byte[] message = this.encode ("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\n5;name=value\r\nhello\r\n6\r\n world\r\n0\r\n\r\n");
+		final JSONObject json = this.decode (message);
+		Assert.assertEquals (201, json.getInt ("http-code"));
+		Assert.assertEquals ("Created", json.getString ("http-status"));
+		Assert.assertEquals ("a", json.getJSONObject ("http-headers").getString ("X-Test"));
+		Assert.assertEquals ("callback-identifier", json.getString ("callback-identifier"));
+		Assert.assertEquals ("following", json.getString ("http-body"));
+		Assert.assertEquals ("hello world", new String (this.body, MessageHandlerTest.CHARSET));
+		// NOTE: the response description is left untouched
+		Assert.assertFalse (this.response.has ("callback-identifier"));
+	}
+	
+	@Test
+	public void testEncodeEmpty ()
+				throws Exception {
+		this.decode (this.encode ("HTTP/1.1 201 Created\r\nContent-Length: 0\r\n\r\n"));
+		Assert.assertEquals (0, this.body.length);
+		this.decode (this.encode ("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\n0\r\n\r\n"));
+		Assert.assertEquals (0, this.body.length);
+	}
+	
+	@Test (expected = HttpFormatException.class)
+	public void testEncodeInvalidChunk ()
+				throws Exception {
+		this.encode ("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\nxyz\r\nhello\r\n0\r\n\r\n");
+	}
+	
+	@Test (expected = HttpFormatException.class)
+	public void testEncodeMissingHead ()
+				throws Exception {
+		this.encode ("HTTP/1.1 201 Created\r\nContent-Length: 5\r\n");
+	}
+	
+	@Test
+	public void testEncodePlain ()
+				throws Exception {
+		final JSONObject json = this.decode (this.encode ("HTTP/1.1 201 Created\r\nContent-Length: 11\r\n\r\n5\r\nhello world"));
+		Assert.assertEquals (201, json.getInt ("http-code"));
+		// NOTE: without chunked encoding the body is taken as it is
+		Assert.assertEquals ("5\r\nhello world", new String (this.body, MessageHandlerTest.CHARSET));
+	}
+	
+	@Test (expected = HttpFormatException.class)
+	public void testEncodeTruncatedChunk ()
+				throws Exception {
+		this.encode ("HTTP/1.1 201 Created\r\nTransfer-Encoding: chunked\r\n\r\n10\r\nhello\r\n");
+	}
+	
+	private JSONObject decode (final byte[] message)
+				throws Exception {
+		final int jsonLength = MessageHandlerTest.readInt (message, 0);
+		final int bodyLength = MessageHandlerTest.readInt (message, 4 + jsonLength);
+		Assert.assertEquals (message.length, 8 + jsonLength + bodyLength);
+		this.body = Arrays.copyOfRange (message, 8 + jsonLength, message.length);
+		return new JSONObject (new String (message, 4, jsonLength, MessageHandlerTest.CHARSET));
+	}
+	
+	private byte[] encode (final String output)
+				throws Exception {
+		// NOTE: the output is placed inside a larger buffer, as the endpoint's buffers are
+		final byte[] data = output.getBytes (MessageHandlerTest.CHARSET);
+		final byte[] buffer = new byte[data.length + 16];
+		Arrays.fill (buffer, (byte) '#');
+		System.arraycopy (data, 0, buffer, 8, data.length);
+		return MessageHandler.encodeResponse (this.response, buffer, 8, data.length, "callback-identifier");
+	}
+	
+	private byte[] body;
+	private JSONObject response;
+	private static final Charset CHARSET = Charset.forName ("ISO-8859-1");
+	
+	private static int readInt (final byte[] in, final int offset) {
+		return ((in[offset] & 0xff) << 24) | ((in[offset + 1] & 0xff) << 16) | ((in[offset + 2] & 0xff) << 8) | (in[offset + 3] & 0xff);
+	}
+}
@@ -25,7 +25,9 @@ import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
@@ -33,13 +35,16 @@ import java.nio.channels.Selector;
 import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import eu.mosaic_cloud.components.core.ChannelCallbacks;
 import eu.mosaic_cloud.components.core.ChannelController;
 import eu.mosaic_cloud.components.core.ChannelFlow;
 import eu.mosaic_cloud.components.core.ChannelMessage;
 import eu.mosaic_cloud.components.core.ChannelMessageCoder;
+import eu.mosaic_cloud.components.core.ChannelMessageGatheringCoder;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackProxy;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackReactor;
@@ -48,6 +53,8 @@ import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
 import eu.mosaic_cloud.tools.exceptions.core.IgnoredException;
 import eu.mosaic_cloud.tools.miscellaneous.Monitor;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup.EventLoop;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
@@ -62,9 +69,9 @@ import com.google.common.util.concurrent.Futures;
 public final class BasicChannel
 			extends Object
 {
-	private BasicChannel (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
+	private BasicChannel (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final FramingMode framingMode, final PipelineMode pipelineMode, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
 		super ();
-		this.backend = new Backend (this, input, output, coder, reactor, threading, exceptions);
+		this.backend = new Backend (this, input, output, coder, framingMode, pipelineMode, reactor, threading, loops, exceptions);
 	}
 	
 	public void destroy () {
@@ -90,20 +97,54 @@ public final class BasicChannel
 	final Backend backend;
 	
 	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
-		return (new BasicChannel (input, output, coder, reactor, threading, exceptions));
+		return (BasicChannel.create (input, output, coder, BasicChannel.defaultFramingMode, reactor, threading, exceptions));
 	}
 	
+	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final FramingMode framingMode, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (BasicChannel.create (input, output, coder, framingMode, BasicChannel.defaultPipelineMode, reactor, threading, exceptions));
+	}
+	
+	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final FramingMode framingMode, final PipelineMode pipelineMode, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new BasicChannel (input, output, coder, framingMode, pipelineMode, reactor, threading, null, exceptions));
+	}
+	
+	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final FramingMode framingMode, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
+		return (new BasicChannel (input, output, coder, framingMode, PipelineMode.Inline, reactor, threading, loops, exceptions));
+	}
+	
+	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final PipelineMode pipelineMode, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (BasicChannel.create (input, output, coder, BasicChannel.defaultFramingMode, pipelineMode, reactor, threading, exceptions));
+	}
+	
+	public static final BasicChannel create (final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
+		return (BasicChannel.create (input, output, coder, BasicChannel.defaultFramingMode, reactor, threading, loops, exceptions));
+	}
+	
+	public static final FramingMode defaultFramingMode = FramingMode.Copying;
+	public static final PipelineMode defaultPipelineMode = PipelineMode.Staged;
 	static final int defaultBufferSize = 1024;
 	static final int defaultMaximumPacketSize = 1024 * 1024;
 	static final long defaultPollTimeout = 100;
 	
+	public static enum FramingMode
+	{
+		Copying,
+		Gathering;
+	}
+	
+	public static enum PipelineMode
+	{
+		Inline,
+		Staged;
+	}
+	
 	private static final class Backend
 				extends AbstractService
 				implements
 					ChannelController,
 					CallbackProxy
 	{
-		Backend (final BasicChannel facade, final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		Backend (final BasicChannel facade, final ReadableByteChannel input, final WritableByteChannel output, final ChannelMessageCoder coder, final FramingMode framingMode, final PipelineMode pipelineMode, final CallbackReactor reactor, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
 			super ();
 			Preconditions.checkNotNull (facade);
 			Preconditions.checkNotNull (input);
@@ -111,8 +152,11 @@ public final class BasicChannel
 			Preconditions.checkNotNull (output);
 			Preconditions.checkArgument (output instanceof SelectableChannel);
 			Preconditions.checkNotNull (coder);
+			Preconditions.checkNotNull (framingMode);
+			Preconditions.checkNotNull (pipelineMode);
 			Preconditions.checkNotNull (reactor);
 			Preconditions.checkNotNull (threading);
+			Preconditions.checkArgument ((loops == null) || (pipelineMode == PipelineMode.Inline));
 			this.facade = facade;
 			this.monitor = Monitor.create (this.facade);
 			synchronized (this.monitor) {
@@ -124,14 +168,24 @@ public final class BasicChannel
 					this.input = input;
 					this.output = output;
 					this.coder = coder;
-					final Selector selector;
-					try {
-						selector = Selector.open ();
-					} catch (final Throwable exception) {
-						this.exceptions.traceDeferredException (exception);
-						throw (new AssertionError (exception));
+					this.framingMode = framingMode;
+					this.pipelineMode = pipelineMode;
+					if (loops == null) {
+						final Selector selector;
+						try {
+							selector = Selector.open ();
+						} catch (final Throwable exception) {
+							this.exceptions.traceDeferredException (exception);
+							throw (new AssertionError (exception));
+						}
+						this.selector = selector;
+						this.loop = null;
+					} else {
+						// NOTE: when attached to a shared loop, the channel owns no threads and no selector;
+						//-- all the (inline) ioputer work is executed by the loop, as a reaction to its selected keys.
+						this.selector = null;
+						this.loop = loops.next ();
 					}
-					this.selector = selector;
 				}
 				{
 					this.reactor = reactor;
@@ -140,15 +194,18 @@ public final class BasicChannel
 				}
 				{
 					this.threading = threading;
-					this.executor = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this.facade, "workers", true, this.exceptions, this.exceptions.catcher));
+					if (this.loop == null)
+						this.executor = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this.facade, "workers", true, this.exceptions, this.exceptions.catcher));
+					else
+						this.executor = null;
 					this.inboundPackets = new LinkedBlockingQueue<ByteBuffer> ();
-					this.outboundPackets = new LinkedBlockingQueue<ByteBuffer> ();
+					this.outboundPackets = new LinkedBlockingQueue<ByteBuffer[]> ();
 					this.inboundMessages = new LinkedBlockingQueue<ChannelMessage> ();
 					this.outboundMessages = new LinkedBlockingQueue<ChannelMessage> ();
-					this.ioputer = new Ioputer (this);
 					this.encoder = new Encoder (this);
 					this.decoder = new Decoder (this);
 					this.dispatcher = new Dispatcher (this);
+					this.ioputer = new Ioputer (this);
 					this.pollTimeout = BasicChannel.defaultPollTimeout;
 				}
 				this.transcript.traceDebugging ("created channel.");
@@ -187,6 +244,8 @@ public final class BasicChannel
 							throw (new AssertionError ());
 					}
 				}
+				if (this.pipelineMode == PipelineMode.Inline)
+					this.ioputer.trigger ();
 				return (CallbackCompletion.createOutcome ());
 			} catch (final Throwable exception) {
 				return (CallbackCompletion.createFailure (exception));
@@ -202,6 +261,8 @@ public final class BasicChannel
 					if (!Threading.offer (this.outboundMessages, message, this.pollTimeout))
 						throw (new BufferOverflowException ());
 				}
+				if (this.pipelineMode == PipelineMode.Inline)
+					this.ioputer.trigger ();
 				return (CallbackCompletion.createOutcome ());
 			} catch (final Throwable exception) {
 				return (CallbackCompletion.createFailure (exception));
@@ -221,10 +282,23 @@ public final class BasicChannel
 			synchronized (this.monitor) {
 				this.transcript.traceDebugging ("initializing...");
 				Preconditions.checkState (this.reactor.assignDelegate (this.controllerProxy, this).await ());
-				Preconditions.checkState (this.encoder.startAndWait () == State.RUNNING);
-				Preconditions.checkState (this.decoder.startAndWait () == State.RUNNING);
-				Preconditions.checkState (this.ioputer.startAndWait () == State.RUNNING);
-				Preconditions.checkState (this.dispatcher.startAndWait () == State.RUNNING);
+				switch (this.pipelineMode) {
+					case Inline :
+						// NOTE: the encoding, decoding and dispatching are all done on the ioputer's thread
+						if (this.loop == null)
+							Preconditions.checkState (this.ioputer.startAndWait () == State.RUNNING);
+						else
+							Preconditions.checkState (this.ioputer.attach ());
+						break;
+					case Staged :
+						Preconditions.checkState (this.encoder.startAndWait () == State.RUNNING);
+						Preconditions.checkState (this.decoder.startAndWait () == State.RUNNING);
+						Preconditions.checkState (this.ioputer.startAndWait () == State.RUNNING);
+						Preconditions.checkState (this.dispatcher.startAndWait () == State.RUNNING);
+						break;
+					default :
+						throw (new AssertionError ());
+				}
 				this.notifyStarted ();
 				this.transcript.traceDebugging ("initialized.");
 			}
@@ -234,12 +308,26 @@ public final class BasicChannel
 		protected final void doStop () {
 			synchronized (this.monitor) {
 				this.transcript.traceDebugging ("destroying...");
-				Preconditions.checkState (this.dispatcher.stopAndWait () == State.TERMINATED);
-				Preconditions.checkState (this.ioputer.stopAndWait () == State.TERMINATED);
-				Preconditions.checkState (this.encoder.stopAndWait () == State.TERMINATED);
-				Preconditions.checkState (this.decoder.stopAndWait () == State.TERMINATED);
-				this.executor.shutdown ();
-				Preconditions.checkState (Threading.join (this.executor));
+				switch (this.pipelineMode) {
+					case Inline :
+						if (this.loop == null)
+							Preconditions.checkState (this.ioputer.stopAndWait () == State.TERMINATED);
+						else
+							Preconditions.checkState (this.ioputer.detach ());
+						break;
+					case Staged :
+						Preconditions.checkState (this.dispatcher.stopAndWait () == State.TERMINATED);
+						Preconditions.checkState (this.ioputer.stopAndWait () == State.TERMINATED);
+						Preconditions.checkState (this.encoder.stopAndWait () == State.TERMINATED);
+						Preconditions.checkState (this.decoder.stopAndWait () == State.TERMINATED);
+						break;
+					default :
+						throw (new AssertionError ());
+				}
+				if (this.executor != null) {
+					this.executor.shutdown ();
+					Preconditions.checkState (Threading.join (this.executor));
+				}
 				Preconditions.checkState (this.reactor.destroyProxy (this.controllerProxy).await ());
 				Preconditions.checkState (this.reactor.destroyProxy (this.callbacksProxy).await ());
 				this.notifyStopped ();
@@ -264,14 +352,17 @@ public final class BasicChannel
 		final TranscriptExceptionTracer exceptions;
 		final ExecutorService executor;
 		final BasicChannel facade;
+		final FramingMode framingMode;
 		final LinkedBlockingQueue<ChannelMessage> inboundMessages;
 		final LinkedBlockingQueue<ByteBuffer> inboundPackets;
 		final ReadableByteChannel input;
 		final Ioputer ioputer;
+		final EventLoop loop;
 		final Monitor monitor;
 		final LinkedBlockingQueue<ChannelMessage> outboundMessages;
-		final LinkedBlockingQueue<ByteBuffer> outboundPackets;
+		final LinkedBlockingQueue<ByteBuffer[]> outboundPackets;
 		final WritableByteChannel output;
+		final PipelineMode pipelineMode;
 		final long pollTimeout;
 		final CallbackReactor reactor;
 		final Selector selector;
@@ -295,14 +386,7 @@ public final class BasicChannel
 			this.transcript.traceDebugging ("executing decoder...");
 			final ByteBuffer packet = Threading.poll (this.inboundPackets, this.pollTimeout);
 			if (packet != null) {
-				this.transcript.traceDebugging ("decoding inbound message...");
-				final ChannelMessage message;
-				try {
-					message = this.coder.decode (packet);
-					Preconditions.checkNotNull (message);
-				} catch (final Throwable exception) {
-					throw (new IgnoredException (exception, "unexpected error encountered while decoding the inbound packet; aborting!"));
-				}
+				final ChannelMessage message = this.decode (packet);
 				if (!Threading.offer (this.inboundMessages, message, this.pollTimeout))
 					throw (new IgnoredException (new BufferOverflowException (), "queue overflow error encountered while enqueueing inbound message; aborting!"));
 			}
@@ -321,6 +405,19 @@ public final class BasicChannel
 			this.transcript.traceDebugging ("initialized decoder.");
 		}
 		
+		final ChannelMessage decode (final ByteBuffer packet)
+					throws CaughtException {
+			this.transcript.traceDebugging ("decoding inbound message...");
+			final ChannelMessage message;
+			try {
+				message = this.coder.decode (packet);
+				Preconditions.checkNotNull (message);
+			} catch (final Throwable exception) {
+				throw (new IgnoredException (exception, "unexpected error encountered while decoding the inbound packet; aborting!"));
+			}
+			return (message);
+		}
+		
 		final ChannelMessageCoder coder;
 		final LinkedBlockingQueue<ChannelMessage> inboundMessages;
 		final LinkedBlockingQueue<ByteBuffer> inboundPackets;
@@ -342,25 +439,38 @@ public final class BasicChannel
 					throws CaughtException {
 			this.transcript.traceDebugging ("executing dispatcher...");
 			final ChannelMessage message = Threading.poll (this.inboundMessages, this.pollTimeout);
-			if (message != null) {
-				if (this.inboundActive) {
-					this.transcript.traceDebugging ("dispatching received callback...");
-					try {
-						this.channelCallbacks.received (this.channel.controllerProxy, message);
-					} catch (final Throwable exception) {
-						throw (new IgnoredException (exception, "unexpected error encountered while dispatching received callback; aborting!"));
-					}
-				} else
-					this.transcript.traceError ("discarding received callback due to closed inbound flow;");
-			} else {
-				if (this.inboundActive && !this.channel.input.isOpen ()) {
-					this.transcript.traceDebugging ("dispatching closed inbound flow callback...");
-					this.inboundActive = false;
-					try {
-						this.channelCallbacks.closed (this.channel.controllerProxy, ChannelFlow.Inbound);
-					} catch (final Throwable exception) {
-						throw (new IgnoredException (exception, "unexpected error encountered while dispatching closed inbound flow callback; aborting!"));
-					}
+			if (message != null)
+				this.dispatchReceived (message);
+			if (!this.dispatchFlows (message == null))
+				this.triggerShutdown ();
+			this.transcript.traceDebugging ("executed dispatcher.");
+		}
+		
+		@Override
+		protected final void shutDown_1 ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("destroying dispatcher...");
+			this.dispatchTerminated ();
+			this.transcript.traceDebugging ("destroyed dispatcher.");
+		}
+		
+		@Override
+		protected final void startUp_1 ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("initializing dispatcher...");
+			this.dispatchInitialized ();
+			this.transcript.traceDebugging ("initialized dispatcher.");
+		}
+		
+		final boolean dispatchFlows (final boolean inboundDrained)
+					throws CaughtException {
+			if (inboundDrained && this.inboundActive && !this.channel.input.isOpen ()) {
+				this.transcript.traceDebugging ("dispatching closed inbound flow callback...");
+				this.inboundActive = false;
+				try {
+					this.channelCallbacks.closed (this.channel.controllerProxy, ChannelFlow.Inbound);
+				} catch (final Throwable exception) {
+					throw (new IgnoredException (exception, "unexpected error encountered while dispatching closed inbound flow callback; aborting!"));
 				}
 			}
 			if (this.outboundActive && !this.channel.output.isOpen ()) {
@@ -372,35 +482,40 @@ public final class BasicChannel
 					throw (new IgnoredException (exception, "unexpected error encountered while dispatching closed outbound flow callback; aborting!"));
 				}
 			}
-			if (!this.outboundActive && !this.inboundActive)
-				this.triggerShutdown ();
-			this.transcript.traceDebugging ("executed dispatcher.");
+			return (this.outboundActive || this.inboundActive);
 		}
 		
-		@Override
-		protected final void shutDown_1 ()
+		final void dispatchInitialized ()
 					throws CaughtException {
-			this.transcript.traceDebugging ("destroying dispatcher...");
-			this.transcript.traceDebugging ("dispatching terminated callback...");
+			this.transcript.traceDebugging ("dispatching initialized callback...");
 			try {
-				this.channelCallbacks.terminated (this.channel.controllerProxy);
+				this.channelCallbacks.initialized (this.channel.controllerProxy);
 			} catch (final Throwable exception) {
-				throw (new IgnoredException (exception, "unexpected error encountered while dispatching terminated callback; aborting!"));
+				throw (new IgnoredException (exception, "unexpected error encountered while dispatching initialized callback; aborting!"));
 			}
-			this.transcript.traceDebugging ("destroyed dispatcher.");
 		}
 		
-		@Override
-		protected final void startUp_1 ()
+		final void dispatchReceived (final ChannelMessage message)
 					throws CaughtException {
-			this.transcript.traceDebugging ("initializing dispatcher...");
-			this.transcript.traceDebugging ("dispatching initialized callback...");
+			if (this.inboundActive) {
+				this.transcript.traceDebugging ("dispatching received callback...");
+				try {
+					this.channelCallbacks.received (this.channel.controllerProxy, message);
+				} catch (final Throwable exception) {
+					throw (new IgnoredException (exception, "unexpected error encountered while dispatching received callback; aborting!"));
+				}
+			} else
+				this.transcript.traceError ("discarding received callback due to closed inbound flow;");
+		}
+		
+		final void dispatchTerminated ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("dispatching terminated callback...");
 			try {
-				this.channelCallbacks.initialized (this.channel.controllerProxy);
+				this.channelCallbacks.terminated (this.channel.controllerProxy);
 			} catch (final Throwable exception) {
-				throw (new IgnoredException (exception, "unexpected error encountered while dispatching initialized callback; aborting!"));
+				throw (new IgnoredException (exception, "unexpected error encountered while dispatching terminated callback; aborting!"));
 			}
-			this.transcript.traceDebugging ("initialized dispatcher.");
 		}
 		
 		final ChannelCallbacks channelCallbacks;
@@ -415,6 +530,10 @@ public final class BasicChannel
 		Encoder (final Backend channel) {
 			super (channel);
 			this.coder = this.channel.coder;
+			if ((this.channel.framingMode == FramingMode.Gathering) && (this.coder instanceof ChannelMessageGatheringCoder))
+				this.gatheringCoder = (ChannelMessageGatheringCoder) this.coder;
+			else
+				this.gatheringCoder = null;
 			this.outboundMessages = this.channel.outboundMessages;
 			this.outboundPackets = this.channel.outboundPackets;
 		}
@@ -425,14 +544,7 @@ public final class BasicChannel
 			this.transcript.traceDebugging ("executing encoder...");
 			final ChannelMessage message = Threading.poll (this.outboundMessages, this.pollTimeout);
 			if (message != null) {
-				this.transcript.traceDebugging ("encoding outbound message...");
-				final ByteBuffer packet;
-				try {
-					packet = this.coder.encode (message);
-					Preconditions.checkNotNull (packet);
-				} catch (final Throwable exception) {
-					throw (new IgnoredException (exception, "unexpected error encountered while encoding the outbound message; aborting!"));
-				}
+				final ByteBuffer[] packet = this.encode (message);
 				if (!Threading.offer (this.outboundPackets, packet, this.pollTimeout))
 					throw (new IgnoredException (new BufferOverflowException (), "unexpected queue overflow error encountered while enqueueing outbound packet; aborting!"));
 				this.channel.selector.wakeup ();
@@ -452,9 +564,26 @@ public final class BasicChannel
 			this.transcript.traceDebugging ("initialized encoder.");
 		}
 		
+		final ByteBuffer[] encode (final ChannelMessage message)
+					throws CaughtException {
+			this.transcript.traceDebugging ("encoding outbound message...");
+			final ByteBuffer[] packet;
+			try {
+				if (this.gatheringCoder != null)
+					packet = this.gatheringCoder.encodeSegments (message);
+				else
+					packet = new ByteBuffer[] {Preconditions.checkNotNull (this.coder.encode (message))};
+				Preconditions.checkNotNull (packet);
+			} catch (final Throwable exception) {
+				throw (new IgnoredException (exception, "unexpected error encountered while encoding the outbound message; aborting!"));
+			}
+			return (packet);
+		}
+		
 		final ChannelMessageCoder coder;
+		final ChannelMessageGatheringCoder gatheringCoder;
 		final LinkedBlockingQueue<ChannelMessage> outboundMessages;
-		final LinkedBlockingQueue<ByteBuffer> outboundPackets;
+		final LinkedBlockingQueue<ByteBuffer[]> outboundPackets;
 	}
 	
 	private static final class Ioputer
@@ -465,8 +594,18 @@ public final class BasicChannel
 			this.input = this.channel.input;
 			this.output = this.channel.output;
 			this.selector = this.channel.selector;
+			this.loop = this.channel.loop;
+			this.loopAttached = false;
+			this.loopFailed = false;
+			this.loopTriggered = new AtomicBoolean (false);
+			this.loopTrigger = new IoputerTrigger (this);
 			this.inboundPackets = this.channel.inboundPackets;
+			this.outboundMessages = this.channel.outboundMessages;
 			this.outboundPackets = this.channel.outboundPackets;
+			this.decoder = this.channel.decoder;
+			this.dispatcher = this.channel.dispatcher;
+			this.encoder = this.channel.encoder;
+			this.pipelineMode = this.channel.pipelineMode;
 			this.maximumPacketSize = BasicChannel.defaultMaximumPacketSize;
 			this.inputBufferSize = BasicChannel.defaultBufferSize;
 			this.inputKey = null;
@@ -474,75 +613,129 @@ public final class BasicChannel
 			this.inputPending = null;
 			this.inputPendingSize = -1;
 			this.outputPending = null;
+			this.outputPendingOffset = 0;
 		}
 		
 		@Override
 		protected void loop_1 ()
 					throws CaughtException {
-			this.transcript.traceDebugging ("executing flows...");
-			if (this.input.isOpen ()) {
-				if (this.inputPending == null) {
-					this.inputPending = ByteBuffer.allocate (this.inputBufferSize);
-					this.inputPendingSize = -1;
-				}
-			} else {
-				if (this.inputPending != null) {
-					if (this.inputPending.position () > 0)
-						this.transcript.traceError ("discarding inbound packet due to closed inbound flow;");
-					this.inputPending = null;
-				}
-			}
-			if (this.output.isOpen ()) {
-				if (this.outputPending == null) {
-					final ByteBuffer packet_ = this.outboundPackets.poll ();
-					if (packet_ != null) {
-						final ByteBuffer packet;
-						try {
-							packet = packet_.asReadOnlyBuffer ();
-							Preconditions.checkArgument (packet.order () == ByteOrder.BIG_ENDIAN, "invalid packet byte-order");
-							Preconditions.checkArgument (packet.remaining () >= 4, "invalid packet framing");
-							packet.mark ();
-							final int packetSize = packet.getInt ();
-							Preconditions.checkArgument (packetSize == packet.remaining (), "invalid outbound packet encoding");
-							packet.reset ();
-						} catch (final IllegalArgumentException exception) {
-							throw (new IgnoredException (exception, "unexpected validation error encountered while polling outbound packet; aborting!"));
-						}
-						this.outputPending = packet;
-					}
-				}
-			} else {
-				if (this.outputPending != null) {
-					this.transcript.traceError ("discarding outbound packet due to closed outbound flow;");
-					this.outputPending = null;
-				}
-			}
+			this.prepareFlows ();
 			try {
-				if ((this.inputPending != null) && (this.inputKey == null))
-					this.inputKey = ((SelectableChannel) this.input).register (this.selector, SelectionKey.OP_READ);
-				else if ((this.inputKey != null) && (this.inputPending == null)) {
+				this.selector.select (this.pollTimeout);
+			} catch (final IOException exception) {
+				throw (new IgnoredException (exception, "i/o error encountered while polling flows; aborting!"));
+			}
+			this.executeFlows ();
+		}
+		
+		@Override
+		protected final void shutDown_1 ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("destroying flows...");
+			if (this.inputKey != null)
+				try {
 					this.inputKey.cancel ();
+				} catch (final Throwable exception) {
+					this.exceptions.traceIgnoredException (exception);
+				} finally {
 					this.inputKey = null;
 				}
-				if ((this.outputPending != null) && (this.outputKey == null) && this.output.isOpen ())
-					this.outputKey = ((SelectableChannel) this.output).register (this.selector, SelectionKey.OP_WRITE);
-				else if ((this.outputKey != null) && (this.outputPending == null)) {
+			if (this.outputKey != null)
+				try {
 					this.outputKey.cancel ();
 					this.outputKey = null;
+				} catch (final Throwable exception) {
+					this.exceptions.traceIgnoredException (exception);
+				} finally {
+					this.outputKey = null;
 				}
-			} catch (final IOException exception) {
-				throw (new IgnoredException (exception, "i/o error encountered while polling flows; aborting!"));
-			}
+			if (this.selector != null)
+				try {
+					this.selector.close ();
+				} catch (final Throwable exception) {
+					this.exceptions.traceIgnoredException (exception);
+				}
+			if (this.pipelineMode == PipelineMode.Inline)
+				this.dispatcher.dispatchTerminated ();
+			this.transcript.traceDebugging ("destroyed flows.");
+		}
+		
+		@Override
+		protected final void startUp_1 ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("initializing flows...");
 			try {
-				this.selector.select (this.pollTimeout);
+				((SelectableChannel) this.input).configureBlocking (false);
+				((SelectableChannel) this.output).configureBlocking (false);
 			} catch (final IOException exception) {
-				throw (new IgnoredException (exception, "i/o error encountered while polling flows; aborting!"));
+				throw (new IgnoredException (exception, "i/o error encountered while configuring flows; aborting!"));
 			}
+			if (this.pipelineMode == PipelineMode.Inline)
+				this.dispatcher.dispatchInitialized ();
+			this.transcript.traceDebugging ("initialized flows.");
+		}
+		
+		final boolean attach () {
+			return (this.executeOnLoop (IoputerAction.Attach));
+		}
+		
+		final boolean detach () {
+			return (this.executeOnLoop (IoputerAction.Detach));
+		}
+		
+		final void executeLoopAction (final IoputerAction action) {
+			switch (action) {
+				case Attach :
+					this.startUp ();
+					this.loopAttached = true;
+					this.executeLoopStep ();
+					break;
+				case Detach :
+					if (this.loopAttached) {
+						this.loopAttached = false;
+						this.shutDown ();
+					}
+					break;
+				case Step :
+					this.loopTriggered.set (false);
+					if (this.loopAttached && !this.loopFailed)
+						this.executeLoopStep ();
+					break;
+				default :
+					throw (new AssertionError ());
+			}
+		}
+		
+		final void trigger () {
+			if (this.loop == null)
+				this.selector.wakeup ();
+			else if (this.loopTriggered.compareAndSet (false, true))
+				this.loop.execute (this.loopTrigger);
+		}
+		
+		private final void enqueueInboundPacket (final ByteBuffer packet)
+					throws CaughtException {
+			switch (this.pipelineMode) {
+				case Inline :
+					this.dispatcher.dispatchReceived (this.decoder.decode (packet));
+					break;
+				case Staged :
+					if (!Threading.offer (this.inboundPackets, packet, this.pollTimeout))
+						throw (new IgnoredException (new BufferOverflowException (), "unexpected queue overflow error encountered while enqueueing inbound packet; aborting!"));
+					break;
+				default :
+					throw (new AssertionError ());
+			}
+		}
+		
+		private final void executeFlows ()
+					throws CaughtException {
+			this.transcript.traceDebugging ("executing flows...");
 			final boolean inputValid;
 			final boolean outputValid;
 			if (this.inputKey != null) {
 				inputValid = this.inputKey.isValid () && this.input.isOpen ();
-				if (inputValid && this.inputKey.isReadable ()) {
+				if (inputValid && (this.inputPending != null) && this.inputKey.isReadable ()) {
 					this.transcript.traceDebugging ("accessing input flow...");
 					try {
 						try {
@@ -560,11 +753,14 @@ public final class BasicChannel
 				inputValid = true;
 			if (this.outputKey != null) {
 				outputValid = this.outputKey.isValid () && this.output.isOpen ();
-				if (outputValid && this.outputKey.isWritable ()) {
+				if (outputValid && (this.outputPending != null) && this.outputKey.isWritable ()) {
 					this.transcript.traceDebugging ("accessing output flow...");
 					try {
 						try {
-							this.output.write (this.outputPending);
+							if (this.output instanceof GatheringByteChannel)
+								((GatheringByteChannel) this.output).write (this.outputPending, this.outputPendingOffset, this.outputPending.length - this.outputPendingOffset);
+							else
+								this.output.write (this.outputPending[this.outputPendingOffset]);
 						} catch (final ClosedChannelException exception) {
 							this.exceptions.traceIgnoredException (exception);
 						}
@@ -574,112 +770,230 @@ public final class BasicChannel
 				}
 			} else
 				outputValid = true;
-			if (this.inputPending != null) {
-				while (true) {
-					if (this.inputPendingSize == -1) {
-						if (this.inputPending.position () >= 4) {
-							this.inputPendingSize = this.inputPending.getInt (0) + 4;
-							if (this.inputPending.capacity () < this.inputPendingSize) {
-								if (this.inputPendingSize > this.maximumPacketSize)
-									throw (new IgnoredException (new BufferOverflowException (), "unexpected inbound packet size; aborting!"));
-								final ByteBuffer buffer = ByteBuffer.allocate (this.inputPendingSize);
-								this.inputPending.compact ();
-								buffer.put (this.inputPending);
-								this.inputPending = buffer;
-							}
-						}
-					}
-					if (this.inputPendingSize != -1) {
-						final ByteBuffer packet;
-						if (this.inputPending.position () == this.inputPendingSize) {
-							packet = this.inputPending;
-							this.inputPending = null;
-							this.inputPendingSize = -1;
-						} else if (this.inputPending.position () > this.inputPendingSize) {
-							this.inputPending.flip ();
-							packet = ByteBuffer.allocate (this.inputPendingSize);
-							final ByteBuffer inputPendingSlice = this.inputPending.asReadOnlyBuffer ();
-							inputPendingSlice.limit (this.inputPendingSize);
-							packet.put (inputPendingSlice);
-							this.inputPending.position (this.inputPendingSize);
-							this.inputPending.compact ();
-							this.inputPendingSize = -1;
-						} else
-							packet = null;
-						if (packet != null) {
-							packet.flip ();
-							if (!Threading.offer (this.inboundPackets, packet.asReadOnlyBuffer (), this.pollTimeout))
-								throw (new IgnoredException (new BufferOverflowException (), "unexpected queue overflow error encountered while enqueueing inbound packet; aborting!"));
-						}
-					}
-					if ((this.inputPending == null) || (this.inputPending.position () < 4) || ((this.inputPendingSize != -1) && (this.inputPendingSize > this.inputPending.position ())))
-						break;
-				}
-			}
+			if (this.inputPending != null)
+				this.frameCopying ();
 			if (this.outputPending != null) {
-				if (this.outputPending.remaining () == 0)
+				while ((this.outputPendingOffset < this.outputPending.length) && !this.outputPending[this.outputPendingOffset].hasRemaining ())
+					this.outputPendingOffset++;
+				if (this.outputPendingOffset == this.outputPending.length)
 					this.outputPending = null;
 			}
+			if (this.pipelineMode == PipelineMode.Inline) {
+				if (!this.dispatcher.dispatchFlows (true))
+					this.triggerShutdown ();
+			}
 			if (!inputValid && !outputValid)
 				this.triggerShutdown ();
 			this.transcript.traceDebugging ("executed flows.");
 		}
 		
-		@Override
-		protected final void shutDown_1 () {
-			this.transcript.traceDebugging ("destroying flows...");
-			if (this.inputKey != null)
-				try {
-					this.inputKey.cancel ();
-				} catch (final Throwable exception) {
-					this.exceptions.traceIgnoredException (exception);
-				} finally {
-					this.inputKey = null;
-				}
-			if (this.outputKey != null)
-				try {
-					this.outputKey.cancel ();
-					this.outputKey = null;
-				} catch (final Throwable exception) {
-					this.exceptions.traceIgnoredException (exception);
-				} finally {
-					this.outputKey = null;
-				}
+		private final void executeLoopStep () {
+			// NOTE: a failure is treated as if the ioputer's thread has exited, the flows being left untouched until destroyed;
+			//-- however, on a shared loop the keys must be cancelled, otherwise the loop would keep selecting them.
 			try {
-				this.selector.close ();
+				this.executeFlows ();
+				this.prepareFlows ();
 			} catch (final Throwable exception) {
 				this.exceptions.traceIgnoredException (exception);
+				this.loopFailed = true;
+				if (this.inputKey != null)
+					this.inputKey.cancel ();
+				if (this.outputKey != null)
+					this.outputKey.cancel ();
 			}
-			this.transcript.traceDebugging ("destroyed flows.");
 		}
 		
-		@Override
-		protected final void startUp_1 ()
+		private final boolean executeOnLoop (final IoputerAction action) {
+			final FutureTask<Boolean> task = new FutureTask<Boolean> (new IoputerTrigger (this, action), Boolean.TRUE);
+			if (this.loop.isCurrentThread ())
+				task.run ();
+			else
+				this.loop.execute (task);
+			return (Threading.awaitOrCatch (task, -1) == Boolean.TRUE);
+		}
+		
+		private final void frameCopying ()
 					throws CaughtException {
-			this.transcript.traceDebugging ("initializing flows...");
+			while (true) {
+				if (this.inputPendingSize == -1) {
+					if (this.inputPending.position () >= 4) {
+						this.inputPendingSize = this.inputPending.getInt (0) + 4;
+						if (this.inputPending.capacity () < this.inputPendingSize) {
+							if (this.inputPendingSize > this.maximumPacketSize)
+								throw (new IgnoredException (new BufferOverflowException (), "unexpected inbound packet size; aborting!"));
+							final ByteBuffer buffer = ByteBuffer.allocate (this.inputPendingSize);
+							this.inputPending.flip ();
+							buffer.put (this.inputPending);
+							this.inputPending = buffer;
+						}
+					}
+				}
+				if (this.inputPendingSize != -1) {
+					final ByteBuffer packet;
+					if (this.inputPending.position () == this.inputPendingSize) {
+						packet = this.inputPending;
+						this.inputPending = null;
+						this.inputPendingSize = -1;
+					} else if (this.inputPending.position () > this.inputPendingSize) {
+						this.inputPending.flip ();
+						packet = ByteBuffer.allocate (this.inputPendingSize);
+						final ByteBuffer inputPendingSlice = this.inputPending.asReadOnlyBuffer ();
+						inputPendingSlice.limit (this.inputPendingSize);
+						packet.put (inputPendingSlice);
+						this.inputPending.position (this.inputPendingSize);
+						this.inputPending.compact ();
+						this.inputPendingSize = -1;
+					} else
+						packet = null;
+					if (packet != null) {
+						packet.flip ();
+						this.enqueueInboundPacket (packet.asReadOnlyBuffer ());
+					}
+				}
+				if ((this.inputPending == null) || (this.inputPending.position () < 4) || ((this.inputPendingSize != -1) && (this.inputPendingSize > this.inputPending.position ())))
+					break;
+			}
+		}
+		
+		private final ByteBuffer[] pollOutboundPacket ()
+					throws CaughtException {
+			switch (this.pipelineMode) {
+				case Inline :
+					final ChannelMessage message = this.outboundMessages.poll ();
+					if (message == null)
+						return (null);
+					return (this.encoder.encode (message));
+				case Staged :
+					return (this.outboundPackets.poll ());
+				default :
+					throw (new AssertionError ());
+			}
+		}
+		
+		private final void prepareFlows ()
+					throws CaughtException {
+			if (this.input.isOpen ()) {
+				if (this.inputPending == null) {
+					this.inputPending = ByteBuffer.allocate (this.inputBufferSize);
+					this.inputPendingSize = -1;
+				}
+			} else {
+				if (this.inputPending != null) {
+					if (this.inputPending.position () > 0)
+						this.transcript.traceError ("discarding inbound packet due to closed inbound flow;");
+					this.inputPending = null;
+				}
+			}
+			if (this.output.isOpen ()) {
+				if (this.outputPending == null) {
+					final ByteBuffer[] packet_ = this.pollOutboundPacket ();
+					if (packet_ != null) {
+						final ByteBuffer[] packet = new ByteBuffer[packet_.length];
+						try {
+							Preconditions.checkArgument (packet.length > 0, "invalid packet framing");
+							long packetSize = 0;
+							for (int index = 0; index < packet.length; index++) {
+								packet[index] = packet_[index].asReadOnlyBuffer ();
+								packetSize += packet[index].remaining ();
+							}
+							// NOTE: in case of segmented packets, the framing header must be entirely contained in the first segment
+							Preconditions.checkArgument (packet[0].order () == ByteOrder.BIG_ENDIAN, "invalid packet byte-order");
+							Preconditions.checkArgument (packet[0].remaining () >= 4, "invalid packet framing");
+							Preconditions.checkArgument (packet[0].getInt (packet[0].position ()) == (packetSize - 4), "invalid outbound packet encoding");
+						} catch (final IllegalArgumentException exception) {
+							throw (new IgnoredException (exception, "unexpected validation error encountered while polling outbound packet; aborting!"));
+						}
+						this.outputPending = packet;
+						this.outputPendingOffset = 0;
+					}
+				}
+			} else {
+				if (this.outputPending != null) {
+					this.transcript.traceError ("discarding outbound packet due to closed outbound flow;");
+					this.outputPending = null;
+				}
+			}
+			// NOTE: the keys are kept registered and only their interest is updated, as a cancelled key could not be
+			//-- registered again on the same selector until after the next selection (which matters on a shared loop).
 			try {
-				((SelectableChannel) this.input).configureBlocking (false);
-				((SelectableChannel) this.output).configureBlocking (false);
+				if ((this.inputPending != null) && (this.inputKey == null))
+					this.inputKey = this.registerFlow ((SelectableChannel) this.input, SelectionKey.OP_READ);
+				else if ((this.inputKey != null) && this.inputKey.isValid ())
+					this.inputKey.interestOps ((this.inputPending != null) ? SelectionKey.OP_READ : 0);
+				if ((this.outputPending != null) && (this.outputKey == null) && this.output.isOpen ())
+					this.outputKey = this.registerFlow ((SelectableChannel) this.output, SelectionKey.OP_WRITE);
+				else if ((this.outputKey != null) && this.outputKey.isValid ())
+					this.outputKey.interestOps ((this.outputPending != null) ? SelectionKey.OP_WRITE : 0);
+			} catch (final CancelledKeyException exception) {
+				this.exceptions.traceIgnoredException (exception);
 			} catch (final IOException exception) {
-				throw (new IgnoredException (exception, "i/o error encountered while configuring flows; aborting!"));
+				throw (new IgnoredException (exception, "i/o error encountered while polling flows; aborting!"));
 			}
-			this.transcript.traceDebugging ("initialized flows.");
 		}
 		
+		private final SelectionKey registerFlow (final SelectableChannel flow, final int operations)
+					throws IOException {
+			if (this.loop != null)
+				return (this.loop.register (flow, operations, this.loopTrigger));
+			return (flow.register (this.selector, operations));
+		}
+		
+		final Decoder decoder;
+		final Dispatcher dispatcher;
+		final Encoder encoder;
 		final LinkedBlockingQueue<ByteBuffer> inboundPackets;
 		final ReadableByteChannel input;
 		final int inputBufferSize;
 		SelectionKey inputKey;
 		ByteBuffer inputPending;
 		int inputPendingSize;
+		final EventLoop loop;
+		boolean loopAttached;
+		boolean loopFailed;
+		final IoputerTrigger loopTrigger;
+		final AtomicBoolean loopTriggered;
 		final int maximumPacketSize;
-		final LinkedBlockingQueue<ByteBuffer> outboundPackets;
+		final LinkedBlockingQueue<ChannelMessage> outboundMessages;
+		final LinkedBlockingQueue<ByteBuffer[]> outboundPackets;
 		final WritableByteChannel output;
 		SelectionKey outputKey;
-		ByteBuffer outputPending;
+		ByteBuffer[] outputPending;
+		int outputPendingOffset;
+		final PipelineMode pipelineMode;
 		final Selector selector;
 	}
 	
+	private static enum IoputerAction
+	{
+		Attach,
+		Detach,
+		Step;
+	}
+	
+	private static final class IoputerTrigger
+				extends Object
+				implements
+					Runnable
+	{
+		IoputerTrigger (final Ioputer ioputer) {
+			this (ioputer, IoputerAction.Step);
+		}
+		
+		IoputerTrigger (final Ioputer ioputer, final IoputerAction action) {
+			super ();
+			this.ioputer = ioputer;
+			this.action = action;
+		}
+		
+		@Override
+		public final void run () {
+			this.ioputer.executeLoopAction (this.action);
+		}
+		
+		final IoputerAction action;
+		final Ioputer ioputer;
+	}
+	
 	private static abstract class Worker
 				extends AbstractExecutionThreadService
 	{
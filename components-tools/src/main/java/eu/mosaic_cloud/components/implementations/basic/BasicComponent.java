@@ -287,7 +287,8 @@ public final class BasicComponent
 		}
 		
 		public final boolean destroy (final long timeout) {
-			if (this.hasState (State.Terminated))
+			// NOTE: the isolate is destroyed while still terminating (together with the proxies), thus it is checked as well.
+			if (this.hasState (State.Terminated) || this.isolate.await (0))
 				return (true);
 			return (this.componentInternalsProxy.destroy ().await (timeout));
 		}
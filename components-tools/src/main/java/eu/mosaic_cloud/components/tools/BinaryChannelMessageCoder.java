@@ -0,0 +1,244 @@
+/*
+ * #%L
+ * mosaic-components-tools
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.components.tools;
+
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import eu.mosaic_cloud.components.core.ChannelMessage;
+import eu.mosaic_cloud.components.core.ChannelMessageGatheringCoder;
+import eu.mosaic_cloud.components.core.ChannelMessageType;
+
+import com.google.common.base.Preconditions;
+
+
+public final class BinaryChannelMessageCoder
+			extends Object
+			implements
+				ChannelMessageGatheringCoder
+{
+	private BinaryChannelMessageCoder () {
+		super ();
+		this.charset = Charset.forName ("utf-8");
+	}
+	
+	@Override
+	public final ChannelMessage decode (final ByteBuffer packet_)
+				throws Throwable {
+		Preconditions.checkNotNull (packet_);
+		final ByteBuffer packet = packet_.asReadOnlyBuffer ();
+		Preconditions.checkArgument (packet.order () == ByteOrder.BIG_ENDIAN, "invalid packet byte-order");
+		Preconditions.checkArgument (packet.remaining () >= 4, "invalid packet framing");
+		final int packetSize = packet.getInt ();
+		Preconditions.checkArgument (packetSize == packet.remaining (), "invalid packet framing");
+		Preconditions.checkArgument (BinaryChannelMessageCoder.isBinaryPacket (packet_), "invalid packet marker");
+		packet.get ();
+		final Object messageTypeValue = this.decodeValue (packet);
+		ChannelMessageType messageType = null;
+		for (final ChannelMessageType messageType_ : ChannelMessageType.values ())
+			if (messageType_.identifier.equals (messageTypeValue))
+				messageType = messageType_;
+		Preconditions.checkArgument (messageType != null, "invalid message type: `%s`", messageTypeValue);
+		final int metaDataSize = packet.getInt ();
+		Preconditions.checkArgument ((metaDataSize >= 0) && (metaDataSize <= packet.remaining ()), "invalid meta-data size");
+		final int metaDataEndPosition = packet.position () + metaDataSize;
+		// NOTE: the meta-data is always an object, thus it is decoded directly as such (and not as a generic value).
+		Preconditions.checkArgument (packet.get () == BinaryChannelMessageCoder.objectTag, "unexpected meta-data value");
+		final Map<String, Object> metaData = this.decodeObject (packet);
+		Preconditions.checkArgument (packet.position () == metaDataEndPosition, "invalid meta-data encoding");
+		final ChannelMessage message = ChannelMessage.create (messageType, metaData, packet);
+		return (message);
+	}
+	
+	@Override
+	public final ByteBuffer encode (final ChannelMessage message)
+				throws Throwable {
+		final ByteBuffer[] segments = this.encodeSegments (message);
+		final ByteBuffer packet = ByteBuffer.allocate (segments[0].remaining () + segments[1].remaining ());
+		packet.put (segments[0]);
+		packet.put (segments[1]);
+		packet.flip ();
+		return (packet.asReadOnlyBuffer ());
+	}
+	
+	@Override
+	public final ByteBuffer[] encodeSegments (final ChannelMessage message)
+				throws Throwable {
+		Preconditions.checkNotNull (message);
+		Preconditions.checkArgument (message.type != null, "unexpected message-type value: `%s`", message.type);
+		Preconditions.checkArgument ((message.metaData != null), "unexpected meta-data value: `%s`", message.metaData);
+		Preconditions.checkNotNull (message.data);
+		final ByteArrayOutputStream metaDataBuffer = new ByteArrayOutputStream ();
+		final DataOutputStream metaDataStream = new DataOutputStream (metaDataBuffer);
+		this.encodeValue (metaDataStream, message.metaData);
+		metaDataStream.flush ();
+		final ByteArrayOutputStream headerBuffer = new ByteArrayOutputStream (metaDataBuffer.size () + 32);
+		final DataOutputStream headerStream = new DataOutputStream (headerBuffer);
+		final ByteBuffer data = message.data.asReadOnlyBuffer ();
+		// NOTE: the packet size is patched below, after the header is complete
+		headerStream.writeInt (0);
+		headerStream.writeByte (BinaryChannelMessageCoder.packetMarker);
+		this.encodeValue (headerStream, message.type.identifier);
+		headerStream.writeInt (metaDataBuffer.size ());
+		metaDataBuffer.writeTo (headerStream);
+		headerStream.flush ();
+		final ByteBuffer header = ByteBuffer.wrap (headerBuffer.toByteArray ());
+		header.putInt (0, (header.remaining () - 4) + data.remaining ());
+		return (new ByteBuffer[] {header.asReadOnlyBuffer (), data});
+	}
+	
+	private final List<Object> decodeArray (final ByteBuffer buffer) {
+		final int size = buffer.getInt ();
+		Preconditions.checkArgument ((size >= 0) && (size <= buffer.remaining ()), "invalid array size");
+		final ArrayList<Object> array = new ArrayList<Object> (size);
+		for (int index = 0; index < size; index++)
+			array.add (this.decodeValue (buffer));
+		return (array);
+	}
+	
+	private final Map<String, Object> decodeObject (final ByteBuffer buffer) {
+		final int size = buffer.getInt ();
+		Preconditions.checkArgument ((size >= 0) && (size <= buffer.remaining ()), "invalid object size");
+		final HashMap<String, Object> object = new HashMap<String, Object> ();
+		for (int index = 0; index < size; index++) {
+			final String key = this.decodeString (buffer);
+			object.put (key, this.decodeValue (buffer));
+		}
+		return (object);
+	}
+	
+	private final String decodeString (final ByteBuffer buffer) {
+		final int size = buffer.getInt ();
+		Preconditions.checkArgument ((size >= 0) && (size <= buffer.remaining ()), "invalid string size");
+		final ByteBuffer slice = buffer.slice ();
+		slice.limit (size);
+		buffer.position (buffer.position () + size);
+		return (this.charset.decode (slice).toString ());
+	}
+	
+	private final Object decodeValue (final ByteBuffer buffer) {
+		final byte tag = buffer.get ();
+		switch (tag) {
+			case BinaryChannelMessageCoder.nullTag :
+				return (null);
+			case BinaryChannelMessageCoder.falseTag :
+				return (Boolean.FALSE);
+			case BinaryChannelMessageCoder.trueTag :
+				return (Boolean.TRUE);
+			case BinaryChannelMessageCoder.integerTag :
+				return (Integer.valueOf (buffer.getInt ()));
+			case BinaryChannelMessageCoder.longTag :
+				return (Long.valueOf (buffer.getLong ()));
+			case BinaryChannelMessageCoder.floatTag :
+				return (Float.valueOf (buffer.getFloat ()));
+			case BinaryChannelMessageCoder.doubleTag :
+				return (Double.valueOf (buffer.getDouble ()));
+			case BinaryChannelMessageCoder.stringTag :
+				return (this.decodeString (buffer));
+			case BinaryChannelMessageCoder.objectTag :
+				return (this.decodeObject (buffer));
+			case BinaryChannelMessageCoder.arrayTag :
+				return (this.decodeArray (buffer));
+			default :
+				throw (new IllegalArgumentException (String.format ("invalid value tag: `%02x`", Byte.valueOf (tag))));
+		}
+	}
+	
+	private final void encodeString (final DataOutputStream stream, final String value)
+				throws IOException {
+		final byte[] bytes = value.getBytes (this.charset);
+		stream.writeInt (bytes.length);
+		stream.write (bytes);
+	}
+	
+	private final void encodeValue (final DataOutputStream stream, final Object value)
+				throws IOException {
+		if (value == null)
+			stream.writeByte (BinaryChannelMessageCoder.nullTag);
+		else if (value instanceof Boolean)
+			stream.writeByte (((Boolean) value).booleanValue () ? BinaryChannelMessageCoder.trueTag : BinaryChannelMessageCoder.falseTag);
+		else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+			stream.writeByte (BinaryChannelMessageCoder.integerTag);
+			stream.writeInt (((Number) value).intValue ());
+		} else if (value instanceof Long) {
+			stream.writeByte (BinaryChannelMessageCoder.longTag);
+			stream.writeLong (((Long) value).longValue ());
+		} else if (value instanceof Float) {
+			stream.writeByte (BinaryChannelMessageCoder.floatTag);
+			stream.writeFloat (((Float) value).floatValue ());
+		} else if (value instanceof Double) {
+			stream.writeByte (BinaryChannelMessageCoder.doubleTag);
+			stream.writeDouble (((Double) value).doubleValue ());
+		} else if (value instanceof String) {
+			stream.writeByte (BinaryChannelMessageCoder.stringTag);
+			this.encodeString (stream, (String) value);
+		} else if (value instanceof Map) {
+			final Map<?, ?> object = (Map<?, ?>) value;
+			stream.writeByte (BinaryChannelMessageCoder.objectTag);
+			stream.writeInt (object.size ());
+			for (final Map.Entry<?, ?> entry : object.entrySet ()) {
+				Preconditions.checkArgument (entry.getKey () instanceof String, "unexpected meta-data key: `%s`", entry.getKey ());
+				this.encodeString (stream, (String) entry.getKey ());
+				this.encodeValue (stream, entry.getValue ());
+			}
+		} else if (value instanceof Collection) {
+			final Collection<?> array = (Collection<?>) value;
+			stream.writeByte (BinaryChannelMessageCoder.arrayTag);
+			stream.writeInt (array.size ());
+			for (final Object element : array)
+				this.encodeValue (stream, element);
+		} else
+			throw (new IllegalArgumentException (String.format ("unexpected meta-data value: `%s`", value)));
+	}
+	
+	private final Charset charset;
+	
+	public static final BinaryChannelMessageCoder create () {
+		return (new BinaryChannelMessageCoder ());
+	}
+	
+	public static final boolean isBinaryPacket (final ByteBuffer packet) {
+		return ((packet.remaining () > 4) && (packet.get (packet.position () + 4) == BinaryChannelMessageCoder.packetMarker));
+	}
+	
+	public static final BinaryChannelMessageCoder defaultInstance = BinaryChannelMessageCoder.create ();
+	// NOTE: the marker can never start a JSON encoded meta-data, thus the two encodings can be told apart
+	static final byte packetMarker = (byte) 0xb1;
+	private static final byte arrayTag = 9;
+	private static final byte doubleTag = 6;
+	private static final byte falseTag = 1;
+	private static final byte floatTag = 5;
+	private static final byte integerTag = 3;
+	private static final byte longTag = 4;
+	private static final byte nullTag = 0;
+	private static final byte objectTag = 8;
+	private static final byte stringTag = 7;
+	private static final byte trueTag = 2;
+}
@@ -26,7 +26,7 @@ import java.nio.ByteOrder;
 import java.util.Map;
 
 import eu.mosaic_cloud.components.core.ChannelMessage;
-import eu.mosaic_cloud.components.core.ChannelMessageCoder;
+import eu.mosaic_cloud.components.core.ChannelMessageGatheringCoder;
 import eu.mosaic_cloud.components.core.ChannelMessageType;
 import eu.mosaic_cloud.tools.json.core.JsonCoder;
 import eu.mosaic_cloud.tools.json.tools.DefaultJsonCoder;
@@ -39,7 +39,7 @@ import net.minidev.json.JSONObject;
 public final class DefaultChannelMessageCoder
 			extends Object
 			implements
-				ChannelMessageCoder
+				ChannelMessageGatheringCoder
 {
 	private DefaultChannelMessageCoder (final JsonCoder jsonCoder) {
 		super ();
@@ -87,22 +87,34 @@ public final class DefaultChannelMessageCoder
 	@Override
 	public final ByteBuffer encode (final ChannelMessage message)
 				throws Throwable {
+		final ByteBuffer[] segments = this.encodeSegments (message);
+		int packetSize = 0;
+		for (final ByteBuffer segment : segments)
+			packetSize += segment.remaining ();
+		final ByteBuffer packet = ByteBuffer.allocate (packetSize);
+		for (final ByteBuffer segment : segments)
+			packet.put (segment);
+		packet.flip ();
+		return (packet.asReadOnlyBuffer ());
+	}
+	
+	@Override
+	public final ByteBuffer[] encodeSegments (final ChannelMessage message)
+				throws Throwable {
 		Preconditions.checkNotNull (message);
 		Preconditions.checkArgument (message.type != null, "unexpected message-type value: `%s`", message.type);
 		Preconditions.checkArgument ((message.metaData != null), "unexpected meta-data value: `%s`", message.metaData);
 		Preconditions.checkNotNull (message.data);
 		final JSONObject metaDataValue = new JSONObject (message.metaData);
 		metaDataValue.put ("__type__", message.type.identifier);
-		final ByteBuffer metaData = this.jsonCoder.encode (metaDataValue);
+		final ByteBuffer metaData = this.jsonCoder.encode (metaDataValue).asReadOnlyBuffer ();
 		final ByteBuffer data = message.data.asReadOnlyBuffer ();
 		final int packetSize = metaData.remaining () + 1 + data.remaining ();
-		final ByteBuffer packet = ByteBuffer.allocate (packetSize + 4);
-		packet.putInt (packetSize);
-		packet.put (metaData);
-		packet.put ((byte) 0);
-		packet.put (data);
-		packet.flip ();
-		return (packet.asReadOnlyBuffer ());
+		final ByteBuffer header = ByteBuffer.allocate (4);
+		header.putInt (packetSize);
+		header.flip ();
+		// NOTE: the segments are meant for gathering writes, thus the data is not copied and the delimiter is shared
+		return (new ByteBuffer[] {header.asReadOnlyBuffer (), metaData, DefaultChannelMessageCoder.defaultDelimiter.duplicate (), data});
 	}
 	
 	private final JsonCoder jsonCoder;
@@ -112,4 +124,5 @@ public final class DefaultChannelMessageCoder
 	}
 	
 	public static final DefaultChannelMessageCoder defaultInstance = DefaultChannelMessageCoder.create ();
+	static final ByteBuffer defaultDelimiter = ByteBuffer.wrap (new byte[] {0}).asReadOnlyBuffer ();
 }
@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * mosaic-components-tools
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.components.tools;
+
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import eu.mosaic_cloud.components.core.ChannelMessage;
+import eu.mosaic_cloud.components.core.ChannelMessageGatheringCoder;
+
+import com.google.common.base.Preconditions;
+
+
+// NOTE: the coder starts by using the JSON encoding, advertising (through a meta-data attribute of the first outbound
+//-- message only) that it is able to use the binary encoding; once the peer is known to support the binary encoding
+//-- (i.e. it advertised it, or it sent a binary packet), the coder switches to the binary encoding; decoding always
+//-- accepts both encodings; thus, apart from the first message, a peer which never negotiates sees exactly the same
+//-- packets as produced by the JSON coder.
+//-- (thus each channel must have its own coder instance.)
+public final class NegotiatingChannelMessageCoder
+			extends Object
+			implements
+				ChannelMessageGatheringCoder
+{
+	private NegotiatingChannelMessageCoder (final DefaultChannelMessageCoder jsonCoder, final BinaryChannelMessageCoder binaryCoder) {
+		super ();
+		Preconditions.checkNotNull (jsonCoder);
+		Preconditions.checkNotNull (binaryCoder);
+		this.jsonCoder = jsonCoder;
+		this.binaryCoder = binaryCoder;
+		this.binaryOutbound = false;
+		this.advertised = false;
+	}
+	
+	@Override
+	public final ChannelMessage decode (final ByteBuffer packet)
+				throws Throwable {
+		Preconditions.checkNotNull (packet);
+		if (BinaryChannelMessageCoder.isBinaryPacket (packet)) {
+			this.binaryOutbound = true;
+			return (this.binaryCoder.decode (packet));
+		}
+		final ChannelMessage message = this.jsonCoder.decode (packet);
+		final Object codersValue = message.metaData.remove (NegotiatingChannelMessageCoder.codersAttribute);
+		if (NegotiatingChannelMessageCoder.binaryCoderIdentifier.equals (codersValue))
+			this.binaryOutbound = true;
+		return (message);
+	}
+	
+	@Override
+	public final ByteBuffer encode (final ChannelMessage message)
+				throws Throwable {
+		if (this.binaryOutbound)
+			return (this.binaryCoder.encode (message));
+		return (this.jsonCoder.encode (this.advertise (message)));
+	}
+	
+	@Override
+	public final ByteBuffer[] encodeSegments (final ChannelMessage message)
+				throws Throwable {
+		if (this.binaryOutbound)
+			return (this.binaryCoder.encodeSegments (message));
+		return (this.jsonCoder.encodeSegments (this.advertise (message)));
+	}
+	
+	public final boolean isBinaryOutbound () {
+		return (this.binaryOutbound);
+	}
+	
+	private final ChannelMessage advertise (final ChannelMessage message) {
+		Preconditions.checkNotNull (message);
+		Preconditions.checkArgument ((message.metaData != null), "unexpected meta-data value: `%s`", message.metaData);
+		if (this.advertised)
+			return (message);
+		this.advertised = true;
+		final Map<String, Object> metaData = new HashMap<String, Object> (message.metaData);
+		metaData.put (NegotiatingChannelMessageCoder.codersAttribute, NegotiatingChannelMessageCoder.binaryCoderIdentifier);
+		return (ChannelMessage.create (message.type, metaData, message.data));
+	}
+	
+	private volatile boolean advertised;
+	private final BinaryChannelMessageCoder binaryCoder;
+	private volatile boolean binaryOutbound;
+	private final DefaultChannelMessageCoder jsonCoder;
+	
+	public static final NegotiatingChannelMessageCoder create () {
+		return (new NegotiatingChannelMessageCoder (DefaultChannelMessageCoder.defaultInstance, BinaryChannelMessageCoder.defaultInstance));
+	}
+	
+	public static final String binaryCoderIdentifier = "binary";
+	public static final String codersAttribute = "__coders__";
+}
@@ -0,0 +1,114 @@
+/*
+ * #%L
+ * mosaic-components-tools
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.components.implementations.basic.tests;
+
+
+import java.nio.channels.Pipe;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.components.core.ChannelCallbacks;
+import eu.mosaic_cloud.components.core.ChannelController;
+import eu.mosaic_cloud.components.core.ChannelMessage;
+import eu.mosaic_cloud.components.implementations.basic.BasicChannel;
+import eu.mosaic_cloud.components.tools.DefaultChannelMessageCoder;
+import eu.mosaic_cloud.components.tools.QueueingChannelCallbacks;
+import eu.mosaic_cloud.components.tools.tests.RandomMessageGenerator;
+import eu.mosaic_cloud.tools.callbacks.core.CallbackIsolate;
+import eu.mosaic_cloud.tools.callbacks.implementations.basic.BasicCallbackReactor;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.transcript.core.Transcript;
+import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+// NOTE: this is not picked up by the default test run (given its name); it should be run explicitly, e.g.
+//-- `mvn test -Dtest=BasicChannelBenchmark`, and it compares the round-trip latency of the pipeline modes.
+public final class BasicChannelBenchmark
+{
+	@Test
+	public final void testInline ()
+				throws Exception {
+		this.benchmark (BasicChannel.PipelineMode.Inline);
+	}
+	
+	@Test
+	public final void testStaged ()
+				throws Exception {
+		this.benchmark (BasicChannel.PipelineMode.Staged);
+	}
+	
+	private final void benchmark (final BasicChannel.PipelineMode pipelineMode)
+				throws Exception {
+		final Transcript transcript = Transcript.create (this);
+		BasicThreadingSecurityManager.initialize ();
+		final Pipe pipe = Pipe.open ();
+		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		final TranscriptExceptionTracer exceptions = TranscriptExceptionTracer.create (transcript, exceptionsQueue);
+		final BasicThreadingContext threading = BasicThreadingContext.create (this, exceptions, exceptions.catcher);
+		Assert.assertTrue (threading.initialize (BasicChannelBenchmark.defaultPollTimeout));
+		final BasicCallbackReactor reactor = BasicCallbackReactor.create (threading, exceptions);
+		Assert.assertTrue (reactor.initialize (BasicChannelBenchmark.defaultPollTimeout));
+		final DefaultChannelMessageCoder coder = DefaultChannelMessageCoder.defaultInstance;
+		final BasicChannel channel = BasicChannel.create (pipe.source (), pipe.sink (), coder, pipelineMode, reactor, threading, exceptions);
+		Assert.assertTrue (channel.initialize (BasicChannelBenchmark.defaultPollTimeout));
+		final ChannelController channelController = channel.getController ();
+		final ChannelCallbacks channelCallbacksProxy = reactor.createProxy (ChannelCallbacks.class);
+		Assert.assertTrue (channelController.bind (channelCallbacksProxy).await (BasicChannelBenchmark.defaultPollTimeout));
+		final QueueingChannelCallbacks channelCallbacks = QueueingChannelCallbacks.create (channelController, exceptions);
+		final CallbackIsolate channelCallbacksIsolate = reactor.createIsolate ();
+		Assert.assertTrue (reactor.assignHandler (channelCallbacksProxy, channelCallbacks, channelCallbacksIsolate).await (BasicChannelBenchmark.defaultPollTimeout));
+		final ChannelMessage[] messages = new ChannelMessage[BasicChannelBenchmark.defaultMessages];
+		for (int index = 0; index < messages.length; index++)
+			messages[index] = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+		final long[] latencies = new long[BasicChannelBenchmark.defaultTries];
+		for (int index = 0; index < (BasicChannelBenchmark.defaultWarmupTries + BasicChannelBenchmark.defaultTries); index++) {
+			final ChannelMessage outboundMessage = messages[index % messages.length];
+			final long start = System.nanoTime ();
+			Assert.assertTrue (channelController.send (outboundMessage).await (BasicChannelBenchmark.defaultPollTimeout));
+			final ChannelMessage inboundMessage = channelCallbacks.queue.poll (BasicChannelBenchmark.defaultPollTimeout, TimeUnit.MILLISECONDS);
+			final long stop = System.nanoTime ();
+			Assert.assertNotNull (inboundMessage);
+			if (index >= BasicChannelBenchmark.defaultWarmupTries)
+				latencies[index - BasicChannelBenchmark.defaultWarmupTries] = stop - start;
+		}
+		Arrays.sort (latencies);
+		long total = 0;
+		for (final long latency : latencies)
+			total += latency;
+		transcript.traceInformation ("pipeline mode `%s`: round-trip latency (us) average %.1f, median %.1f, 99th percentile %.1f, maximum %.1f;", pipelineMode, Double.valueOf ((total / 1000.0) / latencies.length), Double.valueOf (latencies[latencies.length / 2] / 1000.0), Double.valueOf (latencies[(latencies.length * 99) / 100] / 1000.0), Double.valueOf (latencies[latencies.length - 1] / 1000.0));
+		pipe.sink ().close ();
+		Assert.assertTrue (channel.destroy (BasicChannelBenchmark.defaultPollTimeout));
+		Assert.assertTrue (channelCallbacksIsolate.destroy ().await (BasicChannelBenchmark.defaultPollTimeout));
+		Assert.assertTrue (reactor.destroy (BasicChannelBenchmark.defaultPollTimeout));
+		Assert.assertTrue (threading.destroy (BasicChannelBenchmark.defaultPollTimeout));
+		Assert.assertNull (exceptionsQueue.queue.poll ());
+	}
+	
+	public static final int defaultMessages = 64;
+	public static final long defaultPollTimeout = 1000;
+	public static final int defaultTries = 10000;
+	public static final int defaultWarmupTries = 1000;
+}
@@ -21,14 +21,20 @@
 package eu.mosaic_cloud.components.implementations.basic.tests;
 
 
+import java.nio.ByteBuffer;
 import java.nio.channels.Pipe;
+import java.util.HashMap;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import eu.mosaic_cloud.components.core.ChannelCallbacks;
 import eu.mosaic_cloud.components.core.ChannelController;
 import eu.mosaic_cloud.components.core.ChannelMessage;
+import eu.mosaic_cloud.components.core.ChannelMessageCoder;
+import eu.mosaic_cloud.components.core.ChannelMessageType;
 import eu.mosaic_cloud.components.implementations.basic.BasicChannel;
 import eu.mosaic_cloud.components.tools.DefaultChannelMessageCoder;
+import eu.mosaic_cloud.components.tools.NegotiatingChannelMessageCoder;
 import eu.mosaic_cloud.components.tools.QueueingChannelCallbacks;
 import eu.mosaic_cloud.components.tools.tests.RandomMessageGenerator;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackIsolate;
@@ -37,6 +43,7 @@ import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
 import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
@@ -49,6 +56,56 @@ public final class BasicChannelTest
 	@Test
 	public final void test ()
 				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.defaultFramingMode, BasicChannel.defaultPipelineMode, false, BasicChannelTest.defaultTries, -1);
+	}
+	
+	@Test
+	public final void testDefaults () {
+		Assert.assertSame (BasicChannel.FramingMode.Copying, BasicChannel.defaultFramingMode);
+		Assert.assertSame (BasicChannel.PipelineMode.Staged, BasicChannel.defaultPipelineMode);
+	}
+	
+	@Test
+	public final void testGathering ()
+				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.FramingMode.Gathering, BasicChannel.PipelineMode.Staged, false, BasicChannelTest.defaultTries, -1);
+	}
+	
+	@Test
+	public final void testInline ()
+				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.FramingMode.Copying, BasicChannel.PipelineMode.Inline, false, BasicChannelTest.defaultTries, -1);
+	}
+	
+	@Test
+	public final void testLarge ()
+				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.defaultFramingMode, BasicChannel.defaultPipelineMode, false, BasicChannelTest.defaultLargeTries, BasicChannelTest.defaultLargeDataSize);
+	}
+	
+	@Test
+	public final void testLargeInline ()
+				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.FramingMode.Gathering, BasicChannel.PipelineMode.Inline, false, BasicChannelTest.defaultLargeTries, BasicChannelTest.defaultLargeDataSize);
+	}
+	
+	@Test
+	public final void testLoops ()
+				throws Exception {
+		this.testChannel (DefaultChannelMessageCoder.defaultInstance, BasicChannel.FramingMode.Gathering, BasicChannel.PipelineMode.Inline, true, BasicChannelTest.defaultTries, -1);
+	}
+	
+	@Test
+	public final void testNegotiating ()
+				throws Exception {
+		// NOTE: the channel is looped back onto itself, thus the coder receives its own advertisement and switches to the binary encoding.
+		final NegotiatingChannelMessageCoder coder = NegotiatingChannelMessageCoder.create ();
+		this.testChannel (coder, BasicChannel.FramingMode.Gathering, BasicChannel.PipelineMode.Staged, false, BasicChannelTest.defaultTries, -1);
+		Assert.assertTrue (coder.isBinaryOutbound ());
+	}
+	
+	private final void testChannel (final ChannelMessageCoder coder, final BasicChannel.FramingMode framingMode, final BasicChannel.PipelineMode pipelineMode, final boolean shared, final int tries, final int dataSize)
+				throws Exception {
 		final Transcript transcript = Transcript.create (this);
 		BasicThreadingSecurityManager.initialize ();
 		final Pipe pipe = Pipe.open ();
@@ -58,8 +115,12 @@ public final class BasicChannelTest
 		Assert.assertTrue (threading.initialize (BasicChannelTest.defaultPollTimeout));
 		final BasicCallbackReactor reactor = BasicCallbackReactor.create (threading, exceptions);
 		Assert.assertTrue (reactor.initialize (BasicChannelTest.defaultPollTimeout));
-		final DefaultChannelMessageCoder coder = DefaultChannelMessageCoder.defaultInstance;
-		final BasicChannel channel = BasicChannel.create (pipe.source (), pipe.sink (), coder, reactor, threading, exceptions);
+		final EventLoopGroup loops = shared ? EventLoopGroup.create (threading, this, 2, exceptions) : null;
+		final BasicChannel channel;
+		if (shared)
+			channel = BasicChannel.create (pipe.source (), pipe.sink (), coder, framingMode, reactor, threading, loops, exceptions);
+		else
+			channel = BasicChannel.create (pipe.source (), pipe.sink (), coder, framingMode, pipelineMode, reactor, threading, exceptions);
 		Assert.assertTrue (channel.initialize (BasicChannelTest.defaultPollTimeout));
 		final ChannelController channelController = channel.getController ();
 		final ChannelCallbacks channelCallbacksProxy = reactor.createProxy (ChannelCallbacks.class);
@@ -67,8 +128,16 @@ public final class BasicChannelTest
 		final QueueingChannelCallbacks channelCallbacks = QueueingChannelCallbacks.create (channelController, exceptions);
 		final CallbackIsolate channelCallbacksIsolate = reactor.createIsolate ();
 		Assert.assertTrue (reactor.assignHandler (channelCallbacksProxy, channelCallbacks, channelCallbacksIsolate).await (BasicChannelTest.defaultPollTimeout));
-		for (int index = 0; index < BasicChannelTest.defaultTries; index++) {
-			final ChannelMessage outboundMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+		final Random random = new Random ();
+		for (int index = 0; index < tries; index++) {
+			final ChannelMessage outboundMessage;
+			if (dataSize == -1)
+				outboundMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+			else {
+				final byte[] data = new byte[dataSize];
+				random.nextBytes (data);
+				outboundMessage = ChannelMessage.create (ChannelMessageType.Exchange, new HashMap<String, Object> (), ByteBuffer.wrap (data));
+			}
 			Assert.assertTrue (channelController.send (outboundMessage).await (BasicChannelTest.defaultPollTimeout));
 			final ChannelMessage inboundMessage = channelCallbacks.queue.poll (BasicChannelTest.defaultPollTimeout, TimeUnit.MILLISECONDS);
 			Assert.assertNotNull (inboundMessage);
@@ -79,10 +148,14 @@ public final class BasicChannelTest
 		Assert.assertTrue (channel.destroy (BasicChannelTest.defaultPollTimeout));
 		Assert.assertTrue (channelCallbacksIsolate.destroy ().await (BasicChannelTest.defaultPollTimeout));
 		Assert.assertTrue (reactor.destroy (BasicChannelTest.defaultPollTimeout));
+		if (shared)
+			Assert.assertTrue (loops.destroy (BasicChannelTest.defaultPollTimeout));
 		Assert.assertTrue (threading.destroy (BasicChannelTest.defaultPollTimeout));
 		Assert.assertNull (exceptionsQueue.queue.poll ());
 	}
 	
+	public static final int defaultLargeDataSize = 10 * 1000;
+	public static final int defaultLargeTries = 256;
 	public static final long defaultPollTimeout = 1000;
 	public static final int defaultTries = 16;
 }
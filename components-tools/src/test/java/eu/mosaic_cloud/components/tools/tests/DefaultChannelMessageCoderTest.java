@@ -45,4 +45,26 @@ public final class DefaultChannelMessageCoderTest
 			Assert.assertEquals (outboundMessage.data, inboundMessage.data);
 		}
 	}
+	
+	@Test
+	public final void testSegments ()
+				throws Throwable {
+		final DefaultChannelMessageCoder coder = DefaultChannelMessageCoder.defaultInstance;
+		final int tries = 16;
+		for (int index = 0; index < tries; index++) {
+			final ChannelMessage outboundMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+			final ByteBuffer[] segments = coder.encodeSegments (outboundMessage);
+			int packetSize = 0;
+			for (final ByteBuffer segment : segments)
+				packetSize += segment.remaining ();
+			final ByteBuffer packet = ByteBuffer.allocate (packetSize);
+			for (final ByteBuffer segment : segments)
+				packet.put (segment);
+			packet.flip ();
+			Assert.assertEquals (coder.encode (outboundMessage), packet);
+			final ChannelMessage inboundMessage = coder.decode (packet);
+			Assert.assertEquals (outboundMessage.metaData, inboundMessage.metaData);
+			Assert.assertEquals (outboundMessage.data, inboundMessage.data);
+		}
+	}
 }
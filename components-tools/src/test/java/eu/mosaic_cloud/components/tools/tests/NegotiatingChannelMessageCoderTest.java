@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * mosaic-components-tools
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.components.tools.tests;
+
+
+import java.nio.ByteBuffer;
+
+import eu.mosaic_cloud.components.core.ChannelMessage;
+import eu.mosaic_cloud.components.tools.BinaryChannelMessageCoder;
+import eu.mosaic_cloud.components.tools.DefaultChannelMessageCoder;
+import eu.mosaic_cloud.components.tools.NegotiatingChannelMessageCoder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public final class NegotiatingChannelMessageCoderTest
+{
+	@Test
+	public final void test ()
+				throws Throwable {
+		final NegotiatingChannelMessageCoder initiatorCoder = NegotiatingChannelMessageCoder.create ();
+		final NegotiatingChannelMessageCoder acceptorCoder = NegotiatingChannelMessageCoder.create ();
+		final ByteBuffer initiatorPacket = initiatorCoder.encode (RandomMessageGenerator.defaultInstance.generateChannelMessage ());
+		Assert.assertFalse (BinaryChannelMessageCoder.isBinaryPacket (initiatorPacket));
+		acceptorCoder.decode (initiatorPacket);
+		Assert.assertTrue (acceptorCoder.isBinaryOutbound ());
+		final ByteBuffer acceptorPacket = acceptorCoder.encode (RandomMessageGenerator.defaultInstance.generateChannelMessage ());
+		Assert.assertTrue (BinaryChannelMessageCoder.isBinaryPacket (acceptorPacket));
+		initiatorCoder.decode (acceptorPacket);
+		Assert.assertTrue (initiatorCoder.isBinaryOutbound ());
+		final int tries = 16;
+		for (int index = 0; index < tries; index++) {
+			final ChannelMessage outboundMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+			final ByteBuffer packet = initiatorCoder.encode (outboundMessage);
+			Assert.assertTrue (BinaryChannelMessageCoder.isBinaryPacket (packet));
+			final ChannelMessage inboundMessage = acceptorCoder.decode (packet);
+			Assert.assertEquals (outboundMessage.metaData, inboundMessage.metaData);
+			Assert.assertEquals (outboundMessage.data, inboundMessage.data);
+		}
+	}
+	
+	@Test
+	public final void testLegacy ()
+				throws Throwable {
+		final NegotiatingChannelMessageCoder coder = NegotiatingChannelMessageCoder.create ();
+		final DefaultChannelMessageCoder legacyCoder = DefaultChannelMessageCoder.defaultInstance;
+		final ChannelMessage firstMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+		final ChannelMessage firstLegacyMessage = legacyCoder.decode (coder.encode (firstMessage));
+		Assert.assertEquals (NegotiatingChannelMessageCoder.binaryCoderIdentifier, firstLegacyMessage.metaData.get (NegotiatingChannelMessageCoder.codersAttribute));
+		final int tries = 16;
+		for (int index = 0; index < tries; index++) {
+			final ChannelMessage outboundMessage = RandomMessageGenerator.defaultInstance.generateChannelMessage ();
+			final ChannelMessage inboundMessage = coder.decode (legacyCoder.encode (outboundMessage));
+			Assert.assertEquals (outboundMessage.metaData, inboundMessage.metaData);
+			Assert.assertEquals (outboundMessage.data, inboundMessage.data);
+			Assert.assertFalse (coder.isBinaryOutbound ());
+			final ByteBuffer packet = coder.encode (outboundMessage);
+			Assert.assertEquals (legacyCoder.encode (outboundMessage), packet);
+			final ByteBuffer[] segments = coder.encodeSegments (outboundMessage);
+			Assert.assertEquals (legacyCoder.encode (outboundMessage), NegotiatingChannelMessageCoderTest.join (segments));
+		}
+	}
+	
+	private static final ByteBuffer join (final ByteBuffer[] segments) {
+		int size = 0;
+		for (final ByteBuffer segment : segments)
+			size += segment.remaining ();
+		final ByteBuffer packet = ByteBuffer.allocate (size);
+		for (final ByteBuffer segment : segments)
+			packet.put (segment.duplicate ());
+		packet.flip ();
+		return (packet);
+	}
+}
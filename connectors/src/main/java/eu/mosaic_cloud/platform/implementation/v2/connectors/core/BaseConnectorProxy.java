@@ -22,6 +22,7 @@ package eu.mosaic_cloud.platform.implementation.v2.connectors.core;
 
 
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 import eu.mosaic_cloud.interoperability.core.Channel;
 import eu.mosaic_cloud.interoperability.core.ChannelResolver;
@@ -231,8 +232,9 @@ public abstract class BaseConnectorProxy
 	 *            the session to which the request belongs
 	 * @param request
 	 *            the request
+	 * @return <code>true</code> if the message was sent, or <code>false</code> if the session send window stayed full
 	 */
-	protected void sendMessage (final Message message) {
+	protected boolean sendMessage (final Message message) {
 		// FIXME: Currently this is a hack to avoid a race condition introduced
 		//-- by the `connect` code above.
 		//-- For now we just busy-wait until the session object is available
@@ -243,7 +245,12 @@ public abstract class BaseConnectorProxy
 			}
 		}
 		this.transcript.traceDebugging ("sending the interoperability message of type `%s`...", message.specification);
-		this.session.send (message);
+		// NOTE: the credited send throttles the proxy when the driver is slow; if the window stays full the message is not sent at all.
+		if (!this.session.send (message, BaseConnectorProxy.defaultSendTimeout)) {
+			this.transcript.traceError ("send window full for the interoperability message of type `%s`; dropping!", message.specification);
+			return (false);
+		}
+		return (true);
 	}
 	
 	protected void sendRequest (final Message message) {
@@ -255,7 +262,9 @@ public abstract class BaseConnectorProxy
 		this.transcript.traceDebugging ("registering and sending the pending request with specification `%s` and token `%s`...", message.specification, token.getMessageId ());
 		final CallbackCompletionDeferredFuture<TOutcome> future = CallbackCompletionDeferredFuture.create (outcomeClass);
 		this.pendingRequests.register (token.getMessageId (), future);
-		this.sendMessage (message);
+		if (!this.sendMessage (message)) {
+			this.pendingRequests.fail (token.getMessageId (), new TimeoutException (String.format ("send window full for the request with specification `%s`", message.specification)));
+		}
 		return (future.completion);
 	}
 	
@@ -266,4 +275,5 @@ public abstract class BaseConnectorProxy
 	private final Channel channel;
 	private final String identifier;
 	private Session session;
+	protected static final long defaultSendTimeout = 1000;
 }
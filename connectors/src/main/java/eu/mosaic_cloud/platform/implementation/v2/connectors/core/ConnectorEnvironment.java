@@ -24,6 +24,10 @@ package eu.mosaic_cloud.platform.implementation.v2.connectors.core;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import eu.mosaic_cloud.interoperability.core.ChannelFactory;
 import eu.mosaic_cloud.interoperability.core.ChannelResolver;
@@ -57,6 +61,12 @@ public final class ConnectorEnvironment
 				ConnectorEnvironment.this.exceptions.trace (ExceptionResolution.Ignored, exception);
 			}
 		});
+		// NOTE: a single timer thread is shared by all the connectors of the environment; it is started on demand and exits
+		//-- once idle, thus it never outlives the work it was started for.
+		final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor (1, threading.createThreadFactory (threading.getThreadConfiguration ().override (this, "scheduler", true)));
+		scheduler.setKeepAliveTime (ConnectorEnvironment.defaultSchedulerKeepAlive, TimeUnit.MILLISECONDS);
+		scheduler.allowCoreThreadTimeOut (true);
+		this.scheduler = Executors.unconfigurableScheduledExecutorService (scheduler);
 	}
 	
 	public ChannelFactory getChannelFactory () {
@@ -75,6 +85,10 @@ public final class ConnectorEnvironment
 		return this.reactor;
 	}
 	
+	public ScheduledExecutorService getScheduler () {
+		return this.scheduler;
+	}
+	
 	public SupplementaryEnvironment getSupplementary () {
 		return this.supplementary;
 	}
@@ -87,6 +101,7 @@ public final class ConnectorEnvironment
 	private final ChannelResolver channelResolver;
 	private final ExceptionTracer exceptions;
 	private final CallbackReactor reactor;
+	private final ScheduledExecutorService scheduler;
 	private final SupplementaryEnvironment supplementary;
 	private final ThreadingContext threading;
 	
@@ -97,4 +112,6 @@ public final class ConnectorEnvironment
 	public static ConnectorEnvironment create (final CallbackReactor reactor, final ThreadingContext threading, final ExceptionTracer exceptions, final ChannelFactory channelFactory, final ChannelResolver channelResolver, final Map<String, Object> supplementary) {
 		return new ConnectorEnvironment (reactor, threading, exceptions, channelFactory, channelResolver, supplementary);
 	}
+	
+	public static final long defaultSchedulerKeepAlive = 1000;
 }
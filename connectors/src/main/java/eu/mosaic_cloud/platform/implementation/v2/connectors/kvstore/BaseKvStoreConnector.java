@@ -21,6 +21,9 @@
 package eu.mosaic_cloud.platform.implementation.v2.connectors.kvstore;
 
 
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.implementation.v2.connectors.core.BaseConnector;
 import eu.mosaic_cloud.platform.v2.connectors.kvstore.KvStoreConnector;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
@@ -49,13 +52,28 @@ public abstract class BaseKvStoreConnector<TValue extends Object, TProxy extends
 		return this.proxy.delete (key);
 	}
 	
+	@Override
+	public CallbackCompletion<List<String>> deleteBulk (final List<String> keys) {
+		return this.proxy.deleteBulk (keys);
+	}
+	
 	@Override
 	public CallbackCompletion<TValue> get (final String key) {
 		return this.proxy.get (key);
 	}
 	
+	@Override
+	public CallbackCompletion<Map<String, TValue>> getBulk (final List<String> keys) {
+		return this.proxy.getBulk (keys);
+	}
+	
 	@Override
 	public CallbackCompletion<Void> set (final String key, final TValue data) {
 		return this.proxy.set (key, data);
 	}
+	
+	@Override
+	public CallbackCompletion<List<String>> setBulk (final Map<String, TValue> values) {
+		return this.proxy.setBulk (values);
+	}
 }
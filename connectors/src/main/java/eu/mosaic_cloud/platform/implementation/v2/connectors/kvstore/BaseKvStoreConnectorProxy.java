@@ -21,6 +21,7 @@
 package eu.mosaic_cloud.platform.implementation.v2.connectors.kvstore;
 
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -37,10 +38,13 @@ import eu.mosaic_cloud.platform.interop.idl.IdlCommon.Error;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.NotOk;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.Ok;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetRequest;
 import eu.mosaic_cloud.platform.interop.specs.kvstore.KeyValueMessage;
 import eu.mosaic_cloud.platform.v2.connectors.kvstore.KvStoreConnector;
@@ -82,6 +86,23 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 		return this.sendRequest (message, token, Void.class);
 	}
 	
+	@Override
+	@SuppressWarnings ({"unchecked", "rawtypes"})
+	public CallbackCompletion<List<String>> deleteBulk (final List<String> keys) {
+		if (keys.isEmpty ()) {
+			final List<String> failedKeys = new ArrayList<String> ();
+			return (CallbackCompletion.createOutcome (failedKeys));
+		}
+		final CompletionToken token = this.generateToken ();
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("deleting the records with key `%s` (and `%d` other keys) (with request token `%s`)...", keys.get (0), Integer.valueOf (keys.size () - 1), token.getMessageId ());
+		final DeleteBulkRequest.Builder requestBuilder = DeleteBulkRequest.newBuilder ();
+		requestBuilder.setToken (token);
+		requestBuilder.addAllKeys (keys);
+		final Message message = new Message (KeyValueMessage.DELETE_BULK_REQUEST, requestBuilder.build ());
+		return ((CallbackCompletion) this.sendRequest (message, token, List.class));
+	}
+	
 	@Override
 	public CallbackCompletion<Void> destroy () {
 		this.transcript.traceDebugging ("destroying the proxy...");
@@ -97,6 +118,16 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 		return this.sendGetRequest (Arrays.asList (key), (Class<TValue>) Object.class);
 	}
 	
+	@Override
+	@SuppressWarnings ({"unchecked", "rawtypes"})
+	public CallbackCompletion<Map<String, TValue>> getBulk (final List<String> keys) {
+		if (keys.isEmpty ()) {
+			final Map<String, TValue> values = new HashMap<String, TValue> ();
+			return (CallbackCompletion.createOutcome (values));
+		}
+		return ((CallbackCompletion) this.sendGetRequest (keys, Map.class));
+	}
+	
 	public CallbackCompletion<Void> set (final String key, final int exp, final TValue data) {
 		return this.sendSetRequest (key, data, exp);
 	}
@@ -106,6 +137,35 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 		return this.set (key, 0, data);
 	}
 	
+	@Override
+	@SuppressWarnings ({"unchecked", "rawtypes"})
+	public CallbackCompletion<List<String>> setBulk (final Map<String, TValue> values) {
+		if (values.isEmpty ()) {
+			final List<String> failedKeys = new ArrayList<String> ();
+			return (CallbackCompletion.createOutcome (failedKeys));
+		}
+		final CompletionToken token = this.generateToken ();
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("setting the records with `%d` keys (with request token `%s`)...", Integer.valueOf (values.size ()), token.getMessageId ());
+		final SetBulkRequest.Builder requestBuilder = SetBulkRequest.newBuilder ();
+		requestBuilder.setToken (token);
+		for (final Map.Entry<String, TValue> value : values.entrySet ()) {
+			final KVEntry.Builder entryBuilder = KVEntry.newBuilder ();
+			entryBuilder.setKey (value.getKey ());
+			try {
+				final EncodeOutcome outcome = this.encoder.encode (value.getValue (), null);
+				entryBuilder.setValue (ByteString.copyFrom (outcome.data));
+				entryBuilder.setEnvelope (this.buildEnvelope (outcome.metadata));
+			} catch (final EncodingException exception) {
+				this.exceptions.traceDeferredException (exception, "encoding the value for record with key `%s` failed; deferring!", value.getKey ());
+				return (CallbackCompletion.createFailure (exception));
+			}
+			requestBuilder.addEntries (entryBuilder.build ());
+		}
+		final Message message = new Message (KeyValueMessage.SET_BULK_REQUEST, requestBuilder.build ());
+		return ((CallbackCompletion) this.sendRequest (message, token, List.class));
+	}
+	
 	@Override
 	protected void processResponse (final Message message) {
 		final KeyValueMessage kvMessage = (KeyValueMessage) message.specification;
@@ -131,6 +191,14 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 				this.pendingRequests.fail (token.getMessageId (), new Exception (errorPayload.getErrorMessage ()));
 			}
 				break;
+			case BULK_REPLY : {
+				final KeyValuePayloads.BulkReply bulkPayload = (BulkReply) message.payload;
+				final CompletionToken token = bulkPayload.getToken ();
+				if (this.transcript.isDebuggingEnabled ())
+					this.transcript.traceDebugging ("processing the success (bulk reply) response (with `%d` failed keys) for pending request with token `%s`...", Integer.valueOf (bulkPayload.getFailedKeysCount ()), token.getMessageId ());
+				this.pendingRequests.succeed (token.getMessageId (), new ArrayList<String> (bulkPayload.getFailedKeysList ()));
+			}
+				break;
 			case LIST_REPLY : {
 				this.transcript.traceWarning ("processing unexpected message of type `%s`; ignoring...", message.specification);
 			}
@@ -139,22 +207,24 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 				final KeyValuePayloads.GetReply getPayload = (GetReply) message.payload;
 				final CompletionToken token = getPayload.getToken ();
 				final List<KVEntry> resultEntries = getPayload.getResultsList ();
-				this.transcript.traceDebugging ("processing the success (get reply) response (with `%d` entries) for pending request with token `%s`...", Integer.valueOf (resultEntries.size ()), token.getMessageId ());
+				if (this.transcript.isDebuggingEnabled ())
+					this.transcript.traceDebugging ("processing the success (get reply) response (with `%d` entries) for pending request with token `%s`...", Integer.valueOf (resultEntries.size ()), token.getMessageId ());
 				final Class<?> outcomeClass = this.pendingRequests.peek (token.getMessageId ()).future.outcomeClass;
 				final Object outcome;
 				if (outcomeClass == Map.class) {
 					final Map<String, TValue> values = new HashMap<String, TValue> ();
+					EncodingException failure = null;
 					for (final KVEntry entry : resultEntries) {
 						final Envelope envelope = entry.getEnvelope ();
 						final EncodingMetadata encodingMetadata = new EncodingMetadata (envelope.getContentType (), envelope.getContentEncoding ());
 						final TValue value;
-						final byte[] rawValue = resultEntries.get (0).getValue ().toByteArray ();
+						final byte[] rawValue = entry.getValue ().toByteArray ();
 						if ((rawValue != null) && (rawValue.length > 0)) {
 							try {
 								value = this.encoder.decode (rawValue, encodingMetadata);
 							} catch (final EncodingException exception) {
-								this.exceptions.traceDeferredException (exception, "decoding the value for record failed; deferring!");
-								this.pendingRequests.fail (token.getMessageId (), exception);
+								this.exceptions.traceDeferredException (exception, "decoding the value for record with key `%s` failed; deferring!", entry.getKey ());
+								failure = exception;
 								break;
 							}
 						} else {
@@ -162,6 +232,10 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 						}
 						values.put (entry.getKey (), value);
 					}
+					if (failure != null) {
+						this.pendingRequests.fail (token.getMessageId (), failure);
+						break;
+					}
 					outcome = values;
 				} else if (outcomeClass == Object.class) {
 					final TValue value;
@@ -200,7 +274,8 @@ public abstract class BaseKvStoreConnectorProxy<TValue extends Object>
 	
 	protected <TOutcome> CallbackCompletion<TOutcome> sendGetRequest (final List<String> keys, final Class<TOutcome> outcomeClass) {
 		final CompletionToken token = this.generateToken ();
-		this.transcript.traceDebugging ("getting the record with key `%s` (and `%d` other keys) (with request token `%s`)...", keys.get (0), Integer.valueOf (keys.size () - 1), token.getMessageId ());
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("getting the record with key `%s` (and `%d` other keys) (with request token `%s`)...", keys.get (0), Integer.valueOf (keys.size () - 1), token.getMessageId ());
 		final GetRequest.Builder requestBuilder = GetRequest.newBuilder ();
 		requestBuilder.setToken (token);
 		requestBuilder.addAllKey (keys);
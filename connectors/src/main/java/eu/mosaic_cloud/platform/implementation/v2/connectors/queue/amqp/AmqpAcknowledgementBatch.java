@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * mosaic-connectors
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.platform.implementation.v2.connectors.queue.amqp;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.platform.v2.connectors.queue.amqp.AmqpQueueRawConnector;
+import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
+import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletionObserver;
+import eu.mosaic_cloud.tools.callbacks.tools.CallbackCompletionDeferredFuture;
+import eu.mosaic_cloud.tools.transcript.core.Transcript;
+
+import com.google.common.base.Preconditions;
+
+
+// NOTE: the acknowledgements are held back while they form a contiguous run starting with the oldest delivery, and are
+//-- then sent as a single `multiple` acknowledgement once the run is long enough, once the time window since the first
+//-- held back acknowledgement expires, or as soon as no other delivery is awaiting acknowledgement (thus the broker never
+//-- starves because of an acknowledgement held back); acknowledgements which arrive out of order are sent individually,
+//-- right away.
+public final class AmqpAcknowledgementBatch
+{
+	private AmqpAcknowledgementBatch (final AmqpQueueRawConnector raw, final ScheduledExecutorService scheduler, final long window, final int limit, final Transcript transcript) {
+		super ();
+		Preconditions.checkNotNull (raw);
+		Preconditions.checkArgument ((window <= 0) || (scheduler != null));
+		Preconditions.checkArgument (limit > 1);
+		Preconditions.checkNotNull (transcript);
+		this.raw = raw;
+		this.scheduler = scheduler;
+		this.window = window;
+		this.limit = limit;
+		this.transcript = transcript;
+		this.deliveries = new TreeMap<Long, CallbackCompletionDeferredFuture<Void>> ();
+		this.pending = 0;
+		this.scheduled = false;
+	}
+	
+	public CallbackCompletion<Void> acknowledge (final long delivery) {
+		final Long key = Long.valueOf (delivery);
+		final CallbackCompletionDeferredFuture<Void> future;
+		final boolean exhausted;
+		boolean schedule = false;
+		synchronized (this) {
+			if (!this.deliveries.containsKey (key) || (this.deliveries.get (key) != null)) {
+				future = null;
+				exhausted = false;
+			} else if (this.deliveries.headMap (key).size () > this.pending) {
+				this.deliveries.remove (key);
+				future = null;
+				exhausted = false;
+			} else {
+				future = CallbackCompletionDeferredFuture.create (Void.class);
+				this.deliveries.put (key, future);
+				this.pending++;
+				exhausted = (this.pending >= this.limit) || (this.pending == this.deliveries.size ());
+				if (!exhausted && !this.scheduled && (this.window > 0)) {
+					this.scheduled = true;
+					schedule = true;
+				}
+			}
+		}
+		if (future == null)
+			return (this.raw.ack (delivery, false));
+		if (exhausted)
+			this.flush ();
+		else if (schedule)
+			this.schedule ();
+		return (future.completion);
+	}
+	
+	public synchronized void delivered (final long delivery) {
+		this.deliveries.put (Long.valueOf (delivery), null);
+	}
+	
+	public CallbackCompletion<Void> flush () {
+		final List<CallbackCompletionDeferredFuture<Void>> futures = new ArrayList<CallbackCompletionDeferredFuture<Void>> ();
+		long delivery = -1;
+		synchronized (this) {
+			this.scheduled = false;
+			while (this.pending > 0) {
+				final Long key = this.deliveries.firstKey ();
+				futures.add (this.deliveries.remove (key));
+				delivery = key.longValue ();
+				this.pending--;
+			}
+		}
+		if (futures.isEmpty ())
+			return (CallbackCompletion.createOutcome ());
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("acknowledging `%d` messages up to `%d`...", Integer.valueOf (futures.size ()), Long.valueOf (delivery));
+		final CallbackCompletion<Void> completion = this.raw.ack (delivery, futures.size () > 1);
+		completion.observe (new CallbackCompletionObserver () {
+			@Override
+			public CallbackCompletion<Void> completed (final CallbackCompletion<?> completion_) {
+				final Throwable exception = completion.getException ();
+				for (final CallbackCompletionDeferredFuture<Void> future : futures) {
+					if (exception != null)
+						future.trigger.triggerFailed (exception);
+					else
+						future.trigger.triggerSucceeded (null);
+				}
+				return (CallbackCompletion.createOutcome ());
+			}
+		});
+		return (completion);
+	}
+	
+	private void schedule () {
+		final Runnable flushOperation = new Runnable () {
+			@Override
+			public void run () {
+				AmqpAcknowledgementBatch.this.flush ();
+			}
+		};
+		try {
+			this.scheduler.schedule (flushOperation, this.window, TimeUnit.MILLISECONDS);
+		} catch (final RejectedExecutionException exception) {
+			// NOTE: once the scheduler is shut down nothing would ever flush the held back acknowledgements
+			this.flush ();
+		}
+	}
+	
+	private final TreeMap<Long, CallbackCompletionDeferredFuture<Void>> deliveries;
+	private final int limit;
+	private int pending;
+	private final AmqpQueueRawConnector raw;
+	private boolean scheduled;
+	private final ScheduledExecutorService scheduler;
+	private final Transcript transcript;
+	private final long window;
+	
+	public static AmqpAcknowledgementBatch create (final AmqpQueueRawConnector raw, final ScheduledExecutorService scheduler, final long window, final int limit, final Transcript transcript) {
+		return (new AmqpAcknowledgementBatch (raw, scheduler, window, limit, transcript));
+	}
+}
@@ -60,6 +60,13 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 		// FIXME: this should also be made a configurable parameter...
 		this.consumerIdentifier = identifier;
 		this.consumerAutoAck = configuration.getConfigParameter (ConfigProperties.AmqpQueueConnector_10, Boolean.class, Boolean.FALSE).booleanValue ();
+		this.consumerPrefetch = configuration.getConfigParameter (ConfigProperties.AmqpQueueConnector_11, Integer.class, Integer.valueOf (0)).intValue ();
+		final int acknowledgeBatch = configuration.getConfigParameter (ConfigProperties.AmqpQueueConnector_12, Integer.class, Integer.valueOf (1)).intValue ();
+		final long acknowledgeWindow = configuration.getConfigParameter (ConfigProperties.AmqpQueueConnector_13, Long.class, Long.valueOf (AmqpQueueConsumerConnectorProxy.defaultAcknowledgeWindow)).longValue ();
+		if (!this.consumerAutoAck && (acknowledgeBatch > 1))
+			this.acknowledgements = AmqpAcknowledgementBatch.create (this.raw, configuration.getEnvironment ().getScheduler (), acknowledgeWindow, acknowledgeBatch, this.transcript);
+		else
+			this.acknowledgements = null;
 		this.definePassive = configuration.getConfigParameter (ConfigProperties.AmqpQueueConnector_8, Boolean.class, Boolean.FALSE).booleanValue ();
 		this.callback = new AmqpConsumerCallback (callback);
 		this.transcript.traceDebugging ("created the queue consumer connector proxy for queue `%s` bound to exchange `%s` (of type `%s`) with routing key `%s`.", this.queue, this.exchange, this.exchangeType, this.bindingRoutingKey);
@@ -74,12 +81,23 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 		Preconditions.checkNotNull (token);
 		Preconditions.checkArgument (token.proxy == this);
 		this.transcript.traceDebugging ("acknowledging the message `%s` for consumer `%s`...", token, this.consumerIdentifier);
-		return (this.raw.ack (token.getDelivery (), false));
+		if (this.acknowledgements == null)
+			return (this.raw.ack (token.getDelivery (), false));
+		return (this.acknowledgements.acknowledge (token.getDelivery ()));
 	}
 	
 	@Override
 	public CallbackCompletion<Void> destroy () {
 		this.transcript.traceDebugging ("destroying the proxy...");
+		final Callable<CallbackCompletion<Void>> flushOperation = new Callable<CallbackCompletion<Void>> () {
+			@Override
+			public CallbackCompletion<Void> call () {
+				if (AmqpQueueConsumerConnectorProxy.this.acknowledgements == null)
+					return (CallbackCompletion.createOutcome ());
+				AmqpQueueConsumerConnectorProxy.this.transcript.traceDebugging ("flushing the pending acknowledgements for consumer `%s`...", AmqpQueueConsumerConnectorProxy.this.consumerIdentifier);
+				return (AmqpQueueConsumerConnectorProxy.this.acknowledgements.flush ());
+			}
+		};
 		final Callable<CallbackCompletion<Void>> cancelOperation = new Callable<CallbackCompletion<Void>> () {
 			@Override
 			public CallbackCompletion<Void> call () {
@@ -94,7 +112,7 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 				return (AmqpQueueConsumerConnectorProxy.this.raw.destroy ());
 			}
 		};
-		return (CallbackCompletionWorkflows.executeSequence (cancelOperation, destroyOperation));
+		return (CallbackCompletionWorkflows.executeSequence (flushOperation, cancelOperation, destroyOperation));
 	}
 	
 	@Override
@@ -132,17 +150,19 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 			@Override
 			public CallbackCompletion<Void> call () {
 				AmqpQueueConsumerConnectorProxy.this.transcript.traceDebugging ("registering the consumer `%s` for queue `%s`...", AmqpQueueConsumerConnectorProxy.this.consumerIdentifier, AmqpQueueConsumerConnectorProxy.this.queue);
-				return (AmqpQueueConsumerConnectorProxy.this.raw.consume (AmqpQueueConsumerConnectorProxy.this.queue, AmqpQueueConsumerConnectorProxy.this.consumerIdentifier, AmqpQueueConsumerConnectorProxy.this.queueExclusive, AmqpQueueConsumerConnectorProxy.this.consumerAutoAck, AmqpQueueConsumerConnectorProxy.this.callback));
+				return (AmqpQueueConsumerConnectorProxy.this.raw.consume (AmqpQueueConsumerConnectorProxy.this.queue, AmqpQueueConsumerConnectorProxy.this.consumerIdentifier, AmqpQueueConsumerConnectorProxy.this.queueExclusive, AmqpQueueConsumerConnectorProxy.this.consumerAutoAck, AmqpQueueConsumerConnectorProxy.this.consumerPrefetch, AmqpQueueConsumerConnectorProxy.this.callback));
 			}
 		};
 		// FIXME: If these operations fail we should continue with `destroy`.
 		return (CallbackCompletionWorkflows.executeSequence (initializeOperation, declareExchangeOperation, declareQueueOperation, bindQueueOperation, consumeOperation));
 	}
 	
+	private final AmqpAcknowledgementBatch acknowledgements;
 	private final String bindingRoutingKey;
 	private final AmqpConsumerCallback callback;
 	private final boolean consumerAutoAck;
 	private final String consumerIdentifier;
+	private final int consumerPrefetch;
 	private final boolean definePassive;
 	private final String exchange;
 	private final boolean exchangeAutoDelete;
@@ -161,6 +181,8 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 		return (proxy);
 	}
 	
+	public static final long defaultAcknowledgeWindow = 100;
+	
 	private final class AmqpConsumerCallback
 				implements
 					AmqpQueueRawConsumerCallback
@@ -185,6 +207,8 @@ public final class AmqpQueueConsumerConnectorProxy<TMessage>
 		@Override
 		public CallbackCompletion<Void> handleDelivery (final AmqpInboundMessage inbound) {
 			final DeliveryToken token = new DeliveryToken (AmqpQueueConsumerConnectorProxy.this, inbound.getDelivery ());
+			if (AmqpQueueConsumerConnectorProxy.this.acknowledgements != null)
+				AmqpQueueConsumerConnectorProxy.this.acknowledgements.delivered (inbound.getDelivery ());
 			final byte[] data = inbound.getData ();
 			AmqpQueueConsumerConnectorProxy.this.transcript.traceDebugging ("delivered the message `%s` for consumer `%s`...", token, AmqpQueueConsumerConnectorProxy.this.consumerIdentifier);
 			TMessage message = null;
@@ -63,6 +63,11 @@ public class AmqpQueueRawConnector
 		return this.proxy.consume (queue, consumer, exclusive, autoAck, consumerCallback);
 	}
 	
+	@Override
+	public CallbackCompletion<Void> consume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final int prefetch, final AmqpQueueRawConsumerCallback consumerCallback) {
+		return this.proxy.consume (queue, consumer, exclusive, autoAck, prefetch, consumerCallback);
+	}
+	
 	@Override
 	public CallbackCompletion<Void> declareExchange (final String name, final AmqpExchangeType type, final boolean durable, final boolean autoDelete, final boolean passive) {
 		return this.proxy.declareExchange (name, type, durable, autoDelete, passive);
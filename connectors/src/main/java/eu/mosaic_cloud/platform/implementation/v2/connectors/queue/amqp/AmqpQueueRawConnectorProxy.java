@@ -40,6 +40,7 @@ import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.CancelOkMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeOkMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeReply;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeclareExchangeRequest.ExchangeType;
+import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ServerCancelRequest;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ShutdownMessage;
@@ -75,7 +76,8 @@ public final class AmqpQueueRawConnectorProxy
 	@Override
 	public CallbackCompletion<Void> ack (final long delivery, final boolean multiple) {
 		final CompletionToken token = this.generateToken ();
-		this.transcript.traceDebugging ("acknowledging the message `%l` (with multiple `%b`) (with request token `%s`)...", Long.valueOf (delivery), Boolean.valueOf (multiple), token.getMessageId ());
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("acknowledging the message `%l` (with multiple `%b`) (with request token `%s`)...", Long.valueOf (delivery), Boolean.valueOf (multiple), token.getMessageId ());
 		final AmqpPayloads.Ack.Builder requestBuilder = AmqpPayloads.Ack.newBuilder ();
 		requestBuilder.setToken (token);
 		requestBuilder.setDelivery (delivery);
@@ -117,17 +119,25 @@ public final class AmqpQueueRawConnectorProxy
 	
 	@Override
 	public CallbackCompletion<Void> consume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final AmqpQueueRawConsumerCallback consumerCallback) {
+		return (this.consume (queue, consumer, exclusive, autoAck, 0, consumerCallback));
+	}
+	
+	@Override
+	public CallbackCompletion<Void> consume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final int prefetch, final AmqpQueueRawConsumerCallback consumerCallback) {
 		Preconditions.checkNotNull (queue);
 		Preconditions.checkNotNull (consumer);
+		Preconditions.checkArgument (prefetch >= 0);
 		Preconditions.checkNotNull (consumerCallback);
 		final CompletionToken token = this.generateToken ();
-		this.transcript.traceDebugging ("registering the consumer `%s` for queue `%s` (with exclusive `%b`, auto-acknowledge `%b`, and callbacks `%{object:identity}`) (with request token `%s`)...", consumer, queue, Boolean.valueOf (exclusive), Boolean.valueOf (autoAck), consumerCallback, token.getMessageId ());
+		this.transcript.traceDebugging ("registering the consumer `%s` for queue `%s` (with exclusive `%b`, auto-acknowledge `%b`, prefetch `%d`, and callbacks `%{object:identity}`) (with request token `%s`)...", consumer, queue, Boolean.valueOf (exclusive), Boolean.valueOf (autoAck), Integer.valueOf (prefetch), consumerCallback, token.getMessageId ());
 		final AmqpPayloads.ConsumeRequest.Builder requestBuilder = AmqpPayloads.ConsumeRequest.newBuilder ();
 		requestBuilder.setToken (token);
 		requestBuilder.setQueue (queue);
 		requestBuilder.setConsumer (consumer);
 		requestBuilder.setExclusive (exclusive);
 		requestBuilder.setAutoAck (autoAck);
+		if (prefetch > 0)
+			requestBuilder.setPrefetch (prefetch);
 		requestBuilder.setExtra (ByteString.EMPTY);
 		final Message message = new Message (AmqpMessage.CONSUME_REQUEST, requestBuilder.build ());
 		this.pendingConsumers.put (consumer, consumerCallback);
@@ -218,7 +228,8 @@ public final class AmqpQueueRawConnectorProxy
 		Preconditions.checkNotNull (exchange);
 		Preconditions.checkNotNull (routingKey);
 		final CompletionToken token = this.generateToken ();
-		this.transcript.traceDebugging ("publishing a message (of size `%d`) to exchange `%s` with routing key `%s` (with content-type `%s`, content-encoding `%s`, mandatory `%b`, immediate `%b`, durable `%b`, correlation `%s`, and callback `%s`) (with request token `%s`)", Integer.valueOf (data.length), exchange, routingKey, contentType, contentEncoding, Boolean.valueOf (mandatory), Boolean.valueOf (immediate), Boolean.valueOf (durable), correlation, callback, token.getMessageId ());
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("publishing a message (of size `%d`) to exchange `%s` with routing key `%s` (with content-type `%s`, content-encoding `%s`, mandatory `%b`, immediate `%b`, durable `%b`, correlation `%s`, and callback `%s`) (with request token `%s`)", Integer.valueOf (data.length), exchange, routingKey, contentType, contentEncoding, Boolean.valueOf (mandatory), Boolean.valueOf (immediate), Boolean.valueOf (durable), correlation, callback, token.getMessageId ());
 		final AmqpPayloads.PublishRequest.Builder requestBuilder = AmqpPayloads.PublishRequest.newBuilder ();
 		requestBuilder.setToken (token);
 		requestBuilder.setExchange (exchange);
@@ -313,22 +324,15 @@ public final class AmqpQueueRawConnectorProxy
 				break;
 			case DELIVERY : {
 				final AmqpPayloads.DeliveryMessage delivery = (DeliveryMessage) message.payload;
-				final String consumerIdentifier = delivery.getConsumerTag ();
-				final long deliveryTag = delivery.getDeliveryTag ();
-				final String exchange = delivery.getExchange ();
-				final String routingKey = delivery.getRoutingKey ();
-				final int deliveryMode = delivery.getDeliveryMode ();
-				final boolean durable = deliveryMode == 2;
-				final byte[] data = delivery.getData ().toByteArray ();
-				final String contentType = delivery.getEnvelope ().getContentType ();
-				final String contentEncoding = delivery.getEnvelope ().getContentEncoding ();
-				final String correlation = delivery.hasCorrelationId () ? delivery.getCorrelationId () : null;
-				final String callback = delivery.hasReplyTo () ? delivery.getReplyTo () : null;
-				this.transcript.traceDebugging ("processing a message delivery (of size `%d`) for the consumer `%s` from exchange `%s` with routing key `%s` (with content-type `%s`, content-encoding `%s`, durable `%b`, correlation `%s`, callback `%s`)...", Integer.valueOf (data.length), consumerIdentifier, exchange, routingKey, contentType, contentEncoding, Boolean.valueOf (durable), correlation, callback);
-				final AmqpQueueRawConsumerCallback consumerCallback = this.pendingConsumers.get (consumerIdentifier);
-				Preconditions.checkNotNull (consumerIdentifier);
-				final AmqpInboundMessage inboundMessage = new AmqpInboundMessage (consumerIdentifier, deliveryTag, exchange, routingKey, data, durable, callback, contentEncoding, contentType, correlation, null);
-				consumerCallback.handleDelivery (inboundMessage);
+				this.processDelivery (delivery);
+			}
+				break;
+			case DELIVERY_BATCH : {
+				final AmqpPayloads.DeliveryBatchMessage batch = (DeliveryBatchMessage) message.payload;
+				this.transcript.traceDebugging ("processing a batch of `%d` message deliveries...", Integer.valueOf (batch.getDeliveriesCount ()));
+				// NOTE: the deliveries are handed to the consumers in the order (and with the tags) the driver received them
+				for (final AmqpPayloads.DeliveryMessage delivery : batch.getDeliveriesList ())
+					this.processDelivery (delivery);
 			}
 				break;
 			case SHUTDOWN : {
@@ -354,6 +358,26 @@ public final class AmqpQueueRawConnectorProxy
 		}
 	}
 	
+	private void processDelivery (final AmqpPayloads.DeliveryMessage delivery) {
+		final String consumerIdentifier = delivery.getConsumerTag ();
+		final long deliveryTag = delivery.getDeliveryTag ();
+		final String exchange = delivery.getExchange ();
+		final String routingKey = delivery.getRoutingKey ();
+		final int deliveryMode = delivery.getDeliveryMode ();
+		final boolean durable = deliveryMode == 2;
+		final byte[] data = delivery.getData ().toByteArray ();
+		final String contentType = delivery.getEnvelope ().getContentType ();
+		final String contentEncoding = delivery.getEnvelope ().getContentEncoding ();
+		final String correlation = delivery.hasCorrelationId () ? delivery.getCorrelationId () : null;
+		final String callback = delivery.hasReplyTo () ? delivery.getReplyTo () : null;
+		if (this.transcript.isDebuggingEnabled ())
+			this.transcript.traceDebugging ("processing a message delivery (of size `%d`) for the consumer `%s` from exchange `%s` with routing key `%s` (with content-type `%s`, content-encoding `%s`, durable `%b`, correlation `%s`, callback `%s`)...", Integer.valueOf (data.length), consumerIdentifier, exchange, routingKey, contentType, contentEncoding, Boolean.valueOf (durable), correlation, callback);
+		final AmqpQueueRawConsumerCallback consumerCallback = this.pendingConsumers.get (consumerIdentifier);
+		Preconditions.checkNotNull (consumerIdentifier);
+		final AmqpInboundMessage inboundMessage = new AmqpInboundMessage (consumerIdentifier, deliveryTag, exchange, routingKey, data, durable, callback, contentEncoding, contentType, correlation, null);
+		consumerCallback.handleDelivery (inboundMessage);
+	}
+	
 	private final ConcurrentHashMap<String, AmqpQueueRawConsumerCallback> pendingConsumers;
 	
 	/**
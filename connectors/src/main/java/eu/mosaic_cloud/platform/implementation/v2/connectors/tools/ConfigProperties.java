@@ -29,6 +29,9 @@ public final class ConfigProperties
 	public static final String AmqpQueueConnector_0 = "amqp.exchange";
 	public static final String AmqpQueueConnector_1 = "amqp.routing_key";
 	public static final String AmqpQueueConnector_10 = "amqp.auto_ack";
+	public static final String AmqpQueueConnector_11 = "amqp.prefetch";
+	public static final String AmqpQueueConnector_12 = "amqp.ack_batch";
+	public static final String AmqpQueueConnector_13 = "amqp.ack_window";
 	public static final String AmqpQueueConnector_2 = "amqp.queue";
 	public static final String AmqpQueueConnector_3 = "publisher";
 	public static final String AmqpQueueConnector_4 = "consumer";
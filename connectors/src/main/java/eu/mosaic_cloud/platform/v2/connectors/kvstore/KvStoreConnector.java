@@ -21,6 +21,9 @@
 package eu.mosaic_cloud.platform.v2.connectors.kvstore;
 
 
+import java.util.List;
+import java.util.Map;
+
 import eu.mosaic_cloud.platform.v2.connectors.core.Connector;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 
@@ -45,6 +48,15 @@ public interface KvStoreConnector<TValue extends Object>
 	 */
 	CallbackCompletion<Void> delete (String key);
 	
+	/**
+	 * Deletes several keys, in a single request.
+	 * 
+	 * @param keys
+	 *            the keys to delete
+	 * @return a result handle for the operation, holding the keys which could not be deleted (empty if all succeeded)
+	 */
+	CallbackCompletion<List<String>> deleteBulk (List<String> keys);
+	
 	/**
 	 * Gets data associated with a single key.
 	 * 
@@ -54,6 +66,15 @@ public interface KvStoreConnector<TValue extends Object>
 	 */
 	CallbackCompletion<TValue> get (String key);
 	
+	/**
+	 * Gets data associated with several keys, in a single request.
+	 * 
+	 * @param keys
+	 *            the keys
+	 * @return a result handle for the operation, mapping each key to its data (or <code>null</code> if the key does not exist)
+	 */
+	CallbackCompletion<Map<String, TValue>> getBulk (List<String> keys);
+	
 	/**
 	 * Stores the given data and associates it with the specified key.
 	 * 
@@ -64,4 +85,13 @@ public interface KvStoreConnector<TValue extends Object>
 	 * @return a result handle for the operation
 	 */
 	CallbackCompletion<Void> set (String key, TValue data);
+	
+	/**
+	 * Stores several values, in a single request.
+	 * 
+	 * @param values
+	 *            the data to be stored, mapped by key
+	 * @return a result handle for the operation, holding the keys which could not be stored (empty if all succeeded)
+	 */
+	CallbackCompletion<List<String>> setBulk (Map<String, TValue> values);
 }
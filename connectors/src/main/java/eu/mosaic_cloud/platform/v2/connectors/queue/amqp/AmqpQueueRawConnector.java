@@ -83,6 +83,27 @@ public interface AmqpQueueRawConnector
 	 */
 	CallbackCompletion<Void> consume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final AmqpQueueRawConsumerCallback consumerCallback);
 	
+	/**
+	 * Start a message consumer, limiting the number of unacknowledged messages which the server delivers to it.
+	 * 
+	 * @param queue
+	 *            the name of the queue
+	 * @param consumer
+	 *            a client-generated consumer tag to establish context
+	 * @param exclusive
+	 *            <code>true</code> if this is an exclusive consumer
+	 * @param autoAck
+	 *            <code>true</code> if the server should consider messages acknowledged once delivered; false if the server
+	 *            should expect explicit acknowledgments
+	 * @param prefetch
+	 *            the maximum number of unacknowledged messages delivered to the consumer, or <code>0</code> to use the driver's
+	 *            default
+	 * @param consumerCallback
+	 *            the consumer callback (this will called when the queuing system will send Consume messages)
+	 * @return a handle to be used in order to know when and how the operation completes
+	 */
+	CallbackCompletion<Void> consume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final int prefetch, final AmqpQueueRawConsumerCallback consumerCallback);
+	
 	/**
 	 * Declares an exchange and creates a channel for it.
 	 * 
@@ -0,0 +1,209 @@
+/*
+ * #%L
+ * mosaic-connectors
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.platform.implementation.v2.connectors.tests;
+
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.platform.implementation.v2.connectors.queue.amqp.AmqpAcknowledgementBatch;
+import eu.mosaic_cloud.platform.v2.connectors.queue.amqp.AmqpQueueRawConnector;
+import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
+import eu.mosaic_cloud.tools.transcript.core.Transcript;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AmqpAcknowledgementBatchTest
+{
+	@Before
+	public void setUp () {
+		this.acknowledgements = new ArrayList<String> ();
+		this.failing = false;
+		this.scheduler = new ManualScheduler ();
+		this.raw = (AmqpQueueRawConnector) Proxy.newProxyInstance (AmqpQueueRawConnector.class.getClassLoader (), new Class<?>[] {AmqpQueueRawConnector.class}, new InvocationHandler () {
+			@Override
+			public Object invoke (final Object proxy, final Method method, final Object[] arguments) {
+				Assert.assertEquals ("ack", method.getName ());
+				AmqpAcknowledgementBatchTest.this.acknowledgements.add (arguments[0] + (((Boolean) arguments[1]).booleanValue () ? "+" : ""));
+				if (AmqpAcknowledgementBatchTest.this.failing)
+					return CallbackCompletion.createFailure (new IOException ());
+				return CallbackCompletion.createOutcome ();
+			}
+		});
+	}
+	
+	@After
+	public void tearDown () {
+		this.scheduler.shutdownNow ();
+	}
+	
+	@Test
+	public void testCoalescing () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 4);
+		final CallbackCompletion<Void> completion1 = batch.acknowledge (1);
+		final CallbackCompletion<Void> completion2 = batch.acknowledge (2);
+		final CallbackCompletion<Void> completion3 = batch.acknowledge (3);
+		Assert.assertTrue (this.acknowledgements.isEmpty ());
+		Assert.assertFalse (completion1.isCompleted ());
+		// NOTE: acknowledging the last outstanding delivery flushes the batch, as the broker would otherwise starve
+		final CallbackCompletion<Void> completion4 = batch.acknowledge (4);
+		Assert.assertEquals (Arrays.asList ("4+"), this.acknowledgements);
+		for (final CallbackCompletion<Void> completion : Arrays.asList (completion1, completion2, completion3, completion4)) {
+			Assert.assertTrue (completion.isCompleted ());
+			Assert.assertNull (completion.getException ());
+		}
+	}
+	
+	@Test
+	public void testFailure () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 2);
+		this.failing = true;
+		final CallbackCompletion<Void> completion1 = batch.acknowledge (1);
+		final CallbackCompletion<Void> completion2 = batch.acknowledge (2);
+		Assert.assertEquals (Arrays.asList ("2+"), this.acknowledgements);
+		Assert.assertTrue (completion1.getException () instanceof IOException);
+		Assert.assertTrue (completion2.getException () instanceof IOException);
+	}
+	
+	@Test
+	public void testFlush () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 3);
+		Assert.assertTrue (batch.flush ().isCompleted ());
+		Assert.assertTrue (this.acknowledgements.isEmpty ());
+		final CallbackCompletion<Void> completion = batch.acknowledge (1);
+		batch.flush ();
+		Assert.assertEquals (Arrays.asList ("1"), this.acknowledgements);
+		Assert.assertTrue (completion.isCompleted ());
+		// NOTE: the scheduled flush finds nothing left to send
+		this.scheduler.runScheduled ();
+		Assert.assertEquals (Arrays.asList ("1"), this.acknowledgements);
+	}
+	
+	@Test
+	public void testOutOfOrder () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 3);
+		batch.acknowledge (2);
+		Assert.assertEquals (Arrays.asList ("2"), this.acknowledgements);
+		batch.acknowledge (1);
+		Assert.assertEquals (Arrays.asList ("2"), this.acknowledgements);
+		batch.acknowledge (3);
+		Assert.assertEquals (Arrays.asList ("2", "3+"), this.acknowledgements);
+		// NOTE: unknown deliveries are sent right away
+		batch.acknowledge (7);
+		Assert.assertEquals (Arrays.asList ("2", "3+", "7"), this.acknowledgements);
+	}
+	
+	@Test
+	public void testSizeTrigger () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (0, 2, 5);
+		batch.acknowledge (1);
+		Assert.assertTrue (this.acknowledgements.isEmpty ());
+		batch.acknowledge (2);
+		Assert.assertEquals (Arrays.asList ("2+"), this.acknowledgements);
+		batch.acknowledge (3);
+		batch.acknowledge (4);
+		Assert.assertEquals (Arrays.asList ("2+", "4+"), this.acknowledgements);
+		Assert.assertEquals (0, this.scheduler.scheduled.size ());
+	}
+	
+	@Test
+	public void testWindowRejected () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 3);
+		this.scheduler.shutdown ();
+		final CallbackCompletion<Void> completion = batch.acknowledge (1);
+		Assert.assertEquals (Arrays.asList ("1"), this.acknowledgements);
+		Assert.assertTrue (completion.isCompleted ());
+	}
+	
+	@Test
+	public void testWindowTrigger () {
+		final AmqpAcknowledgementBatch batch = this.createBatch (AmqpAcknowledgementBatchTest.WINDOW, 10, 4);
+		final CallbackCompletion<Void> completion1 = batch.acknowledge (1);
+		final CallbackCompletion<Void> completion2 = batch.acknowledge (2);
+		Assert.assertEquals (1, this.scheduler.scheduled.size ());
+		Assert.assertEquals (AmqpAcknowledgementBatchTest.WINDOW, this.scheduler.delays.get (0).longValue ());
+		Assert.assertTrue (this.acknowledgements.isEmpty ());
+		this.scheduler.runScheduled ();
+		Assert.assertEquals (Arrays.asList ("2+"), this.acknowledgements);
+		Assert.assertTrue (completion1.isCompleted ());
+		Assert.assertTrue (completion2.isCompleted ());
+		// NOTE: the next held back acknowledgement starts a new window
+		batch.acknowledge (3);
+		Assert.assertEquals (1, this.scheduler.scheduled.size ());
+		this.scheduler.runScheduled ();
+		Assert.assertEquals (Arrays.asList ("2+", "3"), this.acknowledgements);
+	}
+	
+	private AmqpAcknowledgementBatch createBatch (final long window, final int limit, final int deliveries) {
+		final AmqpAcknowledgementBatch batch = AmqpAcknowledgementBatch.create (this.raw, this.scheduler, window, limit, Transcript.create (this));
+		for (int delivery = 1; delivery <= deliveries; delivery++)
+			batch.delivered (delivery);
+		return batch;
+	}
+	
+	private List<String> acknowledgements;
+	private volatile boolean failing;
+	private AmqpQueueRawConnector raw;
+	private ManualScheduler scheduler;
+	private static final long WINDOW = 1000;
+	
+	private static final class ManualScheduler
+				extends ScheduledThreadPoolExecutor
+	{
+		ManualScheduler () {
+			super (1);
+			this.scheduled = new ArrayList<Runnable> ();
+			this.delays = new ArrayList<Long> ();
+		}
+		
+		@Override
+		public ScheduledFuture<?> schedule (final Runnable task, final long delay, final TimeUnit unit) {
+			if (this.isShutdown ())
+				return super.schedule (task, delay, unit);
+			this.scheduled.add (task);
+			this.delays.add (Long.valueOf (unit.toMillis (delay)));
+			return null;
+		}
+		
+		void runScheduled () {
+			final List<Runnable> tasks = new ArrayList<Runnable> (this.scheduled);
+			this.scheduled.clear ();
+			this.delays.clear ();
+			for (final Runnable task : tasks)
+				task.run ();
+		}
+		
+		final List<Long> delays;
+		final List<Runnable> scheduled;
+	}
+}
@@ -21,6 +21,9 @@
 package eu.mosaic_cloud.platform.implementation.v2.connectors.tests;
 
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.mosaic_cloud.platform.implementation.v2.connectors.kvstore.BaseKvStoreConnector;
@@ -39,7 +42,22 @@ public abstract class BaseKvStoreConnectorTest<TConnector extends BaseKvStoreCon
 		this.testConnector ();
 		this.testSet ();
 		this.testGet ();
+		this.testGetBulk ();
 		this.testDelete ();
+		this.testBulk ();
+	}
+	
+	protected void testBulk () {
+		final String k1 = this.scenario.keyPrefix + "_key_bulk_1";
+		final String k2 = this.scenario.keyPrefix + "_key_bulk_2";
+		final Map<String, String> values = new HashMap<String, String> ();
+		values.put (k1, "bulk_1");
+		values.put (k2, "bulk_2");
+		Assert.assertTrue (this.awaitOutcome (this.connector.setBulk (values)).isEmpty ());
+		Assert.assertEquals (values, this.awaitOutcome (this.connector.getBulk (Arrays.asList (k1, k2))));
+		Assert.assertTrue (this.awaitOutcome (this.connector.deleteBulk (Arrays.asList (k1, k2))).isEmpty ());
+		Assert.assertNull (this.awaitOutcome (this.connector.get (k1)));
+		Assert.assertNull (this.awaitOutcome (this.connector.get (k2)));
 	}
 	
 	protected void testDelete () {
@@ -58,6 +76,17 @@ public abstract class BaseKvStoreConnectorTest<TConnector extends BaseKvStoreCon
 		Assert.assertEquals ("fantastic", this.awaitOutcome (this.connector.get (k1)));
 	}
 	
+	protected void testGetBulk () {
+		final String k1 = this.scenario.keyPrefix + "_key_fantastic";
+		final String k2 = this.scenario.keyPrefix + "_key_famous";
+		final String k3 = this.scenario.keyPrefix + "_key_missing";
+		final Map<String, String> values = this.awaitOutcome (this.connector.getBulk (Arrays.asList (k1, k2, k3)));
+		Assert.assertNotNull (values);
+		Assert.assertEquals ("fantastic", values.get (k1));
+		Assert.assertEquals ("famous", values.get (k2));
+		Assert.assertNull (values.get (k3));
+	}
+	
 	protected void testSet () {
 		final String k1 = this.scenario.keyPrefix + "_key_fantastic";
 		final String k2 = this.scenario.keyPrefix + "_key_famous";
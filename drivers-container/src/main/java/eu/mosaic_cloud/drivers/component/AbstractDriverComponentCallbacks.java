@@ -39,6 +39,7 @@ import eu.mosaic_cloud.tools.callbacks.core.Callbacks;
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
 import eu.mosaic_cloud.tools.exceptions.tools.BaseExceptionTracer;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
@@ -60,6 +61,7 @@ public abstract class AbstractDriverComponentCallbacks
 {
 	protected AbstractDriverComponentCallbacks (final ComponentEnvironment context) {
 		this.threading = context.threading;
+		this.loops = context.loops;
 		final Transcript transcript = Transcript.create (this, true);
 		this.logger = transcript.adaptAs (Logger.class);
 		this.exceptions = TranscriptExceptionTracer.create (transcript, context.exceptions);
@@ -117,7 +119,7 @@ public abstract class AbstractDriverComponentCallbacks
 	protected ZeroMqChannel createDriverChannel (final String channelIdentifierProp, final String channelEndpointProp, final SessionSpecification role) {
 		// NOTE: create stub and interop channel
 		Preconditions.checkNotNull (this.driverConfiguration);
-		final ZeroMqChannel driverChannel = ZeroMqChannel.create (ConfigUtils.resolveParameter (this.driverConfiguration, channelIdentifierProp, String.class, ""), this.threading, this.exceptions);
+		final ZeroMqChannel driverChannel = ZeroMqChannel.create (ConfigUtils.resolveParameter (this.driverConfiguration, channelIdentifierProp, String.class, ""), this.threading, this.loops, this.exceptions);
 		driverChannel.register (role);
 		driverChannel.accept (ConfigUtils.resolveParameter (this.driverConfiguration, channelEndpointProp, String.class, ""));
 		return driverChannel;
@@ -135,6 +137,7 @@ public abstract class AbstractDriverComponentCallbacks
 	protected Configuration driverConfiguration;
 	protected BaseExceptionTracer exceptions;
 	protected Logger logger;
+	protected EventLoopGroup loops;
 	protected ComponentCallReference pendingReference;
 	protected ComponentIdentifier resourceGroup;
 	protected ComponentIdentifier selfGroup;
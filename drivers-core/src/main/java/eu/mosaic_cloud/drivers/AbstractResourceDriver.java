@@ -21,14 +21,23 @@
 package eu.mosaic_cloud.drivers;
 
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
+import eu.mosaic_cloud.drivers.ops.EventDrivenResult;
+import eu.mosaic_cloud.drivers.ops.GenericOperation;
+import eu.mosaic_cloud.drivers.ops.GenericResult;
 import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.drivers.ops.IOperationType;
 import eu.mosaic_cloud.drivers.ops.IResult;
+import eu.mosaic_cloud.drivers.ops.PendingOperationRegistry;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 
@@ -51,31 +60,135 @@ public abstract class AbstractResourceDriver
 	 *            number of threads to be used for serving requests
 	 */
 	protected AbstractResourceDriver (final ThreadingContext threading, final int noThreads) {
-		this.pendingResults = new ArrayList<IResult<?>> ();
+		this (threading, noThreads, AbstractResourceDriver.DEFAULT_MAX_IN_FLIGHT);
+	}
+	
+	/**
+	 * Constructs a driver.
+	 * 
+	 * @param noThreads
+	 *            number of threads to be used for serving requests
+	 * @param maxInFlight
+	 *            maximum number of operations which are started but not yet finished; the other operations are deferred until
+	 *            some of these finish
+	 */
+	protected AbstractResourceDriver (final ThreadingContext threading, final int noThreads, final int maxInFlight) {
+		this (threading, noThreads, maxInFlight, 0);
+	}
+	
+	/**
+	 * Constructs a driver.
+	 * 
+	 * @param noThreads
+	 *            number of threads to be used for serving requests
+	 * @param maxInFlight
+	 *            maximum number of operations which are started but not yet finished; the other operations are deferred until
+	 *            some of these finish
+	 * @param operationTimeout
+	 *            time (in milliseconds) after which a pending operation is considered stuck and is cancelled; <code>0</code>
+	 *            disables the cancellation
+	 */
+	protected AbstractResourceDriver (final ThreadingContext threading, final int noThreads, final int maxInFlight, final long operationTimeout) {
+		if (maxInFlight <= 0) {
+			throw new IllegalArgumentException ("maximum in-flight operations must be positive");
+		}
+		if (operationTimeout < 0) {
+			throw new IllegalArgumentException ("operation timeout must not be negative");
+		}
+		this.pendingOperations = new PendingOperationRegistry ();
 		this.executor = threading.createFixedThreadPool (threading.getThreadConfiguration ().override (this, "operations", true), noThreads);
 		this.logger = Transcript.create (this, true).adaptAs (Logger.class);
+		this.maxInFlight = maxInFlight;
+		this.inFlight = new AtomicInteger (0);
+		this.deferredOperations = new ConcurrentLinkedQueue<InFlightOperation<?>> ();
+		this.operationTimeout = operationTimeout;
+		if (operationTimeout > 0) {
+			final long period = Math.max (operationTimeout / 4, AbstractResourceDriver.MIN_EXPIRATION_PERIOD);
+			this.expirer = threading.createSingleThreadScheduledExecutor (threading.getThreadConfiguration ().override (this, "expirer", true));
+			this.expirer.scheduleWithFixedDelay (new Runnable () {
+				@Override
+				public void run () {
+					AbstractResourceDriver.this.cancelExpiredOperations ();
+				}
+			}, period, period, TimeUnit.MILLISECONDS);
+		} else {
+			this.expirer = null;
+		}
 	}
 	
 	public void addPendingOperation (final IResult<?> pendingOp) {
-		this.pendingResults.add (pendingOp);
+		this.addPendingOperation (pendingOp, PendingOperationRegistry.UNKNOWN_TYPE);
+	}
+	
+	public void addPendingOperation (final IResult<?> pendingOp, final IOperationType type) {
+		this.pendingOperations.register (pendingOp, type, this.operationTimeout, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Cancels the pending operations which exceeded the operation timeout.
+	 * 
+	 * @return the number of cancelled operations
+	 */
+	public int cancelExpiredOperations () {
+		final int cancelled = this.pendingOperations.cancelExpired ();
+		if (cancelled > 0) {
+			this.logger.warn ("cancelled " + cancelled + " operations which exceeded the timeout of " + this.operationTimeout + " ms");
+		}
+		return cancelled;
+	}
+	
+	/**
+	 * Returns the number of operations which are started but not yet finished.
+	 * 
+	 * @return the number of in-flight operations
+	 */
+	public int countInFlightOperations () {
+		return this.inFlight.get ();
 	}
 	
 	public int countPendingOperations () {
-		return this.pendingResults.size ();
+		return this.pendingOperations.count ();
+	}
+	
+	/**
+	 * Returns the number of pending operations of the given type.
+	 * 
+	 * @param type
+	 *            the type of the operations
+	 * @return the number of pending operations of the given type
+	 */
+	public int countPendingOperations (final IOperationType type) {
+		return this.pendingOperations.count (type);
 	}
 	
 	@Override
 	public synchronized void destroy () {
-		IResult<?> pResult;
 		this.destroyed = true;
 		this.executor.shutdown ();
-		// NOTE: cancel all pending operations
-		final Iterator<IResult<?>> iter = this.pendingResults.iterator ();
-		while (iter.hasNext ()) {
-			pResult = iter.next ();
-			pResult.cancel ();
-			iter.remove ();
+		if (this.expirer != null) {
+			this.expirer.shutdownNow ();
 		}
+		this.deferredOperations.clear ();
+		// NOTE: cancel all pending operations
+		this.pendingOperations.cancelAll ();
+	}
+	
+	/**
+	 * Returns the age of the oldest pending operation.
+	 * 
+	 * @return the age (in milliseconds) of the oldest pending operation, or <code>0</code> if there is none
+	 */
+	public long getOldestPendingOperationAge () {
+		return this.pendingOperations.getOldestAge (TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Returns the number of pending operations for each operation type.
+	 * 
+	 * @return a snapshot of the number of pending operations for each type
+	 */
+	public Map<IOperationType, Integer> getPendingOperationCounts () {
+		return this.pendingOperations.getCounts ();
 	}
 	
 	/**
@@ -98,7 +211,7 @@ public abstract class AbstractResourceDriver
 	}
 	
 	public void removePendingOperation (final IResult<?> pendingOp) {
-		this.pendingResults.remove (pendingOp);
+		this.pendingOperations.unregister (pendingOp);
 	}
 	
 	/**
@@ -116,6 +229,66 @@ public abstract class AbstractResourceDriver
 		return this.destroyed;
 	}
 	
+	/**
+	 * Starts an event-driven operation, subject to the in-flight operations limit. The operation is started on one of the
+	 * driver's threads, which is released as soon as the operation was initiated.
+	 * 
+	 * @param <T>
+	 *            the operation's return type
+	 * @param type
+	 *            the type of the operation
+	 * @param operation
+	 *            the operation
+	 * @param complHandler
+	 *            the handler to be called when the operation finishes
+	 * @return the handle for the result of the operation
+	 */
+	protected <T extends Object> IResult<T> startOperation (final IOperationType type, final EventDrivenOperation<T> operation, final IOperationCompletionHandler<T> complHandler) {
+		final IResult<T> iResult = new EventDrivenResult<T> (operation);
+		final InFlightOperation<T> inFlightOperation = new InFlightOperation<T> (iResult, complHandler, new Runnable () {
+			@Override
+			public void run () {
+				AbstractResourceDriver.this.executeOperation (new Runnable () {
+					@Override
+					public void run () {
+						operation.start ();
+					}
+				});
+			}
+		});
+		operation.setHandler (inFlightOperation);
+		this.addPendingOperation (iResult, type);
+		this.startOperation (inFlightOperation);
+		return iResult;
+	}
+	
+	/**
+	 * Starts a thread-based operation, subject to the in-flight operations limit.
+	 * 
+	 * @param <T>
+	 *            the operation's return type
+	 * @param type
+	 *            the type of the operation
+	 * @param operation
+	 *            the operation
+	 * @param complHandler
+	 *            the handler to be called when the operation finishes
+	 * @return the handle for the result of the operation
+	 */
+	protected <T extends Object> IResult<T> startOperation (final IOperationType type, final GenericOperation<T> operation, final IOperationCompletionHandler<T> complHandler) {
+		final IResult<T> iResult = new GenericResult<T> (operation);
+		final InFlightOperation<T> inFlightOperation = new InFlightOperation<T> (iResult, complHandler, new Runnable () {
+			@Override
+			public void run () {
+				AbstractResourceDriver.this.submitOperation (operation.getOperation ());
+			}
+		});
+		operation.setHandler (inFlightOperation);
+		this.addPendingOperation (iResult, type);
+		this.startOperation (inFlightOperation);
+		return iResult;
+	}
+	
 	/**
 	 * Submit a new asynchronous operation for execution. This operation should be called for operations which return something.
 	 * For the other operations see {@link AbstractResourceDriver#executeOperation(Runnable)}.
@@ -129,8 +302,107 @@ public abstract class AbstractResourceDriver
 		this.executor.submit (operation);
 	}
 	
+	/**
+	 * Starts as many deferred operations as the in-flight operations limit allows.
+	 */
+	private void startDeferredOperations () {
+		// NOTE: every party that changes either the queue or the counter calls this afterwards, thus no operation is left
+		//-- behind in the queue while there are free slots
+		while (!this.deferredOperations.isEmpty ()) {
+			final int current = this.inFlight.get ();
+			if (current >= this.maxInFlight) {
+				return;
+			}
+			if (!this.inFlight.compareAndSet (current, current + 1)) {
+				continue;
+			}
+			final InFlightOperation<?> operation = this.deferredOperations.poll ();
+			if (operation == null) {
+				this.inFlight.decrementAndGet ();
+				continue;
+			}
+			operation.start ();
+		}
+	}
+	
+	private void startOperation (final InFlightOperation<?> operation) {
+		this.deferredOperations.add (operation);
+		this.startDeferredOperations ();
+	}
+	
 	protected final ExecutorService executor;
 	protected Logger logger;
+	private final ConcurrentLinkedQueue<InFlightOperation<?>> deferredOperations;
 	private boolean destroyed = false;
-	private final List<IResult<?>> pendingResults;
+	private final ScheduledExecutorService expirer;
+	private final AtomicInteger inFlight;
+	private final int maxInFlight;
+	private final long operationTimeout;
+	private final PendingOperationRegistry pendingOperations;
+	/**
+	 * Default maximum number of in-flight operations.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+	private static final long MIN_EXPIRATION_PERIOD = 100;
+	
+	/**
+	 * Completion handler which tracks the in-flight slot held by an operation, and releases it when the operation finishes.
+	 */
+	private final class InFlightOperation<T>
+				implements
+					IOperationCompletionHandler<T>
+	{
+		InFlightOperation (final IResult<T> result, final IOperationCompletionHandler<T> complHandler, final Runnable starter) {
+			this.result = result;
+			this.complHandler = complHandler;
+			this.starter = starter;
+			this.state = new AtomicInteger (InFlightOperation.QUEUED);
+		}
+		
+		@Override
+		public void onFailure (final Throwable error) {
+			this.finish ();
+			this.complHandler.onFailure (error);
+		}
+		
+		@Override
+		public void onSuccess (final T result) {
+			this.finish ();
+			this.complHandler.onSuccess (result);
+		}
+		
+		void start () {
+			if (!this.state.compareAndSet (InFlightOperation.QUEUED, InFlightOperation.STARTED)) {
+				// NOTE: the operation was cancelled while deferred
+				this.release ();
+				return;
+			}
+			try {
+				this.starter.run ();
+			} catch (final RejectedExecutionException e) {
+				// NOTE: the driver was destroyed in the meantime
+				this.onFailure (e);
+			}
+		}
+		
+		private void finish () {
+			AbstractResourceDriver.this.pendingOperations.unregister (this.result);
+			if (this.state.getAndSet (InFlightOperation.FINISHED) == InFlightOperation.STARTED) {
+				this.release ();
+			}
+		}
+		
+		private void release () {
+			AbstractResourceDriver.this.inFlight.decrementAndGet ();
+			AbstractResourceDriver.this.startDeferredOperations ();
+		}
+		
+		private final IOperationCompletionHandler<T> complHandler;
+		private final IResult<T> result;
+		private final Runnable starter;
+		private final AtomicInteger state;
+		private static final int FINISHED = 2;
+		private static final int QUEUED = 0;
+		private static final int STARTED = 1;
+	}
 }
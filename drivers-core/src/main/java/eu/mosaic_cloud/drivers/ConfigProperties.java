@@ -27,12 +27,24 @@ public final class ConfigProperties
 	
 	public static final String AmqpDriver_0 = "amqp.driver_threads";
 	public static final String AmqpDriver_1 = "amqp.host";
+	public static final String AmqpDriver_10 = "amqp.consumer_prefetch";
+	public static final String AmqpDriver_11 = "amqp.ack_coalescing_window";
+	public static final String AmqpDriver_12 = "amqp.ack_coalescing_limit";
+	public static final String AmqpDriver_13 = "amqp.publisher_confirms";
+	public static final String AmqpDriver_14 = "amqp.publisher_confirms_window";
+	public static final String AmqpDriver_15 = "amqp.connections";
+	public static final String AmqpDriver_16 = "amqp.publish_channels";
+	public static final String AmqpDriver_17 = "amqp.admin_channels";
+	public static final String AmqpDriver_18 = "amqp.delivery_batch_window";
+	public static final String AmqpDriver_19 = "amqp.delivery_batch_limit";
 	public static final String AmqpDriver_2 = "amqp.port";
 	public static final String AmqpDriver_3 = "amqp.user";
 	public static final String AmqpDriver_4 = "amqp.passwd";
 	public static final String AmqpDriver_5 = "amqp.virtual_host";
 	public static final String AmqpDriver_6 = "amqp.max_reconnection_tries";
 	public static final String AmqpDriver_7 = "amqp.min_reconnection_time";
+	public static final String AmqpDriver_8 = "amqp.driver_max_in_flight";
+	public static final String AmqpDriver_9 = "amqp.driver_operation_timeout";
 	public static final String AmqpDriverComponentCallbacks_0 = "resource.group.identifier";
 	public static final String AmqpDriverComponentCallbacks_1 = "self.group.identifier";
 	public static final String AmqpDriverComponentCallbacks_2 = "mosaic-rabbitmq:get-broker-endpoint";
@@ -53,4 +65,6 @@ public final class ConfigProperties
 	public static final String KVStoreDriver_4 = "kvstore.passwd";
 	public static final String KVStoreDriver_5 = "kvstore.user";
 	public static final String KVStoreDriver_6 = "kvstore.driver_name";
+	public static final String KVStoreDriver_7 = "kvstore.driver_max_in_flight";
+	public static final String KVStoreDriver_8 = "kvstore.driver_operation_timeout";
 }
@@ -53,10 +53,18 @@ public class ResponseTransmitter
 	 *            the session to which the message belongs
 	 * @param message
 	 *            the message
+	 * @return <code>true</code> if the message was sent, or <code>false</code> if the session send window stayed full (in
+	 *         which case the message is dropped)
 	 */
-	protected void publishResponse (final Session session, final Message message) {
-		session.send (message);
+	protected boolean publishResponse (final Session session, final Message message) {
+		if (!session.send (message, ResponseTransmitter.defaultSendTimeout)) {
+			this.logger.error ("Send window full for response of type {}; dropping.", message.specification);
+			return false;
+		}
+		return true;
 	}
 	
 	protected Logger logger;
+	protected static final long defaultSendTimeout = 1000;
+	protected static final String overloadedErrorMessage = "send window full; driver overloaded";
 }
@@ -0,0 +1,166 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.BaseExceptionTracer;
+
+
+/**
+ * Starter for operations on several items, for resources which have no batched operations. The items are processed in
+ * parallel on the given executor (thus pipelining the requests to the resource), and the operation completes, with a single
+ * result, when the last item was processed. An item whose processing fails is only recorded as failed, while an item which
+ * can not be scheduled (for example, because the driver was destroyed) fails the whole operation.
+ * 
+ * @param <TItem>
+ *            the type of the items
+ * @param <TResult>
+ *            the type of the result of the operation
+ */
+public abstract class BulkOperationStarter<TItem, TResult>
+			implements
+				IOperationStarter<TResult>
+{
+	/**
+	 * Creates a new starter.
+	 * 
+	 * @param executor
+	 *            the executor used for processing the items
+	 * @param items
+	 *            the items
+	 */
+	protected BulkOperationStarter (final Executor executor, final Collection<TItem> items) {
+		super ();
+		this.executor = executor;
+		this.items = items;
+		this.failed = Collections.newSetFromMap (new ConcurrentHashMap<String, Boolean> ());
+		this.remaining = new AtomicInteger (items.size ());
+		this.aborted = new AtomicBoolean (false);
+		this.exceptions = FallbackExceptionTracer.defaultInstance;
+	}
+	
+	@Override
+	public void start (final IOperationCompletionHandler<TResult> completion) {
+		if (this.items.isEmpty ()) {
+			completion.onSuccess (this.complete ());
+			return;
+		}
+		for (final TItem item : this.items) {
+			try {
+				this.executor.execute (new Runnable () {
+					@Override
+					public void run () {
+						BulkOperationStarter.this.run (item, completion);
+					}
+				});
+			} catch (final RejectedExecutionException e) {
+				// NOTE: the items not yet scheduled never count down, thus the operation can not also succeed
+				this.abort (e, completion);
+				return;
+			}
+		}
+	}
+	
+	protected abstract TResult complete ();
+	
+	/**
+	 * Returns the keys for which the processing failed, in the order of the given keys.
+	 * 
+	 * @param keys
+	 *            the keys of all the items
+	 * @return the failed keys
+	 */
+	protected List<String> getFailedKeys (final List<String> keys) {
+		final List<String> failedKeys = new ArrayList<String> ();
+		for (final String key : keys) {
+			if (this.failed.contains (key)) {
+				failedKeys.add (key);
+			}
+		}
+		return failedKeys;
+	}
+	
+	/**
+	 * Returns the key identifying an item, which is recorded as failed if the processing of the item fails.
+	 * 
+	 * @param item
+	 *            the item
+	 * @return the key of the item
+	 */
+	protected abstract String getKey (TItem item);
+	
+	/**
+	 * Processes an item. Any exception thrown marks the item as failed.
+	 * 
+	 * @param item
+	 *            the item
+	 * @throws Exception
+	 *             if the item could not be processed
+	 */
+	protected abstract void process (TItem item)
+				throws Exception;
+	
+	private void abort (final Throwable error, final IOperationCompletionHandler<TResult> completion) {
+		if (this.aborted.compareAndSet (false, true)) {
+			completion.onFailure (error);
+		}
+	}
+	
+	private void run (final TItem item, final IOperationCompletionHandler<TResult> completion) {
+		try {
+			this.process (item);
+		} catch (final Throwable e) {
+			this.exceptions.traceHandledException (e);
+			this.failed.add (this.getKey (item));
+		}
+		if ((this.remaining.decrementAndGet () != 0) || this.aborted.get ()) {
+			return;
+		}
+		final TResult result;
+		try {
+			result = this.complete ();
+		} catch (final Throwable e) {
+			this.exceptions.traceDeferredException (e);
+			this.abort (e, completion);
+			return;
+		}
+		completion.onSuccess (result);
+	}
+	
+	protected final Set<String> failed;
+	protected final Collection<TItem> items;
+	private final AtomicBoolean aborted;
+	private final BaseExceptionTracer exceptions;
+	private final Executor executor;
+	private final AtomicInteger remaining;
+}
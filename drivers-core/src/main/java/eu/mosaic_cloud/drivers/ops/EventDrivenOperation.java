@@ -0,0 +1,230 @@
+/*
+ * #%L
+ * mosaic-platform-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops;
+
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import eu.mosaic_cloud.drivers.exceptions.NullCompletionCallback;
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.BaseExceptionTracer;
+
+
+/**
+ * Event-driven implementation of an asynchronous operation. Unlike {@link GenericOperation}, no thread is held while the
+ * operation is in progress: the {@link IOperationStarter} only initiates the operation, and the result is delivered to the
+ * completion handler from whatever thread completes it.
+ * 
+ * @param <T>
+ *            The type of the actual result of the asynchronous operation.
+ */
+public class EventDrivenOperation<T>
+			implements
+				IOperation<T>
+{
+	/**
+	 * Creates a new operation.
+	 * 
+	 * @param starter
+	 *            the code which starts the operation
+	 */
+	public EventDrivenOperation (final IOperationStarter<T> starter) {
+		super ();
+		this.starter = starter;
+		this.completed = new AtomicBoolean (false);
+		this.started = new AtomicBoolean (false);
+		this.done = new CountDownLatch (1);
+		this.exceptions = FallbackExceptionTracer.defaultInstance;
+	}
+	
+	/**
+	 * Cancels the asynchronous operation. The operation is only marked as cancelled, and its eventual outcome is ignored.
+	 * 
+	 * @return <code>true</code> if operation was cancelled
+	 */
+	@Override
+	public boolean cancel () {
+		final boolean cancelled = this.complete (null, new CancellationException (), true);
+		if (cancelled) {
+			assert this.getHandler () != null : "Operation callback is NULL.";
+			this.getHandler ().onFailure (new NullCompletionCallback ("Operation callback is NULL."));
+		}
+		return cancelled;
+	}
+	
+	/**
+	 * Waits if necessary for the operation to complete, and then retrieves its result.
+	 * 
+	 * @return the computed result
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 * @throws ExecutionException
+	 *             if the operation failed
+	 */
+	@Override
+	public T get ()
+				throws InterruptedException, ExecutionException {
+		this.done.await ();
+		return this.getOutcome ();
+	}
+	
+	/**
+	 * Waits if necessary for at most the given time for the operation to complete, and then retrieves its result, if available.
+	 * 
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param unit
+	 *            the time unit of the timeout argument
+	 * @return the computed result
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 * @throws ExecutionException
+	 *             if the operation failed
+	 * @throws TimeoutException
+	 *             if the wait timed out
+	 */
+	@Override
+	public T get (final long timeout, final TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+		if (!this.done.await (timeout, unit)) {
+			throw new TimeoutException ();
+		}
+		return this.getOutcome ();
+	}
+	
+	/**
+	 * Returns the completion handler to be called when operation completes.
+	 * 
+	 * @return the completion handler to be called when operation completes
+	 */
+	public IOperationCompletionHandler<T> getHandler () {
+		return this.complHandler;
+	}
+	
+	/**
+	 * Returns <code>true</code> if this operation was cancelled before it completed normally.
+	 * 
+	 * @return <code>true</code> if this operation was cancelled before it completed
+	 */
+	@Override
+	public boolean isCancelled () {
+		return this.cancelled;
+	}
+	
+	/**
+	 * Returns <code>true</code> if this operation completed, either normally, with an error, or by cancellation.
+	 * 
+	 * @return <code>true</code> if this operation completed
+	 */
+	@Override
+	public boolean isDone () {
+		return this.done.getCount () == 0;
+	}
+	
+	/**
+	 * Sets the completion handler to be called when operation completes. It must be called before the operation is started.
+	 * 
+	 * @param complHandler
+	 *            the completion handler to be called when operation completes
+	 */
+	public void setHandler (final IOperationCompletionHandler<T> complHandler) {
+		this.complHandler = complHandler;
+	}
+	
+	/**
+	 * Starts the operation, on the current thread. It returns as soon as the operation was initiated.
+	 */
+	public void start () {
+		if (!this.started.compareAndSet (false, true)) {
+			throw new IllegalStateException ("operation already started");
+		}
+		if (this.isDone ()) {
+			return;
+		}
+		try {
+			this.starter.start (new IOperationCompletionHandler<T> () {
+				@Override
+				public void onFailure (final Throwable error) {
+					EventDrivenOperation.this.handleFailure (error);
+				}
+				
+				@Override
+				public void onSuccess (final T result) {
+					EventDrivenOperation.this.handleSuccess (result);
+				}
+			});
+		} catch (final Exception e) {
+			this.exceptions.traceDeferredException (e);
+			this.handleFailure (e);
+		}
+	}
+	
+	private boolean complete (final T result, final Throwable error, final boolean cancelled) {
+		if (!this.completed.compareAndSet (false, true)) {
+			return false;
+		}
+		this.result = result;
+		this.error = error;
+		this.cancelled = cancelled;
+		this.done.countDown ();
+		return true;
+	}
+	
+	private T getOutcome ()
+				throws ExecutionException {
+		if (this.cancelled) {
+			throw new CancellationException ();
+		}
+		if (this.error != null) {
+			throw new ExecutionException (this.error);
+		}
+		return this.result;
+	}
+	
+	private void handleFailure (final Throwable error) {
+		if (this.complete (null, error, false)) {
+			this.complHandler.onFailure (error);
+		} else {
+			this.exceptions.traceIgnoredException (error);
+		}
+	}
+	
+	private void handleSuccess (final T result) {
+		if (this.complete (result, null, false)) {
+			this.complHandler.onSuccess (result);
+		}
+	}
+	
+	private volatile boolean cancelled;
+	private volatile IOperationCompletionHandler<T> complHandler;
+	private final AtomicBoolean completed;
+	private final CountDownLatch done;
+	private volatile Throwable error;
+	private final BaseExceptionTracer exceptions;
+	private volatile T result;
+	private final AtomicBoolean started;
+	private final IOperationStarter<T> starter;
+}
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * mosaic-platform-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops;
+
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * Defines a result handle of an event-driven asynchronous operation (see {@link EventDrivenOperation}). It implements the
+ * {@link IResult} interface.
+ * 
+ * @param <T>
+ *            The type of the actual result of the asynchronous operation.
+ */
+public class EventDrivenResult<T>
+			implements
+				IResult<T>
+{
+	public EventDrivenResult (final EventDrivenOperation<T> operation) {
+		this.operation = operation;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.mosaic_cloud.drivers.ops.IResult#cancel()
+	 */
+	@Override
+	public final boolean cancel () {
+		// NOTE: cancellation fails only if the operation was already finished
+		return this.operation.cancel () || this.operation.isDone ();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.mosaic_cloud.drivers.ops.IResult#getResult()
+	 */
+	@Override
+	public T getResult ()
+				throws InterruptedException, ExecutionException {
+		return this.operation.get ();
+	}
+	
+	@Override
+	public T getResult (final long timeout, final TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+		return this.operation.get (timeout, unit);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see eu.mosaic_cloud.drivers.ops.IResult#isDone()
+	 */
+	@Override
+	public final boolean isDone () {
+		return this.operation.isDone ();
+	}
+	
+	private final EventDrivenOperation<T> operation;
+}
@@ -22,11 +22,11 @@ package eu.mosaic_cloud.drivers.ops;
 
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import eu.mosaic_cloud.drivers.exceptions.NullCompletionCallback;
 import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
@@ -53,6 +53,7 @@ public class GenericOperation<T>
 	public GenericOperation (final Callable<T> operation) {
 		super ();
 		this.operation = new GenericTask (operation);
+		this.delivered = new AtomicBoolean (false);
 		this.exceptions = FallbackExceptionTracer.defaultInstance;
 	}
 	
@@ -195,11 +196,38 @@ public class GenericOperation<T>
 	 */
 	public void setHandler (final IOperationCompletionHandler<T> complHandler) {
 		this.complHandler = complHandler;
-		this.cHandlerSet.countDown ();
+		// NOTE: if the operation already finished, its outcome was kept until now
+		this.deliver ();
 	}
 	
-	private final CountDownLatch cHandlerSet = new CountDownLatch (1);
-	private IOperationCompletionHandler<T> complHandler;
+	/**
+	 * Delivers the outcome of the operation to the completion handler, once both are available. Unlike waiting for the handler
+	 * to be set, this does not keep the executing thread busy after the operation finished.
+	 */
+	private void deliver () {
+		final IOperationCompletionHandler<T> handler = this.complHandler;
+		if ((handler == null) || !this.operation.isDone () || !this.delivered.compareAndSet (false, true)) {
+			return;
+		}
+		if (this.operation.isCancelled ()) {
+			// NOTE: the cancellation is reported by `cancel`
+			return;
+		}
+		try {
+			handler.onSuccess (this.operation.get ());
+		} catch (final InterruptedException e) {
+			this.exceptions.traceIgnoredException (e);
+		} catch (final ExecutionException e) {
+			// FIXME: customize exception
+			final Throwable e1 = e.getCause ();
+			this.exceptions.traceHandledException (e);
+			this.exceptions.traceDeferredException (e1);
+			handler.onFailure (e1);
+		}
+	}
+	
+	private volatile IOperationCompletionHandler<T> complHandler;
+	private final AtomicBoolean delivered;
 	private final BaseExceptionTracer exceptions;
 	private final FutureTask<T> operation;
 	
@@ -213,44 +241,11 @@ public class GenericOperation<T>
 		/*
 		 * (non-Javadoc)
 		 * 
-		 * @see java.util.concurrent.FutureTask#run()
-		 */
-		@Override
-		public void run () {
-			super.run ();
-			try {
-				GenericOperation.this.cHandlerSet.await ();
-				GenericOperation.this.complHandler.onSuccess (GenericTask.super.get ());
-			} catch (final InterruptedException e) {
-				GenericOperation.this.exceptions.traceIgnoredException (e);
-			} catch (final ExecutionException e) {
-				// FIXME: customize exception
-				final Throwable e1 = e.getCause ();
-				if (e1 instanceof UnsupportedOperationException) {
-					GenericOperation.this.exceptions.traceHandledException (e);
-					GenericOperation.this.exceptions.traceDeferredException (e1);
-					GenericOperation.this.getHandler ().onFailure (e1);
-				} else {
-					GenericOperation.this.exceptions.traceIgnoredException (e);
-				}
-			}
-		}
-		
-		/*
-		 * (non-Javadoc)
-		 * 
-		 * @see
-		 * java.util.concurrent.FutureTask#setException(java.lang.Throwable)
+		 * @see java.util.concurrent.FutureTask#done()
 		 */
 		@Override
-		protected void setException (final Throwable exception) {
-			super.setException (exception);
-			try {
-				GenericOperation.this.cHandlerSet.await ();
-			} catch (final InterruptedException e) {
-				GenericOperation.this.exceptions.traceIgnoredException (e);
-			}
-			GenericOperation.this.complHandler.onFailure (exception);
+		protected void done () {
+			GenericOperation.this.deliver ();
 		}
 	}
 }
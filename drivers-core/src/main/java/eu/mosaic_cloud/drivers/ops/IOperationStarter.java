@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * mosaic-platform-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops;
+
+
+/**
+ * Interface for the code which starts an event-driven asynchronous operation. Implementations should only initiate the
+ * operation (for example, by using the asynchronous API of the resource client) and return immediately, completing the given
+ * handler later from whatever thread the client uses for signaling completion.
+ * 
+ * @param <T>
+ *            the type of the result of the operation
+ */
+public interface IOperationStarter<T>
+{
+	/**
+	 * Starts the operation.
+	 * 
+	 * @param completion
+	 *            the handler which must be called exactly once, when the operation finishes
+	 * @throws Exception
+	 *             if the operation could not be started; in this case the operation fails with this exception
+	 */
+	void start (IOperationCompletionHandler<T> completion)
+				throws Exception;
+}
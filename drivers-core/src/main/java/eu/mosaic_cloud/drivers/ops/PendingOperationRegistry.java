@@ -0,0 +1,211 @@
+/*
+ * #%L
+ * mosaic-platform-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops;
+
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Concurrent registry of the operations which were submitted to a driver but not yet finished. Registration and removal are
+ * constant time and safe to be called from any thread. The results are keyed by identity, as neither {@link GenericResult}
+ * nor {@link EventDrivenResult} override <code>equals</code>.
+ * <p>
+ * Besides tracking, the registry keeps per operation type counters, and allows cancelling the operations which exceeded their
+ * deadline.
+ */
+public class PendingOperationRegistry
+{
+	public PendingOperationRegistry () {
+		super ();
+		this.operations = new ConcurrentHashMap<IResult<?>, PendingOperation> ();
+		this.counters = new ConcurrentHashMap<IOperationType, AtomicInteger> ();
+	}
+	
+	/**
+	 * Cancels and removes all the registered operations.
+	 * 
+	 * @return the number of cancelled operations
+	 */
+	public int cancelAll () {
+		int cancelled = 0;
+		final Iterator<IResult<?>> iter = this.operations.keySet ().iterator ();
+		while (iter.hasNext ()) {
+			final IResult<?> result = iter.next ();
+			if (this.unregister (result)) {
+				result.cancel ();
+				cancelled++;
+			}
+		}
+		return cancelled;
+	}
+	
+	/**
+	 * Cancels and removes the registered operations whose deadline has passed.
+	 * 
+	 * @return the number of cancelled operations
+	 */
+	public int cancelExpired () {
+		final long now = System.nanoTime ();
+		int cancelled = 0;
+		for (final Map.Entry<IResult<?>, PendingOperation> entry : this.operations.entrySet ()) {
+			final PendingOperation operation = entry.getValue ();
+			if ((operation.timeout > 0) && ((now - operation.started) >= operation.timeout) && this.unregister (entry.getKey ())) {
+				entry.getKey ().cancel ();
+				cancelled++;
+			}
+		}
+		return cancelled;
+	}
+	
+	/**
+	 * Returns the number of registered operations.
+	 * 
+	 * @return the number of registered operations
+	 */
+	public int count () {
+		return this.operations.size ();
+	}
+	
+	/**
+	 * Returns the number of registered operations of the given type.
+	 * 
+	 * @param type
+	 *            the type of the operations
+	 * @return the number of registered operations of the given type
+	 */
+	public int count (final IOperationType type) {
+		final AtomicInteger counter = this.counters.get (type);
+		return (counter != null) ? counter.get () : 0;
+	}
+	
+	/**
+	 * Returns a snapshot of the number of registered operations for each operation type.
+	 * 
+	 * @return the number of registered operations for each type
+	 */
+	public Map<IOperationType, Integer> getCounts () {
+		final Map<IOperationType, Integer> counts = new HashMap<IOperationType, Integer> ();
+		for (final Map.Entry<IOperationType, AtomicInteger> entry : this.counters.entrySet ()) {
+			final int count = entry.getValue ().get ();
+			if (count > 0) {
+				counts.put (entry.getKey (), Integer.valueOf (count));
+			}
+		}
+		return counts;
+	}
+	
+	/**
+	 * Returns the age of the oldest registered operation.
+	 * 
+	 * @param unit
+	 *            the time unit of the result
+	 * @return the age of the oldest registered operation, or <code>0</code> if there is none
+	 */
+	public long getOldestAge (final TimeUnit unit) {
+		// NOTE: this is linear in the number of operations, but it is meant to be called only by monitoring
+		final long now = System.nanoTime ();
+		long oldest = 0;
+		for (final PendingOperation operation : this.operations.values ()) {
+			oldest = Math.max (oldest, now - operation.started);
+		}
+		return unit.convert (oldest, TimeUnit.NANOSECONDS);
+	}
+	
+	/**
+	 * Registers an operation.
+	 * 
+	 * @param result
+	 *            the result handle of the operation
+	 * @param type
+	 *            the type of the operation, or {@link PendingOperationRegistry#UNKNOWN_TYPE}
+	 * @param timeout
+	 *            the time after which the operation is considered stuck; <code>0</code> means no deadline
+	 * @param unit
+	 *            the time unit of the timeout argument
+	 */
+	public void register (final IResult<?> result, final IOperationType type, final long timeout, final TimeUnit unit) {
+		if ((result == null) || (type == null) || (timeout < 0)) {
+			throw new IllegalArgumentException ();
+		}
+		if (this.operations.putIfAbsent (result, new PendingOperation (type, System.nanoTime (), unit.toNanos (timeout))) == null) {
+			this.getCounter (type).incrementAndGet ();
+		}
+	}
+	
+	/**
+	 * Removes an operation from the registry.
+	 * 
+	 * @param result
+	 *            the result handle of the operation
+	 * @return <code>true</code> if the operation was registered
+	 */
+	public boolean unregister (final IResult<?> result) {
+		final PendingOperation operation = this.operations.remove (result);
+		if (operation == null) {
+			return false;
+		}
+		this.getCounter (operation.type).decrementAndGet ();
+		return true;
+	}
+	
+	private AtomicInteger getCounter (final IOperationType type) {
+		AtomicInteger counter = this.counters.get (type);
+		if (counter == null) {
+			final AtomicInteger newCounter = new AtomicInteger (0);
+			counter = this.counters.putIfAbsent (type, newCounter);
+			if (counter == null) {
+				counter = newCounter;
+			}
+		}
+		return counter;
+	}
+	
+	private final ConcurrentHashMap<IOperationType, AtomicInteger> counters;
+	private final ConcurrentHashMap<IResult<?>, PendingOperation> operations;
+	/**
+	 * Operation type used for the operations registered without a type.
+	 */
+	public static final IOperationType UNKNOWN_TYPE = new IOperationType () {
+		@Override
+		public String toString () {
+			return "UNKNOWN";
+		}
+	};
+	
+	private static final class PendingOperation
+	{
+		PendingOperation (final IOperationType type, final long started, final long timeout) {
+			this.type = type;
+			this.started = started;
+			this.timeout = timeout;
+		}
+		
+		final long started;
+		final long timeout;
+		final IOperationType type;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.ops.tests;
+
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+import eu.mosaic_cloud.drivers.ops.BulkOperationStarter;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BulkOperationStarterTest
+{
+	@Before
+	public void setUp () {
+		// NOTE: the starter traces the per-item failures through the fallback tracer, which otherwise aborts the JVM
+		FallbackExceptionTracer.defaultInstance.setThreadTracer (NullExceptionTracer.defaultInstance);
+		this.outcomes = new LinkedBlockingQueue<Object> ();
+		this.pending = new LinkedBlockingQueue<Runnable> ();
+	}
+	
+	@Test
+	public void testEmpty () {
+		this.start (this.createOperation (Collections.<String> emptyList (), Integer.MAX_VALUE));
+		Assert.assertEquals (Collections.emptyList (), this.outcomes.poll ());
+	}
+	
+	@Test
+	public void testFailedItems () {
+		final List<String> keys = Arrays.asList ("ok-1", "exception", "ok-2", "error");
+		this.start (this.createOperation (keys, Integer.MAX_VALUE));
+		// NOTE: the operation completes only after all the items were processed
+		this.runPending (keys.size () - 1);
+		Assert.assertNull (this.outcomes.poll ());
+		this.runPending (1);
+		// NOTE: both exceptions and errors thrown while processing an item only mark its key as failed
+		Assert.assertEquals (Arrays.asList ("exception", "error"), this.outcomes.poll ());
+		Assert.assertNull (this.outcomes.poll ());
+	}
+	
+	@Test
+	public void testRejected () {
+		final List<String> keys = Arrays.asList ("ok-1", "ok-2", "ok-3");
+		this.start (this.createOperation (keys, 1));
+		// NOTE: an item which can not be scheduled fails the whole operation, even if the scheduled items later finish
+		final Object outcome = this.outcomes.poll ();
+		Assert.assertTrue (outcome instanceof RejectedExecutionException);
+		this.runPending (1);
+		Assert.assertNull (this.outcomes.poll ());
+		Assert.assertTrue (this.pending.isEmpty ());
+	}
+	
+	private EventDrivenOperation<List<String>> createOperation (final Collection<String> keys, final int accepted) {
+		final Executor executor = new Executor () {
+			@Override
+			public void execute (final Runnable task) {
+				if (this.scheduled >= accepted) {
+					throw new RejectedExecutionException ();
+				}
+				this.scheduled++;
+				BulkOperationStarterTest.this.pending.add (task);
+			}
+			
+			private int scheduled = 0;
+		};
+		return new EventDrivenOperation<List<String>> (new BulkOperationStarter<String, List<String>> (executor, keys) {
+			@Override
+			protected List<String> complete () {
+				return this.getFailedKeys (Arrays.asList (keys.toArray (new String[0])));
+			}
+			
+			@Override
+			protected String getKey (final String key) {
+				return key;
+			}
+			
+			@Override
+			protected void process (final String key)
+						throws Exception {
+				if (key.equals ("exception")) {
+					throw new Exception ();
+				}
+				if (key.equals ("error")) {
+					throw new AssertionError ();
+				}
+			}
+		});
+	}
+	
+	private void runPending (final int count) {
+		for (int index = 0; index < count; index++) {
+			final Runnable task = this.pending.poll ();
+			Assert.assertNotNull (task);
+			task.run ();
+		}
+	}
+	
+	private void start (final EventDrivenOperation<List<String>> operation) {
+		operation.setHandler (new IOperationCompletionHandler<List<String>> () {
+			@Override
+			public void onFailure (final Throwable error) {
+				BulkOperationStarterTest.this.outcomes.add (error);
+			}
+			
+			@Override
+			public void onSuccess (final List<String> result) {
+				BulkOperationStarterTest.this.outcomes.add (result);
+			}
+		});
+		operation.start ();
+	}
+	
+	private BlockingQueue<Object> outcomes;
+	private BlockingQueue<Runnable> pending;
+}
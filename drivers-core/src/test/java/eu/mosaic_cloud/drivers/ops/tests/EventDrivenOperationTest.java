@@ -0,0 +1,165 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.drivers.ops.tests;
+
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
+import eu.mosaic_cloud.drivers.ops.EventDrivenResult;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.drivers.ops.IOperationStarter;
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class EventDrivenOperationTest
+{
+	@Before
+	public void setUp () {
+		// NOTE: the operations trace the ignored outcomes through the fallback tracer, which otherwise aborts the JVM
+		FallbackExceptionTracer.defaultInstance.setThreadTracer (NullExceptionTracer.defaultInstance);
+		this.outcomes = new LinkedBlockingQueue<Object> ();
+		this.starts = 0;
+		this.operation = new EventDrivenOperation<String> (new IOperationStarter<String> () {
+			@Override
+			public void start (final IOperationCompletionHandler<String> completion) {
+				EventDrivenOperationTest.this.starts++;
+				EventDrivenOperationTest.this.completion = completion;
+			}
+		});
+		this.operation.setHandler (new IOperationCompletionHandler<String> () {
+			@Override
+			public void onFailure (final Throwable error) {
+				EventDrivenOperationTest.this.outcomes.add (error);
+			}
+			
+			@Override
+			public void onSuccess (final String result) {
+				EventDrivenOperationTest.this.outcomes.add (result);
+			}
+		});
+		this.result = new EventDrivenResult<String> (this.operation);
+	}
+	
+	@Test
+	public void testCancelFinished () throws Exception {
+		this.operation.start ();
+		this.completion.onSuccess ("done");
+		Assert.assertEquals ("done", this.outcomes.poll ());
+		// NOTE: a finished operation can not be cancelled anymore, although the result reports it as done
+		Assert.assertFalse (this.operation.cancel ());
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertFalse (this.operation.isCancelled ());
+		Assert.assertNull (this.outcomes.poll ());
+		Assert.assertEquals ("done", this.result.getResult ());
+	}
+	
+	@Test
+	public void testCancelQueued () throws Exception {
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertTrue (this.operation.isCancelled ());
+		Assert.assertTrue (this.operation.isDone ());
+		Assert.assertTrue (this.outcomes.poll () instanceof Throwable);
+		// NOTE: an operation cancelled before being started never reaches its starter
+		this.operation.start ();
+		Assert.assertEquals (0, this.starts);
+		this.assertCancelled ();
+		Assert.assertNull (this.outcomes.poll ());
+	}
+	
+	@Test
+	public void testCancelStarted () throws Exception {
+		this.operation.start ();
+		Assert.assertEquals (1, this.starts);
+		Assert.assertFalse (this.operation.isDone ());
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertTrue (this.outcomes.poll () instanceof Throwable);
+		// NOTE: the eventual outcome of a cancelled operation is ignored
+		this.completion.onSuccess ("late");
+		this.completion.onFailure (new Exception ());
+		Assert.assertNull (this.outcomes.poll ());
+		this.assertCancelled ();
+	}
+	
+	@Test
+	public void testDoubleCompletion () throws Exception {
+		this.operation.start ();
+		this.completion.onSuccess ("first");
+		this.completion.onSuccess ("second");
+		this.completion.onFailure (new Exception ());
+		// NOTE: only the first completion is delivered, and it is the one reported as result
+		Assert.assertEquals ("first", this.outcomes.poll ());
+		Assert.assertNull (this.outcomes.poll ());
+		Assert.assertEquals ("first", this.result.getResult (EventDrivenOperationTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS));
+	}
+	
+	@Test
+	public void testDoubleStart () {
+		this.operation.start ();
+		try {
+			this.operation.start ();
+			Assert.fail ();
+		} catch (final IllegalStateException e) {
+			// NOTE: expected
+		}
+		Assert.assertEquals (1, this.starts);
+	}
+	
+	@Test
+	public void testFailure () throws Exception {
+		final Exception error = new Exception ();
+		this.operation.start ();
+		this.completion.onFailure (error);
+		this.completion.onSuccess ("late");
+		Assert.assertSame (error, this.outcomes.poll ());
+		Assert.assertNull (this.outcomes.poll ());
+		try {
+			this.result.getResult ();
+			Assert.fail ();
+		} catch (final ExecutionException e) {
+			Assert.assertSame (error, e.getCause ());
+		}
+	}
+	
+	private void assertCancelled () throws Exception {
+		try {
+			this.result.getResult (EventDrivenOperationTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+			Assert.fail ();
+		} catch (final CancellationException e) {
+			// NOTE: expected
+		}
+	}
+	
+	private IOperationCompletionHandler<String> completion;
+	private EventDrivenOperation<String> operation;
+	private BlockingQueue<Object> outcomes;
+	private EventDrivenResult<String> result;
+	private int starts;
+	private static final long POLL_TIMEOUT = 1000;
+}
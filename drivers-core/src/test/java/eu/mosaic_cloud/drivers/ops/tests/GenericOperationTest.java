@@ -0,0 +1,118 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.drivers.ops.tests;
+
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.mosaic_cloud.drivers.ops.GenericOperation;
+import eu.mosaic_cloud.drivers.ops.GenericResult;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GenericOperationTest
+{
+	@Before
+	public void setUp () {
+		// NOTE: the operations trace the ignored outcomes through the fallback tracer, which otherwise aborts the JVM
+		FallbackExceptionTracer.defaultInstance.setThreadTracer (NullExceptionTracer.defaultInstance);
+		this.outcomes = new LinkedBlockingQueue<Object> ();
+		this.runs = new AtomicInteger (0);
+		this.operation = new GenericOperation<String> (new Callable<String> () {
+			@Override
+			public String call () {
+				return Integer.toString (GenericOperationTest.this.runs.incrementAndGet ());
+			}
+		});
+		this.handler = new IOperationCompletionHandler<String> () {
+			@Override
+			public void onFailure (final Throwable error) {
+				GenericOperationTest.this.outcomes.add (error);
+			}
+			
+			@Override
+			public void onSuccess (final String result) {
+				GenericOperationTest.this.outcomes.add (result);
+			}
+		};
+		this.result = new GenericResult<String> (this.operation);
+	}
+	
+	@Test
+	public void testCancelFinished () throws Exception {
+		this.operation.setHandler (this.handler);
+		this.operation.getOperation ().run ();
+		Assert.assertEquals ("1", this.outcomes.poll ());
+		Assert.assertFalse (this.operation.cancel ());
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertFalse (this.operation.isCancelled ());
+		Assert.assertNull (this.outcomes.poll ());
+		Assert.assertEquals ("1", this.result.getResult ());
+	}
+	
+	@Test
+	public void testCancelQueued () {
+		this.operation.setHandler (this.handler);
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertTrue (this.operation.isCancelled ());
+		Assert.assertTrue (this.outcomes.poll () instanceof Throwable);
+		// NOTE: a cancelled operation never runs, and it is reported only once
+		this.operation.getOperation ().run ();
+		Assert.assertEquals (0, this.runs.get ());
+		Assert.assertTrue (this.result.cancel ());
+		Assert.assertNull (this.outcomes.poll ());
+	}
+	
+	@Test
+	public void testDoubleCompletion () throws Exception {
+		this.operation.setHandler (this.handler);
+		this.operation.getOperation ().run ();
+		this.operation.getOperation ().run ();
+		Assert.assertEquals ("1", this.outcomes.poll ());
+		Assert.assertNull (this.outcomes.poll ());
+		Assert.assertEquals (1, this.runs.get ());
+	}
+	
+	@Test
+	public void testLateHandler () throws Exception {
+		// NOTE: the outcome of an operation which finished before its handler was set is kept until then, and delivered once
+		this.operation.getOperation ().run ();
+		Assert.assertNull (this.outcomes.poll ());
+		this.operation.setHandler (this.handler);
+		this.operation.setHandler (this.handler);
+		Assert.assertEquals ("1", this.outcomes.poll ());
+		Assert.assertNull (this.outcomes.poll ());
+	}
+	
+	private IOperationCompletionHandler<String> handler;
+	private GenericOperation<String> operation;
+	private BlockingQueue<Object> outcomes;
+	private GenericResult<String> result;
+	private AtomicInteger runs;
+}
@@ -0,0 +1,138 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package eu.mosaic_cloud.drivers.ops.tests;
+
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.mosaic_cloud.drivers.ops.IOperationType;
+import eu.mosaic_cloud.drivers.ops.IResult;
+import eu.mosaic_cloud.drivers.ops.PendingOperationRegistry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class PendingOperationRegistryTest
+{
+	@Test
+	public void testCancelAll () {
+		final PendingOperationRegistry registry = new PendingOperationRegistry ();
+		final TestResult first = new TestResult ();
+		final TestResult second = new TestResult ();
+		registry.register (first, TestOperationType.READ, 0, TimeUnit.MILLISECONDS);
+		registry.register (second, TestOperationType.WRITE, 0, TimeUnit.MILLISECONDS);
+		Assert.assertEquals (2, registry.cancelAll ());
+		Assert.assertEquals (1, first.cancelled.get ());
+		Assert.assertEquals (1, second.cancelled.get ());
+		Assert.assertEquals (0, registry.count ());
+		Assert.assertTrue (registry.getCounts ().isEmpty ());
+	}
+	
+	@Test
+	public void testCounts () {
+		final PendingOperationRegistry registry = new PendingOperationRegistry ();
+		final TestResult first = new TestResult ();
+		final TestResult second = new TestResult ();
+		final TestResult third = new TestResult ();
+		registry.register (first, TestOperationType.READ, 0, TimeUnit.MILLISECONDS);
+		registry.register (first, TestOperationType.READ, 0, TimeUnit.MILLISECONDS);
+		registry.register (second, TestOperationType.READ, 0, TimeUnit.MILLISECONDS);
+		registry.register (third, PendingOperationRegistry.UNKNOWN_TYPE, 0, TimeUnit.MILLISECONDS);
+		Assert.assertEquals (3, registry.count ());
+		Assert.assertEquals (2, registry.count (TestOperationType.READ));
+		Assert.assertEquals (0, registry.count (TestOperationType.WRITE));
+		Assert.assertEquals (1, registry.count (PendingOperationRegistry.UNKNOWN_TYPE));
+		// NOTE: an operation is unregistered at most once, no matter how many times it completes
+		Assert.assertTrue (registry.unregister (first));
+		Assert.assertFalse (registry.unregister (first));
+		Assert.assertEquals (1, registry.count (TestOperationType.READ));
+		Assert.assertEquals (Integer.valueOf (1), registry.getCounts ().get (TestOperationType.READ));
+	}
+	
+	@Test
+	public void testExpiry () throws Exception {
+		final PendingOperationRegistry registry = new PendingOperationRegistry ();
+		final TestResult expiring = new TestResult ();
+		final TestResult unbounded = new TestResult ();
+		final TestResult completed = new TestResult ();
+		registry.register (expiring, TestOperationType.READ, PendingOperationRegistryTest.TIMEOUT, TimeUnit.MILLISECONDS);
+		registry.register (unbounded, TestOperationType.READ, 0, TimeUnit.MILLISECONDS);
+		registry.register (completed, TestOperationType.WRITE, PendingOperationRegistryTest.TIMEOUT, TimeUnit.MILLISECONDS);
+		Assert.assertEquals (0, registry.cancelExpired ());
+		Assert.assertTrue (registry.unregister (completed));
+		Thread.sleep (PendingOperationRegistryTest.TIMEOUT * 2);
+		Assert.assertTrue (registry.getOldestAge (TimeUnit.MILLISECONDS) >= PendingOperationRegistryTest.TIMEOUT);
+		// NOTE: only the registered operations with a deadline are cancelled, and only once
+		Assert.assertEquals (1, registry.cancelExpired ());
+		Assert.assertEquals (0, registry.cancelExpired ());
+		Assert.assertEquals (1, expiring.cancelled.get ());
+		Assert.assertEquals (0, unbounded.cancelled.get ());
+		Assert.assertEquals (0, completed.cancelled.get ());
+		Assert.assertEquals (1, registry.count ());
+		Assert.assertEquals (1, registry.count (TestOperationType.READ));
+	}
+	
+	private static final long TIMEOUT = 100;
+	
+	private static enum TestOperationType
+				implements
+					IOperationType
+	{
+		READ,
+		WRITE;
+	}
+	
+	private static final class TestResult
+				implements
+					IResult<Void>
+	{
+		TestResult () {
+			this.cancelled = new AtomicInteger (0);
+		}
+		
+		@Override
+		public boolean cancel () {
+			this.cancelled.incrementAndGet ();
+			return true;
+		}
+		
+		@Override
+		public Void getResult ()
+					throws InterruptedException, ExecutionException {
+			return null;
+		}
+		
+		@Override
+		public Void getResult (final long timeout, final TimeUnit unit)
+					throws InterruptedException, ExecutionException {
+			return null;
+		}
+		
+		@Override
+		public boolean isDone () {
+			return this.cancelled.get () > 0;
+		}
+		
+		final AtomicInteger cancelled;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * #%L
+ * mosaic-drivers-core
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.tests;
+
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.drivers.AbstractResourceDriver;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.drivers.ops.IOperationStarter;
+import eu.mosaic_cloud.drivers.ops.IOperationType;
+import eu.mosaic_cloud.drivers.ops.IResult;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
+import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.transcript.core.Transcript;
+import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class AbstractResourceDriverTest
+{
+	@Before
+	public void setUp () {
+		BasicThreadingSecurityManager.initialize ();
+		final Transcript transcript = Transcript.create (this);
+		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		final TranscriptExceptionTracer exceptions = TranscriptExceptionTracer.create (transcript, exceptionsQueue);
+		this.threading = BasicThreadingContext.create (this, exceptions, exceptions.catcher);
+		Assert.assertTrue (this.threading.initialize (AbstractResourceDriverTest.POLL_TIMEOUT));
+		this.started = new LinkedBlockingQueue<TestStarter> ();
+	}
+	
+	@After
+	public void tearDown () {
+		if (this.driver != null) {
+			this.driver.destroy ();
+		}
+		Assert.assertTrue (this.threading.destroy (AbstractResourceDriverTest.POLL_TIMEOUT));
+	}
+	
+	@Test
+	public void testDeferredFailure () throws Exception {
+		this.driver = new TestDriver (this.threading, 1);
+		final TestHandler first = new TestHandler ();
+		final TestHandler second = new TestHandler ();
+		final TestHandler third = new TestHandler ();
+		this.driver.start (0, false, first);
+		final IResult<String> secondResult = this.driver.start (1, false, second);
+		this.driver.start (2, false, third);
+		final TestStarter firstStarter = this.awaitStarted (0);
+		Assert.assertEquals (3, this.driver.countPendingOperations ());
+		// NOTE: an operation cancelled while deferred fails immediately, and never starts
+		Assert.assertTrue (secondResult.cancel ());
+		Assert.assertTrue (second.awaitOutcome () instanceof Throwable);
+		Assert.assertEquals (2, this.driver.countPendingOperations ());
+		Assert.assertEquals (1, this.driver.countInFlightOperations ());
+		firstStarter.completion.onSuccess ("0");
+		Assert.assertEquals ("0", first.awaitOutcome ());
+		this.awaitStarted (2).completion.onSuccess ("2");
+		Assert.assertEquals ("2", third.awaitOutcome ());
+		Assert.assertNull (this.started.poll (AbstractResourceDriverTest.SETTLE_DELAY, TimeUnit.MILLISECONDS));
+		Assert.assertEquals (0, this.driver.countInFlightOperations ());
+		Assert.assertEquals (0, this.driver.countPendingOperations ());
+	}
+	
+	@Test
+	public void testDestroyWhileDeferred () throws Exception {
+		this.driver = new TestDriver (this.threading, 1);
+		final TestHandler first = new TestHandler ();
+		final TestHandler second = new TestHandler ();
+		final IResult<String> firstResult = this.driver.start (0, false, first);
+		final IResult<String> secondResult = this.driver.start (1, false, second);
+		this.awaitStarted (0);
+		this.driver.destroy ();
+		Assert.assertTrue (first.awaitOutcome () instanceof Throwable);
+		Assert.assertTrue (second.awaitOutcome () instanceof Throwable);
+		try {
+			secondResult.getResult (AbstractResourceDriverTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+			Assert.fail ();
+		} catch (final CancellationException e) {
+			// NOTE: expected
+		}
+		Assert.assertTrue (firstResult.isDone ());
+		Assert.assertNull (this.started.poll (AbstractResourceDriverTest.SETTLE_DELAY, TimeUnit.MILLISECONDS));
+		Assert.assertEquals (0, this.driver.countPendingOperations ());
+	}
+	
+	@Test
+	public void testExpiry () throws Exception {
+		this.driver = new TestDriver (this.threading, 1, AbstractResourceDriverTest.OPERATION_TIMEOUT);
+		final TestHandler first = new TestHandler ();
+		this.driver.start (0, false, first);
+		final TestStarter firstStarter = this.awaitStarted (0);
+		// NOTE: a stuck operation is cancelled once its deadline passes, and its eventual outcome is ignored
+		Assert.assertTrue (first.awaitOutcome () instanceof Throwable);
+		firstStarter.completion.onSuccess ("0");
+		Assert.assertNull (first.outcomes.poll (AbstractResourceDriverTest.SETTLE_DELAY, TimeUnit.MILLISECONDS));
+		Assert.assertEquals (0, this.driver.countInFlightOperations ());
+		Assert.assertEquals (0, this.driver.countPendingOperations ());
+		// NOTE: the freed slot is available to new operations
+		final TestHandler second = new TestHandler ();
+		this.driver.start (1, false, second);
+		this.awaitStarted (1).completion.onSuccess ("1");
+		Assert.assertEquals ("1", second.awaitOutcome ());
+		Assert.assertEquals (0, this.driver.countInFlightOperations ());
+	}
+	
+	@Test
+	public void testFailedStart () throws Exception {
+		this.driver = new TestDriver (this.threading, 1);
+		final TestHandler first = new TestHandler ();
+		final TestHandler second = new TestHandler ();
+		this.driver.start (0, true, first);
+		this.driver.start (1, false, second);
+		// NOTE: an operation which fails to start releases its slot to the deferred ones
+		this.awaitStarted (0);
+		Assert.assertTrue (first.awaitOutcome () instanceof IllegalStateException);
+		this.awaitStarted (1).completion.onSuccess ("1");
+		Assert.assertEquals ("1", second.awaitOutcome ());
+		Assert.assertEquals (0, this.driver.countInFlightOperations ());
+	}
+	
+	@Test
+	public void testFifoRelease () throws Exception {
+		this.driver = new TestDriver (this.threading, 1);
+		final TestHandler handler = new TestHandler ();
+		for (int index = 0; index < AbstractResourceDriverTest.OPERATIONS; index++) {
+			this.driver.start (index, false, handler);
+		}
+		// NOTE: the deferred operations are started in the order they were submitted, one at a time
+		for (int index = 0; index < AbstractResourceDriverTest.OPERATIONS; index++) {
+			final TestStarter starter = this.awaitStarted (index);
+			Assert.assertNull (this.started.poll (AbstractResourceDriverTest.SETTLE_DELAY / 4, TimeUnit.MILLISECONDS));
+			starter.completion.onSuccess (Integer.toString (index));
+			Assert.assertEquals (Integer.toString (index), handler.awaitOutcome ());
+		}
+		Assert.assertEquals (0, this.driver.countInFlightOperations ());
+	}
+	
+	@Test
+	public void testInFlightLimit () throws Exception {
+		this.driver = new TestDriver (this.threading, 2);
+		final TestHandler handler = new TestHandler ();
+		for (int index = 0; index < AbstractResourceDriverTest.OPERATIONS; index++) {
+			this.driver.start (index, false, handler);
+		}
+		final TestStarter first = this.awaitStarted (0);
+		this.awaitStarted (1);
+		Assert.assertNull (this.started.poll (AbstractResourceDriverTest.SETTLE_DELAY, TimeUnit.MILLISECONDS));
+		Assert.assertEquals (2, this.driver.countInFlightOperations ());
+		Assert.assertEquals (AbstractResourceDriverTest.OPERATIONS, this.driver.countPendingOperations ());
+		Assert.assertEquals (AbstractResourceDriverTest.OPERATIONS, this.driver.countPendingOperations (TestOperationType.TEST));
+		first.completion.onSuccess ("0");
+		Assert.assertEquals ("0", handler.awaitOutcome ());
+		this.awaitStarted (2);
+		Assert.assertNull (this.started.poll (AbstractResourceDriverTest.SETTLE_DELAY, TimeUnit.MILLISECONDS));
+		Assert.assertEquals (2, this.driver.countInFlightOperations ());
+	}
+	
+	private TestStarter awaitStarted (final int expected) throws InterruptedException {
+		final TestStarter starter = this.started.poll (AbstractResourceDriverTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+		Assert.assertNotNull (starter);
+		Assert.assertEquals (expected, starter.index);
+		return starter;
+	}
+	
+	private TestDriver driver;
+	private BlockingQueue<TestStarter> started;
+	private BasicThreadingContext threading;
+	private static final long OPERATION_TIMEOUT = 200;
+	private static final int OPERATIONS = 8;
+	private static final long POLL_TIMEOUT = 1000;
+	private static final long SETTLE_DELAY = 200;
+	
+	private static enum TestOperationType
+				implements
+					IOperationType
+	{
+		TEST;
+	}
+	
+	private final class TestDriver
+				extends AbstractResourceDriver
+	{
+		TestDriver (final ThreadingContext threading, final int maxInFlight) {
+			super (threading, 2, maxInFlight);
+		}
+		
+		TestDriver (final ThreadingContext threading, final int maxInFlight, final long operationTimeout) {
+			super (threading, 2, maxInFlight, operationTimeout);
+		}
+		
+		IResult<String> start (final int index, final boolean fail, final IOperationCompletionHandler<String> handler) {
+			return this.startOperation (TestOperationType.TEST, new EventDrivenOperation<String> (new TestStarter (index, fail)), handler);
+		}
+	}
+	
+	private static final class TestHandler
+				implements
+					IOperationCompletionHandler<String>
+	{
+		TestHandler () {
+			this.outcomes = new LinkedBlockingQueue<Object> ();
+		}
+		
+		@Override
+		public void onFailure (final Throwable error) {
+			this.outcomes.add (error);
+		}
+		
+		@Override
+		public void onSuccess (final String result) {
+			this.outcomes.add (result);
+		}
+		
+		Object awaitOutcome () throws InterruptedException {
+			final Object outcome = this.outcomes.poll (AbstractResourceDriverTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+			Assert.assertNotNull (outcome);
+			return outcome;
+		}
+		
+		final BlockingQueue<Object> outcomes;
+	}
+	
+	private final class TestStarter
+				implements
+					IOperationStarter<String>
+	{
+		TestStarter (final int index, final boolean fail) {
+			this.index = index;
+			this.fail = fail;
+		}
+		
+		@Override
+		public void start (final IOperationCompletionHandler<String> completion) {
+			this.completion = completion;
+			AbstractResourceDriverTest.this.started.add (this);
+			if (this.fail) {
+				throw new IllegalStateException ();
+			}
+		}
+		
+		volatile IOperationCompletionHandler<String> completion;
+		final boolean fail;
+		final int index;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+
+import com.rabbitmq.client.Channel;
+
+
+/**
+ * Coalesces the acknowledgements for the messages delivered to a consumer. The acknowledgements are held back for at most a
+ * configured time window, and then the contiguous run of acknowledged deliveries (starting with the oldest one) is sent as a
+ * single <code>multiple</code> acknowledgement, while the remaining ones are sent individually.
+ */
+final class AmqpAcknowledgementWindow
+{
+	/**
+	 * Creates a new acknowledgement window.
+	 * 
+	 * @param channel
+	 *            the channel of the consumer
+	 * @param scheduler
+	 *            the executor used for flushing the window once it expires
+	 * @param window
+	 *            the time (in milliseconds) an acknowledgement is held back at most
+	 * @param limit
+	 *            the number of held back acknowledgements which trigger a flush
+	 */
+	AmqpAcknowledgementWindow (final Channel channel, final ScheduledExecutorService scheduler, final long window, final int limit) {
+		super ();
+		this.channel = channel;
+		this.scheduler = scheduler;
+		this.window = window;
+		this.limit = limit;
+		this.deliveries = new TreeMap<Long, Boolean> ();
+		this.handlers = new ArrayList<IOperationCompletionHandler<Boolean>> ();
+		this.acknowledged = 0;
+		this.scheduled = false;
+		this.sending = new Object ();
+	}
+	
+	/**
+	 * Acknowledges one or several delivered messages. The acknowledgement is held back, unless the delivery is unknown to the
+	 * window, in which case it is sent right away.
+	 * 
+	 * @param delivery
+	 *            the tag received with the messages
+	 * @param multiple
+	 *            <code>true</code> to acknowledge all messages up to and including the supplied delivery tag
+	 * @param handler
+	 *            the handler to be called once the acknowledgement is sent
+	 */
+	void acknowledge (final long delivery, final boolean multiple, final IOperationCompletionHandler<Boolean> handler) {
+		final Long key = Long.valueOf (delivery);
+		final boolean tracked;
+		boolean flush = false;
+		boolean schedule = false;
+		synchronized (this) {
+			final Map<Long, Boolean> acknowledged = multiple ? this.deliveries.headMap (key, true) : this.deliveries.subMap (key, true, key, true);
+			// NOTE: acknowledgements which do not touch any recorded delivery are not held back
+			tracked = !acknowledged.isEmpty ();
+			if (tracked) {
+				for (final Map.Entry<Long, Boolean> entry : acknowledged.entrySet ()) {
+					if (!entry.getValue ().booleanValue ()) {
+						entry.setValue (Boolean.TRUE);
+						this.acknowledged++;
+					}
+				}
+				this.handlers.add (handler);
+				// NOTE: once every delivery is acknowledged the broker waits for us, thus there is nothing left to coalesce
+				flush = (this.acknowledged >= this.limit) || (this.acknowledged == this.deliveries.size ());
+				if (!flush && !this.scheduled) {
+					this.scheduled = true;
+					schedule = true;
+				}
+			}
+		}
+		if (!tracked) {
+			this.send (delivery, multiple, handler);
+		} else if (flush) {
+			this.flush ();
+		} else if (schedule) {
+			this.scheduler.schedule (new Runnable () {
+				@Override
+				public void run () {
+					AmqpAcknowledgementWindow.this.flush ();
+				}
+			}, this.window, TimeUnit.MILLISECONDS);
+		}
+	}
+	
+	/**
+	 * Records a message delivered to the consumer.
+	 * 
+	 * @param delivery
+	 *            the tag of the message
+	 */
+	synchronized void delivered (final long delivery) {
+		this.deliveries.put (Long.valueOf (delivery), Boolean.FALSE);
+	}
+	
+	/**
+	 * Drops the held back acknowledgements, for example after the channel was closed.
+	 */
+	void discard () {
+		final List<IOperationCompletionHandler<Boolean>> handlers;
+		synchronized (this) {
+			handlers = new ArrayList<IOperationCompletionHandler<Boolean>> (this.handlers);
+			this.handlers.clear ();
+			this.deliveries.clear ();
+			this.acknowledged = 0;
+		}
+		for (final IOperationCompletionHandler<Boolean> handler : handlers) {
+			handler.onSuccess (Boolean.FALSE);
+		}
+	}
+	
+	/**
+	 * Sends the held back acknowledgements.
+	 */
+	void flush () {
+		// NOTE: the acknowledgements are sent in the same order they were collected, otherwise an individual acknowledgement
+		//-- could reach the broker after a `multiple` one which already covered it
+		synchronized (this.sending) {
+			final List<IOperationCompletionHandler<Boolean>> handlers;
+			final List<Long> individual = new ArrayList<Long> ();
+			long contiguous = -1;
+			int count = 0;
+			synchronized (this) {
+				this.scheduled = false;
+				if (this.handlers.isEmpty ()) {
+					return;
+				}
+				handlers = new ArrayList<IOperationCompletionHandler<Boolean>> (this.handlers);
+				this.handlers.clear ();
+				boolean prefix = true;
+				for (final Iterator<Map.Entry<Long, Boolean>> iterator = this.deliveries.entrySet ().iterator (); iterator.hasNext ();) {
+					final Map.Entry<Long, Boolean> entry = iterator.next ();
+					if (!entry.getValue ().booleanValue ()) {
+						prefix = false;
+						continue;
+					}
+					if (prefix) {
+						contiguous = entry.getKey ().longValue ();
+						count++;
+					} else {
+						individual.add (entry.getKey ());
+					}
+					iterator.remove ();
+				}
+				this.acknowledged = 0;
+			}
+			IOException failure = null;
+			try {
+				if (contiguous != -1) {
+					this.channel.basicAck (contiguous, count > 1);
+				}
+				for (final Long delivery : individual) {
+					this.channel.basicAck (delivery.longValue (), false);
+				}
+			} catch (final IOException e) {
+				failure = e;
+			}
+			// NOTE: the batch is sent as a whole, thus every acknowledgement it covers shares the outcome
+			for (final IOperationCompletionHandler<Boolean> handler : handlers) {
+				if (failure != null) {
+					handler.onFailure (failure);
+				} else {
+					handler.onSuccess (Boolean.TRUE);
+				}
+			}
+		}
+	}
+	
+	private void send (final long delivery, final boolean multiple, final IOperationCompletionHandler<Boolean> handler) {
+		IOException failure = null;
+		synchronized (this.sending) {
+			try {
+				this.channel.basicAck (delivery, multiple);
+			} catch (final IOException e) {
+				failure = e;
+			}
+		}
+		if (failure != null) {
+			handler.onFailure (failure);
+		} else {
+			handler.onSuccess (Boolean.TRUE);
+		}
+	}
+	
+	private int acknowledged;
+	private final Channel channel;
+	private final TreeMap<Long, Boolean> deliveries;
+	private final List<IOperationCompletionHandler<Boolean>> handlers;
+	private final int limit;
+	private boolean scheduled;
+	private final ScheduledExecutorService scheduler;
+	private final Object sending;
+	private final long window;
+}
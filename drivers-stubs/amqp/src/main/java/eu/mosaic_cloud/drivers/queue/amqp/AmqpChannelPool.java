@@ -0,0 +1,296 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp;
+
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.BaseExceptionTracer;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.ReturnListener;
+import com.rabbitmq.client.ShutdownListener;
+
+
+/**
+ * Pool of the connections and channels used by the AMQP driver. The channels are spread over several connections, each
+ * connection having a fixed number of shared channels for publishing and a fixed number of shared channels for fetching
+ * and acknowledging messages outside of a consumer, while each consumer has its own channel. The declarations and bindings are instead run on
+ * temporary channels, as the broker closes the channel on which such an operation fails, and thus a shared channel would
+ * take down the operations of the other clients along with it.
+ * <p>
+ * Note: all the channels of a client (including the channels of its consumers) are placed on the same connection, as
+ * exclusive queues can be used only on the connection which declared them.
+ */
+public final class AmqpChannelPool
+{
+	/**
+	 * Creates a new pool, without opening any connection.
+	 * 
+	 * @param factory
+	 *            the factory used for opening the connections
+	 * @param connections
+	 *            the number of connections
+	 * @param publishChannels
+	 *            the number of publishing channels for each connection
+	 * @param adminChannels
+	 *            the number of administrative channels for each connection
+	 * @param returnListener
+	 *            the listener to be notified of the messages returned by the broker
+	 */
+	public AmqpChannelPool (final ConnectionFactory factory, final int connections, final int publishChannels, final int adminChannels, final ReturnListener returnListener) {
+		super ();
+		this.factory = factory;
+		this.publishChannelsCount = publishChannels;
+		this.adminChannelsCount = adminChannels;
+		this.returnListener = returnListener;
+		this.connections = new AtomicReferenceArray<Connection> (connections);
+		this.publishChannels = new AtomicReferenceArray<Channel> (connections * publishChannels);
+		this.adminChannels = new AtomicReferenceArray<Channel> (connections * adminChannels);
+		this.consumerChannels = new ConcurrentHashMap<String, Channel> ();
+		this.exceptions = FallbackExceptionTracer.defaultInstance;
+	}
+	
+	/**
+	 * Closes all the channels and connections.
+	 * 
+	 * @throws IOException
+	 *             if a connection could not be closed
+	 */
+	public void close ()
+				throws IOException {
+		for (final Channel channel : this.consumerChannels.values ()) {
+			this.close (channel);
+		}
+		this.consumerChannels.clear ();
+		for (int index = 0; index < this.publishChannels.length (); index++) {
+			this.close (this.publishChannels.getAndSet (index, null));
+		}
+		for (int index = 0; index < this.adminChannels.length (); index++) {
+			this.close (this.adminChannels.getAndSet (index, null));
+		}
+		for (int index = 0; index < this.connections.length (); index++) {
+			final Connection connection = this.connections.getAndSet (index, null);
+			if ((connection != null) && connection.isOpen ()) {
+				connection.close ();
+			}
+		}
+	}
+	
+	/**
+	 * Opens (or re-opens) one of the connections. The channels of the previous connection are replaced on their next use.
+	 * 
+	 * @param index
+	 *            the index of the connection
+	 * @param shutdownListener
+	 *            the listener to be notified when the connection is closed
+	 * @return <code>true</code> if the connection was opened
+	 */
+	public boolean connect (final int index, final ShutdownListener shutdownListener) {
+		try {
+			final Connection connection = this.factory.newConnection ();
+			connection.addShutdownListener (shutdownListener);
+			this.connections.set (index, connection);
+			return true;
+		} catch (final IOException e) {
+			this.exceptions.traceIgnoredException (e);
+			this.connections.set (index, null);
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns the shared administrative channel of a client, opening it if needed.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	public Channel getAdminChannel (final String clientId) {
+		return this.getSharedChannel (this.adminChannels, this.adminChannelsCount, clientId);
+	}
+	
+	/**
+	 * Returns the channel of a consumer.
+	 * 
+	 * @param consumer
+	 *            the consumer identifier
+	 * @return the channel, or <code>null</code> if the consumer has no channel
+	 */
+	public Channel getConsumerChannel (final String consumer) {
+		return this.consumerChannels.get (consumer);
+	}
+	
+	/**
+	 * Returns the number of connections.
+	 * 
+	 * @return the number of connections
+	 */
+	public int getConnections () {
+		return this.connections.length ();
+	}
+	
+	/**
+	 * Returns the shared publishing channel of a client, opening it if needed.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	public Channel getPublishChannel (final String clientId) {
+		return this.getSharedChannel (this.publishChannels, this.publishChannelsCount, clientId);
+	}
+	
+	/**
+	 * Returns the channel of a consumer, opening it if the consumer has no channel (or its channel was closed). The channel
+	 * is opened on the connection of the client which owns the consumer, thus the consumer can use the client's exclusive
+	 * queues.
+	 * 
+	 * @param clientId
+	 *            the identifier of the client owning the consumer
+	 * @param consumer
+	 *            the consumer identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	public Channel openConsumerChannel (final String clientId, final String consumer) {
+		Channel channel = this.consumerChannels.get (consumer);
+		if ((channel != null) && channel.isOpen ()) {
+			return channel;
+		}
+		synchronized (this.consumerChannels) {
+			channel = this.consumerChannels.get (consumer);
+			if ((channel == null) || !channel.isOpen ()) {
+				channel = this.openChannel (AmqpChannelPool.hash (clientId) % this.connections.length ());
+				if (channel != null) {
+					this.consumerChannels.put (consumer, channel);
+				} else {
+					this.consumerChannels.remove (consumer);
+				}
+			}
+		}
+		return channel;
+	}
+	
+	/**
+	 * Opens a temporary channel for a client, on the same connection as the client's other channels. The channel must be
+	 * released once the operation finishes.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	public Channel openTemporaryChannel (final String clientId) {
+		return this.openChannel (AmqpChannelPool.hash (clientId) % this.connections.length ());
+	}
+	
+	/**
+	 * Forgets the channel of a consumer, without closing it.
+	 * 
+	 * @param consumer
+	 *            the consumer identifier
+	 * @return the channel, or <code>null</code> if the consumer has no channel
+	 */
+	public Channel releaseConsumerChannel (final String consumer) {
+		return this.consumerChannels.remove (consumer);
+	}
+	
+	/**
+	 * Closes a temporary channel, unless the broker already closed it.
+	 * 
+	 * @param channel
+	 *            the channel, as returned by {@link #openTemporaryChannel(String)}
+	 */
+	public void releaseTemporaryChannel (final Channel channel) {
+		try {
+			this.close (channel);
+		} catch (final IOException e) {
+			this.exceptions.traceIgnoredException (e);
+		}
+	}
+	
+	private void close (final Channel channel)
+				throws IOException {
+		if ((channel != null) && channel.isOpen ()) {
+			try {
+				channel.close ();
+			} catch (final AlreadyClosedException e) {
+				this.exceptions.traceHandledException (e);
+			}
+		}
+	}
+	
+	private Channel getSharedChannel (final AtomicReferenceArray<Channel> channels, final int count, final String clientId) {
+		final int hash = AmqpChannelPool.hash (clientId);
+		final int connection = hash % this.connections.length ();
+		final int index = (connection * count) + ((hash / this.connections.length ()) % count);
+		Channel channel = channels.get (index);
+		if ((channel != null) && channel.isOpen ()) {
+			return channel;
+		}
+		// NOTE: the channels are opened under the lock, thus concurrent callers never open two channels for the same slot
+		synchronized (channels) {
+			channel = channels.get (index);
+			if ((channel == null) || !channel.isOpen ()) {
+				channel = this.openChannel (connection);
+				channels.set (index, channel);
+			}
+		}
+		return channel;
+	}
+	
+	private Channel openChannel (final int index) {
+		final Connection connection = this.connections.get (index);
+		if ((connection == null) || !connection.isOpen ()) {
+			return null;
+		}
+		try {
+			final Channel channel = connection.createChannel ();
+			if (channel != null) {
+				channel.setDefaultConsumer (null);
+				channel.addReturnListener (this.returnListener);
+			}
+			return channel;
+		} catch (final IOException e) {
+			this.exceptions.traceIgnoredException (e);
+			return null;
+		}
+	}
+	
+	private final AtomicReferenceArray<Channel> adminChannels;
+	private final int adminChannelsCount;
+	private final AtomicReferenceArray<Connection> connections;
+	private final ConcurrentHashMap<String, Channel> consumerChannels;
+	private final BaseExceptionTracer exceptions;
+	private final ConnectionFactory factory;
+	private final AtomicReferenceArray<Channel> publishChannels;
+	private final int publishChannelsCount;
+	private final ReturnListener returnListener;
+	
+	private static int hash (final String identifier) {
+		return identifier.hashCode () & Integer.MAX_VALUE;
+	}
+}
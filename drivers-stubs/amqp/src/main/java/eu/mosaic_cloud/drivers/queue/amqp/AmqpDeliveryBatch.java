@@ -0,0 +1,150 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.platform.interop.common.amqp.AmqpInboundMessage;
+
+
+/**
+ * Coalesces the messages delivered to a consumer. The messages are held back for at most a configured time window (or until a
+ * configured number of them is reached), and then handed to the consumer callback together, in the order they were
+ * delivered.
+ * <p>
+ * Note: the messages are collected inside the Connection's thread, thus the consumer callback is called by the driver's
+ * executor.
+ */
+public final class AmqpDeliveryBatch
+{
+	/**
+	 * Creates a new delivery batch.
+	 * 
+	 * @param callback
+	 *            the consumer callback
+	 * @param executor
+	 *            the executor used for calling the consumer callback
+	 * @param scheduler
+	 *            the executor used for flushing the batch once it expires
+	 * @param window
+	 *            the time (in milliseconds) a message is held back at most
+	 * @param limit
+	 *            the number of held back messages which trigger a flush
+	 */
+	public AmqpDeliveryBatch (final IAmqpConsumer callback, final Executor executor, final ScheduledExecutorService scheduler, final long window, final int limit) {
+		super ();
+		this.callback = callback;
+		this.executor = executor;
+		this.scheduler = scheduler;
+		this.window = window;
+		this.limit = limit;
+		this.messages = new ArrayList<AmqpInboundMessage> ();
+		this.scheduled = false;
+		this.sending = new Object ();
+		this.flusher = new Runnable () {
+			@Override
+			public void run () {
+				AmqpDeliveryBatch.this.flush ();
+			}
+		};
+	}
+	
+	/**
+	 * Hands the remaining held back messages to the consumer callback, and only then runs the given completion (e.g. the release
+	 * of the consumer's channel).
+	 * 
+	 * @param completion
+	 *            the task run after the flush, by the same executor
+	 */
+	public void close (final Runnable completion) {
+		this.executor.execute (new Runnable () {
+			@Override
+			public void run () {
+				AmqpDeliveryBatch.this.flush ();
+				completion.run ();
+			}
+		});
+	}
+	
+	/**
+	 * Records a message delivered to the consumer.
+	 * 
+	 * @param message
+	 *            the message and all its properties
+	 */
+	public void delivered (final AmqpInboundMessage message) {
+		final boolean flush;
+		boolean schedule = false;
+		synchronized (this) {
+			this.messages.add (message);
+			flush = this.messages.size () >= this.limit;
+			if (!flush && !this.scheduled) {
+				this.scheduled = true;
+				schedule = true;
+			}
+		}
+		if (flush) {
+			this.executor.execute (this.flusher);
+		} else if (schedule) {
+			// NOTE: the scheduler only signals the expiry, the consumer callback is still called by the executor
+			this.scheduler.schedule (new Runnable () {
+				@Override
+				public void run () {
+					AmqpDeliveryBatch.this.executor.execute (AmqpDeliveryBatch.this.flusher);
+				}
+			}, this.window, TimeUnit.MILLISECONDS);
+		}
+	}
+	
+	/**
+	 * Hands the held back messages to the consumer callback.
+	 */
+	public void flush () {
+		// NOTE: the batches are handed over in the same order they were collected, even if several flushes run concurrently
+		synchronized (this.sending) {
+			final List<AmqpInboundMessage> messages;
+			synchronized (this) {
+				this.scheduled = false;
+				if (this.messages.isEmpty ()) {
+					return;
+				}
+				messages = new ArrayList<AmqpInboundMessage> (this.messages);
+				this.messages.clear ();
+			}
+			this.callback.handleDeliveries (messages);
+		}
+	}
+	
+	private final IAmqpConsumer callback;
+	private final Executor executor;
+	private final Runnable flusher;
+	private final int limit;
+	private final List<AmqpInboundMessage> messages;
+	private boolean scheduled;
+	private final ScheduledExecutorService scheduler;
+	private final Object sending;
+	private final long window;
+}
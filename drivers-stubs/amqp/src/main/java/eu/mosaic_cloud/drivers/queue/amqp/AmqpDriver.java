@@ -22,13 +22,14 @@ package eu.mosaic_cloud.drivers.queue.amqp;
 
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 
 import eu.mosaic_cloud.drivers.AbstractResourceDriver;
 import eu.mosaic_cloud.drivers.ConfigProperties;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
 import eu.mosaic_cloud.drivers.ops.GenericOperation;
-import eu.mosaic_cloud.drivers.ops.GenericResult;
 import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
 import eu.mosaic_cloud.drivers.ops.IResult;
 import eu.mosaic_cloud.platform.implementation.v2.configuration.ConfigUtils;
@@ -44,7 +45,6 @@ import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.AMQP.BasicProperties;
 import com.rabbitmq.client.AlreadyClosedException;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.Consumer;
 import com.rabbitmq.client.Envelope;
@@ -68,16 +68,34 @@ public class AmqpDriver
 	 *            configuration data required for starting the driver
 	 * @param noThreads
 	 *            number of threads to be used for serving requests
+	 * @param maxInFlight
+	 *            maximum number of operations in progress at any time
+	 * @param operationTimeout
+	 *            time (in milliseconds) after which stuck operations are cancelled, or <code>0</code>
 	 */
-	private AmqpDriver (final Configuration configuration, final ThreadingContext threading, final int noThreads) {
-		super (threading, noThreads);
+	private AmqpDriver (final Configuration configuration, final ThreadingContext threading, final int noThreads, final int maxInFlight, final long operationTimeout) {
+		super (threading, noThreads, maxInFlight, operationTimeout);
 		this.configuration = configuration;
 		this.connected = false;
 		this.opFactory = new AmqpOperationFactory (this);
 		this.returnCallback = new ReturnCallback ();
-		this.shutdownListener = new ConnectionShutdownListener ();
 		this.consumers = new ConcurrentHashMap<String, IAmqpConsumer> ();
+		this.acknowledgements = new ConcurrentHashMap<String, AmqpAcknowledgementWindow> ();
 		this.exceptions = FallbackExceptionTracer.defaultInstance;
+		this.prefetch = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_10, Integer.class, AmqpDriver.DEFAULT_PREFETCH);
+		this.acknowledgementWindow = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_11, Long.class, 0L);
+		this.acknowledgementLimit = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_12, Integer.class, AmqpDriver.DEFAULT_ACKNOWLEDGEMENT_LIMIT);
+		this.publisherConfirms = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_13, Boolean.class, Boolean.FALSE);
+		this.publisherConfirmsWindow = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_14, Integer.class, AmqpDriver.DEFAULT_PUBLISHER_CONFIRMS_WINDOW);
+		this.publishers = new ConcurrentHashMap<Channel, AmqpPublisherConfirms> ();
+		this.deliveryBatchWindow = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_18, Long.class, 0L);
+		this.deliveryBatchLimit = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_19, Integer.class, AmqpDriver.DEFAULT_DELIVERY_BATCH_LIMIT);
+		this.deliveryBatches = new ConcurrentHashMap<String, AmqpDeliveryBatch> ();
+		if ((this.acknowledgementWindow > 0) || (this.deliveryBatchWindow > 0)) {
+			this.scheduler = threading.createSingleThreadScheduledExecutor (threading.getThreadConfiguration ().override (this, "batching", true));
+		} else {
+			this.scheduler = null;
+		}
 	}
 	
 	/**
@@ -94,9 +112,14 @@ public class AmqpDriver
 	 *            handlers to be called when the operation finishes
 	 * @return <code>true</code> if messages were acknowledged successfully
 	 */
+	@SuppressWarnings ("unchecked")
 	public IResult<Boolean> basicAck (final String clientId, final long delivery, final boolean multiple, final IOperationCompletionHandler<Boolean> complHandler) {
-		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.ACK, delivery, multiple, clientId);
-		return this.startOperation (operation, complHandler);
+		final Object operation = this.opFactory.getOperation (AmqpOperations.ACK, delivery, multiple, clientId);
+		// NOTE: acknowledgements for consumers with a coalescing window are held back without occupying a thread
+		if (operation instanceof EventDrivenOperation) {
+			return this.startOperation (AmqpOperations.ACK, (EventDrivenOperation<Boolean>) operation, complHandler);
+		}
+		return this.startOperation (AmqpOperations.ACK, (GenericOperation<Boolean>) operation, complHandler);
 	}
 	
 	/**
@@ -110,12 +133,14 @@ public class AmqpDriver
 	 */
 	public IResult<Boolean> basicCancel (final String consumer, final IOperationCompletionHandler<Boolean> complHandler) {
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.CANCEL, consumer);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (AmqpOperations.CANCEL, operation, complHandler);
 	}
 	
 	/**
 	 * Start a message consumer.
 	 * 
+	 * @param clientId
+	 *            client identifier
 	 * @param queue
 	 *            the name of the queue
 	 * @param consumer
@@ -125,16 +150,18 @@ public class AmqpDriver
 	 * @param autoAck
 	 *            <code>true</code> if the server should consider messages acknowledged once delivered; false if the server
 	 *            should expect explicit acknowledgments
-	 * @param extra
+	 * @param prefetch
+	 *            the maximum number of unacknowledged messages delivered to the consumer, or <code>0</code> to use the
+	 *            driver's default
 	 * @param consumeCallback
 	 *            the consumer callback (this will called when the queuing system will send Consume messages)
 	 * @param complHandler
 	 *            handlers to be called when the operation finishes
 	 * @return the client-generated consumer tag to establish context
 	 */
-	public IResult<String> basicConsume (final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final IAmqpConsumer consumeCallback, final IOperationCompletionHandler<String> complHandler) {
-		@SuppressWarnings ("unchecked") final GenericOperation<String> operation = (GenericOperation<String>) this.opFactory.getOperation (AmqpOperations.CONSUME, queue, consumer, exclusive, autoAck, consumeCallback);
-		return this.startOperation (operation, complHandler);
+	public IResult<String> basicConsume (final String clientId, final String queue, final String consumer, final boolean exclusive, final boolean autoAck, final int prefetch, final IAmqpConsumer consumeCallback, final IOperationCompletionHandler<String> complHandler) {
+		@SuppressWarnings ("unchecked") final GenericOperation<String> operation = (GenericOperation<String>) this.opFactory.getOperation (AmqpOperations.CONSUME, queue, consumer, exclusive, autoAck, Integer.valueOf (prefetch), consumeCallback, clientId);
+		return this.startOperation (AmqpOperations.CONSUME, operation, complHandler);
 	}
 	
 	/**
@@ -153,7 +180,7 @@ public class AmqpDriver
 	 */
 	public IResult<Boolean> basicGet (final String clientId, final String queue, final boolean autoAck, final IOperationCompletionHandler<Boolean> complHandler) {
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.GET, queue, autoAck, clientId);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (AmqpOperations.GET, operation, complHandler);
 	}
 	
 	/**
@@ -165,11 +192,16 @@ public class AmqpDriver
 	 *            the message, message properties and destination data
 	 * @param complHandler
 	 *            handlers to be called when the operation finishes
-	 * @return <code>true</code> if message was published successfully
+	 * @return <code>true</code> if message was published successfully (in confirm mode, once the broker confirmed it)
 	 */
+	@SuppressWarnings ("unchecked")
 	public IResult<Boolean> basicPublish (final String clientId, final AmqpOutboundMessage message, final IOperationCompletionHandler<Boolean> complHandler) {
-		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.PUBLISH, message, clientId);
-		return this.startOperation (operation, complHandler);
+		final Object operation = this.opFactory.getOperation (AmqpOperations.PUBLISH, message, clientId);
+		// NOTE: in confirm mode the publish completes when the broker confirms the message, without occupying a thread
+		if (operation instanceof EventDrivenOperation) {
+			return this.startOperation (AmqpOperations.PUBLISH, (EventDrivenOperation<Boolean>) operation, complHandler);
+		}
+		return this.startOperation (AmqpOperations.PUBLISH, (GenericOperation<Boolean>) operation, complHandler);
 	}
 	
 	/**
@@ -189,7 +221,7 @@ public class AmqpDriver
 	 */
 	public IResult<Boolean> bindQueue (final String clientId, final String exchange, final String queue, final String routingKey, final IOperationCompletionHandler<Boolean> complHandler) {
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.BIND_QUEUE, exchange, queue, routingKey, clientId);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (AmqpOperations.BIND_QUEUE, operation, complHandler);
 	}
 	
 	/**
@@ -213,7 +245,7 @@ public class AmqpDriver
 	 */
 	public IResult<Boolean> declareExchange (final String clientId, final String name, final AmqpExchangeType type, final boolean durable, final boolean autoDelete, final boolean passive, final IOperationCompletionHandler<Boolean> complHandler) {
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.DECLARE_EXCHANGE, name, type, durable, autoDelete, passive, clientId);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (AmqpOperations.DECLARE_EXCHANGE, operation, complHandler);
 	}
 	
 	/**
@@ -237,24 +269,24 @@ public class AmqpDriver
 	 */
 	public IResult<Boolean> declareQueue (final String clientId, final String queue, final boolean exclusive, final boolean durable, final boolean autoDelete, final boolean passive, final IOperationCompletionHandler<Boolean> complHandler) {
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) this.opFactory.getOperation (AmqpOperations.DECLARE_QUEUE, queue, exclusive, durable, autoDelete, passive, clientId);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (AmqpOperations.DECLARE_QUEUE, operation, complHandler);
 	}
 	
 	@Override
 	public synchronized void destroy () {
 		super.destroy ();
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow ();
+		}
+		this.deliveryBatches.clear ();
 		// NOTE: close any existing connection
 		if (this.connected) {
 			try {
-				for (final Map.Entry<String, Channel> channel : AmqpDriver.this.channels.entrySet ()) {
-					// FIXME: ??? (I don't remember what the problem was...)
-					try {
-						channel.getValue ().close ();
-					} catch (final AlreadyClosedException e) {
-						this.exceptions.traceHandledException (e);
-					}
+				for (final AmqpAcknowledgementWindow window : this.acknowledgements.values ()) {
+					window.flush ();
 				}
-				this.connection.close ();
+				this.acknowledgements.clear ();
+				this.pool.close ();
 				this.connected = false;
 			} catch (final IOException e) {
 				this.exceptions.traceIgnoredException (e);
@@ -266,12 +298,157 @@ public class AmqpDriver
 		this.logger.trace ("AmqpDriver destroyed.");
 	}
 	
-	protected Channel getChannel (final String clientId) {
-		Channel channel = this.channels.get (clientId);
+	/**
+	 * Returns the shared channel used by a client for fetching and acknowledging messages outside of a consumer.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	protected Channel getAdminChannel (final String clientId) {
+		return this.pool.getAdminChannel (clientId);
+	}
+	
+	/**
+	 * Returns the channel on which a client receives messages, i.e. the channel of the consumer with the same identifier, or
+	 * (if there is no such consumer) the client's administrative channel.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	protected Channel getClientChannel (final String clientId) {
+		final Channel channel = this.pool.getConsumerChannel (clientId);
+		if (channel != null) {
+			return channel;
+		}
+		return this.pool.getAdminChannel (clientId);
+	}
+	
+	/**
+	 * Returns the channel of a consumer.
+	 * 
+	 * @param consumer
+	 *            the consumer identifier
+	 * @return the channel, or <code>null</code> if the consumer has no channel
+	 */
+	protected Channel getConsumerChannel (final String consumer) {
+		return this.pool.getConsumerChannel (consumer);
+	}
+	
+	/**
+	 * Returns the channel used by a client for publishing.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	protected Channel getPublishChannel (final String clientId) {
+		return this.pool.getPublishChannel (clientId);
+	}
+	
+	/**
+	 * Opens a temporary channel for an administrative operation (declarations and bindings) of a client. The channel must be
+	 * released once the operation finishes.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	protected Channel openAdminChannel (final String clientId) {
+		return this.pool.openTemporaryChannel (clientId);
+	}
+	
+	/**
+	 * Returns the channel of a consumer, opening a dedicated one (on the connection of its client) if needed.
+	 * 
+	 * @param clientId
+	 *            the identifier of the client owning the consumer
+	 * @param consumer
+	 *            the consumer identifier
+	 * @return the channel, or <code>null</code> if it could not be opened
+	 */
+	protected Channel openConsumerChannel (final String clientId, final String consumer) {
+		return this.pool.openConsumerChannel (clientId, consumer);
+	}
+	
+	/**
+	 * Releases a channel opened by {@link #openAdminChannel(String)}.
+	 * 
+	 * @param channel
+	 *            the channel
+	 */
+	protected void releaseAdminChannel (final Channel channel) {
+		this.pool.releaseTemporaryChannel (channel);
+	}
+	
+	/**
+	 * Creates the acknowledgement window for a consumer, if acknowledgement coalescing is enabled.
+	 * 
+	 * @param consumer
+	 *            the consumer identifier
+	 * @param channel
+	 *            the channel of the consumer
+	 */
+	void createAcknowledgementWindow (final String consumer, final Channel channel) {
+		if (this.acknowledgementWindow > 0) {
+			this.acknowledgements.put (consumer, new AmqpAcknowledgementWindow (channel, this.scheduler, this.acknowledgementWindow, this.acknowledgementLimit));
+		}
+	}
+	
+	/**
+	 * Creates the delivery batch for a consumer, if delivery batching is enabled.
+	 * 
+	 * @param consumer
+	 *            the consumer identifier
+	 * @param consumeCallback
+	 *            the consumer callback
+	 */
+	void createDeliveryBatch (final String consumer, final IAmqpConsumer consumeCallback) {
+		if (this.deliveryBatchWindow > 0) {
+			this.deliveryBatches.put (consumer, new AmqpDeliveryBatch (consumeCallback, this.executor, this.scheduler, this.deliveryBatchWindow, Math.max (this.deliveryBatchLimit, 1)));
+		}
+	}
+	
+	/**
+	 * Returns the confirm-mode publisher for a client, putting the client's publishing channel in confirm mode if needed.
+	 * 
+	 * @param clientId
+	 *            client identifier
+	 * @return the publisher, or <code>null</code> if the channel could not be opened
+	 */
+	AmqpPublisherConfirms getPublisherConfirms (final String clientId) {
+		final Channel channel = this.pool.getPublishChannel (clientId);
 		if (channel == null) {
-			channel = this.openChannel (clientId);
+			return null;
 		}
-		return channel;
+		AmqpPublisherConfirms publisher = this.publishers.get (channel);
+		if (publisher != null) {
+			return publisher;
+		}
+		// NOTE: the publishing channels are shared, thus the channel must be put in confirm mode only once
+		synchronized (this.publishers) {
+			publisher = this.publishers.get (channel);
+			if (publisher == null) {
+				try {
+					channel.confirmSelect ();
+					publisher = new AmqpPublisherConfirms (channel, this.executor, this.publisherConfirmsWindow);
+					channel.addConfirmListener (publisher);
+					channel.addShutdownListener (publisher);
+					// NOTE: the publishers of the closed (and since replaced) channels are dropped
+					for (final Iterator<AmqpPublisherConfirms> iterator = this.publishers.values ().iterator (); iterator.hasNext ();) {
+						if (iterator.next ().isClosed ()) {
+							iterator.remove ();
+						}
+					}
+					this.publishers.put (channel, publisher);
+				} catch (final IOException e) {
+					this.exceptions.traceIgnoredException (e);
+					publisher = null;
+				}
+			}
+		}
+		return publisher;
 	}
 	
 	private synchronized void connectResource () {
@@ -290,52 +467,125 @@ public class AmqpDriver
 			factory.setUsername (amqpServerUser);
 			factory.setPassword (amqpServerPasswd);
 		}
-		try {
-			this.connection = factory.newConnection ();
-			this.connection.addShutdownListener (this.shutdownListener);
-			this.channels = new ConcurrentHashMap<String, Channel> ();
-			this.connected = true;
-			this.logger.debug ("AMQP driver connected to " + amqpServerHost + ":" + amqpServerPort);
-		} catch (final IOException e) {
-			this.exceptions.traceIgnoredException (e);
-			this.connection = null;
+		final int connections = ConfigUtils.resolveParameter (this.configuration, ConfigProperties.AmqpDriver_15, Integer.class, AmqpDriver.DEFAULT_CONNECTIONS);
+		final int publishChannels = ConfigUtils.resolveParameter (this.configuration, ConfigProperties.AmqpDriver_16, Integer.class, AmqpDriver.DEFAULT_PUBLISH_CHANNELS);
+		final int adminChannels = ConfigUtils.resolveParameter (this.configuration, ConfigProperties.AmqpDriver_17, Integer.class, AmqpDriver.DEFAULT_ADMIN_CHANNELS);
+		this.pool = new AmqpChannelPool (factory, Math.max (connections, 1), Math.max (publishChannels, 1), Math.max (adminChannels, 1), this.returnCallback);
+		this.connected = true;
+		for (int index = 0; this.connected && (index < this.pool.getConnections ()); index++) {
+			this.connected = this.pool.connect (index, new ConnectionShutdownListener (index));
+		}
+		if (this.connected) {
+			this.logger.debug ("AMQP driver connected to " + amqpServerHost + ":" + amqpServerPort + " (with " + this.pool.getConnections () + " connections)");
+		} else {
+			try {
+				this.pool.close ();
+			} catch (final IOException e) {
+				this.exceptions.traceIgnoredException (e);
+			}
 		}
 	}
 	
-	private synchronized Channel openChannel (final String clientId) {
-		Channel channel = null;
-		try {
-			if (this.connected) {
-				channel = this.connection.createChannel ();
-				channel.setDefaultConsumer (null);
-				channel.addReturnListener (this.returnCallback);
-				channel.basicQos (1);
-				this.channels.put (clientId, channel);
+	private void releaseCanceledConsumer (final String consumer, final Runnable notification) {
+		final AmqpDeliveryBatch batch = this.deliveryBatches.remove (consumer);
+		if (batch == null) {
+			this.releaseConsumer (consumer, true);
+			if (notification != null) {
+				this.executor.execute (notification);
 			}
-		} catch (final IOException e) {
-			this.exceptions.traceIgnoredException (e);
+			return;
 		}
-		return channel;
+		// NOTE: the held back deliveries reach the consumer before its channel is released (thus while they can still be
+		//-- acknowledged), and before its cancellation
+		batch.close (new Runnable () {
+			@Override
+			public void run () {
+				AmqpDriver.this.releaseConsumer (consumer, true);
+				if (notification != null) {
+					notification.run ();
+				}
+			}
+		});
 	}
 	
-	@SuppressWarnings ({"unchecked", "rawtypes"})
-	private <T extends Object> IResult<T> startOperation (final GenericOperation<T> operation, final IOperationCompletionHandler complHandler) {
-		final IResult<T> iResult = new GenericResult<T> (operation);
-		operation.setHandler (complHandler);
-		super.addPendingOperation (iResult);
-		super.submitOperation (operation.getOperation ());
-		return iResult;
+	private void releaseConsumer (final String consumer, final boolean closeChannel) {
+		final AmqpAcknowledgementWindow window = this.acknowledgements.remove (consumer);
+		final Channel channel = this.pool.releaseConsumerChannel (consumer);
+		if ((window == null) && (!closeChannel || (channel == null))) {
+			return;
+		}
+		// NOTE: this is called inside the connection's thread, thus the channel must be used from another thread (and the
+		//-- held back acknowledgements must be sent before the channel is closed)
+		final Runnable task = new Runnable () {
+			@Override
+			public void run () {
+				if (window != null) {
+					if (closeChannel) {
+						window.flush ();
+					} else {
+						window.discard ();
+					}
+				}
+				if (closeChannel && (channel != null) && channel.isOpen ()) {
+					try {
+						channel.close ();
+					} catch (final IOException e) {
+						AmqpDriver.this.exceptions.traceIgnoredException (e);
+					} catch (final AlreadyClosedException e) {
+						AmqpDriver.this.exceptions.traceHandledException (e);
+					}
+				}
+			}
+		};
+		this.executor.execute (task);
 	}
 	
 	protected final ConcurrentHashMap<String, IAmqpConsumer> consumers;
-	private ConcurrentHashMap<String, Channel> channels;
+	final ConcurrentHashMap<String, AmqpAcknowledgementWindow> acknowledgements;
+	final int prefetch;
+	final boolean publisherConfirms;
+	private final int acknowledgementLimit;
+	private final long acknowledgementWindow;
 	private final Configuration configuration;
 	private boolean connected;
-	private Connection connection;
+	private final ConcurrentHashMap<String, AmqpDeliveryBatch> deliveryBatches;
+	private final int deliveryBatchLimit;
+	private final long deliveryBatchWindow;
 	private final BaseExceptionTracer exceptions;
 	private final AmqpOperationFactory opFactory;
+	private AmqpChannelPool pool;
+	private final int publisherConfirmsWindow;
+	private final ConcurrentHashMap<Channel, AmqpPublisherConfirms> publishers;
 	private final ReturnCallback returnCallback;
-	private final ShutdownListener shutdownListener;
+	private final ScheduledExecutorService scheduler;
+	/**
+	 * Default number of held back acknowledgements which trigger a flush of a consumer's acknowledgement window.
+	 */
+	public static final int DEFAULT_ACKNOWLEDGEMENT_LIMIT = 64;
+	/**
+	 * Default number of channels (for each connection) shared by the clients for administrative operations.
+	 */
+	public static final int DEFAULT_ADMIN_CHANNELS = 2;
+	/**
+	 * Default number of connections to the broker.
+	 */
+	public static final int DEFAULT_CONNECTIONS = 1;
+	/**
+	 * Default number of held back messages which trigger a flush of a consumer's delivery batch.
+	 */
+	public static final int DEFAULT_DELIVERY_BATCH_LIMIT = 64;
+	/**
+	 * Default maximum number of unacknowledged messages delivered to a consumer.
+	 */
+	public static final int DEFAULT_PREFETCH = 1;
+	/**
+	 * Default maximum number of published messages waiting for the broker's confirmation.
+	 */
+	public static final int DEFAULT_PUBLISHER_CONFIRMS_WINDOW = 1024;
+	/**
+	 * Default number of channels (for each connection) shared by the clients for publishing.
+	 */
+	public static final int DEFAULT_PUBLISH_CHANNELS = 4;
 	
 	/**
 	 * Returns an AMQP driver.
@@ -346,7 +596,9 @@ public class AmqpDriver
 	 */
 	public static AmqpDriver create (final Configuration configuration, final ThreadingContext threading) {
 		final int noThreads = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_0, Integer.class, 1);
-		AmqpDriver driver = new AmqpDriver (configuration, threading, noThreads);
+		final int maxInFlight = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_8, Integer.class, AbstractResourceDriver.DEFAULT_MAX_IN_FLIGHT);
+		final long operationTimeout = ConfigUtils.resolveParameter (configuration, ConfigProperties.AmqpDriver_9, Long.class, 0L);
+		AmqpDriver driver = new AmqpDriver (configuration, threading, noThreads, maxInFlight, operationTimeout);
 		// NOTE: open connection - moved to the stub
 		driver.connectResource ();
 		if (!driver.connected) {
@@ -364,7 +616,8 @@ public class AmqpDriver
 				implements
 					ShutdownListener
 	{
-		public ConnectionShutdownListener () {
+		public ConnectionShutdownListener (final int index) {
+			this.index = index;
 			this.maxReconnectionTries = ConfigUtils.resolveParameter (AmqpDriver.this.configuration, ConfigProperties.AmqpDriver_6, Integer.class, ConnectionShutdownListener.DEFAULT_MAX_RECONNECTION_TRIES);
 			this.minReconnectionTime = ConfigUtils.resolveParameter (AmqpDriver.this.configuration, ConfigProperties.AmqpDriver_7, Long.class, ConnectionShutdownListener.DEFAULT_MIN_RECONNECTION_TIME);
 		}
@@ -372,16 +625,18 @@ public class AmqpDriver
 		@Override
 		public void shutdownCompleted (final ShutdownSignalException arg0) {
 			synchronized (AmqpDriver.this) {
-				if (AmqpDriver.super.isDestroyed ()) {
+				// NOTE: the connections closed by the driver itself are not re-opened
+				if (AmqpDriver.super.isDestroyed () || !AmqpDriver.this.connected) {
 					return;
 				}
-				AmqpDriver.this.logger.trace ("AMQP server closed connection with driver. Trying to reconnect...");
-				AmqpDriver.this.connected = false;
+				AmqpDriver.this.logger.trace ("AMQP server closed connection " + this.index + " with driver. Trying to reconnect...");
+				boolean reconnected = false;
 				int tries = 0;
-				while (!AmqpDriver.this.connected && (tries < this.maxReconnectionTries)) {
+				while (!reconnected && (tries < this.maxReconnectionTries)) {
 					try {
 						AmqpDriver.this.wait (this.minReconnectionTime);
-						AmqpDriver.this.connectResource ();
+						// NOTE: the channels of the closed connection are replaced on their next use
+						reconnected = AmqpDriver.this.pool.connect (this.index, this);
 						tries++;
 					} catch (final InterruptedException e) {
 						AmqpDriver.this.exceptions.traceIgnoredException (e);
@@ -391,12 +646,13 @@ public class AmqpDriver
 						AmqpDriver.this.exceptions.traceDeferredException (e);
 					}
 				}
-				if (!AmqpDriver.this.connected && !AmqpDriver.super.isDestroyed ()) {
+				if (!reconnected && !AmqpDriver.super.isDestroyed ()) {
 					AmqpDriver.this.logger.error ("Could not reconnect to AMQP resource.");
 				}
 			}
 		}
 		
+		private final int index;
 		private final int maxReconnectionTries;
 		private final long minReconnectionTime;
 		private static final int DEFAULT_MAX_RECONNECTION_TRIES = 3;
@@ -424,31 +680,32 @@ public class AmqpDriver
 					throws IOException {
 			AmqpDriver.this.logger.trace ("AmqpDriver - Received CANCEL callback for consumer " + consumer + ".");
 			final IAmqpConsumer cancelCallback = AmqpDriver.this.consumers.remove (consumer);
+			Runnable task = null;
 			if (cancelCallback != null) {
-				final Runnable task = new Runnable () {
+				task = new Runnable () {
 					@Override
 					public void run () {
 						cancelCallback.handleCancel (consumer);
 					}
 				};
-				AmqpDriver.this.executor.execute (task);
 			}
+			AmqpDriver.this.releaseCanceledConsumer (consumer, task);
 		}
 		
 		@Override
 		public void handleCancelOk (final String consumer) {
 			AmqpDriver.this.logger.trace ("AmqpDriver - Received CANCEL Ok callback for consumer " + consumer + ".");
 			final IAmqpConsumer cancelCallback = AmqpDriver.this.consumers.remove (consumer);
-			AmqpDriver.this.channels.remove (consumer);
+			Runnable task = null;
 			if (cancelCallback != null) {
-				final Runnable task = new Runnable () {
+				task = new Runnable () {
 					@Override
 					public void run () {
 						cancelCallback.handleCancelOk (consumer);
 					}
 				};
-				AmqpDriver.this.executor.execute (task);
 			}
+			AmqpDriver.this.releaseCanceledConsumer (consumer, task);
 		}
 		
 		@Override
@@ -472,6 +729,16 @@ public class AmqpDriver
 		public void handleDelivery (final String consumer, final Envelope envelope, final AMQP.BasicProperties properties, final byte[] data) {
 			final IAmqpConsumer consumeCallback = AmqpDriver.this.consumers.get (consumer);
 			if (consumeCallback != null) {
+				final AmqpAcknowledgementWindow window = AmqpDriver.this.acknowledgements.get (consumer);
+				if (window != null) {
+					window.delivered (envelope.getDeliveryTag ());
+				}
+				final AmqpDeliveryBatch batch = AmqpDriver.this.deliveryBatches.get (consumer);
+				if (batch != null) {
+					// NOTE: the batch submits a single task for all the held back messages
+					batch.delivered (new AmqpInboundMessage (consumer, envelope.getDeliveryTag (), envelope.getExchange (), envelope.getRoutingKey (), data, ((properties.getDeliveryMode () != null) && (properties.getDeliveryMode () == 2)) ? true : false, properties.getReplyTo (), properties.getContentEncoding (), properties.getContentType (), properties.getCorrelationId (), null));
+					return;
+				}
 				final Runnable task = new Runnable () {
 					@Override
 					public void run () {
@@ -492,11 +759,16 @@ public class AmqpDriver
 		public void handleShutdownSignal (final String consumer, final ShutdownSignalException signal) {
 			AmqpDriver.this.logger.trace ("AmqpDriver - Received SHUTDOWN callback for consumer " + consumer + ".");
 			final IAmqpConsumer consumeCallback = AmqpDriver.this.consumers.remove (consumer);
-			AmqpDriver.this.channels.remove (consumer);
+			final AmqpDeliveryBatch batch = AmqpDriver.this.deliveryBatches.remove (consumer);
+			AmqpDriver.this.releaseConsumer (consumer, false);
 			if (consumeCallback != null) {
 				final Runnable task = new Runnable () {
 					@Override
 					public void run () {
+						// NOTE: the held back deliveries reach the consumer before its cancellation
+						if (batch != null) {
+							batch.flush ();
+						}
 						consumeCallback.handleShutdown (consumer, signal.getMessage ());
 						AmqpDriver.this.executor.shutdown ();
 					}
@@ -24,9 +24,12 @@ package eu.mosaic_cloud.drivers.queue.amqp;
 import java.io.IOException;
 import java.util.concurrent.Callable;
 
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
 import eu.mosaic_cloud.drivers.ops.GenericOperation;
 import eu.mosaic_cloud.drivers.ops.IOperation;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
 import eu.mosaic_cloud.drivers.ops.IOperationFactory;
+import eu.mosaic_cloud.drivers.ops.IOperationStarter;
 import eu.mosaic_cloud.drivers.ops.IOperationType;
 import eu.mosaic_cloud.platform.interop.common.amqp.AmqpExchangeType;
 import eu.mosaic_cloud.platform.interop.common.amqp.AmqpInboundMessage;
@@ -121,6 +124,17 @@ final class AmqpOperationFactory
 	}
 	
 	private IOperation<?> buildAckOperation (final Object ... parameters) {
+		final AmqpAcknowledgementWindow window = this.amqpDriver.acknowledgements.get (parameters[2]);
+		if (window != null) {
+			return new EventDrivenOperation<Boolean> (new IOperationStarter<Boolean> () {
+				@Override
+				public void start (final IOperationCompletionHandler<Boolean> completion) {
+					final long delivery = (Long) parameters[0];
+					final boolean multiple = (Boolean) parameters[1];
+					window.acknowledge (delivery, multiple, completion);
+				}
+			});
+		}
 		return new GenericOperation<Boolean> (new Callable<Boolean> () {
 			@Override
 			public Boolean call () {
@@ -128,7 +142,7 @@ final class AmqpOperationFactory
 				final long delivery = (Long) parameters[0];
 				final boolean multiple = (Boolean) parameters[1];
 				final String consumer = (String) parameters[2];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (consumer);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.getClientChannel (consumer);
 				if (channel != null) {
 					try {
 						channel.basicAck (delivery, multiple);
@@ -151,14 +165,16 @@ final class AmqpOperationFactory
 				final String queue = (String) parameters[1];
 				final String routingKey = (String) parameters[2];
 				final String clientId = (String) parameters[3];
-				try {
-					final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (clientId);
-					if (channel != null) {
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.openAdminChannel (clientId);
+				if (channel != null) {
+					try {
 						final AMQP.Queue.BindOk outcome = channel.queueBind (queue, exchange, routingKey, null);
 						succeeded = (outcome != null);
+					} catch (final IOException e) {
+						AmqpOperationFactory.this.exceptions.traceIgnoredException (e);
+					} finally {
+						AmqpOperationFactory.this.amqpDriver.releaseAdminChannel (channel);
 					}
-				} catch (final IOException e) {
-					AmqpOperationFactory.this.exceptions.traceIgnoredException (e);
 				}
 				return succeeded;
 			}
@@ -171,7 +187,7 @@ final class AmqpOperationFactory
 			public Boolean call () {
 				boolean succeeded = false;
 				final String consumer = (String) parameters[0];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (consumer);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.getConsumerChannel (consumer);
 				if (channel != null) {
 					try {
 						channel.basicCancel (consumer);
@@ -194,13 +210,18 @@ final class AmqpOperationFactory
 				final String consumer = (String) parameters[1];
 				final boolean exclusive = (Boolean) parameters[2];
 				final boolean autoAck = (Boolean) parameters[3];
-				// FIXME: we should allow explicit setting of QOS
-				final int qos = 1;
-				final IAmqpConsumer consumeCallback = (IAmqpConsumer) parameters[4];
+				final int prefetch = (Integer) parameters[4];
+				final int qos = (prefetch > 0) ? prefetch : AmqpOperationFactory.this.amqpDriver.prefetch;
+				final IAmqpConsumer consumeCallback = (IAmqpConsumer) parameters[5];
+				final String clientId = (String) parameters[6];
 				String consumerTag;
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (consumer);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.openConsumerChannel (clientId, consumer);
 				if (channel != null) {
 					AmqpOperationFactory.this.amqpDriver.consumers.put (consumer, consumeCallback);
+					AmqpOperationFactory.this.amqpDriver.createDeliveryBatch (consumer, consumeCallback);
+					if (!autoAck) {
+						AmqpOperationFactory.this.amqpDriver.createAcknowledgementWindow (consumer, channel);
+					}
 					channel.basicQos (qos);
 					consumerTag = channel.basicConsume (queue, autoAck, consumer, true, exclusive, null, AmqpOperationFactory.this.amqpDriver.new ConsumerCallback ());
 					if (!consumer.equals (consumerTag)) {
@@ -224,15 +245,19 @@ final class AmqpOperationFactory
 				final boolean passive = (Boolean) parameters[4];
 				final AmqpExchangeType eType = (AmqpExchangeType) parameters[1];
 				final String clientId = (String) parameters[5];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (clientId);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.openAdminChannel (clientId);
 				if (channel != null) {
-					AMQP.Exchange.DeclareOk outcome = null;
-					if (passive) {
-						outcome = channel.exchangeDeclarePassive (exchange);
-					} else {
-						outcome = channel.exchangeDeclare (exchange, eType.getAmqpName (), durable, autoDelete, null);
+					try {
+						AMQP.Exchange.DeclareOk outcome = null;
+						if (passive) {
+							outcome = channel.exchangeDeclarePassive (exchange);
+						} else {
+							outcome = channel.exchangeDeclare (exchange, eType.getAmqpName (), durable, autoDelete, null);
+						}
+						succeeded = (outcome != null);
+					} finally {
+						AmqpOperationFactory.this.amqpDriver.releaseAdminChannel (channel);
 					}
-					succeeded = (outcome != null);
 				}
 				return succeeded;
 			}
@@ -251,15 +276,19 @@ final class AmqpOperationFactory
 				final boolean autoDelete = (Boolean) parameters[3];
 				final boolean passive = (Boolean) parameters[4];
 				final String clientId = (String) parameters[5];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (clientId);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.openAdminChannel (clientId);
 				if (channel != null) {
-					AMQP.Queue.DeclareOk outcome = null;
-					if (passive) {
-						outcome = channel.queueDeclarePassive (queue);
-					} else {
-						outcome = channel.queueDeclare (queue, durable, exclusive, autoDelete, null);
+					try {
+						AMQP.Queue.DeclareOk outcome = null;
+						if (passive) {
+							outcome = channel.queueDeclarePassive (queue);
+						} else {
+							outcome = channel.queueDeclare (queue, durable, exclusive, autoDelete, null);
+						}
+						succeeded = (outcome != null);
+					} finally {
+						AmqpOperationFactory.this.amqpDriver.releaseAdminChannel (channel);
 					}
-					succeeded = (outcome != null);
 				}
 				return succeeded;
 			}
@@ -274,7 +303,7 @@ final class AmqpOperationFactory
 				final String queue = (String) parameters[0];
 				final boolean autoAck = (Boolean) parameters[1];
 				final String clientId = (String) parameters[2];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (clientId);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.getClientChannel (clientId);
 				if (channel != null) {
 					GetResponse outcome = null;
 					try {
@@ -294,6 +323,21 @@ final class AmqpOperationFactory
 	}
 	
 	private IOperation<?> buildPublishOperation (final Object ... parameters) {
+		if (this.amqpDriver.publisherConfirms) {
+			return new EventDrivenOperation<Boolean> (new IOperationStarter<Boolean> () {
+				@Override
+				public void start (final IOperationCompletionHandler<Boolean> completion) {
+					final AmqpOutboundMessage message = (AmqpOutboundMessage) parameters[0];
+					final String clientId = (String) parameters[1];
+					final AmqpPublisherConfirms publisher = AmqpOperationFactory.this.amqpDriver.getPublisherConfirms (clientId);
+					if (publisher != null) {
+						publisher.publish (message, completion);
+					} else {
+						completion.onSuccess (Boolean.FALSE);
+					}
+				}
+			});
+		}
 		return new GenericOperation<Boolean> (new Callable<Boolean> () {
 			@Override
 			public Boolean call ()
@@ -301,10 +345,9 @@ final class AmqpOperationFactory
 				boolean succeeded = false;
 				final AmqpOutboundMessage message = (AmqpOutboundMessage) parameters[0];
 				final String clientId = (String) parameters[1];
-				final Channel channel = AmqpOperationFactory.this.amqpDriver.getChannel (clientId);
+				final Channel channel = AmqpOperationFactory.this.amqpDriver.getPublishChannel (clientId);
 				if (channel != null) {
-					final AMQP.BasicProperties properties = new AMQP.BasicProperties (message.getContentType (), message.getContentEncoding (), null, message.isDurable () ? 2 : 1, 0, message.getCorrelation (), message.getCallback (), null, message.getIdentifier (), null, null, null, null, null);
-					channel.basicPublish (message.getExchange (), message.getRoutingKey (), properties, message.getData ());
+					channel.basicPublish (message.getExchange (), message.getRoutingKey (), AmqpOperationFactory.buildProperties (message), message.getData ());
 					succeeded = true;
 				}
 				return succeeded;
@@ -315,4 +358,8 @@ final class AmqpOperationFactory
 	private final AmqpDriver amqpDriver;
 	private final BaseExceptionTracer exceptions;
 	private static final Logger logger = Transcript.create (AmqpOperationFactory.class).adaptAs (Logger.class);
+	
+	static AMQP.BasicProperties buildProperties (final AmqpOutboundMessage message) {
+		return new AMQP.BasicProperties (message.getContentType (), message.getContentEncoding (), null, message.isDurable () ? 2 : 1, 0, message.getCorrelation (), message.getCallback (), null, message.getIdentifier (), null, null, null, null, null);
+	}
 }
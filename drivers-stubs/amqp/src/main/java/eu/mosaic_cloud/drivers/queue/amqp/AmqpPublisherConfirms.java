@@ -0,0 +1,208 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.platform.interop.common.amqp.AmqpOutboundMessage;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+
+
+/**
+ * Publishes messages on a channel in confirm mode. The publishes are pipelined, at most a configured number of them waiting
+ * for the broker's confirmation at any time, and each publish operation completes only once the broker acknowledged (or
+ * rejected) the message.
+ * <p>
+ * Note: the confirmations are received inside the Connection's thread, thus the completion handlers (and the deferred
+ * publishes) are run by the driver's executor.
+ */
+public final class AmqpPublisherConfirms
+			implements
+				ConfirmListener,
+				ShutdownListener
+{
+	/**
+	 * Creates a new publisher, for a channel already put in confirm mode.
+	 * 
+	 * @param channel
+	 *            the channel used for publishing
+	 * @param executor
+	 *            the executor used for completing the operations
+	 * @param window
+	 *            the maximum number of publishes waiting for confirmation
+	 */
+	public AmqpPublisherConfirms (final Channel channel, final Executor executor, final int window) {
+		super ();
+		this.channel = channel;
+		this.executor = executor;
+		this.window = window;
+		this.outstanding = new ConcurrentSkipListMap<Long, IOperationCompletionHandler<Boolean>> ();
+		this.pending = new ConcurrentLinkedQueue<PendingPublish> ();
+		this.inFlight = new AtomicInteger (0);
+		this.publishing = new Object ();
+		this.closed = null;
+	}
+	
+	@Override
+	public void handleAck (final long deliveryTag, final boolean multiple) {
+		this.confirm (deliveryTag, multiple, null);
+	}
+	
+	@Override
+	public void handleNack (final long deliveryTag, final boolean multiple) {
+		this.confirm (deliveryTag, multiple, new IOException ("the broker failed to handle the message"));
+	}
+	
+	@Override
+	public void shutdownCompleted (final ShutdownSignalException cause) {
+		this.closed = cause;
+		// NOTE: the confirmations will never arrive, thus all the outstanding publishes fail (and the deferred ones are failed
+		//-- by the next drain)
+		this.release (this.outstanding, cause);
+	}
+	
+	/**
+	 * Returns <code>true</code> if the channel was closed, and thus this publisher can not be used anymore.
+	 * 
+	 * @return <code>true</code> if the channel was closed
+	 */
+	public boolean isClosed () {
+		return this.closed != null;
+	}
+	
+	/**
+	 * Publishes a message. The publish is deferred while the confirmation window is full.
+	 * 
+	 * @param message
+	 *            the message, message properties and destination data
+	 * @param handler
+	 *            the handler to be called once the broker confirms the message
+	 */
+	public void publish (final AmqpOutboundMessage message, final IOperationCompletionHandler<Boolean> handler) {
+		this.pending.add (new PendingPublish (message, handler));
+		this.drain ();
+	}
+	
+	private void complete (final List<IOperationCompletionHandler<Boolean>> handlers, final Throwable error) {
+		final Runnable task = new Runnable () {
+			@Override
+			public void run () {
+				for (final IOperationCompletionHandler<Boolean> handler : handlers) {
+					if (error == null) {
+						handler.onSuccess (Boolean.TRUE);
+					} else {
+						handler.onFailure (error);
+					}
+				}
+				AmqpPublisherConfirms.this.drain ();
+			}
+		};
+		this.executor.execute (task);
+	}
+	
+	private void confirm (final long deliveryTag, final boolean multiple, final Throwable error) {
+		final Long key = Long.valueOf (deliveryTag);
+		this.release (multiple ? this.outstanding.headMap (key, true) : this.outstanding.subMap (key, true, key, true), error);
+	}
+	
+	private void drain () {
+		// NOTE: the sequence number must be obtained together with the publish, as the broker numbers the messages in the
+		//-- order it receives them on the channel
+		synchronized (this.publishing) {
+			while (this.inFlight.get () < this.window) {
+				final PendingPublish publish = this.pending.poll ();
+				if (publish == null) {
+					break;
+				}
+				if (this.closed != null) {
+					publish.handler.onFailure (this.closed);
+					continue;
+				}
+				final Long sequence = Long.valueOf (this.channel.getNextPublishSeqNo ());
+				this.outstanding.put (sequence, publish.handler);
+				this.inFlight.incrementAndGet ();
+				Throwable failure = null;
+				try {
+					this.channel.basicPublish (publish.message.getExchange (), publish.message.getRoutingKey (), AmqpOperationFactory.buildProperties (publish.message), publish.message.getData ());
+				} catch (final IOException e) {
+					failure = e;
+				} catch (final RuntimeException e) {
+					// NOTE: a channel closed meanwhile is reported through unchecked exceptions (like `AlreadyClosedException`), which
+					//-- must not escape, as the remaining deferred publishes would never be drained
+					failure = e;
+				}
+				// NOTE: only this publish fails; its slot is freed unless the shutdown listener already released it
+				if ((failure != null) && (this.outstanding.remove (sequence) != null)) {
+					this.inFlight.decrementAndGet ();
+					publish.handler.onFailure (failure);
+				}
+			}
+		}
+	}
+	
+	private void release (final ConcurrentNavigableMap<Long, IOperationCompletionHandler<Boolean>> confirmed, final Throwable error) {
+		final List<IOperationCompletionHandler<Boolean>> handlers = new ArrayList<IOperationCompletionHandler<Boolean>> ();
+		for (final Map.Entry<Long, IOperationCompletionHandler<Boolean>> entry : confirmed.entrySet ()) {
+			if (confirmed.remove (entry.getKey ()) != null) {
+				handlers.add (entry.getValue ());
+			}
+		}
+		if (!handlers.isEmpty ()) {
+			this.inFlight.addAndGet (-handlers.size ());
+			this.complete (handlers, error);
+		}
+	}
+	
+	private final Channel channel;
+	private volatile ShutdownSignalException closed;
+	private final Executor executor;
+	private final AtomicInteger inFlight;
+	private final ConcurrentSkipListMap<Long, IOperationCompletionHandler<Boolean>> outstanding;
+	private final ConcurrentLinkedQueue<PendingPublish> pending;
+	private final Object publishing;
+	private final int window;
+	
+	private static final class PendingPublish
+	{
+		PendingPublish (final AmqpOutboundMessage message, final IOperationCompletionHandler<Boolean> handler) {
+			super ();
+			this.message = message;
+			this.handler = handler;
+		}
+		
+		final IOperationCompletionHandler<Boolean> handler;
+		final AmqpOutboundMessage message;
+	}
+}
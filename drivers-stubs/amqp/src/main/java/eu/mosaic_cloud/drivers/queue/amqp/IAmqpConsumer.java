@@ -21,6 +21,8 @@
 package eu.mosaic_cloud.drivers.queue.amqp;
 
 
+import java.util.List;
+
 import eu.mosaic_cloud.platform.interop.common.amqp.AmqpInboundMessage;
 
 
@@ -56,6 +58,14 @@ public interface IAmqpConsumer
 	 */
 	void handleConsumeOk (String consumerTag);
 	
+	/**
+	 * Handles several delivered messages, coalesced by the driver.
+	 * 
+	 * @param messages
+	 *            the messages and all their properties, in the order they were delivered
+	 */
+	void handleDeliveries (List<AmqpInboundMessage> messages);
+	
 	/**
 	 * Handles a delivered message.
 	 * 
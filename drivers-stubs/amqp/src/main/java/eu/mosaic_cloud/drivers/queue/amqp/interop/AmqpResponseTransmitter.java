@@ -21,6 +21,8 @@
 package eu.mosaic_cloud.drivers.queue.amqp.interop;
 
 
+import java.util.List;
+
 import eu.mosaic_cloud.drivers.interop.ResponseTransmitter;
 import eu.mosaic_cloud.drivers.queue.amqp.AmqpOperations;
 import eu.mosaic_cloud.interoperability.core.Message;
@@ -36,6 +38,7 @@ import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.CancelOkMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeOkMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeReply;
+import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ServerCancelRequest;
 import eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ShutdownMessage;
@@ -101,6 +104,29 @@ public class AmqpResponseTransmitter
 		this.logger.trace ("AmqpResponseTransmitter - Sent CONSUME Ok callback for consumer " + consumerTag + ".");
 	}
 	
+	/**
+	 * Delivers several messages to their consumer, as a single batch.
+	 * 
+	 * @param session
+	 *            the session to which the response message belongs
+	 * @param messages
+	 *            the messages contents and properties, in the order they were delivered
+	 */
+	public void sendDeliveries (final Session session, final List<AmqpInboundMessage> messages) {
+		if (messages.size () == 1) {
+			this.sendDelivery (session, messages.get (0));
+			return;
+		}
+		final AmqpPayloads.DeliveryBatchMessage.Builder batchPayload = DeliveryBatchMessage.newBuilder ();
+		for (final AmqpInboundMessage message : messages) {
+			batchPayload.addDeliveries (AmqpResponseTransmitter.buildDelivery (message));
+		}
+		final Message mssg = new Message (AmqpMessage.DELIVERY_BATCH, batchPayload.build ());
+		// NOTE: send response
+		this.publishResponse (session, mssg);
+		this.logger.trace ("AmqpResponseTransmitter - Delivered " + messages.size () + " messages");
+	}
+	
 	/**
 	 * Delivers a message to its consumer
 	 * 
@@ -110,32 +136,7 @@ public class AmqpResponseTransmitter
 	 *            the message contents and properties
 	 */
 	public void sendDelivery (final Session session, final AmqpInboundMessage message) {
-		final AmqpPayloads.DeliveryMessage.Builder deliveryPayload = DeliveryMessage.newBuilder ();
-		final IdlCommon.Envelope.Builder envelopePayload = Envelope.newBuilder ();
-		deliveryPayload.setConsumerTag (message.getConsumer ());
-		deliveryPayload.setDeliveryTag (message.getDelivery ());
-		deliveryPayload.setExchange (message.getExchange ());
-		deliveryPayload.setRoutingKey (message.getRoutingKey ());
-		deliveryPayload.setDeliveryMode (message.isDurable () ? 2 : 1);
-		deliveryPayload.setData (ByteString.copyFrom (message.getData ()));
-		if (message.getContentType () != null) {
-			envelopePayload.setContentType (message.getContentType ());
-		} else {
-			envelopePayload.setContentType ("");
-		}
-		if (message.getContentEncoding () != null) {
-			envelopePayload.setContentEncoding (message.getContentEncoding ());
-		} else {
-			envelopePayload.setContentEncoding ("");
-		}
-		deliveryPayload.setEnvelope (envelopePayload.build ());
-		if (message.getCallback () != null) {
-			deliveryPayload.setReplyTo (message.getCallback ());
-		}
-		if (message.getCorrelation () != null) {
-			deliveryPayload.setCorrelationId (message.getCorrelation ());
-		}
-		final Message mssg = new Message (AmqpMessage.DELIVERY, deliveryPayload.build ());
+		final Message mssg = new Message (AmqpMessage.DELIVERY, AmqpResponseTransmitter.buildDelivery (message));
 		// NOTE: send response
 		this.publishResponse (session, mssg);
 		this.logger.trace ("AmqpResponseTransmitter - Delivered message");
@@ -194,7 +195,13 @@ public class AmqpResponseTransmitter
 			}
 		}
 		// NOTE: send response
-		this.publishResponse (session, message);
+		if (!this.publishResponse (session, message)) {
+			// NOTE: the outcome could not be sent, thus the operation is failed with an overload error (which is still credited)
+			if (!isError) {
+				this.sendResponse (session, token, operation, ResponseTransmitter.overloadedErrorMessage, true);
+			}
+			return;
+		}
 		this.logger.trace ("AmqpResponseTransmitter: sent response for " + operation + " request " + token.getMessageId () + " client id " + token.getClientId ());
 	}
 	
@@ -217,4 +224,33 @@ public class AmqpResponseTransmitter
 		this.publishResponse (session, message);
 		this.logger.trace ("AmqpResponseTransmitter - Sent Shutdown message");
 	}
+	
+	private static DeliveryMessage buildDelivery (final AmqpInboundMessage message) {
+		final AmqpPayloads.DeliveryMessage.Builder deliveryPayload = DeliveryMessage.newBuilder ();
+		final IdlCommon.Envelope.Builder envelopePayload = Envelope.newBuilder ();
+		deliveryPayload.setConsumerTag (message.getConsumer ());
+		deliveryPayload.setDeliveryTag (message.getDelivery ());
+		deliveryPayload.setExchange (message.getExchange ());
+		deliveryPayload.setRoutingKey (message.getRoutingKey ());
+		deliveryPayload.setDeliveryMode (message.isDurable () ? 2 : 1);
+		deliveryPayload.setData (ByteString.copyFrom (message.getData ()));
+		if (message.getContentType () != null) {
+			envelopePayload.setContentType (message.getContentType ());
+		} else {
+			envelopePayload.setContentType ("");
+		}
+		if (message.getContentEncoding () != null) {
+			envelopePayload.setContentEncoding (message.getContentEncoding ());
+		} else {
+			envelopePayload.setContentEncoding ("");
+		}
+		deliveryPayload.setEnvelope (envelopePayload.build ());
+		if (message.getCallback () != null) {
+			deliveryPayload.setReplyTo (message.getCallback ());
+		}
+		if (message.getCorrelation () != null) {
+			deliveryPayload.setCorrelationId (message.getCorrelation ());
+		}
+		return deliveryPayload.build ();
+	}
 }
@@ -22,6 +22,7 @@ package eu.mosaic_cloud.drivers.queue.amqp.interop;
 
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import eu.mosaic_cloud.drivers.IResourceDriver;
@@ -200,11 +201,12 @@ public class AmqpStub
 				consumer = cop.getConsumer ();
 				exclusive = cop.getExclusive ();
 				autoAck = cop.getAutoAck ();
+				final int prefetch = cop.hasPrefetch () ? cop.getPrefetch () : 0;
 				AmqpStub.logger.trace ("AmqpStub - Received request for CONSUME");
 				// NOTE: execute operation
 				final DriverOperationFinishedHandler consHandler = new DriverOperationFinishedHandler (token, session);
 				final IAmqpConsumer consumeCallback = new ConsumerHandler (session);
-				resultString = driver.basicConsume (queue, consumer, exclusive, autoAck, consumeCallback, consHandler);
+				resultString = driver.basicConsume (token.getClientId (), queue, consumer, exclusive, autoAck, prefetch, consumeCallback, consHandler);
 				consHandler.setDetails (AmqpOperations.CONSUME, resultString);
 				break;
 			case GET_REQUEST :
@@ -364,6 +366,12 @@ public class AmqpStub
 			transmitter.sendConsumeOk (this.session, consumerTag);
 		}
 		
+		@Override
+		public void handleDeliveries (final List<AmqpInboundMessage> messages) {
+			final AmqpResponseTransmitter transmitter = AmqpStub.this.getResponseTransmitter (AmqpResponseTransmitter.class);
+			transmitter.sendDeliveries (this.session, messages);
+		}
+		
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -0,0 +1,281 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp.tests;
+
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import eu.mosaic_cloud.drivers.queue.amqp.AmqpChannelPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+
+
+/**
+ * Tests the channel pool against stub connections, checking mainly that an operation failing on its channel (which the
+ * broker closes in such a case) does not affect the other clients.
+ */
+public class AmqpChannelPoolTest
+{
+	@Before
+	public void setUp () {
+		this.connections = new ArrayList<StubConnection> ();
+		this.exclusiveQueues = new HashMap<String, StubConnection> ();
+		this.factory = new ConnectionFactory () {
+			@Override
+			public Connection newConnection () {
+				final StubConnection connection = new StubConnection (AmqpChannelPoolTest.this.exclusiveQueues);
+				AmqpChannelPoolTest.this.connections.add (connection);
+				return connection.proxy;
+			}
+		};
+		// NOTE: a single shared channel of each kind, thus all the clients share them
+		this.pool = new AmqpChannelPool (this.factory, 1, 1, 1, null);
+		this.listener = new ShutdownListener () {
+			@Override
+			public void shutdownCompleted (final ShutdownSignalException cause) {
+				// NOTE: nothing to do here
+			}
+		};
+		Assert.assertTrue (this.pool.connect (0, this.listener));
+	}
+	
+	@After
+	public void tearDown ()
+				throws Exception {
+		this.pool.close ();
+		for (final StubChannel channel : this.connections.get (0).channels) {
+			Assert.assertFalse (channel.open);
+		}
+	}
+	
+	@Test
+	public void testConsumerChannels () {
+		final Channel channel1 = this.pool.openConsumerChannel ("client-1", "consumer-1");
+		final Channel channel2 = this.pool.openConsumerChannel ("client-1", "consumer-2");
+		Assert.assertNotSame (channel1, channel2);
+		Assert.assertSame (channel1, this.pool.getConsumerChannel ("consumer-1"));
+		this.fail (channel1);
+		final Channel channel3 = this.pool.openConsumerChannel ("client-1", "consumer-1");
+		Assert.assertNotSame (channel1, channel3);
+		Assert.assertTrue (channel2.isOpen ());
+		Assert.assertSame (channel3, this.pool.releaseConsumerChannel ("consumer-1"));
+		Assert.assertNull (this.pool.getConsumerChannel ("consumer-1"));
+		this.fail (channel3);
+	}
+	
+	@Test
+	public void testExclusiveQueue ()
+				throws Exception {
+		final int connections = 4;
+		final AmqpChannelPool pool = new AmqpChannelPool (this.factory, connections, 1, 1, null);
+		for (int index = 0; index < connections; index++) {
+			Assert.assertTrue (pool.connect (index, this.listener));
+		}
+		// NOTE: the consumer identifier is chosen so that, were the consumer channel placed by it, it would land on another
+		//-- connection than the client's one
+		final String clientId = "client-1";
+		String consumer = null;
+		for (int index = 0; consumer == null; index++) {
+			final String candidate = "consumer-" + index;
+			if (((candidate.hashCode () & Integer.MAX_VALUE) % connections) != ((clientId.hashCode () & Integer.MAX_VALUE) % connections)) {
+				consumer = candidate;
+			}
+		}
+		final Channel declaring = pool.openTemporaryChannel (clientId);
+		declaring.queueDeclare ("queue", false, true, true, null);
+		pool.releaseTemporaryChannel (declaring);
+		final Channel consuming = pool.openConsumerChannel (clientId, consumer);
+		Assert.assertNotNull (consuming);
+		Assert.assertSame (this.getChannel (declaring).connection, this.getChannel (consuming).connection);
+		Assert.assertEquals (consumer, consuming.basicConsume ("queue", false, consumer, true, true, null, null));
+		pool.close ();
+	}
+	
+	@Test
+	public void testFailedAdminOperation () {
+		final Channel admin = this.pool.getAdminChannel ("client-2");
+		final Channel publish = this.pool.getPublishChannel ("client-2");
+		final Channel temporary = this.pool.openTemporaryChannel ("client-1");
+		// NOTE: the broker closes the channel of a failed declaration (for example a passive one, of a missing queue)
+		this.fail (temporary);
+		this.pool.releaseTemporaryChannel (temporary);
+		Assert.assertEquals (0, this.getChannel (temporary).closes);
+		Assert.assertTrue (admin.isOpen ());
+		Assert.assertTrue (publish.isOpen ());
+		Assert.assertSame (admin, this.pool.getAdminChannel ("client-2"));
+		Assert.assertSame (publish, this.pool.getPublishChannel ("client-2"));
+	}
+	
+	@Test
+	public void testSharedChannelReopened () {
+		final Channel admin = this.pool.getAdminChannel ("client-1");
+		Assert.assertSame (admin, this.pool.getAdminChannel ("client-2"));
+		this.fail (admin);
+		final Channel reopened = this.pool.getAdminChannel ("client-2");
+		Assert.assertNotSame (admin, reopened);
+		Assert.assertTrue (reopened.isOpen ());
+		Assert.assertSame (reopened, this.pool.getAdminChannel ("client-1"));
+	}
+	
+	@Test
+	public void testTemporaryChannels () {
+		final Channel admin = this.pool.getAdminChannel ("client-1");
+		final Channel publish = this.pool.getPublishChannel ("client-1");
+		final Channel temporary1 = this.pool.openTemporaryChannel ("client-1");
+		final Channel temporary2 = this.pool.openTemporaryChannel ("client-1");
+		Assert.assertNotSame (temporary1, temporary2);
+		Assert.assertNotSame (admin, temporary1);
+		Assert.assertNotSame (publish, temporary1);
+		Assert.assertTrue (temporary1.isOpen ());
+		this.pool.releaseTemporaryChannel (temporary1);
+		Assert.assertFalse (temporary1.isOpen ());
+		Assert.assertEquals (1, this.getChannel (temporary1).closes);
+		Assert.assertTrue (temporary2.isOpen ());
+		Assert.assertTrue (admin.isOpen ());
+		this.pool.releaseTemporaryChannel (temporary2);
+		Assert.assertEquals (4, this.connections.get (0).channels.size ());
+	}
+	
+	private void fail (final Channel channel) {
+		this.getChannel (channel).open = false;
+	}
+	
+	private StubChannel getChannel (final Channel channel) {
+		return (StubChannel) Proxy.getInvocationHandler (channel);
+	}
+	
+	private List<StubConnection> connections;
+	private Map<String, StubConnection> exclusiveQueues;
+	private ConnectionFactory factory;
+	private ShutdownListener listener;
+	private AmqpChannelPool pool;
+	
+	private static final class StubChannel
+				implements
+					InvocationHandler
+	{
+		StubChannel (final StubConnection connection) {
+			super ();
+			this.connection = connection;
+			this.open = true;
+			this.closes = 0;
+			this.proxy = (Channel) Proxy.newProxyInstance (Channel.class.getClassLoader (), new Class<?>[] {Channel.class}, this);
+		}
+		
+		@Override
+		public Object invoke (final Object proxy, final Method method, final Object[] arguments)
+					throws IOException {
+			final String name = method.getName ();
+			if ("isOpen".equals (name)) {
+				return Boolean.valueOf (this.open);
+			}
+			if ("queueDeclare".equals (name) && (arguments.length == 5)) {
+				if (((Boolean) arguments[2]).booleanValue ()) {
+					this.connection.exclusiveQueues.put ((String) arguments[0], this.connection);
+				}
+				return null;
+			}
+			if ("basicConsume".equals (name) && (arguments.length == 7)) {
+				// NOTE: like the broker, an exclusive queue can be consumed only on the connection which declared it
+				final StubConnection owner = this.connection.exclusiveQueues.get (arguments[0]);
+				if ((owner != null) && (owner != this.connection)) {
+					throw new IOException ("RESOURCE_LOCKED");
+				}
+				return arguments[2];
+			}
+			if ("close".equals (name) || "abort".equals (name)) {
+				this.open = false;
+				this.closes++;
+				return null;
+			}
+			if ("setDefaultConsumer".equals (name) || "addReturnListener".equals (name)) {
+				return null;
+			}
+			if ("hashCode".equals (name)) {
+				return Integer.valueOf (System.identityHashCode (proxy));
+			}
+			if ("equals".equals (name)) {
+				return Boolean.valueOf (proxy == arguments[0]);
+			}
+			throw new UnsupportedOperationException (name);
+		}
+		
+		int closes;
+		final StubConnection connection;
+		boolean open;
+		final Channel proxy;
+	}
+	
+	private static final class StubConnection
+				implements
+					InvocationHandler
+	{
+		StubConnection (final Map<String, StubConnection> exclusiveQueues) {
+			super ();
+			this.exclusiveQueues = exclusiveQueues;
+			this.channels = new ArrayList<StubChannel> ();
+			this.open = true;
+			this.proxy = (Connection) Proxy.newProxyInstance (Connection.class.getClassLoader (), new Class<?>[] {Connection.class}, this);
+		}
+		
+		@Override
+		public Object invoke (final Object proxy, final Method method, final Object[] arguments) {
+			final String name = method.getName ();
+			if ("isOpen".equals (name)) {
+				return Boolean.valueOf (this.open);
+			}
+			if ("createChannel".equals (name)) {
+				final StubChannel channel = new StubChannel (this);
+				this.channels.add (channel);
+				return channel.proxy;
+			}
+			if ("close".equals (name)) {
+				this.open = false;
+				return null;
+			}
+			if ("addShutdownListener".equals (name)) {
+				return null;
+			}
+			throw new UnsupportedOperationException (name);
+		}
+		
+		final List<StubChannel> channels;
+		final Map<String, StubConnection> exclusiveQueues;
+		boolean open;
+		final Connection proxy;
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp.tests;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.drivers.queue.amqp.AmqpDeliveryBatch;
+import eu.mosaic_cloud.drivers.queue.amqp.IAmqpConsumer;
+import eu.mosaic_cloud.platform.interop.common.amqp.AmqpInboundMessage;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests the delivery batch with a manual executor and scheduler, which run the submitted tasks only when the test asks for it.
+ */
+public class AmqpDeliveryBatchTest
+{
+	@Before
+	public void setUp () {
+		this.batches = Collections.synchronizedList (new ArrayList<List<Long>> ());
+		this.tasks = new LinkedList<Runnable> ();
+		this.scheduler = new ManualScheduler ();
+		this.consumer = new IAmqpConsumer () {
+			@Override
+			public void handleCancel (final String consumerTag) {
+				throw new UnsupportedOperationException ();
+			}
+			
+			@Override
+			public void handleCancelOk (final String consumerTag) {
+				throw new UnsupportedOperationException ();
+			}
+			
+			@Override
+			public void handleConsumeOk (final String consumerTag) {
+				throw new UnsupportedOperationException ();
+			}
+			
+			@Override
+			public void handleDeliveries (final List<AmqpInboundMessage> messages) {
+				final List<Long> batch = new ArrayList<Long> ();
+				for (final AmqpInboundMessage message : messages) {
+					batch.add (Long.valueOf (message.getDelivery ()));
+				}
+				AmqpDeliveryBatchTest.this.batches.add (batch);
+				AmqpDeliveryBatchTest.this.handled ();
+			}
+			
+			@Override
+			public void handleDelivery (final AmqpInboundMessage message) {
+				throw new UnsupportedOperationException ();
+			}
+			
+			@Override
+			public void handleShutdown (final String consumerTag, final String signalMessage) {
+				throw new UnsupportedOperationException ();
+			}
+		};
+	}
+	
+	@After
+	public void tearDown () {
+		this.scheduler.shutdownNow ();
+	}
+	
+	@Test
+	public void testCloseNonEmpty () {
+		final AmqpDeliveryBatch batch = this.createBatch (10);
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (1));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (2));
+		final List<List<Long>> released = new ArrayList<List<Long>> ();
+		batch.close (new Runnable () {
+			@Override
+			public void run () {
+				released.addAll (AmqpDeliveryBatchTest.this.batches);
+			}
+		});
+		// NOTE: a canceled consumer is released by the executor, and only after its held back deliveries are handed over
+		Assert.assertTrue (this.batches.isEmpty ());
+		Assert.assertEquals (1, this.tasks.size ());
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList (Arrays.asList (1L, 2L)), released);
+		Assert.assertEquals (released, this.batches);
+		this.scheduler.runScheduled ();
+		this.runTasks ();
+		Assert.assertEquals (1, this.batches.size ());
+	}
+	
+	@Test
+	public void testConcurrentFlushes ()
+				throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool (4);
+		try {
+			final AmqpDeliveryBatch batch = new AmqpDeliveryBatch (this.consumer, executor, this.scheduler, AmqpDeliveryBatchTest.WINDOW, 7);
+			for (long delivery = 1; delivery <= 1000; delivery++) {
+				batch.delivered (AmqpDeliveryBatchTest.createMessage (delivery));
+			}
+			executor.shutdown ();
+			Assert.assertTrue (executor.awaitTermination (AmqpDeliveryBatchTest.TIMEOUT, TimeUnit.MILLISECONDS));
+			batch.flush ();
+		} finally {
+			executor.shutdownNow ();
+		}
+		// NOTE: the batches are handed over in the order they were collected, whichever thread runs the flush
+		final List<Long> deliveries = new ArrayList<Long> ();
+		for (final List<Long> messages : this.batches) {
+			deliveries.addAll (messages);
+		}
+		Assert.assertEquals (1000, deliveries.size ());
+		for (int index = 0; index < deliveries.size (); index++) {
+			Assert.assertEquals (index + 1, deliveries.get (index).longValue ());
+		}
+	}
+	
+	@Test
+	public void testFlushOrdering ()
+				throws Exception {
+		final AmqpDeliveryBatch batch = this.createBatch (10);
+		this.blocked = new CountDownLatch (1);
+		this.released = new CountDownLatch (1);
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (1));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (2));
+		final Thread first = AmqpDeliveryBatchTest.startFlush (batch);
+		Assert.assertTrue (this.blocked.await (AmqpDeliveryBatchTest.TIMEOUT, TimeUnit.MILLISECONDS));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (3));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (4));
+		final Thread second = AmqpDeliveryBatchTest.startFlush (batch);
+		// NOTE: the second flush waits for the first one to hand over its batch
+		final long deadline = System.currentTimeMillis () + AmqpDeliveryBatchTest.TIMEOUT;
+		while ((second.getState () != Thread.State.BLOCKED) && (System.currentTimeMillis () < deadline)) {
+			Thread.sleep (1);
+		}
+		Assert.assertEquals (Thread.State.BLOCKED, second.getState ());
+		Assert.assertEquals (1, this.batches.size ());
+		this.released.countDown ();
+		first.join (AmqpDeliveryBatchTest.TIMEOUT);
+		second.join (AmqpDeliveryBatchTest.TIMEOUT);
+		Assert.assertEquals (Arrays.asList (Arrays.asList (1L, 2L), Arrays.asList (3L, 4L)), this.batches);
+	}
+	
+	@Test
+	public void testSizeTrigger () {
+		final AmqpDeliveryBatch batch = this.createBatch (3);
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (1));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (2));
+		Assert.assertTrue (this.tasks.isEmpty ());
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (3));
+		// NOTE: the consumer callback is never called from the delivering thread
+		Assert.assertEquals (1, this.tasks.size ());
+		Assert.assertTrue (this.batches.isEmpty ());
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList (Arrays.asList (1L, 2L, 3L)), this.batches);
+		// NOTE: the window started by the first message finds nothing left to flush
+		this.scheduler.runScheduled ();
+		this.runTasks ();
+		Assert.assertEquals (1, this.batches.size ());
+	}
+	
+	@Test
+	public void testWindowTrigger () {
+		final AmqpDeliveryBatch batch = this.createBatch (10);
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (1));
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (2));
+		Assert.assertEquals (1, this.scheduler.scheduled.size ());
+		Assert.assertEquals (AmqpDeliveryBatchTest.WINDOW, this.scheduler.delays.get (0).longValue ());
+		this.scheduler.runScheduled ();
+		// NOTE: the scheduler only signals the expiry, the consumer callback is still called by the executor
+		Assert.assertTrue (this.batches.isEmpty ());
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList (Arrays.asList (1L, 2L)), this.batches);
+		batch.delivered (AmqpDeliveryBatchTest.createMessage (3));
+		Assert.assertEquals (1, this.scheduler.scheduled.size ());
+		this.scheduler.runScheduled ();
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList (Arrays.asList (1L, 2L), Arrays.asList (3L)), this.batches);
+	}
+	
+	private AmqpDeliveryBatch createBatch (final int limit) {
+		return new AmqpDeliveryBatch (this.consumer, new Executor () {
+			@Override
+			public void execute (final Runnable task) {
+				AmqpDeliveryBatchTest.this.tasks.add (task);
+			}
+		}, this.scheduler, AmqpDeliveryBatchTest.WINDOW, limit);
+	}
+	
+	private void handled () {
+		if ((this.blocked != null) && (this.blocked.getCount () > 0)) {
+			this.blocked.countDown ();
+			try {
+				Assert.assertTrue (this.released.await (AmqpDeliveryBatchTest.TIMEOUT, TimeUnit.MILLISECONDS));
+			} catch (final InterruptedException e) {
+				Thread.currentThread ().interrupt ();
+			}
+		}
+	}
+	
+	private void runTasks () {
+		while (!this.tasks.isEmpty ()) {
+			this.tasks.poll ().run ();
+		}
+	}
+	
+	private List<List<Long>> batches;
+	private volatile CountDownLatch blocked;
+	private IAmqpConsumer consumer;
+	private volatile CountDownLatch released;
+	private ManualScheduler scheduler;
+	private Queue<Runnable> tasks;
+	private static final long TIMEOUT = 1000;
+	private static final long WINDOW = 1000;
+	
+	private static AmqpInboundMessage createMessage (final long delivery) {
+		return new AmqpInboundMessage ("consumer", delivery, "exchange", "routing-key", new byte[0], false, null, "identity", "text/plain", null, null);
+	}
+	
+	private static Thread startFlush (final AmqpDeliveryBatch batch) {
+		final Thread thread = new Thread () {
+			@Override
+			public void run () {
+				batch.flush ();
+			}
+		};
+		thread.start ();
+		return thread;
+	}
+	
+	private static final class ManualScheduler
+				extends ScheduledThreadPoolExecutor
+	{
+		ManualScheduler () {
+			super (1);
+			this.scheduled = new ArrayList<Runnable> ();
+			this.delays = new ArrayList<Long> ();
+		}
+		
+		@Override
+		public synchronized ScheduledFuture<?> schedule (final Runnable task, final long delay, final TimeUnit unit) {
+			this.scheduled.add (task);
+			this.delays.add (Long.valueOf (unit.toMillis (delay)));
+			return null;
+		}
+		
+		synchronized void runScheduled () {
+			final List<Runnable> tasks = new ArrayList<Runnable> (this.scheduled);
+			this.scheduled.clear ();
+			this.delays.clear ();
+			for (final Runnable task : tasks) {
+				task.run ();
+			}
+		}
+		
+		final List<Long> delays;
+		final List<Runnable> scheduled;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-amqp
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.queue.amqp.tests;
+
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.drivers.queue.amqp.AmqpPublisherConfirms;
+import eu.mosaic_cloud.platform.interop.common.amqp.AmqpOutboundMessage;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+
+
+/**
+ * Tests the publisher confirms against a stub channel, which only numbers and records the published messages, while the
+ * confirmations are delivered by the test itself.
+ */
+public class AmqpPublisherConfirmsTest
+{
+	@Before
+	public void setUp () {
+		this.published = new ArrayList<String> ();
+		this.outcomes = new ConcurrentHashMap<String, Object> ();
+		this.tasks = new LinkedList<Runnable> ();
+		this.sequence = 1;
+		final Channel channel = (Channel) Proxy.newProxyInstance (Channel.class.getClassLoader (), new Class<?>[] {Channel.class}, new InvocationHandler () {
+			@Override
+			public Object invoke (final Object proxy, final Method method, final Object[] arguments)
+						throws IOException {
+				return AmqpPublisherConfirmsTest.this.invoke (method, arguments);
+			}
+		});
+		final Executor executor = new Executor () {
+			@Override
+			public void execute (final Runnable task) {
+				AmqpPublisherConfirmsTest.this.tasks.add (task);
+			}
+		};
+		this.publisher = new AmqpPublisherConfirms (channel, executor, AmqpPublisherConfirmsTest.WINDOW);
+	}
+	
+	@Test
+	public void testAckMultiple () {
+		this.publish ("a", "b", "c");
+		this.publisher.handleAck (2, true);
+		this.runTasks ();
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("a"));
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("b"));
+		Assert.assertNull (this.outcomes.get ("c"));
+		this.publisher.handleAck (3, false);
+		this.runTasks ();
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("c"));
+	}
+	
+	@Test
+	public void testNack () {
+		this.publish ("a", "b", "c");
+		this.publisher.handleNack (2, false);
+		this.runTasks ();
+		Assert.assertNull (this.outcomes.get ("a"));
+		Assert.assertTrue (this.outcomes.get ("b") instanceof IOException);
+		Assert.assertNull (this.outcomes.get ("c"));
+		// NOTE: a `multiple` rejection covers only the messages still waiting for confirmation
+		this.publisher.handleNack (3, true);
+		this.runTasks ();
+		Assert.assertTrue (this.outcomes.get ("a") instanceof IOException);
+		Assert.assertTrue (this.outcomes.get ("c") instanceof IOException);
+		Assert.assertEquals (3, this.outcomes.size ());
+	}
+	
+	@Test
+	public void testPublishFailure () {
+		this.publish ("a", AmqpPublisherConfirmsTest.FAILING_KEY, "b");
+		Assert.assertTrue (this.outcomes.get (AmqpPublisherConfirmsTest.FAILING_KEY) instanceof IOException);
+		// NOTE: the failed publish does not hold a slot of the window
+		this.publish ("c");
+		Assert.assertEquals (Arrays.asList ("a", "b", "c"), this.published);
+	}
+	
+	@Test
+	public void testPublishClosed () {
+		this.publish ("a", AmqpPublisherConfirmsTest.CLOSED_KEY, "b");
+		Assert.assertTrue (this.outcomes.get (AmqpPublisherConfirmsTest.CLOSED_KEY) instanceof AlreadyClosedException);
+		// NOTE: only the publish which hit the closed channel fails, and it does not hold a slot of the window
+		Assert.assertEquals (1, this.outcomes.size ());
+		this.publish ("c");
+		Assert.assertEquals (Arrays.asList ("a", "b", "c"), this.published);
+		this.publisher.handleAck (3, true);
+		this.runTasks ();
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("a"));
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("b"));
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("c"));
+	}
+	
+	@Test
+	public void testShutdown () {
+		this.publish ("a", "b", "c", "d", "e");
+		this.publisher.handleAck (1, false);
+		final ShutdownSignalException cause = new ShutdownSignalException (false, false, null, null);
+		this.publisher.shutdownCompleted (cause);
+		Assert.assertTrue (this.publisher.isClosed ());
+		this.runTasks ();
+		Assert.assertEquals (Boolean.TRUE, this.outcomes.get ("a"));
+		// NOTE: both the outstanding and the deferred publishes fail, and none of the deferred ones reaches the channel
+		for (final String message : Arrays.asList ("b", "c", "d", "e")) {
+			Assert.assertSame (cause, this.outcomes.get (message));
+		}
+		Assert.assertEquals (Arrays.asList ("a", "b", "c"), this.published);
+		this.publish ("f");
+		Assert.assertSame (cause, this.outcomes.get ("f"));
+		Assert.assertEquals (3, this.published.size ());
+	}
+	
+	@Test
+	public void testWindow () {
+		this.publish ("a", "b", "c", "d", "e");
+		Assert.assertEquals (Arrays.asList ("a", "b", "c"), this.published);
+		this.publisher.handleAck (1, false);
+		Assert.assertEquals (3, this.published.size ());
+		// NOTE: the deferred publishes are resumed only by the executor, never from the connection's thread
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList ("a", "b", "c", "d"), this.published);
+		this.publisher.handleAck (3, true);
+		this.runTasks ();
+		Assert.assertEquals (Arrays.asList ("a", "b", "c", "d", "e"), this.published);
+		Assert.assertEquals (3, this.outcomes.size ());
+		this.publisher.handleAck (5, true);
+		this.runTasks ();
+		Assert.assertEquals (5, this.outcomes.size ());
+	}
+	
+	private Object invoke (final Method method, final Object[] arguments)
+				throws IOException {
+		final String name = method.getName ();
+		if ("getNextPublishSeqNo".equals (name)) {
+			return Long.valueOf (this.sequence);
+		}
+		if ("basicPublish".equals (name) && (arguments.length == 4)) {
+			final String routingKey = (String) arguments[1];
+			if (AmqpPublisherConfirmsTest.FAILING_KEY.equals (routingKey)) {
+				throw new IOException ();
+			}
+			if (AmqpPublisherConfirmsTest.CLOSED_KEY.equals (routingKey)) {
+				throw new AlreadyClosedException ("channel is already closed", null);
+			}
+			this.sequence++;
+			this.published.add (routingKey);
+			return null;
+		}
+		throw new UnsupportedOperationException (name);
+	}
+	
+	private void publish (final String ... messages) {
+		for (final String message : messages) {
+			this.publisher.publish (new AmqpOutboundMessage ("exchange", message, new byte[0], "identity", "text/plain"), new IOperationCompletionHandler<Boolean> () {
+				@Override
+				public void onFailure (final Throwable error) {
+					AmqpPublisherConfirmsTest.this.outcomes.put (message, error);
+				}
+				
+				@Override
+				public void onSuccess (final Boolean result) {
+					AmqpPublisherConfirmsTest.this.outcomes.put (message, result);
+				}
+			});
+		}
+	}
+	
+	private void runTasks () {
+		while (!this.tasks.isEmpty ()) {
+			this.tasks.poll ().run ();
+		}
+	}
+	
+	private Map<String, Object> outcomes;
+	private List<String> published;
+	private AmqpPublisherConfirms publisher;
+	private long sequence;
+	private Queue<Runnable> tasks;
+	private static final String CLOSED_KEY = "key-closed";
+	private static final String FAILING_KEY = "key-failing";
+	private static final int WINDOW = 3;
+}
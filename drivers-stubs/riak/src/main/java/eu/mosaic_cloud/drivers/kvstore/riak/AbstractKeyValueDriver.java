@@ -27,8 +27,9 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import eu.mosaic_cloud.drivers.AbstractResourceDriver;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
 import eu.mosaic_cloud.drivers.ops.GenericOperation;
-import eu.mosaic_cloud.drivers.ops.GenericResult;
+import eu.mosaic_cloud.drivers.ops.IOperation;
 import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
 import eu.mosaic_cloud.drivers.ops.IOperationFactory;
 import eu.mosaic_cloud.drivers.ops.IResult;
@@ -50,7 +51,15 @@ public abstract class AbstractKeyValueDriver
 			extends AbstractResourceDriver
 {
 	protected AbstractKeyValueDriver (final ThreadingContext threading, final int noThreads) {
-		super (threading, noThreads);
+		this (threading, noThreads, AbstractResourceDriver.DEFAULT_MAX_IN_FLIGHT);
+	}
+	
+	protected AbstractKeyValueDriver (final ThreadingContext threading, final int noThreads, final int maxInFlight) {
+		this (threading, noThreads, maxInFlight, 0);
+	}
+	
+	protected AbstractKeyValueDriver (final ThreadingContext threading, final int noThreads, final int maxInFlight, final long operationTimeout) {
+		super (threading, noThreads, maxInFlight, operationTimeout);
 		this.bucketFactories = new HashMap<String, BucketData> ();
 		this.clientBucketMap = new HashMap<String, BucketData> ();
 		this.exceptions = FallbackExceptionTracer.defaultInstance;
@@ -66,28 +75,46 @@ public abstract class AbstractKeyValueDriver
 		this.bucketFactories.clear ();
 	}
 	
+	public IResult<List<String>> invokeDeleteBulkOperation (final String clientId, final List<String> keys, final IOperationCompletionHandler<List<String>> complHandler) {
+		final IOperationFactory opFactory = this.getOperationFactory (clientId);
+		@SuppressWarnings ("unchecked") final IOperation<List<String>> operation = (IOperation<List<String>>) opFactory.getOperation (KeyValueOperations.DELETE_BULK, keys);
+		return this.startBulkOperation (KeyValueOperations.DELETE_BULK, operation, complHandler);
+	}
+	
 	public IResult<Boolean> invokeDeleteOperation (final String clientId, final String key, final IOperationCompletionHandler<Boolean> complHandler) {
 		final IOperationFactory opFactory = this.getOperationFactory (clientId);
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) opFactory.getOperation (KeyValueOperations.DELETE, key);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (KeyValueOperations.DELETE, operation, complHandler);
+	}
+	
+	public IResult<Map<String, KeyValueMessage>> invokeGetBulkOperation (final String clientId, final List<String> keys, final EncodingMetadata expectedEncoding, final IOperationCompletionHandler<Map<String, KeyValueMessage>> complHandler) {
+		final IOperationFactory opFactory = this.getOperationFactory (clientId);
+		@SuppressWarnings ("unchecked") final IOperation<Map<String, KeyValueMessage>> operation = (IOperation<Map<String, KeyValueMessage>>) opFactory.getOperation (KeyValueOperations.GET_BULK, keys, expectedEncoding);
+		return this.startBulkOperation (KeyValueOperations.GET_BULK, operation, complHandler);
 	}
 	
 	public IResult<KeyValueMessage> invokeGetOperation (final String clientId, final String key, final EncodingMetadata expectedEncoding, final IOperationCompletionHandler<KeyValueMessage> complHandler) {
 		final IOperationFactory opFactory = this.getOperationFactory (clientId);
 		@SuppressWarnings ("unchecked") final GenericOperation<KeyValueMessage> operation = (GenericOperation<KeyValueMessage>) opFactory.getOperation (KeyValueOperations.GET, key, expectedEncoding);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (KeyValueOperations.GET, operation, complHandler);
 	}
 	
 	public IResult<List<String>> invokeListOperation (final String clientId, final IOperationCompletionHandler<List<String>> complHandler) {
 		final IOperationFactory opFactory = this.getOperationFactory (clientId);
 		@SuppressWarnings ("unchecked") final GenericOperation<List<String>> operation = (GenericOperation<List<String>>) opFactory.getOperation (KeyValueOperations.LIST);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (KeyValueOperations.LIST, operation, complHandler);
+	}
+	
+	public IResult<List<String>> invokeSetBulkOperation (final String clientId, final List<KeyValueMessage> data, final IOperationCompletionHandler<List<String>> complHandler) {
+		final IOperationFactory opFactory = this.getOperationFactory (clientId);
+		@SuppressWarnings ("unchecked") final IOperation<List<String>> operation = (IOperation<List<String>>) opFactory.getOperation (KeyValueOperations.SET_BULK, data);
+		return this.startBulkOperation (KeyValueOperations.SET_BULK, operation, complHandler);
 	}
 	
 	public IResult<Boolean> invokeSetOperation (final String clientId, final KeyValueMessage data, final IOperationCompletionHandler<Boolean> complHandler) {
 		final IOperationFactory opFactory = this.getOperationFactory (clientId);
 		@SuppressWarnings ("unchecked") final GenericOperation<Boolean> operation = (GenericOperation<Boolean>) opFactory.getOperation (KeyValueOperations.SET, data);
-		return this.startOperation (operation, complHandler);
+		return this.startOperation (KeyValueOperations.SET, operation, complHandler);
 	}
 	
 	/**
@@ -165,13 +192,23 @@ public abstract class AbstractKeyValueDriver
 		return factory;
 	}
 	
-	@SuppressWarnings ({"rawtypes", "unchecked"})
-	private <T extends Object> IResult<T> startOperation (final GenericOperation<T> operation, final IOperationCompletionHandler complHandler) {
-		final IResult<T> iResult = new GenericResult<T> (operation);
-		operation.setHandler (complHandler);
-		this.addPendingOperation (iResult);
-		this.submitOperation (operation.getOperation ());
-		return iResult;
+	/**
+	 * Starts a bulk operation, which operation factories may implement either as an event-driven or as a thread-based
+	 * operation.
+	 * 
+	 * @param type
+	 *            the type of the operation
+	 * @param operation
+	 *            the operation
+	 * @param complHandler
+	 *            the handler to be called when the operation finishes
+	 * @return the handle for the result of the operation
+	 */
+	private <T extends Object> IResult<T> startBulkOperation (final KeyValueOperations type, final IOperation<T> operation, final IOperationCompletionHandler<T> complHandler) {
+		if (operation instanceof EventDrivenOperation) {
+			return this.startOperation (type, (EventDrivenOperation<T>) operation, complHandler);
+		}
+		return this.startOperation (type, (GenericOperation<T>) operation, complHandler);
 	}
 	
 	protected final BaseExceptionTracer exceptions;
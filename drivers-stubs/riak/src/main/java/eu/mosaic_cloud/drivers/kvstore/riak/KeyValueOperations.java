@@ -37,10 +37,12 @@ public enum KeyValueOperations
 	APPEND,
 	CAS,
 	DELETE,
+	DELETE_BULK,
 	GET,
 	GET_BULK,
 	LIST,
 	PREPEND,
 	REPLACE,
-	SET;
+	SET,
+	SET_BULK;
 }
@@ -23,6 +23,7 @@ package eu.mosaic_cloud.drivers.kvstore.riak;
 
 import java.io.IOException;
 
+import eu.mosaic_cloud.drivers.AbstractResourceDriver;
 import eu.mosaic_cloud.drivers.ConfigProperties;
 import eu.mosaic_cloud.drivers.exceptions.ConnectionException;
 import eu.mosaic_cloud.drivers.ops.IOperationFactory;
@@ -47,6 +48,10 @@ public final class RiakDriver
 	 * 
 	 * @param noThreads
 	 *            number of threads to be used for serving requests
+	 * @param maxInFlight
+	 *            maximum number of operations in progress at any time
+	 * @param operationTimeout
+	 *            time (in milliseconds) after which stuck operations are cancelled, or <code>0</code>
 	 * @param riakHost
 	 *            the hostname of the Riak server
 	 * @param riakPort
@@ -54,8 +59,8 @@ public final class RiakDriver
 	 * @param pb
 	 *            whethet the driver uses protocol buffers
 	 */
-	private RiakDriver (final ThreadingContext threading, final int noThreads, final String riakHost, final int riakPort, final boolean pb) {
-		super (threading, noThreads);
+	private RiakDriver (final ThreadingContext threading, final int noThreads, final int maxInFlight, final long operationTimeout, final String riakHost, final int riakPort, final boolean pb) {
+		super (threading, noThreads, maxInFlight, operationTimeout);
 		this.riakHost = riakHost;
 		this.riakPort = riakPort;
 		this.usePB = pb;
@@ -78,7 +83,7 @@ public final class RiakDriver
 	protected IOperationFactory createOperationFactory (final Object ... params) {
 		final String bucket = (String) params[0];
 		final String clientId = (String) params[1];
-		final IOperationFactory opFactory = RiakOperationFactory.getFactory (this.riakHost, this.riakPort, bucket, clientId, this.usePB);
+		final IOperationFactory opFactory = RiakOperationFactory.getFactory (this.riakHost, this.riakPort, bucket, clientId, this.usePB, this.executor);
 		return opFactory;
 	}
 	
@@ -107,13 +112,15 @@ public final class RiakDriver
 		final String host = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_0, String.class, "");
 		port = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_1, Integer.class, 0);
 		noThreads = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_2, Integer.class, 1);
+		final int maxInFlight = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_7, Integer.class, AbstractResourceDriver.DEFAULT_MAX_IN_FLIGHT);
+		final long operationTimeout = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_8, Long.class, 0L);
 		final String driverName = ConfigUtils.resolveParameter (config, ConfigProperties.KVStoreDriver_6, String.class, KeyValueDriverFactory.DriverType.RIAKREST.toString ());
 		boolean usePb = false;
 		if (driverName.equalsIgnoreCase (KeyValueDriverFactory.DriverType.RIAKPB.toString ())) {
 			usePb = true;
 		}
 		RiakDriver.logger.trace ("Created Riak PB driver for host " + host + ":" + port);
-		return new RiakDriver (threading, noThreads, host, port, usePb);
+		return new RiakDriver (threading, noThreads, maxInFlight, operationTimeout, host, port, usePb);
 	}
 	
 	private static final Logger logger = Transcript.create (RiakDriver.class).adaptAs (Logger.class);
@@ -24,9 +24,16 @@ package eu.mosaic_cloud.drivers.kvstore.riak;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import eu.mosaic_cloud.drivers.ops.BulkOperationStarter;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
 import eu.mosaic_cloud.drivers.ops.GenericOperation;
 import eu.mosaic_cloud.drivers.ops.IOperation;
 import eu.mosaic_cloud.drivers.ops.IOperationFactory;
@@ -39,7 +46,6 @@ import eu.mosaic_cloud.tools.transcript.core.Transcript;
 
 import org.slf4j.Logger;
 
-import com.basho.riak.client.IRiakClient;
 import com.basho.riak.client.IRiakObject;
 import com.basho.riak.client.RiakException;
 import com.basho.riak.client.RiakFactory;
@@ -63,13 +69,11 @@ public final class RiakOperationFactory
 			implements
 				IOperationFactory
 {
-	private RiakOperationFactory (final Configuration config, final String bucket, final String clientId)
-				throws RiakException {
+	private RiakOperationFactory (final Bucket bucket, final String clientId, final Executor executor) {
 		super ();
-		this.riakcl = RiakFactory.newClient (config);
-		this.bucket = this.riakcl.fetchBucket (bucket).execute ();
-		;
+		this.bucket = bucket;
 		this.clientId = clientId;
+		this.executor = executor;
 		this.exceptions = FallbackExceptionTracer.defaultInstance;
 	}
 	
@@ -99,12 +103,21 @@ public final class RiakOperationFactory
 				case GET :
 					operation = this.buildGetOperation (parameters);
 					break;
+				case GET_BULK :
+					operation = this.buildGetBulkOperation (parameters);
+					break;
 				case LIST :
 					operation = this.buildListOperation ();
 					break;
 				case DELETE :
 					operation = this.buildDeleteOperation (parameters);
 					break;
+				case SET_BULK :
+					operation = this.buildSetBulkOperation (parameters);
+					break;
+				case DELETE_BULK :
+					operation = this.buildDeleteBulkOperation (parameters);
+					break;
 				default :
 					operation = new GenericOperation<Object> (new Callable<Object> () {
 						@Override
@@ -127,21 +140,66 @@ public final class RiakOperationFactory
 		return operation;
 	}
 	
+	private IOperation<?> buildDeleteBulkOperation (final Object ... parameters) {
+		@SuppressWarnings ("unchecked") final List<String> keys = (List<String>) parameters[0];
+		return new EventDrivenOperation<List<String>> (new BulkOperationStarter<String, List<String>> (this.executor, keys) {
+			@Override
+			protected List<String> complete () {
+				return this.getFailedKeys (keys);
+			}
+			
+			@Override
+			protected String getKey (final String key) {
+				return key;
+			}
+			
+			@Override
+			protected void process (final String key) {
+				if (!RiakOperationFactory.this.delete (key)) {
+					this.failed.add (key);
+				}
+			}
+		});
+	}
+	
 	private IOperation<?> buildDeleteOperation (final Object ... parameters) {
 		return new GenericOperation<Boolean> (new Callable<Boolean> () {
 			@Override
 			public Boolean call ()
 						throws IOException {
 				final String key = (String) parameters[0];
-				// FIXME: use the vector clock...
-				try {
-					RiakOperationFactory.this.bucket.delete (key).execute ();
-				} catch (final RiakException e) {
-					// TODO: shutdown all connectors for this bucket?
-					FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
-					return false;
+				return RiakOperationFactory.this.delete (key);
+			}
+		});
+	}
+	
+	private IOperation<?> buildGetBulkOperation (final Object ... parameters) {
+		@SuppressWarnings ("unchecked") final List<String> keys = (List<String>) parameters[0];
+		final EncodingMetadata expectedEncoding = (EncodingMetadata) parameters[1];
+		final Map<String, KeyValueMessage> fetched = new ConcurrentHashMap<String, KeyValueMessage> ();
+		return new EventDrivenOperation<Map<String, KeyValueMessage>> (new BulkOperationStarter<String, Map<String, KeyValueMessage>> (this.executor, new LinkedHashSet<String> (keys)) {
+			@Override
+			protected Map<String, KeyValueMessage> complete () {
+				final Map<String, KeyValueMessage> results = new LinkedHashMap<String, KeyValueMessage> ();
+				for (final String key : this.items) {
+					KeyValueMessage message = fetched.get (key);
+					if (message == null) {
+						// NOTE: a key whose fetch failed is reported as missing
+						message = new KeyValueMessage (key, null, expectedEncoding.getContentEncoding (), expectedEncoding.getContentType ());
+					}
+					results.put (key, message);
 				}
-				return true;
+				return results;
+			}
+			
+			@Override
+			protected String getKey (final String key) {
+				return key;
+			}
+			
+			@Override
+			protected void process (final String key) {
+				fetched.put (key, RiakOperationFactory.this.fetch (key, expectedEncoding));
 			}
 		});
 	}
@@ -151,27 +209,9 @@ public final class RiakOperationFactory
 			@Override
 			public KeyValueMessage call ()
 						throws IOException {
-				KeyValueMessage result = null;
 				final String key = (String) parameters[0];
 				final EncodingMetadata expectedEncoding = (EncodingMetadata) parameters[1];
-				// FIXME: use the vector clock...
-				IRiakObject riakObj = null;
-				try {
-					riakObj = RiakOperationFactory.this.bucket.fetch (key).execute ();
-				} catch (final UnresolvedConflictException e) {
-					FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
-				} catch (final RiakRetryFailedException e) {
-					// TODO: shutdown all connectors for this bucket?
-					FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
-				} catch (final ConversionException e) {
-					FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
-				}
-				if (null != riakObj) {
-					result = new KeyValueMessage (key, riakObj.getValue (), riakObj.getUsermeta (IOperationFactory.CONTENT_ENCODING), riakObj.getContentType ());
-				} else {
-					result = new KeyValueMessage (key, null, expectedEncoding.getContentEncoding (), expectedEncoding.getContentType ());
-				}
-				return result;
+				return RiakOperationFactory.this.fetch (key, expectedEncoding);
 			}
 		});
 	}
@@ -197,33 +237,97 @@ public final class RiakOperationFactory
 		});
 	}
 	
+	private IOperation<?> buildSetBulkOperation (final Object ... parameters) {
+		@SuppressWarnings ("unchecked") final List<KeyValueMessage> kvMessages = (List<KeyValueMessage>) parameters[0];
+		return new EventDrivenOperation<List<String>> (new BulkOperationStarter<KeyValueMessage, List<String>> (this.executor, kvMessages) {
+			@Override
+			protected List<String> complete () {
+				final List<String> keys = new ArrayList<String> (kvMessages.size ());
+				for (final KeyValueMessage kvMessage : kvMessages) {
+					keys.add (kvMessage.getKey ());
+				}
+				return this.getFailedKeys (keys);
+			}
+			
+			@Override
+			protected String getKey (final KeyValueMessage kvMessage) {
+				return kvMessage.getKey ();
+			}
+			
+			@Override
+			protected void process (final KeyValueMessage kvMessage) {
+				if (!RiakOperationFactory.this.store (kvMessage)) {
+					this.failed.add (kvMessage.getKey ());
+				}
+			}
+		});
+	}
+	
 	private IOperation<?> buildSetOperation (final Object ... parameters) {
 		return new GenericOperation<Boolean> (new Callable<Boolean> () {
 			@Override
 			public Boolean call ()
 						throws IOException {
 				final KeyValueMessage kvMessage = (KeyValueMessage) parameters[0];
-				final String key = kvMessage.getKey ();
-				// FIXME: use the vector clock...
-				final IRiakObject riakObject = RiakObjectBuilder.newBuilder (RiakOperationFactory.this.bucket.getName (), key).addUsermeta (IOperationFactory.CONTENT_ENCODING, kvMessage.getContentEncoding ()).withContentType (kvMessage.getContentType ()).withValue (kvMessage.getData ()).build ();
-				final RiakBucket riakBucket = RiakBucket.newRiakBucket (RiakOperationFactory.this.bucket);
-				try {
-					riakBucket.store (riakObject);
-				} catch (final RiakException e) {
-					// TODO: shutdown all connectors for this bucket?
-					FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
-					return false;
-				}
-				return true;
+				return RiakOperationFactory.this.store (kvMessage);
 			}
 		});
 	}
 	
+	private boolean delete (final String key) {
+		// FIXME: use the vector clock...
+		try {
+			this.bucket.delete (key).execute ();
+		} catch (final RiakException e) {
+			// TODO: shutdown all connectors for this bucket?
+			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
+			return false;
+		}
+		return true;
+	}
+	
+	private KeyValueMessage fetch (final String key, final EncodingMetadata expectedEncoding) {
+		KeyValueMessage result = null;
+		// FIXME: use the vector clock...
+		IRiakObject riakObj = null;
+		try {
+			riakObj = this.bucket.fetch (key).execute ();
+		} catch (final UnresolvedConflictException e) {
+			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
+		} catch (final RiakRetryFailedException e) {
+			// TODO: shutdown all connectors for this bucket?
+			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
+		} catch (final ConversionException e) {
+			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
+		}
+		if (null != riakObj) {
+			result = new KeyValueMessage (key, riakObj.getValue (), riakObj.getUsermeta (IOperationFactory.CONTENT_ENCODING), riakObj.getContentType ());
+		} else {
+			result = new KeyValueMessage (key, null, expectedEncoding.getContentEncoding (), expectedEncoding.getContentType ());
+		}
+		return result;
+	}
+	
+	private boolean store (final KeyValueMessage kvMessage) {
+		final String key = kvMessage.getKey ();
+		// FIXME: use the vector clock...
+		final IRiakObject riakObject = RiakObjectBuilder.newBuilder (this.bucket.getName (), key).addUsermeta (IOperationFactory.CONTENT_ENCODING, kvMessage.getContentEncoding ()).withContentType (kvMessage.getContentType ()).withValue (kvMessage.getData ()).build ();
+		final RiakBucket riakBucket = RiakBucket.newRiakBucket (this.bucket);
+		try {
+			riakBucket.store (riakObject);
+		} catch (final RiakException e) {
+			// TODO: shutdown all connectors for this bucket?
+			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
+			return false;
+		}
+		return true;
+	}
+	
 	private final Bucket bucket;
 	@SuppressWarnings ("unused")
 	private final String clientId;
 	private final BaseExceptionTracer exceptions;
-	private final IRiakClient riakcl;
+	private final Executor executor;
 	
 	/**
 	 * Creates a new factory.
@@ -234,9 +338,11 @@ public final class RiakOperationFactory
 	 *            the port for the Riak server
 	 * @param bucket
 	 *            the bucket associated with the connection
+	 * @param executor
+	 *            the executor used for fetching in parallel the keys of bulk operations
 	 * @return the factory
 	 */
-	public static IOperationFactory getFactory (final String riakHost, final int port, final String bucket, final String clientId, final boolean pb) {
+	public static IOperationFactory getFactory (final String riakHost, final int port, final String bucket, final String clientId, final boolean pb, final Executor executor) {
 		IOperationFactory factory = null;
 		try {
 			Configuration config = null;
@@ -245,7 +351,7 @@ public final class RiakOperationFactory
 			} else {
 				config = new HTTPClientConfig.Builder ().withHost (riakHost).withPort (port).build ();
 			}
-			factory = new RiakOperationFactory (config, bucket, clientId);
+			factory = new RiakOperationFactory (RiakFactory.newClient (config).fetchBucket (bucket).execute (), clientId, executor);
 			RiakOperationFactory.logger.trace ("Created Riak PB factory for " + riakHost + ":" + port + " bucket " + bucket);
 		} catch (final RiakException e) {
 			FallbackExceptionTracer.defaultInstance.traceIgnoredException (e);
@@ -253,5 +359,20 @@ public final class RiakOperationFactory
 		return factory;
 	}
 	
+	/**
+	 * Creates a new factory for an already fetched bucket.
+	 * 
+	 * @param bucket
+	 *            the bucket associated with the connection
+	 * @param clientId
+	 *            the identifier of the client
+	 * @param executor
+	 *            the executor used for fetching in parallel the keys of bulk operations
+	 * @return the factory
+	 */
+	public static IOperationFactory getFactory (final Bucket bucket, final String clientId, final Executor executor) {
+		return new RiakOperationFactory (bucket, clientId, executor);
+	}
+	
 	private static final Logger logger = Transcript.create (RiakOperationFactory.class).adaptAs (Logger.class);
 }
@@ -36,6 +36,7 @@ import eu.mosaic_cloud.platform.interop.idl.IdlCommon.Error;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.NotOk;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.Ok;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply;
@@ -98,6 +99,14 @@ public class KeyValueResponseTransmitter
 					message = new Message (KeyValueMessage.NOK, nokPayload.build ());
 				}
 				break;
+			case SET_BULK :
+			case DELETE_BULK :
+				final BulkReply.Builder bulkPayload = KeyValuePayloads.BulkReply.newBuilder ();
+				bulkPayload.setToken (token);
+				@SuppressWarnings ("unchecked") final List<String> failedKeys = (List<String>) result;
+				bulkPayload.addAllFailedKeys (failedKeys);
+				message = new Message (KeyValueMessage.BULK_REPLY, bulkPayload.build ());
+				break;
 			case LIST :
 				final ListReply.Builder listPayload = KeyValuePayloads.ListReply.newBuilder ();
 				listPayload.setToken (token);
@@ -106,6 +115,7 @@ public class KeyValueResponseTransmitter
 				message = new Message (KeyValueMessage.LIST_REPLY, listPayload.build ());
 				break;
 			case GET :
+			case GET_BULK :
 				final GetReply.Builder getPayload = KeyValuePayloads.GetReply.newBuilder ();
 				getPayload.setToken (token);
 				@SuppressWarnings ("unchecked") final Map<String, eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage> resMap = (Map<String, eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage>) result;
@@ -152,6 +162,9 @@ public class KeyValueResponseTransmitter
 			message = this.buildKeyValueResponse (operation, token, result);
 		}
 		// NOTE: send response
-		this.publishResponse (session, message);
+		if (!this.publishResponse (session, message) && !isError) {
+			// NOTE: the outcome could not be sent, thus the operation is failed with an overload error (which is still credited)
+			this.packAndSend (session, token, operation, ResponseTransmitter.overloadedErrorMessage, true);
+		}
 	}
 }
@@ -22,6 +22,7 @@ package eu.mosaic_cloud.drivers.kvstore.riak.interop;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -46,10 +47,13 @@ import eu.mosaic_cloud.platform.interop.idl.IdlCommon;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.AbortRequest;
 import eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest;
+import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest;
 import eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetRequest;
 import eu.mosaic_cloud.platform.interop.specs.kvstore.KeyValueMessage;
 import eu.mosaic_cloud.platform.interop.specs.kvstore.KeyValueSession;
@@ -153,15 +157,23 @@ public class KeyValueStub
 				final KeyValuePayloads.GetRequest getRequest = (GetRequest) message.payload;
 				token = getRequest.getToken ();
 				final DriverOperationFinishedHandler getCallback = new DriverOperationFinishedHandler (token, session, driver.getClass (), transmitterClass);
-				if (getRequest.getKeyCount () != 1) {
-					// NOTE: error - the simple driver can handle only single-key get
-					KeyValueStub.logger.error ("Basic driver can handle only single-key GET.");
+				if (getRequest.getKeyCount () == 0) {
+					// NOTE: error - there is nothing to get
+					KeyValueStub.logger.error ("Received GET request without keys.");
 					driver.handleUnsupportedOperationError (kvMessage.toString (), getCallback);
 					break;
 				}
+				final EncodingMetadata expectedEncoding = new EncodingMetadata (getRequest.getEnvelope ().getContentType (), getRequest.getEnvelope ().getContentEncoding ());
+				if (getRequest.getKeyCount () > 1) {
+					// NOTE: multi-key get is executed as a single driver operation, with a single reply
+					final List<String> keys = getRequest.getKeyList ();
+					KeyValueStub.logger.trace (messagePrefix + KeyValueOperations.GET_BULK.toString () + " keys: " + keys.size () + " - request id: " + token.getMessageId () + " client id: " + token.getClientId ());
+					final IResult<Map<String, eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage>> resultGetBulk = driver.invokeGetBulkOperation (token.getClientId (), keys, expectedEncoding, getCallback);
+					getCallback.setDetails (KeyValueOperations.GET_BULK, resultGetBulk);
+					break;
+				}
 				key = getRequest.getKey (0);
 				KeyValueStub.logger.trace (messagePrefix + kvMessage.toString () + " key: " + key + " - request id: " + token.getMessageId () + " client id: " + token.getClientId ());
-				final EncodingMetadata expectedEncoding = new EncodingMetadata (getRequest.getEnvelope ().getContentType (), getRequest.getEnvelope ().getContentEncoding ());
 				final IResult<eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage> resultGet = driver.invokeGetOperation (token.getClientId (), key, expectedEncoding, getCallback);
 				getCallback.setDetails (KeyValueOperations.GET, resultGet);
 				break;
@@ -174,6 +186,26 @@ public class KeyValueStub
 				final IResult<Boolean> resultDelete = driver.invokeDeleteOperation (token.getClientId (), key, delCallback);
 				delCallback.setDetails (KeyValueOperations.DELETE, resultDelete);
 				break;
+			case SET_BULK_REQUEST :
+				final KeyValuePayloads.SetBulkRequest setBulkRequest = (SetBulkRequest) message.payload;
+				token = setBulkRequest.getToken ();
+				final List<eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage> bulkData = new ArrayList<eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage> (setBulkRequest.getEntriesCount ());
+				for (final KVEntry entry : setBulkRequest.getEntriesList ()) {
+					bulkData.add (new eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage (entry.getKey (), entry.getValue ().toByteArray (), entry.getEnvelope ().getContentEncoding (), entry.getEnvelope ().getContentType ()));
+				}
+				KeyValueStub.logger.trace (messagePrefix + kvMessage.toString () + " keys: " + bulkData.size () + " - request id: " + token.getMessageId () + " client id: " + token.getClientId ());
+				final DriverOperationFinishedHandler setBulkCallback = new DriverOperationFinishedHandler (token, session, driver.getClass (), transmitterClass);
+				final IResult<List<String>> resultSetBulk = driver.invokeSetBulkOperation (token.getClientId (), bulkData, setBulkCallback);
+				setBulkCallback.setDetails (KeyValueOperations.SET_BULK, resultSetBulk);
+				break;
+			case DELETE_BULK_REQUEST :
+				final KeyValuePayloads.DeleteBulkRequest delBulkRequest = (DeleteBulkRequest) message.payload;
+				token = delBulkRequest.getToken ();
+				KeyValueStub.logger.trace (messagePrefix + kvMessage.toString () + " keys: " + delBulkRequest.getKeysCount () + " - request id: " + token.getMessageId () + " client id: " + token.getClientId ());
+				final DriverOperationFinishedHandler delBulkCallback = new DriverOperationFinishedHandler (token, session, driver.getClass (), transmitterClass);
+				final IResult<List<String>> resultDeleteBulk = driver.invokeDeleteBulkOperation (token.getClientId (), delBulkRequest.getKeysList (), delBulkCallback);
+				delBulkCallback.setDetails (KeyValueOperations.DELETE_BULK, resultDeleteBulk);
+				break;
 			case LIST_REQUEST :
 				final KeyValuePayloads.ListRequest listRequest = (ListRequest) message.payload;
 				token = listRequest.getToken ();
@@ -198,6 +230,10 @@ public class KeyValueStub
 				token = ((KeyValuePayloads.ListReply) message.payload).getToken ();
 				unknownMessage = true;
 				break;
+			case BULK_REPLY :
+				token = ((KeyValuePayloads.BulkReply) message.payload).getToken ();
+				unknownMessage = true;
+				break;
 			default :
 				break;
 		}
@@ -0,0 +1,178 @@
+/*
+ * #%L
+ * mosaic-drivers-stubs-riak
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.drivers.kvstore.riak.tests;
+
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.drivers.kvstore.riak.KeyValueOperations;
+import eu.mosaic_cloud.drivers.kvstore.riak.RiakOperationFactory;
+import eu.mosaic_cloud.drivers.ops.EventDrivenOperation;
+import eu.mosaic_cloud.drivers.ops.IOperationCompletionHandler;
+import eu.mosaic_cloud.drivers.ops.IOperationFactory;
+import eu.mosaic_cloud.platform.interop.common.kv.KeyValueMessage;
+import eu.mosaic_cloud.platform.v2.serialization.EncodingMetadata;
+import eu.mosaic_cloud.tools.exceptions.core.FallbackExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.DefaultBucket;
+import com.basho.riak.client.builders.BucketPropertiesBuilder;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.cap.DefaultRetrier;
+import com.basho.riak.client.raw.RawClient;
+import com.basho.riak.client.raw.RiakResponse;
+
+
+/**
+ * Tests the bulk operations of the Riak driver against an in-memory raw client, which fails all the requests for
+ * {@link RiakOperationFactoryTest#FAILING_KEY}.
+ */
+public class RiakOperationFactoryTest
+{
+	@Before
+	public void setUp () {
+		// NOTE: the factory traces the failed requests through the fallback tracer, which otherwise aborts the JVM
+		FallbackExceptionTracer.defaultInstance.setThreadTracer (NullExceptionTracer.defaultInstance);
+		this.objects = new ConcurrentHashMap<String, IRiakObject> ();
+		final RawClient client = (RawClient) Proxy.newProxyInstance (RawClient.class.getClassLoader (), new Class<?>[] {RawClient.class}, new InvocationHandler () {
+			@Override
+			public Object invoke (final Object proxy, final Method method, final Object[] arguments)
+						throws Throwable {
+				return RiakOperationFactoryTest.this.invoke (method, arguments);
+			}
+		});
+		final Executor executor = new Executor () {
+			@Override
+			public void execute (final Runnable task) {
+				task.run ();
+			}
+		};
+		this.factory = RiakOperationFactory.getFactory (new DefaultBucket (RiakOperationFactoryTest.BUCKET, new BucketPropertiesBuilder ().build (), client, new DefaultRetrier (0)) {}, "test", executor);
+	}
+	
+	@Test
+	public void testDeleteBulk () throws Exception {
+		this.objects.put ("key-1", this.createObject ("key-1"));
+		this.objects.put ("key-2", this.createObject ("key-2"));
+		final List<String> failed = this.execute (KeyValueOperations.DELETE_BULK, Arrays.asList ("key-1", RiakOperationFactoryTest.FAILING_KEY, "key-2"));
+		Assert.assertEquals (Collections.singletonList (RiakOperationFactoryTest.FAILING_KEY), failed);
+		Assert.assertTrue (this.objects.isEmpty ());
+	}
+	
+	@Test
+	public void testGetBulk () throws Exception {
+		this.objects.put ("key-1", this.createObject ("key-1"));
+		this.objects.put ("key-2", this.createObject ("key-2"));
+		final Map<String, KeyValueMessage> fetched = this.execute (KeyValueOperations.GET_BULK, Arrays.asList ("key-1", RiakOperationFactoryTest.FAILING_KEY, "key-2", "key-3"), RiakOperationFactoryTest.ENCODING);
+		Assert.assertEquals (Arrays.asList ("key-1", RiakOperationFactoryTest.FAILING_KEY, "key-2", "key-3"), Arrays.asList (fetched.keySet ().toArray ()));
+		Assert.assertArrayEquals ("key-1".getBytes (), fetched.get ("key-1").getData ());
+		Assert.assertArrayEquals ("key-2".getBytes (), fetched.get ("key-2").getData ());
+		// NOTE: both the failing and the missing keys are reported without data
+		Assert.assertNull (fetched.get (RiakOperationFactoryTest.FAILING_KEY).getData ());
+		Assert.assertNull (fetched.get ("key-3").getData ());
+	}
+	
+	@Test
+	public void testSetBulk () throws Exception {
+		final List<KeyValueMessage> messages = Arrays.asList (this.createMessage ("key-1"), this.createMessage (RiakOperationFactoryTest.FAILING_KEY), this.createMessage ("key-2"));
+		final List<String> failed = this.execute (KeyValueOperations.SET_BULK, messages);
+		Assert.assertEquals (Collections.singletonList (RiakOperationFactoryTest.FAILING_KEY), failed);
+		Assert.assertEquals (2, this.objects.size ());
+		Assert.assertEquals ("key-1", this.objects.get ("key-1").getValueAsString ());
+		Assert.assertEquals ("key-2", this.objects.get ("key-2").getValueAsString ());
+	}
+	
+	private IRiakObject createObject (final String key) {
+		return RiakObjectBuilder.newBuilder (RiakOperationFactoryTest.BUCKET, key).withValue (key.getBytes ()).withContentType (RiakOperationFactoryTest.ENCODING.getContentType ()).build ();
+	}
+	
+	private KeyValueMessage createMessage (final String key) {
+		return new KeyValueMessage (key, key.getBytes (), RiakOperationFactoryTest.ENCODING.getContentEncoding (), RiakOperationFactoryTest.ENCODING.getContentType ());
+	}
+	
+	@SuppressWarnings ("unchecked")
+	private <T> T execute (final KeyValueOperations type, final Object ... parameters) throws Exception {
+		final EventDrivenOperation<T> operation = (EventDrivenOperation<T>) this.factory.getOperation (type, parameters);
+		operation.setHandler (new IOperationCompletionHandler<T> () {
+			@Override
+			public void onFailure (final Throwable error) {}
+			
+			@Override
+			public void onSuccess (final T result) {}
+		});
+		operation.start ();
+		return operation.get (RiakOperationFactoryTest.POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+	
+	private Object invoke (final Method method, final Object[] arguments)
+				throws IOException {
+		final String name = method.getName ();
+		if (name.equals ("fetch")) {
+			final String key = (String) arguments[1];
+			this.checkKey (key);
+			final IRiakObject object = this.objects.get (key);
+			return new RiakResponse (RiakOperationFactoryTest.VCLOCK, (object != null) ? new IRiakObject[] {object} : new IRiakObject[0]);
+		}
+		if (name.equals ("store")) {
+			final IRiakObject object = (IRiakObject) arguments[0];
+			this.checkKey (object.getKey ());
+			this.objects.put (object.getKey (), object);
+			return (arguments.length > 1) ? new RiakResponse (RiakOperationFactoryTest.VCLOCK, new IRiakObject[] {object}) : null;
+		}
+		if (name.equals ("delete")) {
+			final String key = (String) arguments[1];
+			this.checkKey (key);
+			this.objects.remove (key);
+			return null;
+		}
+		throw new UnsupportedOperationException (name);
+	}
+	
+	private void checkKey (final String key)
+				throws IOException {
+		if (RiakOperationFactoryTest.FAILING_KEY.equals (key)) {
+			throw new IOException ("failing key");
+		}
+	}
+	
+	private IOperationFactory factory;
+	private Map<String, IRiakObject> objects;
+	private static final String BUCKET = "test";
+	private static final EncodingMetadata ENCODING = new EncodingMetadata ("text/plain", "identity");
+	private static final String FAILING_KEY = "key-failing";
+	private static final long POLL_TIMEOUT = 1000;
+	private static final byte[] VCLOCK = new byte[] {1};
+}
@@ -30,6 +30,8 @@ public interface Session
 	
 	public abstract void send (final Message message);
 	
+	public abstract boolean send (final Message message, final long timeout);
+	
 	public abstract void setCallbacks (final SessionCallbacks callbacks);
 	
 	public abstract void setExecutor (final Executor executor);
@@ -26,14 +26,23 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import eu.mosaic_cloud.interoperability.core.Channel;
@@ -47,11 +56,14 @@ import eu.mosaic_cloud.interoperability.core.SessionSpecification;
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
 import eu.mosaic_cloud.tools.miscellaneous.Monitor;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup.EventLoop;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
 import com.google.common.util.concurrent.Atomics;
 
 
@@ -60,19 +72,60 @@ public final class ZeroMqChannel
 			implements
 				Channel
 {
-	private ZeroMqChannel (final String self, final ThreadingContext threading, final ExceptionTracer exceptions) {
+	private ZeroMqChannel (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final long sessionIdleTimeout, final int sessionsLimit, final int sessionSendWindow, final int packetsQueueCapacity, final ThreadingContext threading, final EventLoopGroup loops, final Ticker ticker, final ExceptionTracer exceptions) {
 		super ();
 		Preconditions.checkNotNull (self);
+		Preconditions.checkNotNull (headerMode);
+		Preconditions.checkNotNull (processingMode);
+		Preconditions.checkArgument ((sessionIdleTimeout == -1) || (sessionIdleTimeout > 0));
+		Preconditions.checkArgument (sessionsLimit > 0);
+		Preconditions.checkArgument (sessionSendWindow > 0);
+		Preconditions.checkArgument (packetsQueueCapacity > 0);
 		Preconditions.checkNotNull (threading);
+		Preconditions.checkNotNull (ticker);
 		this.transcript = Transcript.create (this, true);
 		this.exceptions = TranscriptExceptionTracer.create (this.transcript, exceptions);
 		this.threading = threading;
 		this.selfIdentifier = self;
+		this.headerMode = headerMode;
+		this.processingMode = processingMode;
+		this.sessionIdleTimeout = sessionIdleTimeout;
+		this.sessionsLimit = sessionsLimit;
+		this.sessionSendWindow = sessionSendWindow;
+		// NOTE: a session queues at most its credited sends, plus the uncredited ones, plus the inbound packets it decodes;
+		//-- the same bound as the socket queues is thus used for the last two.
+		this.sessionHandlersLimit = sessionSendWindow + packetsQueueCapacity;
+		this.ticker = ticker;
 		this.state = new State ();
 		this.handlers = new ConcurrentLinkedQueue<ZeroMqChannel.Handler> ();
 		this.idle = new Semaphore (1);
-		this.executor = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this, "zeromq-callbacks", true));
-		this.socket = ZeroMqChannelSocket.create (this.selfIdentifier, new PacketDequeueTrigger (), this.threading, exceptions);
+		// NOTE: when attached to a shared loop group, only the non-blocking handlers are executed on the group's loops;
+		//-- the session callbacks and the packet encoders (which might block on a full outbound queue) are executed on the
+		//-- group's blocking pool (shared by all its channels); their serialization is ensured anyway by the channel (and
+		//-- session) semaphores.
+		this.loops = loops;
+		if (this.loops != null) {
+			this.executorPool = this.loops.getBlockingExecutor ();
+			this.executor = this.loops;
+		} else {
+			this.executorPool = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this, "zeromq-callbacks", true));
+			this.executor = this.executorPool;
+		}
+		this.executing = new Semaphore (ZeroMqChannel.executingLimit);
+		this.socket = ZeroMqChannelSocket.create (this.selfIdentifier, new PacketDequeueTrigger (), ZeroMqChannelSocket.defaultLoopMode, ZeroMqChannelSocket.defaultBatchSize, packetsQueueCapacity, packetsQueueCapacity, this.threading, exceptions);
+		// NOTE: the idle sessions are reaped periodically, and not only when packets arrive, as otherwise a quiet channel would never reap its sessions;
+		//-- on a shared loop group the reaping is driven by a timer of one of the group's loops instead of a dedicated thread.
+		if ((this.sessionIdleTimeout != -1) && (this.loops == null)) {
+			final long reapDelay = Math.min (this.sessionIdleTimeout, ZeroMqChannel.defaultSessionsReapDelay);
+			this.reaper = this.threading.createSingleThreadScheduledExecutor (this.threading.getThreadConfiguration ().override (this, "zeromq-reaper", true));
+			this.reaper.scheduleWithFixedDelay (new SessionsReapTrigger (), reapDelay, reapDelay, TimeUnit.MILLISECONDS);
+		} else
+			this.reaper = null;
+		if ((this.sessionIdleTimeout != -1) && (this.loops != null)) {
+			final long reapDelay = Math.min (this.sessionIdleTimeout, ZeroMqChannel.defaultSessionsReapDelay);
+			final EventLoop reapLoop = this.loops.next ();
+			reapLoop.schedule (new SessionsReapTimer (reapLoop, reapDelay), reapDelay);
+		}
 	}
 	
 	@Override
@@ -123,15 +176,49 @@ public final class ZeroMqChannel
 		Preconditions.checkNotNull (selfRoleIdentifier);
 		Preconditions.checkNotNull (peerRoleIdentifier);
 		Preconditions.checkArgument (message.specification.getType () == MessageType.Initiation);
-		final String sessionIdentifier = UUID.randomUUID ().toString ();
+		final UUID sessionUuid = UUID.randomUUID ();
+		final String sessionIdentifier;
+		final UUID compactIdentifier;
+		// NOTE: In compact mode the session identifier advertises our support for compact headers;
+		//-- the session switches to compact headers only after the peer answers with one.
+		if (this.headerMode == HeaderMode.Compact) {
+			sessionIdentifier = ZeroMqChannel.compactSessionIdentifierPrefix + sessionUuid.toString ();
+			compactIdentifier = sessionUuid;
+		} else {
+			sessionIdentifier = sessionUuid.toString ();
+			compactIdentifier = null;
+		}
 		synchronized (this.state.monitor) {
-			final Session session = new Session (sessionIdentifier, selfRoleIdentifier, peerRoleIdentifier, peer, specification, callbacks, this.executor);
+			if (this.state.sessions.size () >= this.sessionsLimit) {
+				this.transcript.traceError ("error encountered while initiating session `%s`: too many sessions; throwing!", sessionIdentifier);
+				throw (new IllegalStateException ());
+			}
+			final Session session = new Session (sessionIdentifier, compactIdentifier, false, selfRoleIdentifier, peerRoleIdentifier, peer, specification, callbacks, this.executorPool);
 			this.state.sessions.put (sessionIdentifier, session);
+			if (compactIdentifier != null)
+				this.state.compactSessions.put (compactIdentifier, session);
 			this.enqueueDispatcher (new SessionCreatedHandler (session));
-			this.enqueueHandler (new PacketEnqueueHandler (session, message));
+			if (!this.triggerPacketEnqueue (session, message, session.sendCredits.tryAcquire ()))
+				this.failSession (session, new TimeoutException (String.format ("session queue full while enqueueing packet of type `%s` for session `%s`", message.specification.getIdentifier (), sessionIdentifier)));
 		}
 	}
 	
+	public final int getCompactSessionsCount () {
+		int count = 0;
+		for (final Session session : this.state.compactSessions.values ())
+			if (session.compactOutbound)
+				count++;
+		return (count);
+	}
+	
+	public final int getPendingDispatchersCount () {
+		return (this.state.pendingDispatchers.get ());
+	}
+	
+	public final int getSessionsCount () {
+		return (this.state.sessions.size ());
+	}
+	
 	@Override
 	public final void register (final SessionSpecification specification) {
 		// FIXME: We shouldn't allow the same specification to be registered twice.
@@ -151,7 +238,7 @@ public final class ZeroMqChannel
 			Preconditions.checkNotNull (messageIdentifier);
 			Preconditions.checkNotNull (messageType);
 			final String coderKey = selfRoleIdentifier + "//" + peerRoleIdentifier + "//" + messageIdentifier;
-			final Coder coder = new Coder (coderKey, selfRoleIdentifier, peerRoleIdentifier, messageIdentifier, messageType, messageSpecification, messageCoder);
+			final Coder coder = new Coder (coderKey, -1, selfRoleIdentifier, peerRoleIdentifier, messageIdentifier, messageType, messageSpecification, messageCoder);
 			coders.add (coder);
 		}
 		synchronized (this.state.monitor) {
@@ -164,8 +251,13 @@ public final class ZeroMqChannel
 					this.transcript.traceError ("error encountered while registering coder `%s`: already registered; throwing!", coder.key);
 					throw (new IllegalArgumentException ());
 				}
-				this.transcript.traceDebugging ("registering coder `%s` for `%s`: %s...", coder.key, coder.specification.getQualifiedName (), coder.coder);
-				this.state.coders.put (coder.key, coder);
+				if (this.state.coders.size () >= ZeroMqChannel.compactCoderIndexLimit) {
+					this.transcript.traceError ("error encountered while registering coder `%s`: too many coders; throwing!", coder.key);
+					throw (new IllegalStateException ());
+				}
+				final Coder indexedCoder = coder.index (this.state.coders.size ());
+				this.transcript.traceDebugging ("registering coder `%s` (%d) for `%s`: %s...", indexedCoder.key, Integer.valueOf (indexedCoder.index), indexedCoder.specification.getQualifiedName (), indexedCoder.coder);
+				this.state.coders.put (indexedCoder.key, indexedCoder);
 			}
 		}
 	}
@@ -176,10 +268,24 @@ public final class ZeroMqChannel
 	
 	public final boolean terminate (final long timeout) {
 		synchronized (this.state.monitor) {
+			this.terminated = true;
 			this.socket.terminate ();
-			this.executor.shutdown ();
-			return (Threading.join (this.executor, timeout));
+			if (this.reaper != null)
+				this.reaper.shutdownNow ();
 		}
+		// NOTE: the handlers and dispatchers might still be executing on the shared loops (which outlive the channel), thus we
+		//-- wait for all of them by taking all the execution permits; once taken they are never given back, thus nothing is
+		//-- scheduled anymore (and a repeated termination finds no permits left).
+		final boolean idle = (this.executing.availablePermits () == 0) || Threading.acquire (this.executing, ZeroMqChannel.executingLimit, timeout);
+		if (this.loops == null)
+			this.executorPool.shutdown ();
+		if (!idle) {
+			this.transcript.traceWarning ("handlers still executing while terminating; aborting!");
+			return (false);
+		}
+		if (this.loops != null)
+			return (true);
+		return (Threading.join (this.executorPool, timeout));
 	}
 	
 	final void dispatchSessionCreated (final Session session) {
@@ -190,6 +296,10 @@ public final class ZeroMqChannel
 		session.callbacks.get ().destroyed (session);
 	}
 	
+	final void dispatchSessionFailed (final Session session, final Throwable exception) {
+		session.callbacks.get ().failed (session, exception);
+	}
+	
 	final void dispatchSessionReceived (final Session session, final Message message) {
 		session.callbacks.get ().received (session, message);
 	}
@@ -207,6 +317,7 @@ public final class ZeroMqChannel
 			this.scheduleDispatcher (session);
 		}
 		session.dispatchContinued.set (null);
+		this.executing.release ();
 	}
 	
 	final void executeHandler (final Handler handler) {
@@ -217,6 +328,28 @@ public final class ZeroMqChannel
 		}
 		this.idle.release ();
 		this.scheduleHandler ();
+		this.executing.release ();
+	}
+	
+	final void executeSessionHandler (final SessionHandler handler) {
+		final Session session = handler.session;
+		try {
+			handler.handle ();
+		} catch (final Error exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while executing session handler; ignoring!");
+		}
+		session.handlersIdle.release ();
+		this.scheduleSessionHandler (session);
+		this.executing.release ();
+	}
+	
+	final void executeSessionsReap () {
+		final long now = this.currentTime ();
+		for (final Session session : this.state.sessions.values ())
+			if ((now - session.lastActivity) > this.sessionIdleTimeout) {
+				this.transcript.traceWarning ("reaping session `%s` idle for %d milliseconds...", session.sessionIdentifier, Long.valueOf (now - session.lastActivity));
+				this.destroySession (session);
+			}
 	}
 	
 	final void executeTrigger (final Trigger trigger) {
@@ -227,195 +360,255 @@ public final class ZeroMqChannel
 		}
 	}
 	
+	final void failSession (final Session session, final Throwable exception) {
+		this.exceptions.traceHandledException (exception, "error encountered for session `%s`; failing!", session.sessionIdentifier);
+		this.enqueueDispatcher (new SessionFailedDispatcher (session, exception));
+	}
+	
+	final void handlePacketDecode (final Session session, final Coder coder, final ZeroMqChannelPacket packet) {
+		this.decodePacket (session, coder, packet);
+	}
+	
 	final void handlePacketDequeue () {
-		synchronized (this.state.monitor) {
-			final ZeroMqChannelPacket packet = this.socket.dequeue (0);
-			if (packet == null)
-				throw (new IllegalStateException ());
-			final String sessionIdentifier;
-			final String selfRoleIdentifier;
-			final String peerRoleIdentifier;
-			final String messageIdentifier;
-			try {
-				final DataInputStream stream = new DataInputStream (new ByteArrayInputStream (packet.header.array (), packet.header.arrayOffset () + packet.header.position (), packet.header.remaining ()));
-				{
-					final int bufferSize = stream.readUnsignedShort ();
-					final byte[] buffer = new byte[bufferSize];
-					stream.readFully (buffer);
-					sessionIdentifier = new String (buffer);
-				}
-				{
-					final int bufferSize = stream.readUnsignedShort ();
-					final byte[] buffer = new byte[bufferSize];
-					stream.readFully (buffer);
-					selfRoleIdentifier = new String (buffer);
-				}
-				{
-					final int bufferSize = stream.readUnsignedShort ();
-					final byte[] buffer = new byte[bufferSize];
-					stream.readFully (buffer);
-					peerRoleIdentifier = new String (buffer);
-				}
-				{
-					final int bufferSize = stream.readUnsignedShort ();
-					final byte[] buffer = new byte[bufferSize];
-					stream.readFully (buffer);
-					messageIdentifier = new String (buffer);
-				}
-				if (stream.available () > 0) {
-					this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: header trailing garbage; ignoring!", messageIdentifier, sessionIdentifier);
-					return;
-				}
-				stream.close ();
-			} catch (final IOException exception) {
-				this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet; ignoring!");
-				return;
-			} catch (final Error exception) {
-				this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet; ignoring!");
-				return;
-			}
-			this.transcript.traceDebugging ("processing inbound packet of type `%s` for session `%s`...", messageIdentifier, sessionIdentifier);
-			final String acceptorKey = selfRoleIdentifier + "//" + peerRoleIdentifier;
-			final String coderKey = selfRoleIdentifier + "//" + peerRoleIdentifier + "//" + messageIdentifier;
-			final Coder coder = this.state.coders.get (coderKey);
-			if (coder == null) {
-				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder for `%s`; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
-				return;
+		// NOTE: In concurrent mode the packet dequeue handlers are still serialized (through `idle`), but they only decode the header;
+		//-- the payload decoding is then delegated to the session (see `schedulePacketDecode`).
+		if (this.processingMode == ProcessingMode.Serialized)
+			synchronized (this.state.monitor) {
+				this.dequeuePacket ();
 			}
-			final Session session;
-			final Session existingSession = this.state.sessions.get (sessionIdentifier);
-			if (existingSession != null) {
-				session = existingSession;
-			} else {
-				this.transcript.traceDebugging ("accepting session `%s` for `%s`...", sessionIdentifier, acceptorKey);
-				final Acceptor acceptor = this.state.acceptors.get (acceptorKey);
-				if (acceptor == null) {
-					this.transcript.traceError ("error encountered while initiating session `%s`: missing accepter `%s`; ignoring!", sessionIdentifier, acceptorKey);
-					return;
-				}
-				if (coder.messageType != MessageType.Initiation) {
-					this.transcript.traceError ("error encountered while initiating session `%s`: mismatched message type `%s`; ignoring!", sessionIdentifier, messageIdentifier);
-					return;
+		else
+			this.dequeuePacket ();
+	}
+	
+	final void handlePacketEnqueue (final Session session, final Message message, final boolean credited) {
+		try {
+			if (this.processingMode == ProcessingMode.Serialized)
+				synchronized (this.state.monitor) {
+					this.encodePacket (session, message);
 				}
-				session = new Session (sessionIdentifier, selfRoleIdentifier, peerRoleIdentifier, packet.peer, acceptor.specification, acceptor.callbacks, this.executor);
-				this.state.sessions.put (sessionIdentifier, session);
-				this.enqueueDispatcher (new SessionCreatedHandler (session));
+			else
+				this.encodePacket (session, message);
+		} finally {
+			// NOTE: The credit is given back only after the packet was handed to the socket (or was dropped);
+			//-- thus if the socket outbound queue is full, the session window fills up and the senders are told to retry.
+			if (credited)
+				session.sendCredits.release ();
+		}
+	}
+	
+	final void triggerPacketDequeue () {
+		this.enqueueHandler (new PacketDequeueHandler ());
+	}
+	
+	final boolean triggerPacketEnqueue (final Session session, final Message message, final boolean credited) {
+		if (this.processingMode == ProcessingMode.Concurrent) {
+			if (!this.enqueueSessionHandler (new PacketEncodeHandler (session, message, credited))) {
+				this.transcript.traceError ("error encountered while enqueueing packet of type `%s` for session `%s`: session queue full; ignoring!", message.specification.getIdentifier (), session.sessionIdentifier);
+				if (credited)
+					session.sendCredits.release ();
+				return (false);
 			}
-			final Object payload;
-			if ((coder.coder == null) && (packet.payload != null)) {
-				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder `%s`, but existing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+		} else
+			this.enqueueHandler (new PacketEnqueueHandler (session, message, credited));
+		return (true);
+	}
+	
+	final void triggerSessionsReap () {
+		this.enqueueHandler (new SessionsReapHandler ());
+	}
+	
+	final void triggerSessionContinueDispatch (final Session session) {
+		if (session.dispatchContinued.get () == Boolean.FALSE) {
+			session.dispatchContinued.set (Boolean.TRUE);
+			session.idle.release ();
+			this.scheduleDispatcher (session);
+		}
+	}
+	
+	private final long currentTime () {
+		return (TimeUnit.NANOSECONDS.toMillis (this.ticker.read ()));
+	}
+	
+	private final void decodePacket (final Session session, final Coder coder, final ZeroMqChannelPacket packet) {
+		final String sessionIdentifier = session.sessionIdentifier;
+		final String messageIdentifier = coder.messageIdentifier;
+		final String coderKey = coder.key;
+		final Object payload;
+		if ((coder.coder == null) && (packet.payload != null)) {
+			this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder `%s`, but existing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			return;
+		} else if ((coder.coder != null) && (packet.payload == null)) {
+			this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: existing coder `%s`, but missing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			return;
+		} else if (packet.payload != null)
+			try {
+				payload = coder.coder.decode (packet.payload);
+			} catch (final Throwable exception) {
+				this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet of type `%s` for session `%s`: coder `%s` failed; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
 				return;
-			} else if ((coder.coder != null) && (packet.payload == null)) {
-				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: existing coder `%s`, but missing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			}
+		else
+			payload = null;
+		final Message message = new Message (coder.specification, payload);
+		// NOTE: In concurrent mode the session might be destroyed (e.g. reaped) while the payload is decoded; thus the check and
+		//-- the enqueue are done under the session monitor (as is the destruction), so that `received` is either dispatched
+		//-- before `destroyed` or not at all.
+		synchronized (session.monitor) {
+			if (session.destroyed.get ()) {
+				this.transcript.traceWarning ("error encountered while decoding packet of type `%s` for session `%s`: session destroyed; ignoring!", messageIdentifier, sessionIdentifier);
 				return;
-			} else if (packet.payload != null)
-				try {
-					payload = coder.coder.decode (packet.payload);
-				} catch (final Throwable exception) {
-					this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet of type `%s` for session `%s`: coder `%s` failed; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
-					return;
-				}
-			else
-				payload = null;
-			final Message message = new Message (coder.specification, payload);
+			}
 			this.enqueueDispatcher (new SessionReceivedDispatcher (session, message));
 			if (coder.messageType == MessageType.Termination)
-				this.enqueueDispatcher (new SessionDestroyedDispatcher (session));
+				this.destroySession (session);
 		}
 	}
 	
-	final void handlePacketEnqueue (final Session session, final Message message) {
-		synchronized (this.state.monitor) {
-			final String sessionIdentifier = session.sessionIdentifier;
+	private final void dequeuePacket () {
+		final ZeroMqChannelPacket packet = this.socket.dequeue (0);
+		if (packet == null)
+			throw (new IllegalStateException ());
+		final byte marker = (packet.header.remaining () > 0) ? packet.header.get (packet.header.position ()) : 0;
+		if ((marker == ZeroMqChannel.compactDefinitionMarker) || (marker == ZeroMqChannel.compactReferenceMarker))
+			this.handleCompactPacketDequeue (packet);
+		else
+			this.handleLegacyPacketDequeue (packet);
+	}
+	
+	private final void destroySession (final Session session) {
+		synchronized (session.monitor) {
+			if (!session.destroyed.compareAndSet (false, true))
+				return;
+			this.state.sessions.remove (session.sessionIdentifier, session);
+			if (session.compactIdentifier != null)
+				this.state.compactSessions.remove (session.compactIdentifier, session);
+			this.enqueueDispatcher (new SessionDestroyedDispatcher (session));
+		}
+	}
+	
+	private final byte[] encodeCompactHeader (final Session session, final Coder coder) {
+		final boolean defined = session.outboundDefinedCoders.contains (coder);
+		final byte[] messageIdentifier = defined ? null : coder.messageIdentifier.getBytes ();
+		final byte[] header = new byte[ZeroMqChannel.compactHeaderSize + (defined ? 0 : (2 + messageIdentifier.length))];
+		final ByteBuffer buffer = ByteBuffer.wrap (header);
+		buffer.put (defined ? ZeroMqChannel.compactReferenceMarker : ZeroMqChannel.compactDefinitionMarker);
+		buffer.putLong (session.compactIdentifier.getMostSignificantBits ());
+		buffer.putLong (session.compactIdentifier.getLeastSignificantBits ());
+		buffer.putShort ((short) coder.index);
+		if (!defined) {
+			buffer.putShort ((short) messageIdentifier.length);
+			buffer.put (messageIdentifier);
+			session.outboundDefinedCoders.add (coder);
+		}
+		return (header);
+	}
+	
+	private final byte[] encodeLegacyHeader (final Session session, final Coder coder)
+				throws IOException
+	{
+		final ByteArrayOutputStream headerStream = new ByteArrayOutputStream ();
+		final DataOutputStream stream = new DataOutputStream (headerStream);
+		{
+			final byte[] buffer = session.sessionIdentifier.getBytes ();
+			stream.writeShort (buffer.length);
+			stream.write (buffer);
+		}
+		{
+			final byte[] buffer = session.peerRoleIdentifier.getBytes ();
+			stream.writeShort (buffer.length);
+			stream.write (buffer);
+		}
+		{
+			final byte[] buffer = session.selfRoleIdentifier.getBytes ();
+			stream.writeShort (buffer.length);
+			stream.write (buffer);
+		}
+		{
+			final byte[] buffer = coder.messageIdentifier.getBytes ();
+			stream.writeShort (buffer.length);
+			stream.write (buffer);
+		}
+		stream.close ();
+		return (headerStream.toByteArray ());
+	}
+	
+	private final void encodePacket (final Session session, final Message message) {
+		final String sessionIdentifier = session.sessionIdentifier;
+		final MessageSpecification messageSpecification = message.specification;
+		Coder coder = session.outboundCoders.get (messageSpecification);
+		if (coder == null) {
 			final String messageIdentifier;
 			try {
-				messageIdentifier = message.specification.getIdentifier ();
+				messageIdentifier = messageSpecification.getIdentifier ();
 			} catch (final Error exception) {
 				this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet; ignoring!");
 				return;
 			}
-			this.transcript.traceDebugging ("processing outbound packet of type `%s` for session `%s`...", messageIdentifier, sessionIdentifier);
 			final String coderKey = session.selfRoleIdentifier + "//" + session.peerRoleIdentifier + "//" + messageIdentifier;
-			final Coder coder = this.state.coders.get (coderKey);
+			coder = this.state.coders.get (coderKey);
 			if (coder == null) {
 				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder `%s`; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
 				return;
 			}
-			final ByteBuffer payload;
-			if ((coder.coder == null) && (message.payload != null)) {
-				this.transcript.traceError ("error encountered while encoding packet of type `%s` for session `%s`: missing coder `%s`, but existing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
-				return;
-			} else if ((coder.coder != null) && (message.payload == null)) {
-				this.transcript.traceError ("error encountered while encoding packet of type `%s` for session `%s`: existing coder `%s`, but missing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			session.outboundCoders.put (messageSpecification, coder);
+		}
+		final String messageIdentifier = coder.messageIdentifier;
+		final String coderKey = coder.key;
+		this.transcript.traceDebugging ("processing outbound packet of type `%s` for session `%s`...", messageIdentifier, sessionIdentifier);
+		if (session.destroyed.get ()) {
+			this.transcript.traceError ("error encountered while encoding packet of type `%s` for session `%s`: session destroyed; ignoring!", messageIdentifier, sessionIdentifier);
+			return;
+		}
+		session.lastActivity = this.currentTime ();
+		final ByteBuffer payload;
+		if ((coder.coder == null) && (message.payload != null)) {
+			this.transcript.traceError ("error encountered while encoding packet of type `%s` for session `%s`: missing coder `%s`, but existing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			return;
+		} else if ((coder.coder != null) && (message.payload == null)) {
+			this.transcript.traceError ("error encountered while encoding packet of type `%s` for session `%s`: existing coder `%s`, but missing payload; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			return;
+		} else if (message.payload != null)
+			try {
+				payload = coder.coder.encode (message.payload);
+			} catch (final Throwable exception) {
+				this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet of type `%s` for session `%s`: coder `%s` failed; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
 				return;
-			} else if (message.payload != null)
-				try {
-					payload = coder.coder.encode (message.payload);
-				} catch (final Throwable exception) {
-					this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet of type `%s` for session `%s`: coder `%s` failed; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
-					return;
-				}
+			}
+		else
+			payload = null;
+		final byte[] header;
+		try {
+			if (session.compactOutbound)
+				header = this.encodeCompactHeader (session, coder);
 			else
-				payload = null;
-			final byte[] header;
-			try {
-				final ByteArrayOutputStream headerStream = new ByteArrayOutputStream ();
-				final DataOutputStream stream = new DataOutputStream (headerStream);
-				{
-					final byte[] buffer = session.sessionIdentifier.getBytes ();
-					stream.writeShort (buffer.length);
-					stream.write (buffer);
-				}
-				{
-					final byte[] buffer = session.peerRoleIdentifier.getBytes ();
-					stream.writeShort (buffer.length);
-					stream.write (buffer);
-				}
-				{
-					final byte[] buffer = session.selfRoleIdentifier.getBytes ();
-					stream.writeShort (buffer.length);
-					stream.write (buffer);
-				}
-				{
-					final byte[] buffer = messageIdentifier.getBytes ();
-					stream.writeShort (buffer.length);
-					stream.write (buffer);
-				}
-				stream.close ();
-				header = headerStream.toByteArray ();
-			} catch (final IOException exception) {
-				this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet; ignoring!");
+				header = this.encodeLegacyHeader (session, coder);
+		} catch (final IOException exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet; ignoring!");
+			return;
+		} catch (final Error exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet; ignoring!");
+			return;
+		}
+		final ZeroMqChannelPacket packet = ZeroMqChannelPacket.create (session.peerIdentifier, ByteBuffer.wrap (header), payload);
+		// NOTE: the retries are bounded, as in serialized mode the channel monitor is held meanwhile, thus stalling all the other sessions.
+		for (int retries = 0; !this.socket.enqueue (packet, ZeroMqChannel.defaultEnqueueTimeout); retries++) {
+			if (this.socket.shouldStop) {
+				this.transcript.traceError ("error encountered while enqueueing packet of type `%s` for session `%s`: socket terminated; ignoring!", messageIdentifier, sessionIdentifier);
 				return;
-			} catch (final Error exception) {
-				this.exceptions.traceIgnoredException (exception, "error encountered while encoding packet; ignoring!");
+			}
+			if (retries >= ZeroMqChannel.defaultEnqueueRetries) {
+				this.failSession (session, new TimeoutException (String.format ("outbound queue full while enqueueing packet of type `%s` for session `%s`", messageIdentifier, sessionIdentifier)));
 				return;
 			}
-			final ZeroMqChannelPacket packet = ZeroMqChannelPacket.create (session.peerIdentifier, ByteBuffer.wrap (header), payload);
-			if (!this.socket.enqueue (packet, 1000))
-				throw (new IllegalStateException ());
-			if (coder.messageType == MessageType.Termination)
-				this.enqueueDispatcher (new SessionDestroyedDispatcher (session));
-		}
-	}
-	
-	final void triggerPacketDequeue () {
-		this.enqueueHandler (new PacketDequeueHandler ());
-	}
-	
-	final void triggerPacketEnqueue (final Session session, final Message message) {
-		this.enqueueHandler (new PacketEnqueueHandler (session, message));
-	}
-	
-	final void triggerSessionContinueDispatch (final Session session) {
-		if (session.dispatchContinued.get () == Boolean.FALSE) {
-			session.dispatchContinued.set (Boolean.TRUE);
-			session.idle.release ();
-			this.scheduleDispatcher (session);
+			this.transcript.traceWarning ("outbound queue full while enqueueing packet of type `%s` for session `%s`; retrying!", messageIdentifier, sessionIdentifier);
 		}
+		if (coder.messageType == MessageType.Termination)
+			this.destroySession (session);
 	}
 	
 	private final void enqueueDispatcher (final Dispatcher dispatcher) {
 		final Session session = dispatcher.session;
+		this.state.pendingDispatchers.incrementAndGet ();
 		session.dispatchers.add (dispatcher);
 		this.scheduleDispatcher (session);
 	}
@@ -425,14 +618,170 @@ public final class ZeroMqChannel
 		this.scheduleHandler ();
 	}
 	
+	private final boolean enqueueSessionHandler (final SessionHandler handler) {
+		final Session session = handler.session;
+		if (!session.handlersCapacity.tryAcquire ())
+			return (false);
+		session.handlers.add (handler);
+		this.scheduleSessionHandler (session);
+		return (true);
+	}
+	
+	private final void handleCompactPacketDequeue (final ZeroMqChannelPacket packet) {
+		final boolean definition;
+		final UUID compactIdentifier;
+		final int coderIndex;
+		final String definedMessageIdentifier;
+		try {
+			final ByteBuffer header = packet.header.slice ();
+			definition = header.get () == ZeroMqChannel.compactDefinitionMarker;
+			compactIdentifier = new UUID (header.getLong (), header.getLong ());
+			coderIndex = header.getShort () & 0xffff;
+			if (definition) {
+				final byte[] buffer = new byte[header.getShort () & 0xffff];
+				header.get (buffer);
+				definedMessageIdentifier = new String (buffer);
+			} else
+				definedMessageIdentifier = null;
+			if (header.hasRemaining ()) {
+				this.transcript.traceError ("error encountered while decoding compact packet for session `%s`: header trailing garbage; ignoring!", compactIdentifier);
+				return;
+			}
+		} catch (final BufferUnderflowException exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while decoding compact packet; ignoring!");
+			return;
+		}
+		final Session session = this.state.compactSessions.get (compactIdentifier);
+		if (session == null) {
+			this.transcript.traceError ("error encountered while decoding compact packet for session `%s`: unknown session; ignoring!", compactIdentifier);
+			return;
+		}
+		// NOTE: The peer has proven that it understands compact headers, thus from now on we use them also for outbound packets.
+		session.compactOutbound = true;
+		session.lastActivity = this.currentTime ();
+		final Coder coder;
+		if (definition) {
+			final String coderKey = session.selfRoleIdentifier + "//" + session.peerRoleIdentifier + "//" + definedMessageIdentifier;
+			coder = this.state.coders.get (coderKey);
+			if (coder == null) {
+				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder for `%s`; ignoring!", definedMessageIdentifier, session.sessionIdentifier, coderKey);
+				return;
+			}
+			session.inboundCoders.put (Integer.valueOf (coderIndex), coder);
+		} else {
+			coder = session.inboundCoders.get (Integer.valueOf (coderIndex));
+			if (coder == null) {
+				this.transcript.traceError ("error encountered while decoding packet for session `%s`: undefined coder `%d`; ignoring!", session.sessionIdentifier, Integer.valueOf (coderIndex));
+				return;
+			}
+		}
+		this.transcript.traceDebugging ("processing inbound packet of type `%s` for session `%s`...", coder.messageIdentifier, session.sessionIdentifier);
+		this.schedulePacketDecode (session, coder, packet);
+	}
+	
+	private final void handleLegacyPacketDequeue (final ZeroMqChannelPacket packet) {
+		final String sessionIdentifier;
+		final String selfRoleIdentifier;
+		final String peerRoleIdentifier;
+		final String messageIdentifier;
+		try {
+			final DataInputStream stream = new DataInputStream (new ByteArrayInputStream (packet.header.array (), packet.header.arrayOffset () + packet.header.position (), packet.header.remaining ()));
+			{
+				final int bufferSize = stream.readUnsignedShort ();
+				final byte[] buffer = new byte[bufferSize];
+				stream.readFully (buffer);
+				sessionIdentifier = new String (buffer);
+			}
+			{
+				final int bufferSize = stream.readUnsignedShort ();
+				final byte[] buffer = new byte[bufferSize];
+				stream.readFully (buffer);
+				selfRoleIdentifier = new String (buffer);
+			}
+			{
+				final int bufferSize = stream.readUnsignedShort ();
+				final byte[] buffer = new byte[bufferSize];
+				stream.readFully (buffer);
+				peerRoleIdentifier = new String (buffer);
+			}
+			{
+				final int bufferSize = stream.readUnsignedShort ();
+				final byte[] buffer = new byte[bufferSize];
+				stream.readFully (buffer);
+				messageIdentifier = new String (buffer);
+			}
+			if (stream.available () > 0) {
+				this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: header trailing garbage; ignoring!", messageIdentifier, sessionIdentifier);
+				return;
+			}
+			stream.close ();
+		} catch (final IOException exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet; ignoring!");
+			return;
+		} catch (final Error exception) {
+			this.exceptions.traceIgnoredException (exception, "error encountered while decoding packet; ignoring!");
+			return;
+		}
+		this.transcript.traceDebugging ("processing inbound packet of type `%s` for session `%s`...", messageIdentifier, sessionIdentifier);
+		final String acceptorKey = selfRoleIdentifier + "//" + peerRoleIdentifier;
+		final String coderKey = selfRoleIdentifier + "//" + peerRoleIdentifier + "//" + messageIdentifier;
+		final Coder coder = this.state.coders.get (coderKey);
+		if (coder == null) {
+			this.transcript.traceError ("error encountered while decoding packet of type `%s` for session `%s`: missing coder for `%s`; ignoring!", messageIdentifier, sessionIdentifier, coderKey);
+			return;
+		}
+		final Session session;
+		final Session existingSession = this.state.sessions.get (sessionIdentifier);
+		if (existingSession != null) {
+			session = existingSession;
+			session.lastActivity = this.currentTime ();
+		} else {
+			this.transcript.traceDebugging ("accepting session `%s` for `%s`...", sessionIdentifier, acceptorKey);
+			final Acceptor acceptor = this.state.acceptors.get (acceptorKey);
+			if (acceptor == null) {
+				this.transcript.traceError ("error encountered while initiating session `%s`: missing accepter `%s`; ignoring!", sessionIdentifier, acceptorKey);
+				return;
+			}
+			if (coder.messageType != MessageType.Initiation) {
+				this.transcript.traceError ("error encountered while initiating session `%s`: mismatched message type `%s`; ignoring!", sessionIdentifier, messageIdentifier);
+				return;
+			}
+			if (this.state.sessions.size () >= this.sessionsLimit) {
+				this.transcript.traceError ("error encountered while initiating session `%s`: too many sessions; ignoring!", sessionIdentifier);
+				return;
+			}
+			UUID compactIdentifier = (this.headerMode == HeaderMode.Compact) ? ZeroMqChannel.parseCompactSessionIdentifier (sessionIdentifier) : null;
+			if ((compactIdentifier != null) && this.state.compactSessions.containsKey (compactIdentifier)) {
+				this.transcript.traceWarning ("duplicate compact identifier for session `%s`; falling back to legacy headers!", sessionIdentifier);
+				compactIdentifier = null;
+			}
+			session = new Session (sessionIdentifier, compactIdentifier, compactIdentifier != null, selfRoleIdentifier, peerRoleIdentifier, packet.peer, acceptor.specification, acceptor.callbacks, this.executorPool);
+			this.state.sessions.put (sessionIdentifier, session);
+			if (compactIdentifier != null)
+				this.state.compactSessions.put (compactIdentifier, session);
+			this.enqueueDispatcher (new SessionCreatedHandler (session));
+		}
+		this.schedulePacketDecode (session, coder, packet);
+	}
+	
 	private final void scheduleDispatcher (final Session session) {
 		if (!session.dispatchers.isEmpty () && session.idle.tryAcquire ()) {
 			final Dispatcher dispatcher = session.dispatchers.poll ();
-			if (dispatcher != null)
+			if ((dispatcher != null) && !this.executing.tryAcquire ()) {
+				this.state.pendingDispatchers.decrementAndGet ();
+				this.transcript.traceError ("error encountered while scheduling dispatcher: channel terminated; ignoring!");
+				session.idle.release ();
+			} else if (dispatcher != null)
 				try {
+					this.state.pendingDispatchers.decrementAndGet ();
 					session.executor.get ().execute (dispatcher);
+				} catch (final RejectedExecutionException exception) {
+					this.exceptions.traceIgnoredException (exception, "error encountered while scheduling dispatcher: executor rejected; ignoring!");
+					this.executing.release ();
+					session.idle.release ();
 				} catch (final Error exception) {
 					this.exceptions.traceDeferredException (exception, "error encountered while scheduling dispatcher; rethrowing!");
+					this.executing.release ();
 					session.idle.release ();
 					throw (exception);
 				}
@@ -444,31 +793,150 @@ public final class ZeroMqChannel
 	private final void scheduleHandler () {
 		if (!this.handlers.isEmpty () && this.idle.tryAcquire ()) {
 			final Handler handler = this.handlers.poll ();
-			if (handler != null)
+			if (handler == null)
+				this.idle.release ();
+			else if (!this.executing.tryAcquire ()) {
+				this.transcript.traceError ("error encountered while scheduling handler: channel terminated; ignoring!");
+				this.idle.release ();
+			} else
 				try {
-					this.executor.execute (handler);
+					(handler.blocking ? this.executorPool : this.executor).execute (handler);
+				} catch (final RejectedExecutionException exception) {
+					this.exceptions.traceIgnoredException (exception, "error encountered while scheduling handler: executor rejected; ignoring!");
+					this.executing.release ();
+					this.idle.release ();
 				} catch (final Error exception) {
 					this.exceptions.traceDeferredException (exception, "error encountered while scheduling handler; rethrowing!");
+					this.executing.release ();
 					this.idle.release ();
 					throw (exception);
 				}
-			else
-				this.idle.release ();
+		}
+	}
+	
+	private final void schedulePacketDecode (final Session session, final Coder coder, final ZeroMqChannelPacket packet) {
+		if (this.processingMode == ProcessingMode.Concurrent) {
+			if (!this.enqueueSessionHandler (new PacketDecodeHandler (session, coder, packet)))
+				this.failSession (session, new TimeoutException (String.format ("session queue full while decoding packet of type `%s` for session `%s`", coder.messageIdentifier, session.sessionIdentifier)));
+		} else
+			this.decodePacket (session, coder, packet);
+	}
+	
+	private final void scheduleSessionHandler (final Session session) {
+		if (!session.handlers.isEmpty () && session.handlersIdle.tryAcquire ()) {
+			final SessionHandler handler = session.handlers.poll ();
+			if (handler != null)
+				session.handlersCapacity.release ();
+			if (handler == null)
+				session.handlersIdle.release ();
+			else if (!this.executing.tryAcquire ()) {
+				this.transcript.traceError ("error encountered while scheduling session handler: channel terminated; ignoring!");
+				session.handlersIdle.release ();
+			} else
+				try {
+					(handler.blocking ? this.executorPool : this.executor).execute (handler);
+				} catch (final RejectedExecutionException exception) {
+					this.exceptions.traceIgnoredException (exception, "error encountered while scheduling session handler: executor rejected; ignoring!");
+					this.executing.release ();
+					session.handlersIdle.release ();
+				} catch (final Error exception) {
+					this.exceptions.traceDeferredException (exception, "error encountered while scheduling session handler; rethrowing!");
+					this.executing.release ();
+					session.handlersIdle.release ();
+					throw (exception);
+				}
 		}
 	}
 	
 	final TranscriptExceptionTracer exceptions;
-	final ExecutorService executor;
+	final Semaphore executing;
+	final Executor executor;
+	final ExecutorService executorPool;
 	final ConcurrentLinkedQueue<Handler> handlers;
+	final HeaderMode headerMode;
 	final Semaphore idle;
+	final EventLoopGroup loops;
+	final ProcessingMode processingMode;
+	final ScheduledExecutorService reaper;
+	final int sessionHandlersLimit;
+	final long sessionIdleTimeout;
+	final int sessionSendWindow;
+	final int sessionsLimit;
 	final String selfIdentifier;
 	final ZeroMqChannelSocket socket;
 	final State state;
+	volatile boolean terminated;
 	final ThreadingContext threading;
+	final Ticker ticker;
 	final Transcript transcript;
 	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final long sessionIdleTimeout, final int sessionsLimit, final int sessionSendWindow, final int packetsQueueCapacity, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, processingMode, sessionIdleTimeout, sessionsLimit, sessionSendWindow, packetsQueueCapacity, threading, null, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final long sessionIdleTimeout, final int sessionsLimit, final int sessionSendWindow, final int packetsQueueCapacity, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, processingMode, sessionIdleTimeout, sessionsLimit, sessionSendWindow, packetsQueueCapacity, threading, loops, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final long sessionIdleTimeout, final int sessionsLimit, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, processingMode, sessionIdleTimeout, sessionsLimit, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity, threading, null, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, processingMode, ZeroMqChannel.defaultSessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity, threading, null, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, ZeroMqChannel.defaultProcessingMode, ZeroMqChannel.defaultSessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity, threading, null, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final ThreadingContext threading, final EventLoopGroup loops, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, ZeroMqChannel.defaultHeaderMode, ZeroMqChannel.defaultProcessingMode, ZeroMqChannel.defaultSessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity, threading, loops, Ticker.systemTicker (), exceptions));
+	}
+	
 	public static final ZeroMqChannel create (final String self, final ThreadingContext threading, final ExceptionTracer exceptions) {
-		return (new ZeroMqChannel (self, threading, exceptions));
+		return (new ZeroMqChannel (self, ZeroMqChannel.defaultHeaderMode, ZeroMqChannel.defaultProcessingMode, ZeroMqChannel.defaultSessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity, threading, null, Ticker.systemTicker (), exceptions));
+	}
+	
+	public static final ZeroMqChannel create (final String self, final HeaderMode headerMode, final ProcessingMode processingMode, final long sessionIdleTimeout, final int sessionsLimit, final int sessionSendWindow, final int packetsQueueCapacity, final ThreadingContext threading, final EventLoopGroup loops, final Ticker ticker, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannel (self, headerMode, processingMode, sessionIdleTimeout, sessionsLimit, sessionSendWindow, packetsQueueCapacity, threading, loops, ticker, exceptions));
+	}
+	
+	static final UUID parseCompactSessionIdentifier (final String sessionIdentifier) {
+		if (!sessionIdentifier.startsWith (ZeroMqChannel.compactSessionIdentifierPrefix))
+			return (null);
+		try {
+			return (UUID.fromString (sessionIdentifier.substring (ZeroMqChannel.compactSessionIdentifierPrefix.length ())));
+		} catch (final IllegalArgumentException exception) {
+			return (null);
+		}
+	}
+	
+	public static final HeaderMode defaultHeaderMode = HeaderMode.Compact;
+	public static final ProcessingMode defaultProcessingMode = ProcessingMode.Concurrent;
+	public static final int defaultEnqueueRetries = 4;
+	public static final long defaultEnqueueTimeout = 1000;
+	public static final long defaultSessionIdleTimeout = -1;
+	public static final int defaultSessionSendWindow = 1024;
+	public static final int defaultSessionsLimit = 16 * 1024;
+	public static final long defaultSessionsReapDelay = 1000;
+	static final int compactCoderIndexLimit = 0xffff;
+	static final int executingLimit = Integer.MAX_VALUE;
+	static final byte compactDefinitionMarker = (byte) 0xc1;
+	static final int compactHeaderSize = 1 + 16 + 2;
+	static final byte compactReferenceMarker = (byte) 0xc2;
+	static final String compactSessionIdentifierPrefix = "c:";
+	
+	public static enum HeaderMode
+	{
+		Compact,
+		Legacy;
+	}
+	
+	public static enum ProcessingMode
+	{
+		Concurrent,
+		Serialized;
 	}
 	
 	private static final class Acceptor
@@ -493,9 +961,10 @@ public final class ZeroMqChannel
 	private static final class Coder
 				extends Object
 	{
-		Coder (final String key, final String selfRoleIdentifier, final String peerRoleIdentifier, final String messageIdentifier, final MessageType messageType, final MessageSpecification specification, final PayloadCoder coder) {
+		Coder (final String key, final int index, final String selfRoleIdentifier, final String peerRoleIdentifier, final String messageIdentifier, final MessageType messageType, final MessageSpecification specification, final PayloadCoder coder) {
 			super ();
 			this.key = key;
+			this.index = index;
 			this.selfRoleIdentifier = selfRoleIdentifier;
 			this.peerRoleIdentifier = peerRoleIdentifier;
 			this.messageIdentifier = messageIdentifier;
@@ -504,7 +973,12 @@ public final class ZeroMqChannel
 			this.coder = coder;
 		}
 		
+		final Coder index (final int index) {
+			return (new Coder (this.key, index, this.selfRoleIdentifier, this.peerRoleIdentifier, this.messageIdentifier, this.messageType, this.specification, this.coder));
+		}
+		
 		final PayloadCoder coder;
+		final int index;
 		final String key;
 		final String messageIdentifier;
 		final MessageType messageType;
@@ -535,7 +1009,12 @@ public final class ZeroMqChannel
 				extends Runnable
 	{
 		Handler () {
+			this (false);
+		}
+		
+		Handler (final boolean blocking) {
 			super ();
+			this.blocking = blocking;
 		}
 		
 		@Override
@@ -544,6 +1023,26 @@ public final class ZeroMqChannel
 		}
 		
 		abstract void handle ();
+		
+		final boolean blocking;
+	}
+	
+	private final class PacketDecodeHandler
+				extends SessionHandler
+	{
+		PacketDecodeHandler (final Session session, final Coder coder, final ZeroMqChannelPacket packet) {
+			super (session);
+			this.coder = coder;
+			this.packet = packet;
+		}
+		
+		@Override
+		final void handle () {
+			ZeroMqChannel.this.handlePacketDecode (this.session, this.coder, this.packet);
+		}
+		
+		final Coder coder;
+		final ZeroMqChannelPacket packet;
 	}
 	
 	private final class PacketDequeueHandler
@@ -572,20 +1071,40 @@ public final class ZeroMqChannel
 		}
 	}
 	
+	private final class PacketEncodeHandler
+				extends SessionHandler
+	{
+		PacketEncodeHandler (final Session session, final Message message, final boolean credited) {
+			super (session, true);
+			this.message = message;
+			this.credited = credited;
+		}
+		
+		@Override
+		final void handle () {
+			ZeroMqChannel.this.handlePacketEnqueue (this.session, this.message, this.credited);
+		}
+		
+		final boolean credited;
+		final Message message;
+	}
+	
 	private final class PacketEnqueueHandler
 				extends Handler
 	{
-		PacketEnqueueHandler (final Session session, final Message message) {
-			super ();
+		PacketEnqueueHandler (final Session session, final Message message, final boolean credited) {
+			super (true);
 			this.session = session;
 			this.message = message;
+			this.credited = credited;
 		}
 		
 		@Override
 		final void handle () {
-			ZeroMqChannel.this.handlePacketEnqueue (this.session, this.message);
+			ZeroMqChannel.this.handlePacketEnqueue (this.session, this.message, this.credited);
 		}
 		
+		final boolean credited;
 		final Message message;
 		final Session session;
 	}
@@ -605,16 +1124,28 @@ public final class ZeroMqChannel
 				implements
 					eu.mosaic_cloud.interoperability.core.Session
 	{
-		Session (final String sessionIdentifier, final String selfRoleIdentifier, final String peerRoleIdentifier, final String peerIdentifier, final SessionSpecification specification, final SessionCallbacks callbacks, final Executor executor) {
+		Session (final String sessionIdentifier, final UUID compactIdentifier, final boolean compactOutbound, final String selfRoleIdentifier, final String peerRoleIdentifier, final String peerIdentifier, final SessionSpecification specification, final SessionCallbacks callbacks, final Executor executor) {
 			super ();
 			this.sessionIdentifier = sessionIdentifier;
+			this.compactIdentifier = compactIdentifier;
+			this.compactOutbound = compactOutbound;
+			this.destroyed = new AtomicBoolean (false);
+			this.sendCredits = new Semaphore (ZeroMqChannel.this.sessionSendWindow);
+			this.lastActivity = ZeroMqChannel.this.currentTime ();
+			this.inboundCoders = new HashMap<Integer, Coder> ();
+			this.outboundCoders = new HashMap<MessageSpecification, Coder> ();
+			this.outboundDefinedCoders = new HashSet<Coder> ();
 			this.selfRoleIdentifier = selfRoleIdentifier;
 			this.peerRoleIdentifier = peerRoleIdentifier;
 			this.peerIdentifier = peerIdentifier;
 			this.specification = specification;
 			this.dispatchers = new ConcurrentLinkedQueue<ZeroMqChannel.Dispatcher> ();
 			this.idle = new Semaphore (1);
+			this.handlers = new ConcurrentLinkedQueue<ZeroMqChannel.SessionHandler> ();
+			this.handlersCapacity = new Semaphore (ZeroMqChannel.this.sessionHandlersLimit);
+			this.handlersIdle = new Semaphore (1);
 			this.dispatchContinued = new ThreadLocal<Boolean> ();
+			this.monitor = Monitor.create (this);
 			this.callbacks = Atomics.newReference (callbacks);
 			this.executor = Atomics.newReference (executor);
 		}
@@ -627,7 +1158,18 @@ public final class ZeroMqChannel
 		@Override
 		public final void send (final Message message) {
 			Preconditions.checkNotNull (message);
-			ZeroMqChannel.this.triggerPacketEnqueue (this, message);
+			// NOTE: Plain sends are refused only when the session queue is full (and then the session fails), but if a credit
+			//-- is available they consume it, thus throttling the well behaved senders.
+			if (!ZeroMqChannel.this.triggerPacketEnqueue (this, message, this.sendCredits.tryAcquire ()))
+				ZeroMqChannel.this.failSession (this, new TimeoutException (String.format ("session queue full while enqueueing packet of type `%s` for session `%s`", message.specification.getIdentifier (), this.sessionIdentifier)));
+		}
+		
+		@Override
+		public final boolean send (final Message message, final long timeout) {
+			Preconditions.checkNotNull (message);
+			if (!Threading.acquire (this.sendCredits, timeout))
+				return (false);
+			return (ZeroMqChannel.this.triggerPacketEnqueue (this, message, true));
 		}
 		
 		@Override
@@ -643,13 +1185,25 @@ public final class ZeroMqChannel
 		}
 		
 		final AtomicReference<SessionCallbacks> callbacks;
+		final UUID compactIdentifier;
+		volatile boolean compactOutbound;
+		final AtomicBoolean destroyed;
 		final ThreadLocal<Boolean> dispatchContinued;
 		final ConcurrentLinkedQueue<Dispatcher> dispatchers;
 		final AtomicReference<Executor> executor;
+		final ConcurrentLinkedQueue<SessionHandler> handlers;
+		final Semaphore handlersCapacity;
+		final Semaphore handlersIdle;
 		final Semaphore idle;
+		final HashMap<Integer, Coder> inboundCoders;
+		volatile long lastActivity;
+		final Monitor monitor;
+		final HashMap<MessageSpecification, Coder> outboundCoders;
+		final HashSet<Coder> outboundDefinedCoders;
 		final String peerIdentifier;
 		final String peerRoleIdentifier;
 		final String selfRoleIdentifier;
+		final Semaphore sendCredits;
 		final String sessionIdentifier;
 		final SessionSpecification specification;
 	}
@@ -680,6 +1234,46 @@ public final class ZeroMqChannel
 		}
 	}
 	
+	private final class SessionFailedDispatcher
+				extends Dispatcher
+	{
+		SessionFailedDispatcher (final Session session, final Throwable exception) {
+			super (session);
+			this.exception = exception;
+		}
+		
+		@Override
+		final void dispatch () {
+			ZeroMqChannel.this.dispatchSessionFailed (this.session, this.exception);
+		}
+		
+		final Throwable exception;
+	}
+	
+	private abstract class SessionHandler
+				extends Runnable
+	{
+		SessionHandler (final Session session) {
+			this (session, false);
+		}
+		
+		SessionHandler (final Session session, final boolean blocking) {
+			super ();
+			this.session = session;
+			this.blocking = blocking;
+		}
+		
+		@Override
+		public final void run () {
+			ZeroMqChannel.this.executeSessionHandler (this);
+		}
+		
+		abstract void handle ();
+		
+		final boolean blocking;
+		final Session session;
+	}
+	
 	private final class SessionReceivedDispatcher
 				extends Dispatcher
 	{
@@ -696,21 +1290,72 @@ public final class ZeroMqChannel
 		final Message message;
 	}
 	
+	private final class SessionsReapHandler
+				extends Handler
+	{
+		SessionsReapHandler () {
+			super ();
+		}
+		
+		@Override
+		final void handle () {
+			ZeroMqChannel.this.executeSessionsReap ();
+		}
+	}
+	
+	private final class SessionsReapTrigger
+				extends Trigger
+	{
+		SessionsReapTrigger () {
+			super ();
+		}
+		
+		@Override
+		final void trigger () {
+			ZeroMqChannel.this.triggerSessionsReap ();
+		}
+	}
+	
+	private final class SessionsReapTimer
+				extends Trigger
+	{
+		SessionsReapTimer (final EventLoop loop, final long delay) {
+			super ();
+			this.loop = loop;
+			this.delay = delay;
+		}
+		
+		@Override
+		final void trigger () {
+			if (ZeroMqChannel.this.terminated)
+				return;
+			ZeroMqChannel.this.triggerSessionsReap ();
+			this.loop.schedule (this, this.delay);
+		}
+		
+		final long delay;
+		final EventLoop loop;
+	}
+	
 	private final class State
 				extends Object
 	{
 		State () {
 			super ();
 			this.monitor = Monitor.create (this);
-			this.sessions = new HashMap<String, Session> ();
-			this.acceptors = new HashMap<String, Acceptor> ();
-			this.coders = new HashMap<String, Coder> ();
+			this.sessions = new ConcurrentHashMap<String, Session> ();
+			this.acceptors = new ConcurrentHashMap<String, Acceptor> ();
+			this.coders = new ConcurrentHashMap<String, Coder> ();
+			this.compactSessions = new ConcurrentHashMap<UUID, Session> ();
+			this.pendingDispatchers = new AtomicInteger (0);
 		}
 		
-		final HashMap<String, Acceptor> acceptors;
-		final HashMap<String, Coder> coders;
+		final ConcurrentHashMap<String, Acceptor> acceptors;
+		final ConcurrentHashMap<String, Coder> coders;
+		final ConcurrentHashMap<UUID, Session> compactSessions;
 		final Monitor monitor;
-		final HashMap<String, Session> sessions;
+		final AtomicInteger pendingDispatchers;
+		final ConcurrentHashMap<String, Session> sessions;
 	}
 	
 	private abstract class Trigger
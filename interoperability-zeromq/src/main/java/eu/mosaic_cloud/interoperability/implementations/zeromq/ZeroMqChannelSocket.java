@@ -23,10 +23,14 @@ package eu.mosaic_cloud.interoperability.implementations.zeromq;
 
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.UUID;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
+import eu.mosaic_cloud.tools.miscellaneous.Monitor;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
@@ -40,9 +44,13 @@ import com.google.common.base.Preconditions;
 public final class ZeroMqChannelSocket
 			extends Object
 {
-	private ZeroMqChannelSocket (final String self, final Runnable dequeueTrigger, final ThreadingContext threading, final ExceptionTracer exceptions) {
+	private ZeroMqChannelSocket (final String self, final Runnable dequeueTrigger, final LoopMode loopMode, final int batchSize, final int inboundCapacity, final int outboundCapacity, final ThreadingContext threading, final ExceptionTracer exceptions) {
 		super ();
 		Preconditions.checkNotNull (self);
+		Preconditions.checkNotNull (loopMode);
+		Preconditions.checkArgument (batchSize > 0);
+		Preconditions.checkArgument (inboundCapacity > 0);
+		Preconditions.checkArgument (outboundCapacity > 0);
 		Preconditions.checkNotNull (threading);
 		this.threading = threading;
 		this.transcript = Transcript.create (this, true);
@@ -50,9 +58,15 @@ public final class ZeroMqChannelSocket
 		this.self = self;
 		this.connectedEndpoints = new HashSet<String> ();
 		this.acceptingEndpoints = new HashSet<String> ();
-		this.inboundPackets = new LinkedBlockingQueue<ZeroMqChannelPacket> ();
-		this.outboundPackets = new LinkedBlockingQueue<ZeroMqChannelPacket> ();
+		this.inboundPackets = new LinkedBlockingQueue<ZeroMqChannelPacket> (inboundCapacity);
+		this.outboundPackets = new LinkedBlockingQueue<ZeroMqChannelPacket> (outboundCapacity);
 		this.dequeueTrigger = dequeueTrigger;
+		this.loopMode = loopMode;
+		this.batchSize = batchSize;
+		this.peerIdentities = new HashMap<String, byte[]> ();
+		this.signalEndpoint = "inproc://" + UUID.randomUUID ().toString ();
+		this.signalMonitor = Monitor.create (this);
+		this.signalPending = new AtomicBoolean (false);
 		this.shouldStop = false;
 		this.loop = Threading.createAndStartDaemonThread (ZeroMqChannelSocket.this.threading, ZeroMqChannelSocket.this, "loop", new Loop ());
 	}
@@ -88,8 +102,20 @@ public final class ZeroMqChannelSocket
 		return (Threading.poll (this.inboundPackets, timeout));
 	}
 	
+	public final int getInboundPending () {
+		return (this.inboundPackets.size ());
+	}
+	
+	public final int getOutboundPending () {
+		return (this.outboundPackets.size ());
+	}
+	
 	public final boolean enqueue (final ZeroMqChannelPacket packet, final long timeout) {
-		return (Threading.offer (this.outboundPackets, packet, timeout));
+		if (!Threading.offer (this.outboundPackets, packet, timeout))
+			return (false);
+		if (this.loopMode == LoopMode.EventDriven)
+			this.signal (false);
+		return (true);
 	}
 	
 	public final void terminate () {
@@ -99,10 +125,73 @@ public final class ZeroMqChannelSocket
 	public final boolean terminate (final long timeout) {
 		this.transcript.traceDebugging ("terminating...");
 		this.shouldStop = true;
+		if (this.loopMode == LoopMode.EventDriven)
+			this.signal (true);
 		return (Threading.join (this.loop, timeout));
 	}
 	
 	final void loop () {
+		switch (this.loopMode) {
+			case Polling :
+				this.loopPolling ();
+				break;
+			case EventDriven :
+				this.loopEventDriven ();
+				break;
+			default :
+				throw (new AssertionError ());
+		}
+	}
+	
+	final void loopEventDriven () {
+		// this.transcript.traceDebugging ("loopping...");
+		final ZMQ.Poller poller = ZeroMqChannelSocket.defaultContext.poller (2);
+		final int signalPollIndex = poller.register (this.signalReceiver, ZMQ.Poller.POLLIN);
+		int socketPollIndex = -1;
+		int socketPollEvents = 0;
+		while (true) {
+			if (this.shouldStop)
+				break;
+			// NOTE: The pending flag is reset before draining, thus any packet enqueued after this point triggers a new signal.
+			this.signalPending.set (false);
+			this.sendBatch ();
+			this.receiveBatch ();
+			final long socketEvents = this.socket.getEvents ();
+			final boolean outboundPending = !this.outboundPackets.isEmpty ();
+			final boolean outboundStalled = outboundPending && ((socketEvents & ZMQ.Poller.POLLOUT) == 0);
+			final boolean inboundPending = (socketEvents & ZMQ.Poller.POLLIN) != 0;
+			final boolean inboundStalled = inboundPending && (this.inboundPackets.remainingCapacity () <= 0);
+			// NOTE: The socket is re-registered only when the interest set changes, which happens only when the inbound queue is full.
+			final int socketPollEventsWanted = inboundStalled ? ZMQ.Poller.POLLERR : (ZMQ.Poller.POLLIN | ZMQ.Poller.POLLERR);
+			if (socketPollEventsWanted != socketPollEvents) {
+				if (socketPollIndex != -1)
+					poller.unregister (this.socket);
+				socketPollIndex = poller.register (this.socket, socketPollEventsWanted);
+				socketPollEvents = socketPollEventsWanted;
+			}
+			// NOTE: If a batch was exhausted but there is still work to be done, we only check for errors and signals, and then we loop.
+			final long pollDelay;
+			if ((outboundPending && !outboundStalled) || (inboundPending && !inboundStalled))
+				pollDelay = 0;
+			else if (outboundStalled || inboundStalled)
+				pollDelay = ZeroMqChannelSocket.defaultPollDelay;
+			else
+				pollDelay = ZeroMqChannelSocket.defaultIdlePollDelay;
+			// FIXME: In version 2.x of ZeroMQ the timeout is expressed in microseconds, but in 3.x it is in milliseconds.
+			//-- Currently we use 2.x, thus the timeout is in milliseconds.
+			if (poller.poll (pollDelay * 1000) > 0) {
+				if (poller.pollerr (socketPollIndex) || ((this.socket.getEvents () & ZMQ.Poller.POLLERR) != 0))
+					this.failed ();
+				if (poller.pollin (signalPollIndex))
+					this.signalFlush ();
+			}
+		}
+		if (socketPollIndex != -1)
+			poller.unregister (this.socket);
+		poller.unregister (this.signalReceiver);
+	}
+	
+	final void loopPolling () {
 		// this.transcript.traceDebugging ("loopping...");
 		final ZMQ.Poller poller = ZeroMqChannelSocket.defaultContext.poller (3);
 		while (true) {
@@ -127,9 +216,9 @@ public final class ZeroMqChannelSocket
 					this.failed ();
 				else {
 					if ((inboundPollIndex >= 0) && poller.pollin (inboundPollIndex))
-						this.receive ();
+						this.receiveBatch ();
 					if ((outboundPollIndex >= 0) && poller.pollout (outboundPollIndex))
-						this.send ();
+						this.sendBatch ();
 				}
 			}
 			if (inboundPollIndex != -1)
@@ -147,10 +236,28 @@ public final class ZeroMqChannelSocket
 		this.acceptingEndpoints.clear ();
 		this.socket = ZeroMqChannelSocket.defaultContext.socket (ZMQ.XREP);
 		this.socket.setIdentity (this.self.getBytes ());
+		if (this.loopMode == LoopMode.EventDriven) {
+			// NOTE: For `inproc` transports the binding must precede the connection.
+			this.signalReceiver = ZeroMqChannelSocket.defaultContext.socket (ZMQ.PAIR);
+			this.signalReceiver.bind (this.signalEndpoint);
+			final ZMQ.Socket signalSender = ZeroMqChannelSocket.defaultContext.socket (ZMQ.PAIR);
+			signalSender.connect (this.signalEndpoint);
+			synchronized (this.signalMonitor) {
+				this.signalSender = signalSender;
+			}
+		}
 	}
 	
 	final void teardown () {
 		this.transcript.traceDebugging ("tearing-down...");
+		if (this.loopMode == LoopMode.EventDriven) {
+			synchronized (this.signalMonitor) {
+				this.signalSender.close ();
+				this.signalSender = null;
+			}
+			this.signalReceiver.close ();
+			this.signalReceiver = null;
+		}
 		this.socket.close ();
 		this.socket = null;
 	}
@@ -225,29 +332,36 @@ public final class ZeroMqChannelSocket
 			}
 	}
 	
+	private final void receiveBatch () {
+		for (int index = 0; index < this.batchSize; index++) {
+			if ((this.socket.getEvents () & ZMQ.Poller.POLLIN) == 0)
+				break;
+			if (this.inboundPackets.remainingCapacity () <= 0)
+				break;
+			this.receive ();
+		}
+	}
+	
 	private final void receiveFlush () {
 		while (this.socket.hasReceiveMore ())
 			this.socket.recv (0);
 	}
 	
-	private final void send () {
+	private final void send (final ZeroMqChannelPacket packet) {
 		// this.transcript.traceDebugging ("sending packet...");
-		final ZeroMqChannelPacket packet = this.outboundPackets.remove ();
-		if (!this.socket.send (packet.peer.getBytes (), ZMQ.SNDMORE)) {
+		if (!this.socket.send (this.resolvePeerIdentity (packet.peer), ZMQ.SNDMORE)) {
 			this.transcript.traceError ("error encountered while sending packet: ignoring!");
 			return;
 		}
-		if (!this.socket.send (new byte[0], ZMQ.SNDMORE)) {
+		if (!this.socket.send (ZeroMqChannelSocket.defaultDelimiter, ZMQ.SNDMORE)) {
 			this.transcript.traceError ("error encountered while sending packet: ignoring!");
 			return;
 		}
-		final byte[] header = new byte[packet.header.remaining ()];
-		packet.header.get (header);
+		final byte[] header = ZeroMqChannelSocket.unwrapBuffer (packet.header);
 		final byte[] payload;
-		if (packet.payload != null) {
-			payload = new byte[packet.payload.remaining ()];
-			packet.payload.get (payload);
-		} else
+		if (packet.payload != null)
+			payload = ZeroMqChannelSocket.unwrapBuffer (packet.payload);
+		else
 			payload = null;
 		if (!this.socket.send (header, (payload != null) ? ZMQ.SNDMORE : 0)) {
 			this.transcript.traceError ("error encountered while sending packet: ignoring!");
@@ -260,26 +374,111 @@ public final class ZeroMqChannelSocket
 			}
 	}
 	
+	private final void sendBatch () {
+		for (int index = 0; index < this.batchSize; index++) {
+			if ((this.socket.getEvents () & ZMQ.Poller.POLLOUT) == 0)
+				break;
+			final ZeroMqChannelPacket packet = this.outboundPackets.poll ();
+			if (packet == null)
+				break;
+			this.send (packet);
+		}
+	}
+	
+	private final byte[] resolvePeerIdentity (final String peer) {
+		byte[] identity = this.peerIdentities.get (peer);
+		if (identity == null) {
+			if (this.peerIdentities.size () >= ZeroMqChannelSocket.defaultPeerIdentitiesLimit)
+				this.peerIdentities.clear ();
+			identity = peer.getBytes ();
+			this.peerIdentities.put (peer, identity);
+		}
+		return (identity);
+	}
+	
+	private final void signal (final boolean force) {
+		if (!this.signalPending.compareAndSet (false, true) && !force)
+			return;
+		synchronized (this.signalMonitor) {
+			// NOTE: If the signalling socket is not yet created, the loop drains the queue anyway before its first poll.
+			if (this.signalSender != null)
+				if (!this.signalSender.send (ZeroMqChannelSocket.defaultSignal, ZMQ.NOBLOCK))
+					this.transcript.traceError ("error encountered while signalling loop; ignoring!");
+		}
+	}
+	
+	private final void signalFlush () {
+		while (this.signalReceiver.recv (ZMQ.NOBLOCK) != null)
+			continue;
+	}
+	
 	final HashSet<String> acceptingEndpoints;
+	final int batchSize;
 	final HashSet<String> connectedEndpoints;
 	final Runnable dequeueTrigger;
 	final TranscriptExceptionTracer exceptions;
 	final LinkedBlockingQueue<ZeroMqChannelPacket> inboundPackets;
 	final Thread loop;
+	final LoopMode loopMode;
 	final LinkedBlockingQueue<ZeroMqChannelPacket> outboundPackets;
+	final HashMap<String, byte[]> peerIdentities;
 	final String self;
 	volatile boolean shouldStop;
+	final String signalEndpoint;
+	final Monitor signalMonitor;
+	final AtomicBoolean signalPending;
+	ZMQ.Socket signalReceiver;
+	ZMQ.Socket signalSender;
 	ZMQ.Socket socket;
 	final ThreadingContext threading;
 	final Transcript transcript;
 	
+	public static final ZeroMqChannelSocket create (final String self, final Runnable dequeueTrigger, final LoopMode loopMode, final int batchSize, final int inboundCapacity, final int outboundCapacity, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannelSocket (self, dequeueTrigger, loopMode, batchSize, inboundCapacity, outboundCapacity, threading, exceptions));
+	}
+	
+	public static final ZeroMqChannelSocket create (final String self, final Runnable dequeueTrigger, final LoopMode loopMode, final int batchSize, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannelSocket (self, dequeueTrigger, loopMode, batchSize, ZeroMqChannelSocket.defaultQueueCapacity, ZeroMqChannelSocket.defaultQueueCapacity, threading, exceptions));
+	}
+	
+	public static final ZeroMqChannelSocket create (final String self, final Runnable dequeueTrigger, final LoopMode loopMode, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		return (new ZeroMqChannelSocket (self, dequeueTrigger, loopMode, ZeroMqChannelSocket.defaultBatchSize, ZeroMqChannelSocket.defaultQueueCapacity, ZeroMqChannelSocket.defaultQueueCapacity, threading, exceptions));
+	}
+	
 	public static final ZeroMqChannelSocket create (final String self, final Runnable dequeueTrigger, final ThreadingContext threading, final ExceptionTracer exceptions) {
-		return (new ZeroMqChannelSocket (self, dequeueTrigger, threading, exceptions));
+		return (new ZeroMqChannelSocket (self, dequeueTrigger, ZeroMqChannelSocket.defaultLoopMode, ZeroMqChannelSocket.defaultBatchSize, ZeroMqChannelSocket.defaultQueueCapacity, ZeroMqChannelSocket.defaultQueueCapacity, threading, exceptions));
+	}
+	
+	private static final byte[] unwrapBuffer (final ByteBuffer buffer) {
+		// NOTE: When the buffer exactly covers its backing array we hand the array to ZeroMQ as is, otherwise we copy the remaining bytes.
+		//-- In both cases the buffer is consumed, as if `get` was called.
+		final byte[] bytes;
+		if (buffer.hasArray () && (buffer.arrayOffset () == 0) && (buffer.position () == 0) && (buffer.remaining () == buffer.array ().length)) {
+			bytes = buffer.array ();
+			buffer.position (buffer.limit ());
+		} else {
+			bytes = new byte[buffer.remaining ()];
+			buffer.get (bytes);
+		}
+		return (bytes);
 	}
 	
+	public static final int defaultBatchSize = 64;
+	public static final long defaultIdlePollDelay = 1000;
+	public static final LoopMode defaultLoopMode = LoopMode.EventDriven;
+	public static final int defaultPeerIdentitiesLimit = 1024;
 	public static final long defaultPollDelay = 5;
+	public static final int defaultQueueCapacity = 16 * 1024;
 	public static final long defaultWaitDelay = 50;
 	static final ZMQ.Context defaultContext = ZMQ.context (1);
+	static final byte[] defaultDelimiter = new byte[0];
+	static final byte[] defaultSignal = new byte[0];
+	
+	public static enum LoopMode
+	{
+		EventDriven,
+		Polling;
+	}
 	
 	private final class Loop
 				extends Object
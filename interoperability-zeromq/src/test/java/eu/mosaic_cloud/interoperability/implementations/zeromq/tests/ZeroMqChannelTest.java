@@ -21,18 +21,52 @@
 package eu.mosaic_cloud.interoperability.implementations.zeromq.tests;
 
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import eu.mosaic_cloud.interoperability.core.Message;
+import eu.mosaic_cloud.interoperability.core.MessageSpecification;
+import eu.mosaic_cloud.interoperability.core.MessageType;
+import eu.mosaic_cloud.interoperability.core.PayloadCoder;
+import eu.mosaic_cloud.interoperability.core.RoleSpecification;
+import eu.mosaic_cloud.interoperability.core.Session;
+import eu.mosaic_cloud.interoperability.core.SessionCallbacks;
+import eu.mosaic_cloud.interoperability.core.SessionSpecification;
+import eu.mosaic_cloud.interoperability.implementations.zeromq.ZeroMqChannel;
 import eu.mosaic_cloud.interoperability.implementations.zeromq.ZeroMqChannelPacket;
 import eu.mosaic_cloud.interoperability.implementations.zeromq.ZeroMqChannelSocket;
+import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
 import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
+import eu.mosaic_cloud.tools.threading.core.ThreadConfiguration;
+import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
+import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
+import com.google.common.base.Ticker;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -41,6 +75,253 @@ public final class ZeroMqChannelTest
 {
 	@Test
 	public final void test () {
+		this.testSockets (ZeroMqChannelSocket.LoopMode.EventDriven, ZeroMqChannelSocket.defaultBatchSize);
+	}
+	
+	@Test
+	public final void testCompactHeaders () {
+		this.testChannels (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, 1);
+	}
+	
+	@Test
+	public final void testConcurrentProcessing () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent);
+		final Session session1 = scenario.connect ();
+		final Session session2 = scenario.connect ();
+		// NOTE: each payload decode blocks until the other one is also in progress, thus it succeeds only if the two sessions are decoded in parallel.
+		BlockingPayloadCoder.defaultInstance.barrier = new CyclicBarrier (2);
+		BlockingPayloadCoder.defaultInstance.decoded.set (0);
+		session1.send (new Message (TestMessage.Blocking, "1"));
+		session2.send (new Message (TestMessage.Blocking, "2"));
+		Assert.assertSame (TestMessage.Blocking, ZeroMqChannelTest.poll (scenario.serverCallbacks.received).specification);
+		Assert.assertSame (TestMessage.Blocking, ZeroMqChannelTest.poll (scenario.serverCallbacks.received).specification);
+		Assert.assertEquals (2, BlockingPayloadCoder.defaultInstance.decoded.get ());
+		scenario.terminate (session1, 1);
+		scenario.terminate (session2, 0);
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testCreditedSend () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent);
+		final Session session = scenario.connect ();
+		for (int index = 0; index < ZeroMqChannelTest.defaultTries; index++) {
+			final String payload = UUID.randomUUID ().toString ();
+			Assert.assertTrue (session.send (new Message (TestMessage.Request, payload), ZeroMqChannelTest.defaultPollTimeout));
+			final Message reply = ZeroMqChannelTest.poll (scenario.clientCallbacks.received);
+			Assert.assertNotNull (reply);
+			Assert.assertEquals (payload, reply.payload);
+		}
+		scenario.terminate (session);
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testCreditsExhausted () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannel.defaultSessionIdleTimeout, Ticker.systemTicker (), false, 1, ZeroMqChannelSocket.defaultQueueCapacity);
+		final Session session = scenario.connect ();
+		// NOTE: the payload encode blocks until the latch is opened, thus the only credit of the session is held meanwhile.
+		final CountDownLatch latch = new CountDownLatch (1);
+		LatchedPayloadCoder.defaultInstance.latch = latch;
+		Assert.assertTrue (session.send (new Message (TestMessage.Latched, "1"), ZeroMqChannelTest.defaultPollTimeout));
+		Assert.assertFalse (session.send (new Message (TestMessage.Latched, "2"), ZeroMqChannelTest.defaultSettleDelay));
+		latch.countDown ();
+		Assert.assertEquals ("1", ZeroMqChannelTest.poll (scenario.serverCallbacks.received).payload);
+		Assert.assertTrue (session.send (new Message (TestMessage.Latched, "3"), ZeroMqChannelTest.defaultPollTimeout));
+		Assert.assertEquals ("3", ZeroMqChannelTest.poll (scenario.serverCallbacks.received).payload);
+		scenario.terminate (session);
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testDestroyedWhileDecoding ()
+				throws Exception {
+		final ManualTicker ticker = new ManualTicker ();
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannelTest.defaultIdleTimeout, ticker);
+		final Session session = scenario.connect ();
+		scenario.exchange (session, 1);
+		// NOTE: the payload decode blocks until the test also reaches the barrier, thus the session is reaped while decoding.
+		final CyclicBarrier barrier = new CyclicBarrier (2);
+		BlockingPayloadCoder.defaultInstance.barrier = barrier;
+		BlockingPayloadCoder.defaultInstance.decoded.set (0);
+		session.send (new Message (TestMessage.Blocking, "1"));
+		Threading.sleep (ZeroMqChannelTest.defaultSettleDelay);
+		ticker.advance (ZeroMqChannelTest.defaultIdleTimeout * 2);
+		Assert.assertSame (session, ZeroMqChannelTest.poll (scenario.clientCallbacks.destroyed));
+		Assert.assertNotNull (ZeroMqChannelTest.poll (scenario.serverCallbacks.destroyed));
+		barrier.await (ZeroMqChannelTest.defaultPollTimeout, TimeUnit.MILLISECONDS);
+		// NOTE: the message decoded after the session was destroyed must never be dispatched.
+		Assert.assertNull (ZeroMqChannelTest.poll (scenario.serverCallbacks.received));
+		Assert.assertEquals (1, BlockingPayloadCoder.defaultInstance.decoded.get ());
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testLegacyHeaders () {
+		this.testChannels (ZeroMqChannel.HeaderMode.Legacy, ZeroMqChannel.HeaderMode.Legacy, 0);
+	}
+	
+	@Test
+	public final void testLegacyHeadersClient () {
+		this.testChannels (ZeroMqChannel.HeaderMode.Legacy, ZeroMqChannel.HeaderMode.Compact, 0);
+	}
+	
+	@Test
+	public final void testLegacyHeadersServer () {
+		this.testChannels (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Legacy, 0);
+	}
+	
+	@Test
+	public final void testLoops () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannel.defaultSessionIdleTimeout, Ticker.systemTicker (), true);
+		final Session session = scenario.connect ();
+		scenario.exchange (session, ZeroMqChannelTest.defaultTries);
+		scenario.terminate (session);
+		// NOTE: the session callbacks must never be executed on the shared loops, as they might block.
+		Assert.assertFalse (scenario.clientCallbacks.calledOnLoop.get ());
+		Assert.assertFalse (scenario.serverCallbacks.calledOnLoop.get ());
+		// NOTE: on shared loops the channels must not create their own callbacks pools or reapers.
+		for (final Thread thread : Thread.getAllStackTraces ().keySet ()) {
+			Assert.assertFalse (thread.getName (), thread.getName ().contains ("zeromq-callbacks"));
+			Assert.assertFalse (thread.getName (), thread.getName ().contains ("zeromq-reaper"));
+		}
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testLoopsRejected () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannel.defaultSessionIdleTimeout, Ticker.systemTicker (), true);
+		final Session session = scenario.connect ();
+		// NOTE: once the loops are destroyed the inbound packet handlers are rejected, but the channels must still terminate.
+		Assert.assertTrue (scenario.loops.destroy (ZeroMqChannelTest.defaultPollTimeout));
+		session.send (new Message (TestMessage.Request, UUID.randomUUID ().toString ()));
+		Assert.assertNull (ZeroMqChannelTest.poll (scenario.clientCallbacks.received));
+		Assert.assertNotNull (scenario.exceptionsQueue.queue.poll ());
+		scenario.destroy (true);
+	}
+	
+	@Test
+	public final void testMismatchedHeaders ()
+				throws IOException {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent);
+		final ZeroMqChannelSocket peer = ZeroMqChannelSocket.create (UUID.randomUUID ().toString (), null, ZeroMqChannelSocket.defaultLoopMode, ZeroMqChannelSocket.defaultBatchSize, scenario.threading, scenario.exceptions);
+		peer.connect (scenario.endpoint);
+		Threading.sleep (ZeroMqChannelTest.defaultSettleDelay);
+		final ByteBuffer unknownReference = ByteBuffer.allocate (1 + 16 + 2);
+		unknownReference.put ((byte) 0xc2).putLong (1).putLong (2).putShort ((short) 0).flip ();
+		final ByteBuffer unknownDefinition = ByteBuffer.allocate (1 + 16 + 2 + 2 + 1);
+		unknownDefinition.put ((byte) 0xc1).putLong (1).putLong (2).putShort ((short) 0).putShort ((short) 1).put ((byte) 'x').flip ();
+		final ByteBuffer truncatedCompact = ByteBuffer.wrap (new byte[] {(byte) 0xc2, 1, 2, 3});
+		final ByteBuffer unknownLegacy = ZeroMqChannelTest.encodeLegacyHeader (UUID.randomUUID ().toString (), TestRole.Server.identifier, TestRole.Client.identifier, "unknown");
+		final ByteBuffer uninitiatedLegacy = ZeroMqChannelTest.encodeLegacyHeader (UUID.randomUUID ().toString (), TestRole.Server.identifier, TestRole.Client.identifier, TestMessage.Request.identifier);
+		for (final ByteBuffer header : Arrays.asList (unknownReference, unknownDefinition, truncatedCompact, unknownLegacy, uninitiatedLegacy))
+			Assert.assertTrue (peer.enqueue (ZeroMqChannelPacket.create (scenario.serverIdentifier, header, null), ZeroMqChannelTest.defaultPollTimeout));
+		final Session session = scenario.connect ();
+		scenario.exchange (session, ZeroMqChannelTest.defaultTries);
+		Assert.assertEquals (1, scenario.server.getSessionsCount ());
+		Assert.assertEquals (1, scenario.server.getCompactSessionsCount ());
+		scenario.terminate (session);
+		Assert.assertTrue (peer.terminate (ZeroMqChannelTest.defaultPollTimeout));
+		scenario.destroy (true);
+	}
+	
+	@Test
+	public final void testOutboundQueueFull () {
+		final Transcript transcript = Transcript.create (this);
+		BasicThreadingSecurityManager.initialize ();
+		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		final TranscriptExceptionTracer exceptions = TranscriptExceptionTracer.create (transcript, exceptionsQueue);
+		final BasicThreadingContext threading = BasicThreadingContext.create (this, exceptions, exceptions.catcher);
+		Assert.assertTrue (threading.initialize (ZeroMqChannelTest.defaultPollTimeout));
+		// NOTE: the socket loop is stalled, thus the initiation packet fills the outbound queue, and the next packet is retried until the session fails.
+		final CountDownLatch stalled = new CountDownLatch (1);
+		final TestCallbacks callbacks = new TestCallbacks (false, null);
+		final ZeroMqChannel client = ZeroMqChannel.create (UUID.randomUUID ().toString (), ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannel.defaultSessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, ZeroMqChannel.defaultSessionSendWindow, 1, new StalledThreadingContext (threading, stalled), null, Ticker.systemTicker (), exceptions);
+		client.register (TestSession.Client);
+		client.connect (UUID.randomUUID ().toString (), TestSession.Client, new Message (TestMessage.Initiate), callbacks);
+		final Session session = ZeroMqChannelTest.poll (callbacks.created);
+		Assert.assertNotNull (session);
+		Assert.assertTrue (session.send (new Message (TestMessage.Request, "1"), ZeroMqChannelTest.defaultPollTimeout));
+		final Throwable exception = ZeroMqChannelTest.poll (callbacks.failed, (ZeroMqChannel.defaultEnqueueRetries + 2) * ZeroMqChannel.defaultEnqueueTimeout);
+		Assert.assertTrue (exception instanceof TimeoutException);
+		Assert.assertNull (callbacks.received.poll ());
+		stalled.countDown ();
+		Assert.assertTrue (client.terminate (ZeroMqChannelTest.defaultPollTimeout));
+		Assert.assertTrue (threading.destroy (ZeroMqChannelTest.defaultPollTimeout));
+	}
+	
+	@Test
+	public final void testPolling () {
+		this.testSockets (ZeroMqChannelSocket.LoopMode.Polling, ZeroMqChannelSocket.defaultBatchSize);
+	}
+	
+	@Test
+	public final void testSerializedProcessing () {
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Serialized);
+		final Session session = scenario.connect ();
+		scenario.exchange (session, ZeroMqChannelTest.defaultTries * 16);
+		scenario.terminate (session);
+		scenario.destroy (false);
+	}
+	
+	@Test
+	public final void testSessionsReap () {
+		this.testSessionsReap (false);
+	}
+	
+	@Test
+	public final void testSessionsReapLoops () {
+		this.testSessionsReap (true);
+	}
+	
+	@Test
+	public final void testUnbatched () {
+		this.testSockets (ZeroMqChannelSocket.LoopMode.EventDriven, 1);
+	}
+	
+	static final <_Element_ extends Object> _Element_ poll (final BlockingQueue<_Element_> queue) {
+		return (ZeroMqChannelTest.poll (queue, ZeroMqChannelTest.defaultPollTimeout));
+	}
+	
+	static final <_Element_ extends Object> _Element_ poll (final BlockingQueue<_Element_> queue, final long timeout) {
+		try {
+			return (queue.poll (timeout, TimeUnit.MILLISECONDS));
+		} catch (final InterruptedException exception) {
+			Thread.currentThread ().interrupt ();
+			return (null);
+		}
+	}
+	
+	private final void testChannels (final ZeroMqChannel.HeaderMode clientHeaderMode, final ZeroMqChannel.HeaderMode serverHeaderMode, final int compactSessions) {
+		final Scenario scenario = new Scenario (clientHeaderMode, serverHeaderMode, ZeroMqChannel.ProcessingMode.Concurrent);
+		final Session session = scenario.connect ();
+		scenario.exchange (session, ZeroMqChannelTest.defaultTries);
+		Assert.assertEquals (compactSessions, scenario.client.getCompactSessionsCount ());
+		Assert.assertEquals (compactSessions, scenario.server.getCompactSessionsCount ());
+		scenario.terminate (session);
+		scenario.destroy (false);
+	}
+	
+	private final void testSessionsReap (final boolean shared) {
+		final ManualTicker ticker = new ManualTicker ();
+		final Scenario scenario = new Scenario (ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.HeaderMode.Compact, ZeroMqChannel.ProcessingMode.Concurrent, ZeroMqChannelTest.defaultIdleTimeout, ticker, shared);
+		final Session session = scenario.connect ();
+		scenario.exchange (session, 1);
+		// NOTE: the reaper runs every `defaultIdleTimeout` of real time, but the session idleness is measured only with the manual clock.
+		ticker.advance (ZeroMqChannelTest.defaultIdleTimeout / 2);
+		Threading.sleep (ZeroMqChannelTest.defaultIdleTimeout * 4);
+		Assert.assertEquals (1, scenario.client.getSessionsCount ());
+		Assert.assertEquals (1, scenario.server.getSessionsCount ());
+		Assert.assertNull (scenario.clientCallbacks.destroyed.poll ());
+		ticker.advance (ZeroMqChannelTest.defaultIdleTimeout);
+		Assert.assertSame (session, ZeroMqChannelTest.poll (scenario.clientCallbacks.destroyed));
+		Assert.assertNotNull (ZeroMqChannelTest.poll (scenario.serverCallbacks.destroyed));
+		Assert.assertEquals (0, scenario.client.getSessionsCount ());
+		Assert.assertEquals (0, scenario.server.getSessionsCount ());
+		scenario.destroy (false);
+	}
+	
+	private final void testSockets (final ZeroMqChannelSocket.LoopMode loopMode, final int batchSize) {
 		final Transcript transcript = Transcript.create (this);
 		BasicThreadingSecurityManager.initialize ();
 		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
@@ -49,10 +330,11 @@ public final class ZeroMqChannelTest
 		Assert.assertTrue (threading.initialize (ZeroMqChannelTest.defaultPollTimeout));
 		final String serverIdentifier = UUID.randomUUID ().toString ();
 		final String clientIdentifier = UUID.randomUUID ().toString ();
-		final ZeroMqChannelSocket server = ZeroMqChannelSocket.create (serverIdentifier, null, threading, exceptions);
-		final ZeroMqChannelSocket client = ZeroMqChannelSocket.create (clientIdentifier, null, threading, exceptions);
-		server.accept (ZeroMqChannelTest.defaultServerEndpoint);
-		client.connect (ZeroMqChannelTest.defaultServerEndpoint);
+		final String serverEndpoint = "inproc://" + UUID.randomUUID ().toString ();
+		final ZeroMqChannelSocket server = ZeroMqChannelSocket.create (serverIdentifier, null, loopMode, batchSize, threading, exceptions);
+		final ZeroMqChannelSocket client = ZeroMqChannelSocket.create (clientIdentifier, null, loopMode, batchSize, threading, exceptions);
+		server.accept (serverEndpoint);
+		client.connect (serverEndpoint);
 		for (int index = 0; index < ZeroMqChannelTest.defaultTries; index++) {
 			final ByteBuffer header = ByteBuffer.wrap (UUID.randomUUID ().toString ().getBytes ());
 			final ByteBuffer payload = ByteBuffer.wrap (UUID.randomUUID ().toString ().getBytes ());
@@ -68,13 +350,510 @@ public final class ZeroMqChannelTest
 			Assert.assertEquals (packet1.header, packet3.header);
 			Assert.assertEquals (packet1.payload, packet3.payload);
 		}
+		final ZeroMqChannelPacket[] packets = new ZeroMqChannelPacket[ZeroMqChannelTest.defaultTries];
+		for (int index = 0; index < ZeroMqChannelTest.defaultTries; index++) {
+			final ByteBuffer header = ByteBuffer.wrap (UUID.randomUUID ().toString ().getBytes ());
+			final ByteBuffer payload = (index % 2) == 0 ? ByteBuffer.wrap (UUID.randomUUID ().toString ().getBytes ()) : null;
+			packets[index] = ZeroMqChannelPacket.create (serverIdentifier, header, payload);
+			Assert.assertTrue (client.enqueue (packets[index], ZeroMqChannelTest.defaultPollTimeout));
+		}
+		for (int index = 0; index < ZeroMqChannelTest.defaultTries; index++) {
+			final ZeroMqChannelPacket packet = server.dequeue (ZeroMqChannelTest.defaultPollTimeout);
+			Assert.assertNotNull (packet);
+			packets[index].header.flip ();
+			Assert.assertEquals (packets[index].header, packet.header);
+			if (packets[index].payload != null) {
+				packets[index].payload.flip ();
+				Assert.assertEquals (packets[index].payload, packet.payload);
+			} else
+				Assert.assertNull (packet.payload);
+		}
 		Assert.assertTrue (server.terminate (ZeroMqChannelTest.defaultPollTimeout));
 		Assert.assertTrue (client.terminate (ZeroMqChannelTest.defaultPollTimeout));
 		Assert.assertTrue (threading.destroy (ZeroMqChannelTest.defaultPollTimeout));
 		Assert.assertNull (exceptionsQueue.queue.poll ());
 	}
 	
+	static final ByteBuffer encodeLegacyHeader (final String session, final String selfRole, final String peerRole, final String message)
+				throws IOException {
+		final ByteArrayOutputStream header = new ByteArrayOutputStream ();
+		final DataOutputStream stream = new DataOutputStream (header);
+		for (final String field : Arrays.asList (session, selfRole, peerRole, message)) {
+			final byte[] buffer = field.getBytes ();
+			stream.writeShort (buffer.length);
+			stream.write (buffer);
+		}
+		stream.close ();
+		return (ByteBuffer.wrap (header.toByteArray ()));
+	}
+	
+	public static final long defaultIdleTimeout = 100;
 	public static final long defaultPollTimeout = 1000;
-	public static final String defaultServerEndpoint = "inproc://fd2d7ca5-355b-4a6a-b12a-21b034b29fe3";
+	public static final long defaultSettleDelay = 200;
 	public static final int defaultTries = 16;
+	
+	static final class BlockingPayloadCoder
+				extends Object
+				implements
+					PayloadCoder
+	{
+		private BlockingPayloadCoder () {
+			super ();
+			this.decoded = new AtomicInteger (0);
+		}
+		
+		@Override
+		public Object decode (final ByteBuffer buffer)
+					throws Throwable {
+			this.barrier.await (ZeroMqChannelTest.defaultPollTimeout, TimeUnit.MILLISECONDS);
+			this.decoded.incrementAndGet ();
+			return (StringPayloadCoder.defaultInstance.decode (buffer));
+		}
+		
+		@Override
+		public ByteBuffer encode (final Object object) {
+			return (StringPayloadCoder.defaultInstance.encode (object));
+		}
+		
+		volatile CyclicBarrier barrier;
+		final AtomicInteger decoded;
+		static final BlockingPayloadCoder defaultInstance = new BlockingPayloadCoder ();
+	}
+	
+	static final class LatchedPayloadCoder
+				extends Object
+				implements
+					PayloadCoder
+	{
+		private LatchedPayloadCoder () {
+			super ();
+		}
+		
+		@Override
+		public Object decode (final ByteBuffer buffer) {
+			return (StringPayloadCoder.defaultInstance.decode (buffer));
+		}
+		
+		@Override
+		public ByteBuffer encode (final Object object)
+					throws Throwable {
+			this.latch.await (ZeroMqChannelTest.defaultPollTimeout * 4, TimeUnit.MILLISECONDS);
+			return (StringPayloadCoder.defaultInstance.encode (object));
+		}
+		
+		volatile CountDownLatch latch;
+		static final LatchedPayloadCoder defaultInstance = new LatchedPayloadCoder ();
+	}
+	
+	static final class ManualTicker
+				extends Ticker
+	{
+		ManualTicker () {
+			super ();
+			this.nanos = new AtomicLong (0);
+		}
+		
+		@Override
+		public long read () {
+			return (this.nanos.get ());
+		}
+		
+		final void advance (final long milliseconds) {
+			this.nanos.addAndGet (TimeUnit.MILLISECONDS.toNanos (milliseconds));
+		}
+		
+		final AtomicLong nanos;
+	}
+	
+	static final class Scenario
+				extends Object
+	{
+		Scenario (final ZeroMqChannel.HeaderMode clientHeaderMode, final ZeroMqChannel.HeaderMode serverHeaderMode, final ZeroMqChannel.ProcessingMode processingMode) {
+			this (clientHeaderMode, serverHeaderMode, processingMode, ZeroMqChannel.defaultSessionIdleTimeout, Ticker.systemTicker ());
+		}
+		
+		Scenario (final ZeroMqChannel.HeaderMode clientHeaderMode, final ZeroMqChannel.HeaderMode serverHeaderMode, final ZeroMqChannel.ProcessingMode processingMode, final long sessionIdleTimeout, final Ticker ticker) {
+			this (clientHeaderMode, serverHeaderMode, processingMode, sessionIdleTimeout, ticker, false);
+		}
+		
+		Scenario (final ZeroMqChannel.HeaderMode clientHeaderMode, final ZeroMqChannel.HeaderMode serverHeaderMode, final ZeroMqChannel.ProcessingMode processingMode, final long sessionIdleTimeout, final Ticker ticker, final boolean shared) {
+			this (clientHeaderMode, serverHeaderMode, processingMode, sessionIdleTimeout, ticker, shared, ZeroMqChannel.defaultSessionSendWindow, ZeroMqChannelSocket.defaultQueueCapacity);
+		}
+		
+		Scenario (final ZeroMqChannel.HeaderMode clientHeaderMode, final ZeroMqChannel.HeaderMode serverHeaderMode, final ZeroMqChannel.ProcessingMode processingMode, final long sessionIdleTimeout, final Ticker ticker, final boolean shared, final int sessionSendWindow, final int packetsQueueCapacity) {
+			super ();
+			this.transcript = Transcript.create (this);
+			BasicThreadingSecurityManager.initialize ();
+			this.exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+			this.exceptions = TranscriptExceptionTracer.create (this.transcript, this.exceptionsQueue);
+			this.threading = BasicThreadingContext.create (this, this.exceptions, this.exceptions.catcher);
+			Assert.assertTrue (this.threading.initialize (ZeroMqChannelTest.defaultPollTimeout));
+			this.serverIdentifier = UUID.randomUUID ().toString ();
+			this.clientIdentifier = UUID.randomUUID ().toString ();
+			this.endpoint = "inproc://" + UUID.randomUUID ().toString ();
+			this.loops = shared ? EventLoopGroup.create (this.threading, this, 2, this.exceptions) : null;
+			this.serverCallbacks = new TestCallbacks (true, this.loops);
+			this.clientCallbacks = new TestCallbacks (false, this.loops);
+			this.server = ZeroMqChannel.create (this.serverIdentifier, serverHeaderMode, processingMode, sessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, sessionSendWindow, packetsQueueCapacity, this.threading, this.loops, ticker, this.exceptions);
+			this.server.register (TestSession.Server);
+			this.server.accept (TestSession.Server, this.serverCallbacks);
+			this.server.accept (this.endpoint);
+			this.client = ZeroMqChannel.create (this.clientIdentifier, clientHeaderMode, processingMode, sessionIdleTimeout, ZeroMqChannel.defaultSessionsLimit, sessionSendWindow, packetsQueueCapacity, this.threading, this.loops, ticker, this.exceptions);
+			this.client.register (TestSession.Client);
+			this.client.connect (this.endpoint);
+			Threading.sleep (ZeroMqChannelTest.defaultSettleDelay);
+		}
+		
+		final Session connect () {
+			this.client.connect (this.serverIdentifier, TestSession.Client, new Message (TestMessage.Initiate), this.clientCallbacks);
+			final Session session = ZeroMqChannelTest.poll (this.clientCallbacks.created);
+			Assert.assertNotNull (session);
+			return (session);
+		}
+		
+		final void destroy (final boolean errorsExpected) {
+			Assert.assertTrue (this.client.terminate (ZeroMqChannelTest.defaultPollTimeout));
+			Assert.assertTrue (this.server.terminate (ZeroMqChannelTest.defaultPollTimeout));
+			if (this.loops != null)
+				Assert.assertTrue (this.loops.destroy (ZeroMqChannelTest.defaultPollTimeout));
+			Assert.assertTrue (this.threading.destroy (ZeroMqChannelTest.defaultPollTimeout));
+			if (!errorsExpected)
+				Assert.assertNull (this.exceptionsQueue.queue.poll ());
+		}
+		
+		final void exchange (final Session session, final int count) {
+			final String[] payloads = new String[count];
+			for (int index = 0; index < count; index++) {
+				payloads[index] = UUID.randomUUID ().toString ();
+				session.send (new Message (TestMessage.Request, payloads[index]));
+			}
+			for (int index = 0; index < count; index++) {
+				final Message reply = ZeroMqChannelTest.poll (this.clientCallbacks.received);
+				Assert.assertNotNull (reply);
+				Assert.assertSame (TestMessage.Reply, reply.specification);
+				Assert.assertEquals (payloads[index], reply.payload);
+			}
+		}
+		
+		final void terminate (final Session session) {
+			this.terminate (session, 0);
+		}
+		
+		final void terminate (final Session session, final int remaining) {
+			session.send (new Message (TestMessage.Terminate));
+			Assert.assertSame (session, ZeroMqChannelTest.poll (this.clientCallbacks.destroyed));
+			Assert.assertNotNull (ZeroMqChannelTest.poll (this.serverCallbacks.destroyed));
+			Assert.assertEquals (remaining, this.client.getSessionsCount ());
+			Assert.assertEquals (remaining, this.server.getSessionsCount ());
+		}
+		
+		final ZeroMqChannel client;
+		final TestCallbacks clientCallbacks;
+		final String clientIdentifier;
+		final String endpoint;
+		final TranscriptExceptionTracer exceptions;
+		final QueueingExceptionTracer exceptionsQueue;
+		final EventLoopGroup loops;
+		final ZeroMqChannel server;
+		final TestCallbacks serverCallbacks;
+		final String serverIdentifier;
+		final BasicThreadingContext threading;
+		final Transcript transcript;
+	}
+	
+	static final class TestCallbacks
+				extends Object
+				implements
+					SessionCallbacks
+	{
+		TestCallbacks (final boolean echo, final EventLoopGroup loops) {
+			super ();
+			this.echo = echo;
+			this.loops = loops;
+			this.calledOnLoop = new AtomicBoolean (false);
+			this.created = new LinkedBlockingQueue<Session> ();
+			this.destroyed = new LinkedBlockingQueue<Session> ();
+			this.failed = new LinkedBlockingQueue<Throwable> ();
+			this.received = new LinkedBlockingQueue<Message> ();
+		}
+		
+		@Override
+		public CallbackCompletion<Void> created (final Session session) {
+			this.checkThread ();
+			this.created.add (session);
+			return (CallbackCompletion.createOutcome ());
+		}
+		
+		@Override
+		public CallbackCompletion<Void> destroyed (final Session session) {
+			this.checkThread ();
+			this.destroyed.add (session);
+			return (CallbackCompletion.createOutcome ());
+		}
+		
+		@Override
+		public CallbackCompletion<Void> failed (final Session session, final Throwable exception) {
+			this.failed.add (exception);
+			return (CallbackCompletion.createOutcome ());
+		}
+		
+		@Override
+		public CallbackCompletion<Void> received (final Session session, final Message message) {
+			this.checkThread ();
+			if (this.echo && (message.specification == TestMessage.Request))
+				session.send (new Message (TestMessage.Reply, message.payload));
+			else if (message.specification != TestMessage.Initiate)
+				this.received.add (message);
+			return (CallbackCompletion.createOutcome ());
+		}
+		
+		private final void checkThread () {
+			if (this.loops != null)
+				for (int index = 0; index < this.loops.getSize (); index++)
+					if (this.loops.next ().isCurrentThread ())
+						this.calledOnLoop.set (true);
+		}
+		
+		final AtomicBoolean calledOnLoop;
+		final BlockingQueue<Session> created;
+		final BlockingQueue<Session> destroyed;
+		final boolean echo;
+		final BlockingQueue<Throwable> failed;
+		final EventLoopGroup loops;
+		final BlockingQueue<Message> received;
+	}
+	
+	static enum TestMessage
+				implements
+					MessageSpecification
+	{
+		Blocking (MessageType.Exchange, BlockingPayloadCoder.defaultInstance),
+		Initiate (MessageType.Initiation, null),
+		Latched (MessageType.Exchange, LatchedPayloadCoder.defaultInstance),
+		Reply (MessageType.Exchange, StringPayloadCoder.defaultInstance),
+		Request (MessageType.Exchange, StringPayloadCoder.defaultInstance),
+		Terminate (MessageType.Termination, null);
+		TestMessage (final MessageType type, final PayloadCoder coder) {
+			this.identifier = "zeromq-test-" + this.name ().toLowerCase ();
+			this.type = type;
+			this.coder = coder;
+		}
+		
+		@Override
+		public String getIdentifier () {
+			return (this.identifier);
+		}
+		
+		@Override
+		public PayloadCoder getPayloadCoder () {
+			return (this.coder);
+		}
+		
+		@Override
+		public String getQualifiedName () {
+			return (this.identifier);
+		}
+		
+		@Override
+		public MessageType getType () {
+			return (this.type);
+		}
+		
+		final PayloadCoder coder;
+		final String identifier;
+		final MessageType type;
+	}
+	
+	static enum TestRole
+				implements
+					RoleSpecification
+	{
+		Client (),
+		Server ();
+		TestRole () {
+			this.identifier = "zeromq-test-" + this.name ().toLowerCase ();
+		}
+		
+		@Override
+		public String getIdentifier () {
+			return (this.identifier);
+		}
+		
+		@Override
+		public String getQualifiedName () {
+			return (this.identifier);
+		}
+		
+		final String identifier;
+	}
+	
+	static enum TestSession
+				implements
+					SessionSpecification
+	{
+		Client (TestRole.Client, TestRole.Server),
+		Server (TestRole.Server, TestRole.Client);
+		TestSession (final TestRole selfRole, final TestRole peerRole) {
+			this.selfRole = selfRole;
+			this.peerRole = peerRole;
+		}
+		
+		@Override
+		public Iterable<TestMessage> getMessages () {
+			return (TestSession.messages);
+		}
+		
+		@Override
+		public RoleSpecification getPeerRole () {
+			return (this.peerRole);
+		}
+		
+		@Override
+		public String getQualifiedName () {
+			return ("zeromq-test-" + this.name ().toLowerCase ());
+		}
+		
+		@Override
+		public RoleSpecification getSelfRole () {
+			return (this.selfRole);
+		}
+		
+		final TestRole peerRole;
+		final TestRole selfRole;
+		static final List<TestMessage> messages = Collections.unmodifiableList (Arrays.asList (TestMessage.values ()));
+	}
+	
+	static final class StalledThreadingContext
+				extends Object
+				implements
+					ThreadingContext
+	{
+		StalledThreadingContext (final ThreadingContext delegate, final CountDownLatch stalled) {
+			super ();
+			this.delegate = delegate;
+			this.stalled = stalled;
+		}
+		
+		@Override
+		public boolean await () {
+			return (this.delegate.await ());
+		}
+		
+		@Override
+		public boolean await (final long timeout) {
+			return (this.delegate.await (timeout));
+		}
+		
+		@Override
+		public ExecutorService createCachedThreadPool (final ThreadConfiguration configuration) {
+			return (this.delegate.createCachedThreadPool (configuration));
+		}
+		
+		@Override
+		public ExecutorService createFixedThreadPool (final ThreadConfiguration configuration, final int threads) {
+			return (this.delegate.createFixedThreadPool (configuration, threads));
+		}
+		
+		@Override
+		public ScheduledExecutorService createScheduledThreadPool (final ThreadConfiguration configuration, final int coreThreads) {
+			return (this.delegate.createScheduledThreadPool (configuration, coreThreads));
+		}
+		
+		@Override
+		public ExecutorService createSingleThreadExecutor (final ThreadConfiguration configuration) {
+			return (this.delegate.createSingleThreadExecutor (configuration));
+		}
+		
+		@Override
+		public ScheduledExecutorService createSingleThreadScheduledExecutor (final ThreadConfiguration configuration) {
+			return (this.delegate.createSingleThreadScheduledExecutor (configuration));
+		}
+		
+		@Override
+		public Thread createThread (final ThreadConfiguration configuration, final Runnable runnable) {
+			// NOTE: only the socket loops are stalled, until the latch is opened.
+			if (!(configuration.owner.get () instanceof ZeroMqChannelSocket))
+				return (this.delegate.createThread (configuration, runnable));
+			final CountDownLatch stalled = this.stalled;
+			return (this.delegate.createThread (configuration, new Runnable () {
+				@Override
+				public void run () {
+					Threading.await (stalled);
+					runnable.run ();
+				}
+			}));
+		}
+		
+		@Override
+		public ThreadFactory createThreadFactory (final ThreadConfiguration configuration) {
+			return (this.delegate.createThreadFactory (configuration));
+		}
+		
+		@Override
+		public ThreadGroup getDefaultThreadGroup () {
+			return (this.delegate.getDefaultThreadGroup ());
+		}
+		
+		@Override
+		public ThreadConfiguration getThreadConfiguration () {
+			return (this.delegate.getThreadConfiguration ());
+		}
+		
+		@Override
+		public ThreadingMode getThreadingMode () {
+			return (this.delegate.getThreadingMode ());
+		}
+		
+		@Override
+		public boolean isActive () {
+			return (this.delegate.isActive ());
+		}
+		
+		@Override
+		public boolean isManaged (final Thread thread) {
+			return (this.delegate.isManaged (thread));
+		}
+		
+		@Override
+		public boolean isManaged (final ThreadGroup group) {
+			return (this.delegate.isManaged (group));
+		}
+		
+		@Override
+		public boolean isSealed () {
+			return (this.delegate.isSealed ());
+		}
+		
+		@Override
+		public void registerThread (final Thread thread) {
+			this.delegate.registerThread (thread);
+		}
+		
+		final ThreadingContext delegate;
+		final CountDownLatch stalled;
+	}
+	
+	static final class StringPayloadCoder
+				extends Object
+				implements
+					PayloadCoder
+	{
+		private StringPayloadCoder () {
+			super ();
+		}
+		
+		@Override
+		public Object decode (final ByteBuffer buffer) {
+			final byte[] bytes = new byte[buffer.remaining ()];
+			buffer.get (bytes);
+			return (new String (bytes));
+		}
+		
+		@Override
+		public ByteBuffer encode (final Object object) {
+			return (ByteBuffer.wrap (((String) object).getBytes ()));
+		}
+		
+		static final StringPayloadCoder defaultInstance = new StringPayloadCoder ();
+	}
 }
@@ -34,7 +34,7 @@ public final class AmqpPayloads
 	public static void registerAllExtensions (final com.google.protobuf.ExtensionRegistry registry) {}
 	
 	static {
-		final java.lang.String[] descriptorData = {"\n\namqp.proto\022\025mosaic_cloud.idl.amqp\032\014com" + "mon.proto\"\252\002\n\026DeclareExchangeRequest\0227\n\005" + "token\030\001 \002(\0132(.mosaic_cloud.idl.common.Co" + "mpletionToken\022\020\n\010exchange\030\002 \002(\t\022H\n\004type\030" + "\003 \002(\0162:.mosaic_cloud.idl.amqp.DeclareExc" + "hangeRequest.ExchangeType\022\026\n\007durable\030\004 \001" + "(\010:\005false\022\031\n\013auto_delete\030\005 \001(\010:\004true\022\025\n\007" + "passive\030\006 \001(\010:\004true\"1\n\014ExchangeType\022\n\n\006D" + "IRECT\020\000\022\n\n\006FANOUT\020\001\022\t\n\005TOPIC\020\002\"\300\001\n\023Decla" + "reQueueRequest\0227\n\005token\030\001 \002(\0132(.mosaic_c", "loud.idl.common.CompletionToken\022\r\n\005queue" + "\030\002 \002(\t\022\027\n\texclusive\030\003 \001(\010:\004true\022\026\n\007durab" + "le\030\004 \001(\010:\005false\022\031\n\013auto_delete\030\005 \001(\010:\004tr" + "ue\022\025\n\007passive\030\006 \001(\010:\004true\"\201\001\n\020BindQueueR" + "equest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl" + ".common.CompletionToken\022\020\n\010exchange\030\002 \002(" + "\t\022\r\n\005queue\030\003 \002(\t\022\023\n\013routing_key\030\004 \002(\t\"\252\001" + "\n\016ConsumeRequest\0227\n\005token\030\001 \002(\0132(.mosaic" + "_cloud.idl.common.CompletionToken\022\r\n\005que" + "ue\030\002 \002(\t\022\020\n\010consumer\030\003 \002(\t\022\027\n\texclusive\030", "\004 \001(\010:\004true\022\026\n\010auto_ack\030\005 \001(\010:\004true\022\r\n\005e" + "xtra\030\006 \002(\014\"]\n\014ConsumeReply\0227\n\005token\030\001 \002(" + "\0132(.mosaic_cloud.idl.common.CompletionTo" + "ken\022\024\n\014consumer_tag\030\002 \002(\t\"\247\002\n\016PublishReq" + "uest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.c" + "ommon.CompletionToken\022\014\n\004data\030\002 \002(\014\022\026\n\007d" + "urable\030\003 \001(\010:\005false\022\020\n\010exchange\030\004 \002(\t\022\027\n" + "\timmediate\030\005 \001(\010:\004true\022\027\n\tmandatory\030\006 \001(" + "\010:\004true\022\023\n\013routing_key\030\007 \002(\t\0223\n\010envelope" + "\030\010 \002(\0132!.mosaic_cloud.idl.common.Envelop", "e\022\026\n\016correlation_id\030\t \001(\t\022\020\n\010reply_to\030\n " + "\001(\t\"l\n\nGetRequest\0227\n\005token\030\001 \002(\0132(.mosai" + "c_cloud.idl.common.CompletionToken\022\r\n\005qu" + "eue\030\002 \002(\t\022\026\n\010auto_ack\030\003 \001(\010:\004true\"b\n\003Ack" + "\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.commo" + "n.CompletionToken\022\020\n\010delivery\030\002 \002(\003\022\020\n\010m" + "ultiple\030\003 \002(\010\"Z\n\rCancelRequest\0227\n\005token\030" + "\001 \002(\0132(.mosaic_cloud.idl.common.Completi" + "onToken\022\020\n\010consumer\030\002 \002(\t\"(\n\020ConsumeOkMe" + "ssage\022\024\n\014consumer_tag\030\001 \002(\t\"\'\n\017CancelOkM", "essage\022\024\n\014consumer_tag\030\001 \002(\t\"+\n\023ServerCa" + "ncelRequest\022\024\n\014consumer_tag\030\001 \002(\t\"\350\001\n\017De" + "liveryMessage\022\024\n\014consumer_tag\030\001 \002(\t\022\024\n\014d" + "elivery_tag\030\002 \002(\003\022\020\n\010exchange\030\003 \002(\t\022\023\n\013r" + "outing_key\030\004 \002(\t\022\025\n\rdelivery_mode\030\005 \002(\005\022" + "\014\n\004data\030\006 \002(\014\0223\n\010envelope\030\007 \002(\0132!.mosaic" + "_cloud.idl.common.Envelope\022\026\n\016correlatio" + "n_id\030\010 \001(\t\022\020\n\010reply_to\030\t \001(\t\"8\n\017Shutdown" + "Message\022\024\n\014consumer_tag\030\001 \002(\t\022\017\n\007message" + "\030\002 \002(\tB;\n)eu.mosaic_cloud.platform.inter", "op.idl.amqpB\014AmqpPayloadsH\001"};
+		final java.lang.String[] descriptorData = {"\n\namqp.proto\022\025mosaic_cloud.idl.amqp\032\014com" + "mon.proto\"\252\002\n\026DeclareExchangeRequest\0227\n\005" + "token\030\001 \002(\0132(.mosaic_cloud.idl.common.Co" + "mpletionToken\022\020\n\010exchange\030\002 \002(\t\022H\n\004type\030" + "\003 \002(\0162:.mosaic_cloud.idl.amqp.DeclareExc" + "hangeRequest.ExchangeType\022\026\n\007durable\030\004 \001" + "(\010:\005false\022\031\n\013auto_delete\030\005 \001(\010:\004true\022\025\n\007" + "passive\030\006 \001(\010:\004true\"1\n\014ExchangeType\022\n\n\006D" + "IRECT\020\000\022\n\n\006FANOUT\020\001\022\t\n\005TOPIC\020\002\"\300\001\n\023Decla" + "reQueueRequest\0227\n\005token\030\001 \002(\0132(.mosaic_c", "loud.idl.common.CompletionToken\022\r\n\005queue" + "\030\002 \002(\t\022\027\n\texclusive\030\003 \001(\010:\004true\022\026\n\007durab" + "le\030\004 \001(\010:\005false\022\031\n\013auto_delete\030\005 \001(\010:\004tr" + "ue\022\025\n\007passive\030\006 \001(\010:\004true\"\201\001\n\020BindQueueR" + "equest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl" + ".common.CompletionToken\022\020\n\010exchange\030\002 \002(" + "\t\022\r\n\005queue\030\003 \002(\t\022\023\n\013routing_key\030\004 \002(\t\"\277\001" + "\n\016ConsumeRequest\0227\n\005token\030\001 \002(\0132(.mosaic" + "_cloud.idl.common.CompletionToken\022\r\n\005que" + "ue\030\002 \002(\t\022\020\n\010consumer\030\003 \002(\t\022\027\n\texclusive\030", "\004 \001(\010:\004true\022\026\n\010auto_ack\030\005 \001(\010:\004true\022\r\n\005e" + "xtra\030\006 \002(\014\022\023\n\010prefetch\030\007 \001(\005:\0010\"]\n\014Consu" + "meReply\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.id" + "l.common.CompletionToken\022\024\n\014consumer_tag" + "\030\002 \002(\t\"\247\002\n\016PublishRequest\0227\n\005token\030\001 \002(\013" + "2(.mosaic_cloud.idl.common.CompletionTok" + "en\022\014\n\004data\030\002 \002(\014\022\026\n\007durable\030\003 \001(\010:\005false" + "\022\020\n\010exchange\030\004 \002(\t\022\027\n\timmediate\030\005 \001(\010:\004t" + "rue\022\027\n\tmandatory\030\006 \001(\010:\004true\022\023\n\013routing_" + "key\030\007 \002(\t\0223\n\010envelope\030\010 \002(\0132!.mosaic_clo", "ud.idl.common.Envelope\022\026\n\016correlation_id" + "\030\t \001(\t\022\020\n\010reply_to\030\n \001(\t\"l\n\nGetRequest\0227" + "\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.common." + "CompletionToken\022\r\n\005queue\030\002 \002(\t\022\026\n\010auto_a" + "ck\030\003 \001(\010:\004true\"b\n\003Ack\0227\n\005token\030\001 \002(\0132(.m" + "osaic_cloud.idl.common.CompletionToken\022\020" + "\n\010delivery\030\002 \002(\003\022\020\n\010multiple\030\003 \002(\010\"Z\n\rCa" + "ncelRequest\0227\n\005token\030\001 \002(\0132(.mosaic_clou" + "d.idl.common.CompletionToken\022\020\n\010consumer" + "\030\002 \002(\t\"(\n\020ConsumeOkMessage\022\024\n\014consumer_t", "ag\030\001 \002(\t\"\'\n\017CancelOkMessage\022\024\n\014consumer_" + "tag\030\001 \002(\t\"+\n\023ServerCancelRequest\022\024\n\014cons" + "umer_tag\030\001 \002(\t\"\350\001\n\017DeliveryMessage\022\024\n\014co" + "nsumer_tag\030\001 \002(\t\022\024\n\014delivery_tag\030\002 \002(\003\022\020" + "\n\010exchange\030\003 \002(\t\022\023\n\013routing_key\030\004 \002(\t\022\025\n" + "\rdelivery_mode\030\005 \002(\005\022\014\n\004data\030\006 \002(\014\0223\n\010en" + "velope\030\007 \002(\0132!.mosaic_cloud.idl.common.E" + "nvelope\022\026\n\016correlation_id\030\010 \001(\t\022\020\n\010reply" + "_to\030\t \001(\t\"8\n\017ShutdownMessage\022\024\n\014consumer" + "_tag\030\001 \002(\t\022\017\n\007message\030\002 \002(\t\"R\n\024DeliveryB", "atchMessage\022:\n\ndeliveries\030\001 \003(\0132&.mosaic" + "_cloud.idl.amqp.DeliveryMessageB;\n)eu.mo" + "saic_cloud.platform.interop.idl.amqpB\014Am" + "qpPayloadsH\001"};
 		final com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner = new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner () {
 			@Override
 			public com.google.protobuf.ExtensionRegistry assignDescriptors (final com.google.protobuf.Descriptors.FileDescriptor root) {
@@ -46,7 +46,7 @@ public final class AmqpPayloads
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_BindQueueRequest_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (2);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_BindQueueRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_BindQueueRequest_descriptor, new java.lang.String[] {"Token", "Exchange", "Queue", "RoutingKey",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.BindQueueRequest.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.BindQueueRequest.Builder.class);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeRequest_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (3);
-				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeRequest_descriptor, new java.lang.String[] {"Token", "Queue", "Consumer", "Exclusive", "AutoAck", "Extra",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeRequest.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeRequest.Builder.class);
+				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeRequest_descriptor, new java.lang.String[] {"Token", "Queue", "Consumer", "Exclusive", "AutoAck", "Extra", "Prefetch",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeRequest.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeRequest.Builder.class);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeReply_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (4);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeReply_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ConsumeReply_descriptor, new java.lang.String[] {"Token", "ConsumerTag",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeReply.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ConsumeReply.Builder.class);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_PublishRequest_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (5);
@@ -67,6 +67,8 @@ public final class AmqpPayloads
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryMessage_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryMessage_descriptor, new java.lang.String[] {"ConsumerTag", "DeliveryTag", "Exchange", "RoutingKey", "DeliveryMode", "Data", "Envelope", "CorrelationId", "ReplyTo",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder.class);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ShutdownMessage_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (13);
 				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ShutdownMessage_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_ShutdownMessage_descriptor, new java.lang.String[] {"ConsumerTag", "Message",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ShutdownMessage.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.ShutdownMessage.Builder.class);
+				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_descriptor = AmqpPayloads.getDescriptor ().getMessageTypes ().get (14);
+				AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_descriptor, new java.lang.String[] {"Deliveries",}, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.class, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.Builder.class);
 				return null;
 			}
 		};
@@ -91,6 +93,8 @@ public final class AmqpPayloads
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_amqp_DeclareExchangeRequest_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_amqp_DeclareQueueRequest_descriptor;
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_amqp_DeclareQueueRequest_fieldAccessorTable;
+	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_descriptor;
+	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_amqp_DeliveryMessage_descriptor;
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_amqp_DeliveryMessage_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_amqp_GetRequest_descriptor;
@@ -3504,6 +3508,11 @@ public final class AmqpPayloads
 			return this.extra_;
 		}
 		
+		@Override
+		public int getPrefetch () {
+			return this.prefetch_;
+		}
+		
 		@Override
 		public String getQueue () {
 			final java.lang.Object ref = this.queue_;
@@ -3543,6 +3552,9 @@ public final class AmqpPayloads
 			if (((this.bitField0_ & 0x00000020) == 0x00000020)) {
 				size += com.google.protobuf.CodedOutputStream.computeBytesSize (6, this.extra_);
 			}
+			if (((this.bitField0_ & 0x00000040) == 0x00000040)) {
+				size += com.google.protobuf.CodedOutputStream.computeInt32Size (7, this.prefetch_);
+			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
 			return size;
@@ -3578,6 +3590,11 @@ public final class AmqpPayloads
 			return ((this.bitField0_ & 0x00000020) == 0x00000020);
 		}
 		
+		@Override
+		public boolean hasPrefetch () {
+			return ((this.bitField0_ & 0x00000040) == 0x00000040);
+		}
+		
 		@Override
 		public boolean hasQueue () {
 			return ((this.bitField0_ & 0x00000002) == 0x00000002);
@@ -3649,6 +3666,9 @@ public final class AmqpPayloads
 			if (((this.bitField0_ & 0x00000020) == 0x00000020)) {
 				output.writeBytes (6, this.extra_);
 			}
+			if (((this.bitField0_ & 0x00000040) == 0x00000040)) {
+				output.writeInt32 (7, this.prefetch_);
+			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
@@ -3698,6 +3718,7 @@ public final class AmqpPayloads
 			this.exclusive_ = true;
 			this.autoAck_ = true;
 			this.extra_ = com.google.protobuf.ByteString.EMPTY;
+			this.prefetch_ = 0;
 		}
 		
 		private boolean autoAck_;
@@ -3707,6 +3728,7 @@ public final class AmqpPayloads
 		private com.google.protobuf.ByteString extra_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
+		private int prefetch_;
 		private java.lang.Object queue_;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
@@ -3798,6 +3820,8 @@ public final class AmqpPayloads
 		public static final int EXCLUSIVE_FIELD_NUMBER = 4;
 		// required bytes extra = 6;
 		public static final int EXTRA_FIELD_NUMBER = 6;
+		// optional int32 prefetch = 7 [default = 0];
+		public static final int PREFETCH_FIELD_NUMBER = 7;
 		// required string queue = 2;
 		public static final int QUEUE_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
@@ -3862,6 +3886,10 @@ public final class AmqpPayloads
 					to_bitField0_ |= 0x00000020;
 				}
 				result.extra_ = this.extra_;
+				if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+					to_bitField0_ |= 0x00000040;
+				}
+				result.prefetch_ = this.prefetch_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -3886,6 +3914,8 @@ public final class AmqpPayloads
 				this.bitField0_ = (this.bitField0_ & ~0x00000010);
 				this.extra_ = com.google.protobuf.ByteString.EMPTY;
 				this.bitField0_ = (this.bitField0_ & ~0x00000020);
+				this.prefetch_ = 0;
+				this.bitField0_ = (this.bitField0_ & ~0x00000040);
 				return this;
 			}
 			
@@ -3917,6 +3947,13 @@ public final class AmqpPayloads
 				return this;
 			}
 			
+			public Builder clearPrefetch () {
+				this.bitField0_ = (this.bitField0_ & ~0x00000040);
+				this.prefetch_ = 0;
+				this.onChanged ();
+				return this;
+			}
+			
 			public Builder clearQueue () {
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				this.queue_ = ConsumeRequest.getDefaultInstance ().getQueue ();
@@ -3977,6 +4014,11 @@ public final class AmqpPayloads
 				return this.extra_;
 			}
 			
+			@Override
+			public int getPrefetch () {
+				return this.prefetch_;
+			}
+			
 			@Override
 			public String getQueue () {
 				final java.lang.Object ref = this.queue_;
@@ -4033,6 +4075,11 @@ public final class AmqpPayloads
 				return ((this.bitField0_ & 0x00000020) == 0x00000020);
 			}
 			
+			@Override
+			public boolean hasPrefetch () {
+				return ((this.bitField0_ & 0x00000040) == 0x00000040);
+			}
+			
 			@Override
 			public boolean hasQueue () {
 				return ((this.bitField0_ & 0x00000002) == 0x00000002);
@@ -4116,6 +4163,11 @@ public final class AmqpPayloads
 							this.extra_ = input.readBytes ();
 							break;
 						}
+						case 56 : {
+							this.bitField0_ |= 0x00000040;
+							this.prefetch_ = input.readInt32 ();
+							break;
+						}
 					}
 				}
 			}
@@ -4151,6 +4203,9 @@ public final class AmqpPayloads
 				if (other.hasExtra ()) {
 					this.setExtra (other.getExtra ());
 				}
+				if (other.hasPrefetch ()) {
+					this.setPrefetch (other.getPrefetch ());
+				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
 			}
@@ -4204,6 +4259,13 @@ public final class AmqpPayloads
 				return this;
 			}
 			
+			public Builder setPrefetch (final int value) {
+				this.bitField0_ |= 0x00000040;
+				this.prefetch_ = value;
+				this.onChanged ();
+				return this;
+			}
+			
 			public Builder setQueue (final String value) {
 				if (value == null) {
 					throw new NullPointerException ();
@@ -4288,6 +4350,8 @@ public final class AmqpPayloads
 			private boolean exclusive_ = true;
 			// required bytes extra = 6;
 			private com.google.protobuf.ByteString extra_ = com.google.protobuf.ByteString.EMPTY;
+			// optional int32 prefetch = 7 [default = 0];
+			private int prefetch_;
 			// required string queue = 2;
 			private java.lang.Object queue_ = "";
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
@@ -4318,6 +4382,8 @@ public final class AmqpPayloads
 		
 		com.google.protobuf.ByteString getExtra ();
 		
+		int getPrefetch ();
+		
 		String getQueue ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
@@ -4336,6 +4402,9 @@ public final class AmqpPayloads
 		// required bytes extra = 6;
 		boolean hasExtra ();
 		
+		// optional int32 prefetch = 7 [default = 0];
+		boolean hasPrefetch ();
+		
 		// required string queue = 2;
 		boolean hasQueue ();
 		
@@ -6094,6 +6163,591 @@ public final class AmqpPayloads
 		boolean hasToken ();
 	}
 	
+	public static final class DeliveryBatchMessage
+				extends com.google.protobuf.GeneratedMessage
+				implements
+					DeliveryBatchMessageOrBuilder
+	{
+		private DeliveryBatchMessage (final boolean noInit) {}
+		
+		// Use DeliveryBatchMessage.newBuilder() to construct.
+		private DeliveryBatchMessage (final Builder builder) {
+			super (builder);
+		}
+		
+		@Override
+		public DeliveryBatchMessage getDefaultInstanceForType () {
+			return DeliveryBatchMessage.defaultInstance;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage getDeliveries (final int index) {
+			return this.deliveries_.get (index);
+		}
+		
+		@Override
+		public int getDeliveriesCount () {
+			return this.deliveries_.size ();
+		}
+		
+		@Override
+		public java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> getDeliveriesList () {
+			return this.deliveries_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder getDeliveriesOrBuilder (final int index) {
+			return this.deliveries_.get (index);
+		}
+		
+		@Override
+		public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> getDeliveriesOrBuilderList () {
+			return this.deliveries_;
+		}
+		
+		@Override
+		public int getSerializedSize () {
+			int size = this.memoizedSerializedSize;
+			if (size != -1)
+				return size;
+			size = 0;
+			for (int i = 0; i < this.deliveries_.size (); i++) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.deliveries_.get (i));
+			}
+			size += this.getUnknownFields ().getSerializedSize ();
+			this.memoizedSerializedSize = size;
+			return size;
+		}
+		
+		@Override
+		public final boolean isInitialized () {
+			final byte isInitialized = this.memoizedIsInitialized;
+			if (isInitialized != -1)
+				return isInitialized == 1;
+			for (int i = 0; i < this.getDeliveriesCount (); i++) {
+				if (!this.getDeliveries (i).isInitialized ()) {
+					this.memoizedIsInitialized = 0;
+					return false;
+				}
+			}
+			this.memoizedIsInitialized = 1;
+			return true;
+		}
+		
+		@Override
+		public Builder newBuilderForType () {
+			return DeliveryBatchMessage.newBuilder ();
+		}
+		
+		@Override
+		public Builder toBuilder () {
+			return DeliveryBatchMessage.newBuilder (this);
+		}
+		
+		@Override
+		public void writeTo (final com.google.protobuf.CodedOutputStream output)
+					throws java.io.IOException {
+			this.getSerializedSize ();
+			for (int i = 0; i < this.deliveries_.size (); i++) {
+				output.writeMessage (1, this.deliveries_.get (i));
+			}
+			this.getUnknownFields ().writeTo (output);
+		}
+		
+		@Override
+		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+			return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_fieldAccessorTable;
+		}
+		
+		@java.lang.Override
+		protected Builder newBuilderForType (final com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+			final Builder builder = new Builder (parent);
+			return builder;
+		}
+		
+		@java.lang.Override
+		protected java.lang.Object writeReplace ()
+					throws java.io.ObjectStreamException {
+			return super.writeReplace ();
+		}
+		
+		private void initFields () {
+			this.deliveries_ = java.util.Collections.emptyList ();
+		}
+		
+		private java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> deliveries_;
+		private byte memoizedIsInitialized = -1;
+		private int memoizedSerializedSize = -1;
+		
+		public static DeliveryBatchMessage getDefaultInstance () {
+			return DeliveryBatchMessage.defaultInstance;
+		}
+		
+		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+			return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_descriptor;
+		}
+		
+		public static Builder newBuilder () {
+			return Builder.create ();
+		}
+		
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage prototype) {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (prototype);
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseDelimitedFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			final Builder builder = DeliveryBatchMessage.newBuilder ();
+			if (builder.mergeDelimitedFrom (input)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			final Builder builder = DeliveryBatchMessage.newBuilder ();
+			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final byte[] data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final com.google.protobuf.ByteString data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final com.google.protobuf.CodedInputStream input)
+					throws java.io.IOException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return DeliveryBatchMessage.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		static {
+			defaultInstance = new DeliveryBatchMessage (true);
+			DeliveryBatchMessage.defaultInstance.initFields ();
+		}
+		// repeated .mosaic_cloud.idl.amqp.DeliveryMessage deliveries = 1;
+		public static final int DELIVERIES_FIELD_NUMBER = 1;
+		private static final DeliveryBatchMessage defaultInstance;
+		private static final long serialVersionUID = 0L;
+		
+		public static final class Builder
+					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
+					implements
+						eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessageOrBuilder
+		{
+			// Construct using eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.newBuilder()
+			private Builder () {
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			private Builder (final BuilderParent parent) {
+				super (parent);
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			public Builder addAllDeliveries (final java.lang.Iterable<? extends eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> values) {
+				if (this.deliveriesBuilder_ == null) {
+					this.ensureDeliveriesIsMutable ();
+					super.addAll (values, this.deliveries_);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.addAllMessages (values);
+				}
+				return this;
+			}
+			
+			public Builder addDeliveries (final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage value) {
+				if (this.deliveriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.add (value);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.addMessage (value);
+				}
+				return this;
+			}
+			
+			public Builder addDeliveries (final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder builderForValue) {
+				if (this.deliveriesBuilder_ == null) {
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.add (builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.addMessage (builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public Builder addDeliveries (final int index, final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage value) {
+				if (this.deliveriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.add (index, value);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.addMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder addDeliveries (final int index, final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder builderForValue) {
+				if (this.deliveriesBuilder_ == null) {
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.add (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.addMessage (index, builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder addDeliveriesBuilder () {
+				return this.getDeliveriesFieldBuilder ().addBuilder (eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.getDefaultInstance ());
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder addDeliveriesBuilder (final int index) {
+				return this.getDeliveriesFieldBuilder ().addBuilder (index, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.getDefaultInstance ());
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage build () {
+				final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
+				}
+				return result;
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage result = new eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage (this);
+				if (this.deliveriesBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+						this.deliveries_ = java.util.Collections.unmodifiableList (this.deliveries_);
+						this.bitField0_ = (this.bitField0_ & ~0x00000001);
+					}
+					result.deliveries_ = this.deliveries_;
+				} else {
+					result.deliveries_ = this.deliveriesBuilder_.build ();
+				}
+				this.onBuilt ();
+				return result;
+			}
+			
+			@Override
+			public Builder clear () {
+				super.clear ();
+				if (this.deliveriesBuilder_ == null) {
+					this.deliveries_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				} else {
+					this.deliveriesBuilder_.clear ();
+				}
+				return this;
+			}
+			
+			public Builder clearDeliveries () {
+				if (this.deliveriesBuilder_ == null) {
+					this.deliveries_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000001);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.clear ();
+				}
+				return this;
+			}
+			
+			@Override
+			public Builder clone () {
+				return Builder.create ().mergeFrom (this.buildPartial ());
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.getDefaultInstance ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage getDeliveries (final int index) {
+				if (this.deliveriesBuilder_ == null) {
+					return this.deliveries_.get (index);
+				} else {
+					return this.deliveriesBuilder_.getMessage (index);
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder getDeliveriesBuilder (final int index) {
+				return this.getDeliveriesFieldBuilder ().getBuilder (index);
+			}
+			
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder> getDeliveriesBuilderList () {
+				return this.getDeliveriesFieldBuilder ().getBuilderList ();
+			}
+			
+			@Override
+			public int getDeliveriesCount () {
+				if (this.deliveriesBuilder_ == null) {
+					return this.deliveries_.size ();
+				} else {
+					return this.deliveriesBuilder_.getCount ();
+				}
+			}
+			
+			@Override
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> getDeliveriesList () {
+				if (this.deliveriesBuilder_ == null) {
+					return java.util.Collections.unmodifiableList (this.deliveries_);
+				} else {
+					return this.deliveriesBuilder_.getMessageList ();
+				}
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder getDeliveriesOrBuilder (final int index) {
+				if (this.deliveriesBuilder_ == null) {
+					return this.deliveries_.get (index);
+				} else {
+					return this.deliveriesBuilder_.getMessageOrBuilder (index);
+				}
+			}
+			
+			@Override
+			public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> getDeliveriesOrBuilderList () {
+				if (this.deliveriesBuilder_ != null) {
+					return this.deliveriesBuilder_.getMessageOrBuilderList ();
+				} else {
+					return java.util.Collections.unmodifiableList (this.deliveries_);
+				}
+			}
+			
+			@Override
+			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
+				return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.getDescriptor ();
+			}
+			
+			@Override
+			public final boolean isInitialized () {
+				for (int i = 0; i < this.getDeliveriesCount (); i++) {
+					if (!this.getDeliveries (i).isInitialized ()) {
+						return false;
+					}
+				}
+				return true;
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+						throws java.io.IOException {
+				final com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder (this.getUnknownFields ());
+				while (true) {
+					final int tag = input.readTag ();
+					switch (tag) {
+						case 0 :
+							this.setUnknownFields (unknownFields.build ());
+							this.onChanged ();
+							return this;
+						default : {
+							if (!this.parseUnknownField (input, unknownFields, extensionRegistry, tag)) {
+								this.setUnknownFields (unknownFields.build ());
+								this.onChanged ();
+								return this;
+							}
+							break;
+						}
+						case 10 : {
+							final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.newBuilder ();
+							input.readMessage (subBuilder, extensionRegistry);
+							this.addDeliveries (subBuilder.buildPartial ());
+							break;
+						}
+					}
+				}
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.Message other) {
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage) other);
+				} else {
+					super.mergeFrom (other);
+					return this;
+				}
+			}
+			
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage.getDefaultInstance ())
+					return this;
+				if (this.deliveriesBuilder_ == null) {
+					if (!other.deliveries_.isEmpty ()) {
+						if (this.deliveries_.isEmpty ()) {
+							this.deliveries_ = other.deliveries_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000001);
+						} else {
+							this.ensureDeliveriesIsMutable ();
+							this.deliveries_.addAll (other.deliveries_);
+						}
+						this.onChanged ();
+					}
+				} else {
+					if (!other.deliveries_.isEmpty ()) {
+						if (this.deliveriesBuilder_.isEmpty ()) {
+							this.deliveriesBuilder_.dispose ();
+							this.deliveriesBuilder_ = null;
+							this.deliveries_ = other.deliveries_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000001);
+							this.deliveriesBuilder_ = com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ? this.getDeliveriesFieldBuilder () : null;
+						} else {
+							this.deliveriesBuilder_.addAllMessages (other.deliveries_);
+						}
+					}
+				}
+				this.mergeUnknownFields (other.getUnknownFields ());
+				return this;
+			}
+			
+			public Builder removeDeliveries (final int index) {
+				if (this.deliveriesBuilder_ == null) {
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.remove (index);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.remove (index);
+				}
+				return this;
+			}
+			
+			public Builder setDeliveries (final int index, final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage value) {
+				if (this.deliveriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.set (index, value);
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.setMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder setDeliveries (final int index, final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder builderForValue) {
+				if (this.deliveriesBuilder_ == null) {
+					this.ensureDeliveriesIsMutable ();
+					this.deliveries_.set (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.deliveriesBuilder_.setMessage (index, builderForValue.build ());
+				}
+				return this;
+			}
+			
+			@Override
+			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+				return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_fieldAccessorTable;
+			}
+			
+			private eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage buildParsed ()
+						throws com.google.protobuf.InvalidProtocolBufferException {
+				final eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryBatchMessage result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
+				}
+				return result;
+			}
+			
+			private void ensureDeliveriesIsMutable () {
+				if (!((this.bitField0_ & 0x00000001) == 0x00000001)) {
+					this.deliveries_ = new java.util.ArrayList<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> (this.deliveries_);
+					this.bitField0_ |= 0x00000001;
+				}
+			}
+			
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> getDeliveriesFieldBuilder () {
+				if (this.deliveriesBuilder_ == null) {
+					this.deliveriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> (this.deliveries_, ((this.bitField0_ & 0x00000001) == 0x00000001), this.getParentForChildren (), this.isClean ());
+					this.deliveries_ = null;
+				}
+				return this.deliveriesBuilder_;
+			}
+			
+			private void maybeForceBuilderInitialization () {
+				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+					this.getDeliveriesFieldBuilder ();
+				}
+			}
+			
+			private int bitField0_;
+			// repeated .mosaic_cloud.idl.amqp.DeliveryMessage deliveries = 1;
+			private java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> deliveries_ = java.util.Collections.emptyList ();
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage.Builder, eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> deliveriesBuilder_;
+			
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.amqp.DeliveryBatchMessage)
+			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+				return eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.internal_static_mosaic_cloud_idl_amqp_DeliveryBatchMessage_descriptor;
+			}
+			
+			private static Builder create () {
+				return new Builder ();
+			}
+		}
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.amqp.DeliveryBatchMessage)
+	}
+	
+	public interface DeliveryBatchMessageOrBuilder
+				extends
+					com.google.protobuf.MessageOrBuilder
+	{
+		eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage getDeliveries (int index);
+		
+		int getDeliveriesCount ();
+		
+		// repeated .mosaic_cloud.idl.amqp.DeliveryMessage deliveries = 1;
+		java.util.List<eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessage> getDeliveriesList ();
+		
+		eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder getDeliveriesOrBuilder (int index);
+		
+		java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.amqp.AmqpPayloads.DeliveryMessageOrBuilder> getDeliveriesOrBuilderList ();
+	}
+	
 	public static final class DeliveryMessage
 				extends com.google.protobuf.GeneratedMessage
 				implements
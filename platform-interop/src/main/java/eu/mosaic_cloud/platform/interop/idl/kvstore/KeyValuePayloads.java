@@ -34,7 +34,7 @@ public final class KeyValuePayloads
 	public static void registerAllExtensions (final com.google.protobuf.ExtensionRegistry registry) {}
 	
 	static {
-		final java.lang.String[] descriptorData = {"\n\rkvstore.proto\022\030mosaic_cloud.idl.kvstor" + "e\032\014common.proto\"V\n\013InitRequest\0227\n\005token\030" + "\001 \002(\0132(.mosaic_cloud.idl.common.Completi" + "onToken\022\016\n\006bucket\030\002 \002(\t\"Z\n\007KVEntry\022\013\n\003ke" + "y\030\001 \002(\t\022\r\n\005value\030\002 \002(\014\0223\n\010envelope\030\003 \002(\013" + "2!.mosaic_cloud.idl.common.Envelope\"\253\001\n\n" + "SetRequest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud" + ".idl.common.CompletionToken\022\013\n\003key\030\002 \002(\t" + "\022\023\n\010exp_time\030\003 \001(\005:\0010\022\r\n\005value\030\004 \002(\014\0223\n\010" + "envelope\030\005 \002(\0132!.mosaic_cloud.idl.common", ".Envelope\"\207\001\n\nGetRequest\0227\n\005token\030\001 \002(\0132" + "(.mosaic_cloud.idl.common.CompletionToke" + "n\022\013\n\003key\030\002 \003(\t\0223\n\010envelope\030\003 \002(\0132!.mosai" + "c_cloud.idl.common.Envelope\"w\n\010GetReply\022" + "7\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.common" + ".CompletionToken\0222\n\007results\030\002 \003(\0132!.mosa" + "ic_cloud.idl.kvstore.KVEntry\"U\n\rDeleteRe" + "quest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl." + "common.CompletionToken\022\013\n\003key\030\002 \002(\t\"F\n\013L" + "istRequest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud", ".idl.common.CompletionToken\"R\n\tListReply" + "\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.commo" + "n.CompletionToken\022\014\n\004keys\030\002 \003(\tBB\n,eu.mo" + "saic_cloud.platform.interop.idl.kvstoreB" + "\020KeyValuePayloadsH\001"};
+		final java.lang.String[] descriptorData = {"\n\rkvstore.proto\022\030mosaic_cloud.idl.kvstor" + "e\032\014common.proto\"V\n\013InitRequest\0227\n\005token\030" + "\001 \002(\0132(.mosaic_cloud.idl.common.Completi" + "onToken\022\016\n\006bucket\030\002 \002(\t\"Z\n\007KVEntry\022\013\n\003ke" + "y\030\001 \002(\t\022\r\n\005value\030\002 \002(\014\0223\n\010envelope\030\003 \002(\013" + "2!.mosaic_cloud.idl.common.Envelope\"\253\001\n\n" + "SetRequest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud" + ".idl.common.CompletionToken\022\013\n\003key\030\002 \002(\t" + "\022\023\n\010exp_time\030\003 \001(\005:\0010\022\r\n\005value\030\004 \002(\014\0223\n\010" + "envelope\030\005 \002(\0132!.mosaic_cloud.idl.common", ".Envelope\"\207\001\n\nGetRequest\0227\n\005token\030\001 \002(\0132" + "(.mosaic_cloud.idl.common.CompletionToke" + "n\022\013\n\003key\030\002 \003(\t\0223\n\010envelope\030\003 \002(\0132!.mosai" + "c_cloud.idl.common.Envelope\"w\n\010GetReply\022" + "7\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.common" + ".CompletionToken\0222\n\007results\030\002 \003(\0132!.mosa" + "ic_cloud.idl.kvstore.KVEntry\"U\n\rDeleteRe" + "quest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl." + "common.CompletionToken\022\013\n\003key\030\002 \002(\t\"F\n\013L" + "istRequest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud", ".idl.common.CompletionToken\"R\n\tListReply" + "\0227\n\005token\030\001 \002(\0132(.mosaic_cloud.idl.commo" + "n.CompletionToken\022\014\n\004keys\030\002 \003(\t\"}\n\016SetBu" + "lkRequest\0227\n\005token\030\001 \002(\0132(.mosaic_cloud." + "idl.common.CompletionToken\0222\n\007entries\030\002 " + "\003(\0132!.mosaic_cloud.idl.kvstore.KVEntry\"Z" + "\n\021DeleteBulkRequest\0227\n\005token\030\001 \002(\0132(.mos" + "aic_cloud.idl.common.CompletionToken\022\014\n\004" + "keys\030\002 \003(\t\"Y\n\tBulkReply\0227\n\005token\030\001 \002(\0132(" + ".mosaic_cloud.idl.common.CompletionToken", "\022\023\n\013failed_keys\030\002 \003(\tBB\n,eu.mosaic_cloud" + ".platform.interop.idl.kvstoreB\020KeyValueP" + "ayloadsH\001"};
 		final com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner = new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner () {
 			@Override
 			public com.google.protobuf.ExtensionRegistry assignDescriptors (final com.google.protobuf.Descriptors.FileDescriptor root) {
@@ -55,12 +55,22 @@ public final class KeyValuePayloads
 				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor, new java.lang.String[] {"Token",}, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.class, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.Builder.class);
 				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor = KeyValuePayloads.getDescriptor ().getMessageTypes ().get (7);
 				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor, new java.lang.String[] {"Token", "Keys",}, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.class, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.Builder.class);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_descriptor = KeyValuePayloads.getDescriptor ().getMessageTypes ().get (8);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_descriptor, new java.lang.String[] {"Token", "Entries",}, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.class, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.Builder.class);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_descriptor = KeyValuePayloads.getDescriptor ().getMessageTypes ().get (9);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_descriptor, new java.lang.String[] {"Token", "Keys",}, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.class, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.Builder.class);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_descriptor = KeyValuePayloads.getDescriptor ().getMessageTypes ().get (10);
+				KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_fieldAccessorTable = new com.google.protobuf.GeneratedMessage.FieldAccessorTable (KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_descriptor, new java.lang.String[] {"Token", "FailedKeys",}, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.class, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.Builder.class);
 				return null;
 			}
 		};
 		com.google.protobuf.Descriptors.FileDescriptor.internalBuildGeneratedFileFrom (descriptorData, new com.google.protobuf.Descriptors.FileDescriptor[] {eu.mosaic_cloud.platform.interop.idl.IdlCommon.getDescriptor (),}, assigner);
 	}
 	private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
+	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_BulkReply_descriptor;
+	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_BulkReply_fieldAccessorTable;
+	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_descriptor;
+	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_descriptor;
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_GetReply_descriptor;
@@ -75,39 +85,41 @@ public final class KeyValuePayloads
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor;
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable;
+	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_descriptor;
+	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_fieldAccessorTable;
 	private static com.google.protobuf.Descriptors.Descriptor internal_static_mosaic_cloud_idl_kvstore_SetRequest_descriptor;
 	private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_mosaic_cloud_idl_kvstore_SetRequest_fieldAccessorTable;
 	
-	public static final class DeleteRequest
+	public static final class BulkReply
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					DeleteRequestOrBuilder
+					BulkReplyOrBuilder
 	{
-		private DeleteRequest (final boolean noInit) {}
+		private BulkReply (final boolean noInit) {}
 		
-		// Use DeleteRequest.newBuilder() to construct.
-		private DeleteRequest (final Builder builder) {
+		// Use BulkReply.newBuilder() to construct.
+		private BulkReply (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public DeleteRequest getDefaultInstanceForType () {
-			return DeleteRequest.defaultInstance;
+		public BulkReply getDefaultInstanceForType () {
+			return BulkReply.defaultInstance;
 		}
 		
 		@Override
-		public String getKey () {
-			final java.lang.Object ref = this.key_;
-			if (ref instanceof String) {
-				return (String) ref;
-			} else {
-				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
-				final String s = bs.toStringUtf8 ();
-				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
-					this.key_ = s;
-				}
-				return s;
-			}
+		public String getFailedKeys (final int index) {
+			return this.failedKeys_.get (index);
+		}
+		
+		@Override
+		public int getFailedKeysCount () {
+			return this.failedKeys_.size ();
+		}
+		
+		@Override
+		public java.util.List<String> getFailedKeysList () {
+			return this.failedKeys_;
 		}
 		
 		@Override
@@ -119,8 +131,13 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.getKeyBytes ());
+			{
+				int dataSize = 0;
+				for (int i = 0; i < this.failedKeys_.size (); i++) {
+					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.failedKeys_.getByteString (i));
+				}
+				size += dataSize;
+				size += 1 * this.getFailedKeysList ().size ();
 			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
@@ -137,11 +154,6 @@ public final class KeyValuePayloads
 			return this.token_;
 		}
 		
-		@Override
-		public boolean hasKey () {
-			return ((this.bitField0_ & 0x00000002) == 0x00000002);
-		}
-		
 		@Override
 		public boolean hasToken () {
 			return ((this.bitField0_ & 0x00000001) == 0x00000001);
@@ -156,10 +168,6 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.hasKey ()) {
-				this.memoizedIsInitialized = 0;
-				return false;
-			}
 			if (!this.getToken ().isInitialized ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
@@ -170,12 +178,12 @@ public final class KeyValuePayloads
 		
 		@Override
 		public Builder newBuilderForType () {
-			return DeleteRequest.newBuilder ();
+			return BulkReply.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return DeleteRequest.newBuilder (this);
+			return BulkReply.newBuilder (this);
 		}
 		
 		@Override
@@ -185,15 +193,15 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				output.writeBytes (2, this.getKeyBytes ());
+			for (int i = 0; i < this.failedKeys_.size (); i++) {
+				output.writeBytes (2, this.failedKeys_.getByteString (i));
 			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -208,47 +216,36 @@ public final class KeyValuePayloads
 			return super.writeReplace ();
 		}
 		
-		private com.google.protobuf.ByteString getKeyBytes () {
-			final java.lang.Object ref = this.key_;
-			if (ref instanceof String) {
-				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
-				this.key_ = b;
-				return b;
-			} else {
-				return (com.google.protobuf.ByteString) ref;
-			}
-		}
-		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
-			this.key_ = "";
+			this.failedKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 		}
 		
 		private int bitField0_;
-		private java.lang.Object key_;
+		private com.google.protobuf.LazyStringList failedKeys_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static DeleteRequest getDefaultInstance () {
-			return DeleteRequest.defaultInstance;
+		public static BulkReply getDefaultInstance () {
+			return BulkReply.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest prototype) {
-			return DeleteRequest.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply prototype) {
+			return BulkReply.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = DeleteRequest.newBuilder ();
+			final Builder builder = BulkReply.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -256,9 +253,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = DeleteRequest.newBuilder ();
+			final Builder builder = BulkReply.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -266,63 +263,63 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return DeleteRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return DeleteRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return DeleteRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return DeleteRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return DeleteRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return DeleteRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return DeleteRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return DeleteRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return BulkReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new DeleteRequest (true);
-			DeleteRequest.defaultInstance.initFields ();
+			defaultInstance = new BulkReply (true);
+			BulkReply.defaultInstance.initFields ();
 		}
-		// required string key = 2;
-		public static final int KEY_FIELD_NUMBER = 2;
+		// repeated string failed_keys = 2;
+		public static final int FAILED_KEYS_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final DeleteRequest defaultInstance;
+		private static final BulkReply defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequestOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReplyOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -332,9 +329,26 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
+			public Builder addAllFailedKeys (final java.lang.Iterable<String> values) {
+				this.ensureFailedKeysIsMutable ();
+				super.addAll (values, this.failedKeys_);
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder addFailedKeys (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.ensureFailedKeysIsMutable ();
+				this.failedKeys_.add (value);
+				this.onChanged ();
+				return this;
+			}
+			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -342,8 +356,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -354,10 +368,11 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
-				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-					to_bitField0_ |= 0x00000002;
+				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.failedKeys_ = new com.google.protobuf.UnmodifiableLazyStringList (this.failedKeys_);
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				}
-				result.key_ = this.key_;
+				result.failedKeys_ = this.failedKeys_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -372,14 +387,14 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.key_ = "";
+				this.failedKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				return this;
 			}
 			
-			public Builder clearKey () {
+			public Builder clearFailedKeys () {
+				this.failedKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				this.key_ = DeleteRequest.getDefaultInstance ().getKey ();
 				this.onChanged ();
 				return this;
 			}
@@ -401,25 +416,28 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDescriptor ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.getDescriptor ();
 			}
 			
 			@Override
-			public String getKey () {
-				final java.lang.Object ref = this.key_;
-				if (!(ref instanceof String)) {
-					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
-					this.key_ = s;
-					return s;
-				} else {
-					return (String) ref;
-				}
+			public String getFailedKeys (final int index) {
+				return this.failedKeys_.get (index);
+			}
+			
+			@Override
+			public int getFailedKeysCount () {
+				return this.failedKeys_.size ();
+			}
+			
+			@Override
+			public java.util.List<String> getFailedKeysList () {
+				return java.util.Collections.unmodifiableList (this.failedKeys_);
 			}
 			
 			@Override
@@ -446,11 +464,6 @@ public final class KeyValuePayloads
 				}
 			}
 			
-			@Override
-			public boolean hasKey () {
-				return ((this.bitField0_ & 0x00000002) == 0x00000002);
-			}
-			
 			@Override
 			public boolean hasToken () {
 				return ((this.bitField0_ & 0x00000001) == 0x00000001);
@@ -461,9 +474,6 @@ public final class KeyValuePayloads
 				if (!this.hasToken ()) {
 					return false;
 				}
-				if (!this.hasKey ()) {
-					return false;
-				}
 				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
@@ -499,8 +509,8 @@ public final class KeyValuePayloads
 							break;
 						}
 						case 18 : {
-							this.bitField0_ |= 0x00000002;
-							this.key_ = input.readBytes ();
+							this.ensureFailedKeysIsMutable ();
+							this.failedKeys_.add (input.readBytes ());
 							break;
 						}
 					}
@@ -509,22 +519,29 @@ public final class KeyValuePayloads
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
-				if (other.hasKey ()) {
-					this.setKey (other.getKey ());
+				if (!other.failedKeys_.isEmpty ()) {
+					if (this.failedKeys_.isEmpty ()) {
+						this.failedKeys_ = other.failedKeys_;
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					} else {
+						this.ensureFailedKeysIsMutable ();
+						this.failedKeys_.addAll (other.failedKeys_);
+					}
+					this.onChanged ();
 				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
@@ -545,12 +562,12 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
-			public Builder setKey (final String value) {
+			public Builder setFailedKeys (final int index, final String value) {
 				if (value == null) {
 					throw new NullPointerException ();
 				}
-				this.bitField0_ |= 0x00000002;
-				this.key_ = value;
+				this.ensureFailedKeysIsMutable ();
+				this.failedKeys_.set (index, value);
 				this.onChanged ();
 				return this;
 			}
@@ -582,24 +599,31 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_fieldAccessorTable;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_fieldAccessorTable;
 			}
 			
-			void setKey (final com.google.protobuf.ByteString value) {
-				this.bitField0_ |= 0x00000002;
-				this.key_ = value;
+			void addFailedKeys (final com.google.protobuf.ByteString value) {
+				this.ensureFailedKeysIsMutable ();
+				this.failedKeys_.add (value);
 				this.onChanged ();
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.BulkReply result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
+			private void ensureFailedKeysIsMutable () {
+				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.failedKeys_ = new com.google.protobuf.LazyStringArrayList (this.failedKeys_);
+					this.bitField0_ |= 0x00000002;
+				}
+			}
+			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -615,81 +639,73 @@ public final class KeyValuePayloads
 			}
 			
 			private int bitField0_;
-			// required string key = 2;
-			private java.lang.Object key_ = "";
+			// repeated string failed_keys = 2;
+			private com.google.protobuf.LazyStringList failedKeys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.DeleteRequest)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.BulkReply)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_BulkReply_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.DeleteRequest)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.BulkReply)
 	}
 	
-	public interface DeleteRequestOrBuilder
+	public interface BulkReplyOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		String getKey ();
+		String getFailedKeys (int index);
+		
+		int getFailedKeysCount ();
+		
+		// repeated string failed_keys = 2;
+		java.util.List<String> getFailedKeysList ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
 		
-		// required string key = 2;
-		boolean hasKey ();
-		
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		boolean hasToken ();
 	}
 	
-	public static final class GetReply
+	public static final class DeleteBulkRequest
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					GetReplyOrBuilder
+					DeleteBulkRequestOrBuilder
 	{
-		private GetReply (final boolean noInit) {}
+		private DeleteBulkRequest (final boolean noInit) {}
 		
-		// Use GetReply.newBuilder() to construct.
-		private GetReply (final Builder builder) {
+		// Use DeleteBulkRequest.newBuilder() to construct.
+		private DeleteBulkRequest (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public GetReply getDefaultInstanceForType () {
-			return GetReply.defaultInstance;
-		}
-		
-		@Override
-		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (final int index) {
-			return this.results_.get (index);
-		}
-		
-		@Override
-		public int getResultsCount () {
-			return this.results_.size ();
+		public DeleteBulkRequest getDefaultInstanceForType () {
+			return DeleteBulkRequest.defaultInstance;
 		}
 		
 		@Override
-		public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList () {
-			return this.results_;
+		public String getKeys (final int index) {
+			return this.keys_.get (index);
 		}
 		
 		@Override
-		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (final int index) {
-			return this.results_.get (index);
+		public int getKeysCount () {
+			return this.keys_.size ();
 		}
 		
 		@Override
-		public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList () {
-			return this.results_;
+		public java.util.List<String> getKeysList () {
+			return this.keys_;
 		}
 		
 		@Override
@@ -701,8 +717,13 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			for (int i = 0; i < this.results_.size (); i++) {
-				size += com.google.protobuf.CodedOutputStream.computeMessageSize (2, this.results_.get (i));
+			{
+				int dataSize = 0;
+				for (int i = 0; i < this.keys_.size (); i++) {
+					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.keys_.getByteString (i));
+				}
+				size += dataSize;
+				size += 1 * this.getKeysList ().size ();
 			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
@@ -737,24 +758,18 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			for (int i = 0; i < this.getResultsCount (); i++) {
-				if (!this.getResults (i).isInitialized ()) {
-					this.memoizedIsInitialized = 0;
-					return false;
-				}
-			}
 			this.memoizedIsInitialized = 1;
 			return true;
 		}
 		
 		@Override
 		public Builder newBuilderForType () {
-			return GetReply.newBuilder ();
+			return DeleteBulkRequest.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return GetReply.newBuilder (this);
+			return DeleteBulkRequest.newBuilder (this);
 		}
 		
 		@Override
@@ -764,15 +779,15 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
-			for (int i = 0; i < this.results_.size (); i++) {
-				output.writeMessage (2, this.results_.get (i));
+			for (int i = 0; i < this.keys_.size (); i++) {
+				output.writeBytes (2, this.keys_.getByteString (i));
 			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -789,34 +804,34 @@ public final class KeyValuePayloads
 		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
-			this.results_ = java.util.Collections.emptyList ();
+			this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 		}
 		
 		private int bitField0_;
+		private com.google.protobuf.LazyStringList keys_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
-		private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> results_;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static GetReply getDefaultInstance () {
-			return GetReply.defaultInstance;
+		public static DeleteBulkRequest getDefaultInstance () {
+			return DeleteBulkRequest.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply prototype) {
-			return GetReply.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest prototype) {
+			return DeleteBulkRequest.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = GetReply.newBuilder ();
+			final Builder builder = DeleteBulkRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -824,9 +839,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = GetReply.newBuilder ();
+			final Builder builder = DeleteBulkRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -834,63 +849,63 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetReply.newBuilder ().mergeFrom (data).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetReply.newBuilder ().mergeFrom (data).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return GetReply.newBuilder ().mergeFrom (input).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return GetReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return GetReply.newBuilder ().mergeFrom (input).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return GetReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return DeleteBulkRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new GetReply (true);
-			GetReply.defaultInstance.initFields ();
+			defaultInstance = new DeleteBulkRequest (true);
+			DeleteBulkRequest.defaultInstance.initFields ();
 		}
-		// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
-		public static final int RESULTS_FIELD_NUMBER = 2;
+		// repeated string keys = 2;
+		public static final int KEYS_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final GetReply defaultInstance;
+		private static final DeleteBulkRequest defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReplyOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequestOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -900,78 +915,26 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
-			public Builder addAllResults (final java.lang.Iterable<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> values) {
-				if (this.resultsBuilder_ == null) {
-					this.ensureResultsIsMutable ();
-					super.addAll (values, this.results_);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.addAllMessages (values);
-				}
-				return this;
-			}
-			
-			public Builder addResults (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
-				if (this.resultsBuilder_ == null) {
-					if (value == null) {
-						throw new NullPointerException ();
-					}
-					this.ensureResultsIsMutable ();
-					this.results_.add (value);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.addMessage (value);
-				}
-				return this;
-			}
-			
-			public Builder addResults (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
-				if (this.resultsBuilder_ == null) {
-					this.ensureResultsIsMutable ();
-					this.results_.add (builderForValue.build ());
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.addMessage (builderForValue.build ());
-				}
-				return this;
-			}
-			
-			public Builder addResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
-				if (this.resultsBuilder_ == null) {
-					if (value == null) {
-						throw new NullPointerException ();
-					}
-					this.ensureResultsIsMutable ();
-					this.results_.add (index, value);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.addMessage (index, value);
-				}
+			public Builder addAllKeys (final java.lang.Iterable<String> values) {
+				this.ensureKeysIsMutable ();
+				super.addAll (values, this.keys_);
+				this.onChanged ();
 				return this;
 			}
 			
-			public Builder addResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
-				if (this.resultsBuilder_ == null) {
-					this.ensureResultsIsMutable ();
-					this.results_.add (index, builderForValue.build ());
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.addMessage (index, builderForValue.build ());
+			public Builder addKeys (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
 				}
+				this.ensureKeysIsMutable ();
+				this.keys_.add (value);
+				this.onChanged ();
 				return this;
 			}
 			
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addResultsBuilder () {
-				return this.getResultsFieldBuilder ().addBuilder (eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
-			}
-			
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addResultsBuilder (final int index) {
-				return this.getResultsFieldBuilder ().addBuilder (index, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
-			}
-			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -979,8 +942,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -991,15 +954,11 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
-				if (this.resultsBuilder_ == null) {
-					if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-						this.results_ = java.util.Collections.unmodifiableList (this.results_);
-						this.bitField0_ = (this.bitField0_ & ~0x00000002);
-					}
-					result.results_ = this.results_;
-				} else {
-					result.results_ = this.resultsBuilder_.build ();
+				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.keys_ = new com.google.protobuf.UnmodifiableLazyStringList (this.keys_);
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				}
+				result.keys_ = this.keys_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -1014,23 +973,15 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				if (this.resultsBuilder_ == null) {
-					this.results_ = java.util.Collections.emptyList ();
-					this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				} else {
-					this.resultsBuilder_.clear ();
-				}
+				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				return this;
 			}
 			
-			public Builder clearResults () {
-				if (this.resultsBuilder_ == null) {
-					this.results_ = java.util.Collections.emptyList ();
-					this.bitField0_ = (this.bitField0_ & ~0x00000002);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.clear ();
-				}
+			public Builder clearKeys () {
+				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				this.onChanged ();
 				return this;
 			}
 			
@@ -1051,66 +1002,28 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDescriptor ();
-			}
-			
-			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (final int index) {
-				if (this.resultsBuilder_ == null) {
-					return this.results_.get (index);
-				} else {
-					return this.resultsBuilder_.getMessage (index);
-				}
-			}
-			
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder getResultsBuilder (final int index) {
-				return this.getResultsFieldBuilder ().getBuilder (index);
-			}
-			
-			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder> getResultsBuilderList () {
-				return this.getResultsFieldBuilder ().getBuilderList ();
-			}
-			
-			@Override
-			public int getResultsCount () {
-				if (this.resultsBuilder_ == null) {
-					return this.results_.size ();
-				} else {
-					return this.resultsBuilder_.getCount ();
-				}
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.getDescriptor ();
 			}
 			
 			@Override
-			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList () {
-				if (this.resultsBuilder_ == null) {
-					return java.util.Collections.unmodifiableList (this.results_);
-				} else {
-					return this.resultsBuilder_.getMessageList ();
-				}
+			public String getKeys (final int index) {
+				return this.keys_.get (index);
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (final int index) {
-				if (this.resultsBuilder_ == null) {
-					return this.results_.get (index);
-				} else {
-					return this.resultsBuilder_.getMessageOrBuilder (index);
-				}
+			public int getKeysCount () {
+				return this.keys_.size ();
 			}
 			
 			@Override
-			public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList () {
-				if (this.resultsBuilder_ != null) {
-					return this.resultsBuilder_.getMessageOrBuilderList ();
-				} else {
-					return java.util.Collections.unmodifiableList (this.results_);
-				}
+			public java.util.List<String> getKeysList () {
+				return java.util.Collections.unmodifiableList (this.keys_);
 			}
 			
 			@Override
@@ -1150,11 +1063,6 @@ public final class KeyValuePayloads
 				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
-				for (int i = 0; i < this.getResultsCount (); i++) {
-					if (!this.getResults (i).isInitialized ()) {
-						return false;
-					}
-				}
 				return true;
 			}
 			
@@ -1187,9 +1095,8 @@ public final class KeyValuePayloads
 							break;
 						}
 						case 18 : {
-							final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.newBuilder ();
-							input.readMessage (subBuilder, extensionRegistry);
-							this.addResults (subBuilder.buildPartial ());
+							this.ensureKeysIsMutable ();
+							this.keys_.add (input.readBytes ());
 							break;
 						}
 					}
@@ -1198,43 +1105,29 @@ public final class KeyValuePayloads
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
-				if (this.resultsBuilder_ == null) {
-					if (!other.results_.isEmpty ()) {
-						if (this.results_.isEmpty ()) {
-							this.results_ = other.results_;
-							this.bitField0_ = (this.bitField0_ & ~0x00000002);
-						} else {
-							this.ensureResultsIsMutable ();
-							this.results_.addAll (other.results_);
-						}
-						this.onChanged ();
-					}
-				} else {
-					if (!other.results_.isEmpty ()) {
-						if (this.resultsBuilder_.isEmpty ()) {
-							this.resultsBuilder_.dispose ();
-							this.resultsBuilder_ = null;
-							this.results_ = other.results_;
-							this.bitField0_ = (this.bitField0_ & ~0x00000002);
-							this.resultsBuilder_ = com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ? this.getResultsFieldBuilder () : null;
-						} else {
-							this.resultsBuilder_.addAllMessages (other.results_);
-						}
+				if (!other.keys_.isEmpty ()) {
+					if (this.keys_.isEmpty ()) {
+						this.keys_ = other.keys_;
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					} else {
+						this.ensureKeysIsMutable ();
+						this.keys_.addAll (other.keys_);
 					}
+					this.onChanged ();
 				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
@@ -1255,39 +1148,13 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
-			public Builder removeResults (final int index) {
-				if (this.resultsBuilder_ == null) {
-					this.ensureResultsIsMutable ();
-					this.results_.remove (index);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.remove (index);
-				}
-				return this;
-			}
-			
-			public Builder setResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
-				if (this.resultsBuilder_ == null) {
-					if (value == null) {
-						throw new NullPointerException ();
-					}
-					this.ensureResultsIsMutable ();
-					this.results_.set (index, value);
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.setMessage (index, value);
-				}
-				return this;
-			}
-			
-			public Builder setResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
-				if (this.resultsBuilder_ == null) {
-					this.ensureResultsIsMutable ();
-					this.results_.set (index, builderForValue.build ());
-					this.onChanged ();
-				} else {
-					this.resultsBuilder_.setMessage (index, builderForValue.build ());
+			public Builder setKeys (final int index, final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
 				}
+				this.ensureKeysIsMutable ();
+				this.keys_.set (index, value);
+				this.onChanged ();
 				return this;
 			}
 			
@@ -1318,33 +1185,31 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_fieldAccessorTable;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_fieldAccessorTable;
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply buildParsed ()
-						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = this.buildPartial ();
+			void addKeys (final com.google.protobuf.ByteString value) {
+				this.ensureKeysIsMutable ();
+				this.keys_.add (value);
+				this.onChanged ();
+			}
+			
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest buildParsed ()
+						throws com.google.protobuf.InvalidProtocolBufferException {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteBulkRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
-			private void ensureResultsIsMutable () {
+			private void ensureKeysIsMutable () {
 				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-					this.results_ = new java.util.ArrayList<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> (this.results_);
+					this.keys_ = new com.google.protobuf.LazyStringArrayList (this.keys_);
 					this.bitField0_ |= 0x00000002;
 				}
 			}
 			
-			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsFieldBuilder () {
-				if (this.resultsBuilder_ == null) {
-					this.resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> (this.results_, ((this.bitField0_ & 0x00000002) == 0x00000002), this.getParentForChildren (), this.isClean ());
-					this.results_ = null;
-				}
-				return this.resultsBuilder_;
-			}
-			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -1356,44 +1221,38 @@ public final class KeyValuePayloads
 			private void maybeForceBuilderInitialization () {
 				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
 					this.getTokenFieldBuilder ();
-					this.getResultsFieldBuilder ();
 				}
 			}
 			
 			private int bitField0_;
-			// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
-			private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> results_ = java.util.Collections.emptyList ();
-			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> resultsBuilder_;
+			// repeated string keys = 2;
+			private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.GetReply)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.DeleteBulkRequest)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteBulkRequest_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.GetReply)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.DeleteBulkRequest)
 	}
 	
-	public interface GetReplyOrBuilder
+	public interface DeleteBulkRequestOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (int index);
-		
-		int getResultsCount ();
-		
-		// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
-		java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList ();
+		String getKeys (int index);
 		
-		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (int index);
+		int getKeysCount ();
 		
-		java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList ();
+		// repeated string keys = 2;
+		java.util.List<String> getKeysList ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
@@ -1403,46 +1262,36 @@ public final class KeyValuePayloads
 		boolean hasToken ();
 	}
 	
-	public static final class GetRequest
+	public static final class DeleteRequest
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					GetRequestOrBuilder
+					DeleteRequestOrBuilder
 	{
-		private GetRequest (final boolean noInit) {}
+		private DeleteRequest (final boolean noInit) {}
 		
-		// Use GetRequest.newBuilder() to construct.
-		private GetRequest (final Builder builder) {
+		// Use DeleteRequest.newBuilder() to construct.
+		private DeleteRequest (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public GetRequest getDefaultInstanceForType () {
-			return GetRequest.defaultInstance;
-		}
-		
-		@Override
-		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope () {
-			return this.envelope_;
-		}
-		
-		@Override
-		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder () {
-			return this.envelope_;
-		}
-		
-		@Override
-		public String getKey (final int index) {
-			return this.key_.get (index);
-		}
-		
-		@Override
-		public int getKeyCount () {
-			return this.key_.size ();
+		public DeleteRequest getDefaultInstanceForType () {
+			return DeleteRequest.defaultInstance;
 		}
 		
 		@Override
-		public java.util.List<String> getKeyList () {
-			return this.key_;
+		public String getKey () {
+			final java.lang.Object ref = this.key_;
+			if (ref instanceof String) {
+				return (String) ref;
+			} else {
+				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+				final String s = bs.toStringUtf8 ();
+				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
+					this.key_ = s;
+				}
+				return s;
+			}
 		}
 		
 		@Override
@@ -1454,16 +1303,8 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			{
-				int dataSize = 0;
-				for (int i = 0; i < this.key_.size (); i++) {
-					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.key_.getByteString (i));
-				}
-				size += dataSize;
-				size += 1 * this.getKeyList ().size ();
-			}
 			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				size += com.google.protobuf.CodedOutputStream.computeMessageSize (3, this.envelope_);
+				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.getKeyBytes ());
 			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
@@ -1481,7 +1322,7 @@ public final class KeyValuePayloads
 		}
 		
 		@Override
-		public boolean hasEnvelope () {
+		public boolean hasKey () {
 			return ((this.bitField0_ & 0x00000002) == 0x00000002);
 		}
 		
@@ -1499,7 +1340,7 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.hasEnvelope ()) {
+			if (!this.hasKey ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
@@ -1507,22 +1348,18 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.getEnvelope ().isInitialized ()) {
-				this.memoizedIsInitialized = 0;
-				return false;
-			}
 			this.memoizedIsInitialized = 1;
 			return true;
 		}
 		
 		@Override
 		public Builder newBuilderForType () {
-			return GetRequest.newBuilder ();
+			return DeleteRequest.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return GetRequest.newBuilder (this);
+			return DeleteRequest.newBuilder (this);
 		}
 		
 		@Override
@@ -1532,18 +1369,15 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
-			for (int i = 0; i < this.key_.size (); i++) {
-				output.writeBytes (2, this.key_.getByteString (i));
-			}
 			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				output.writeMessage (3, this.envelope_);
+				output.writeBytes (2, this.getKeyBytes ());
 			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -1558,38 +1392,47 @@ public final class KeyValuePayloads
 			return super.writeReplace ();
 		}
 		
+		private com.google.protobuf.ByteString getKeyBytes () {
+			final java.lang.Object ref = this.key_;
+			if (ref instanceof String) {
+				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
+				this.key_ = b;
+				return b;
+			} else {
+				return (com.google.protobuf.ByteString) ref;
+			}
+		}
+		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
-			this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-			this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+			this.key_ = "";
 		}
 		
 		private int bitField0_;
-		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_;
-		private com.google.protobuf.LazyStringList key_;
+		private java.lang.Object key_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static GetRequest getDefaultInstance () {
-			return GetRequest.defaultInstance;
+		public static DeleteRequest getDefaultInstance () {
+			return DeleteRequest.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest prototype) {
-			return GetRequest.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest prototype) {
+			return DeleteRequest.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = GetRequest.newBuilder ();
+			final Builder builder = DeleteRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -1597,9 +1440,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = GetRequest.newBuilder ();
+			final Builder builder = DeleteRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -1607,65 +1450,63 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return GetRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return GetRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return GetRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return GetRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return GetRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return DeleteRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new GetRequest (true);
-			GetRequest.defaultInstance.initFields ();
+			defaultInstance = new DeleteRequest (true);
+			DeleteRequest.defaultInstance.initFields ();
 		}
-		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
-		public static final int ENVELOPE_FIELD_NUMBER = 3;
-		// repeated string key = 2;
+		// required string key = 2;
 		public static final int KEY_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final GetRequest defaultInstance;
+		private static final DeleteRequest defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequestOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequestOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -1675,26 +1516,9 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
-			public Builder addAllKey (final java.lang.Iterable<String> values) {
-				this.ensureKeyIsMutable ();
-				super.addAll (values, this.key_);
-				this.onChanged ();
-				return this;
-			}
-			
-			public Builder addKey (final String value) {
-				if (value == null) {
-					throw new NullPointerException ();
-				}
-				this.ensureKeyIsMutable ();
-				this.key_.add (value);
-				this.onChanged ();
-				return this;
-			}
-			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -1702,8 +1526,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -1714,19 +1538,10 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
-				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-					this.key_ = new com.google.protobuf.UnmodifiableLazyStringList (this.key_);
-					this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				}
-				result.key_ = this.key_;
-				if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
 					to_bitField0_ |= 0x00000002;
 				}
-				if (this.envelopeBuilder_ == null) {
-					result.envelope_ = this.envelope_;
-				} else {
-					result.envelope_ = this.envelopeBuilder_.build ();
-				}
+				result.key_ = this.key_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -1741,31 +1556,14 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.key_ = "";
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				if (this.envelopeBuilder_ == null) {
-					this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
-				} else {
-					this.envelopeBuilder_.clear ();
-				}
-				this.bitField0_ = (this.bitField0_ & ~0x00000004);
-				return this;
-			}
-			
-			public Builder clearEnvelope () {
-				if (this.envelopeBuilder_ == null) {
-					this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
-					this.onChanged ();
-				} else {
-					this.envelopeBuilder_.clear ();
-				}
-				this.bitField0_ = (this.bitField0_ & ~0x00000004);
 				return this;
 			}
 			
 			public Builder clearKey () {
-				this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				this.key_ = DeleteRequest.getDefaultInstance ().getKey ();
 				this.onChanged ();
 				return this;
 			}
@@ -1787,54 +1585,27 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDescriptor ();
-			}
-			
-			@Override
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope () {
-				if (this.envelopeBuilder_ == null) {
-					return this.envelope_;
-				} else {
-					return this.envelopeBuilder_.getMessage ();
-				}
-			}
-			
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder getEnvelopeBuilder () {
-				this.bitField0_ |= 0x00000004;
-				this.onChanged ();
-				return this.getEnvelopeFieldBuilder ().getBuilder ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDescriptor ();
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder () {
-				if (this.envelopeBuilder_ != null) {
-					return this.envelopeBuilder_.getMessageOrBuilder ();
+			public String getKey () {
+				final java.lang.Object ref = this.key_;
+				if (!(ref instanceof String)) {
+					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
+					this.key_ = s;
+					return s;
 				} else {
-					return this.envelope_;
+					return (String) ref;
 				}
 			}
 			
-			@Override
-			public String getKey (final int index) {
-				return this.key_.get (index);
-			}
-			
-			@Override
-			public int getKeyCount () {
-				return this.key_.size ();
-			}
-			
-			@Override
-			public java.util.List<String> getKeyList () {
-				return java.util.Collections.unmodifiableList (this.key_);
-			}
-			
 			@Override
 			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
 				if (this.tokenBuilder_ == null) {
@@ -1860,8 +1631,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public boolean hasEnvelope () {
-				return ((this.bitField0_ & 0x00000004) == 0x00000004);
+			public boolean hasKey () {
+				return ((this.bitField0_ & 0x00000002) == 0x00000002);
 			}
 			
 			@Override
@@ -1874,33 +1645,15 @@ public final class KeyValuePayloads
 				if (!this.hasToken ()) {
 					return false;
 				}
-				if (!this.hasEnvelope ()) {
+				if (!this.hasKey ()) {
 					return false;
 				}
 				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
-				if (!this.getEnvelope ().isInitialized ()) {
-					return false;
-				}
 				return true;
 			}
 			
-			public Builder mergeEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope value) {
-				if (this.envelopeBuilder_ == null) {
-					if (((this.bitField0_ & 0x00000004) == 0x00000004) && (this.envelope_ != eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ())) {
-						this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.newBuilder (this.envelope_).mergeFrom (value).buildPartial ();
-					} else {
-						this.envelope_ = value;
-					}
-					this.onChanged ();
-				} else {
-					this.envelopeBuilder_.mergeFrom (value);
-				}
-				this.bitField0_ |= 0x00000004;
-				return this;
-			}
-			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 						throws java.io.IOException {
@@ -1930,17 +1683,8 @@ public final class KeyValuePayloads
 							break;
 						}
 						case 18 : {
-							this.ensureKeyIsMutable ();
-							this.key_.add (input.readBytes ());
-							break;
-						}
-						case 26 : {
-							final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.newBuilder ();
-							if (this.hasEnvelope ()) {
-								subBuilder.mergeFrom (this.getEnvelope ());
-							}
-							input.readMessage (subBuilder, extensionRegistry);
-							this.setEnvelope (subBuilder.buildPartial ());
+							this.bitField0_ |= 0x00000002;
+							this.key_ = input.readBytes ();
 							break;
 						}
 					}
@@ -1949,32 +1693,22 @@ public final class KeyValuePayloads
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
-				if (!other.key_.isEmpty ()) {
-					if (this.key_.isEmpty ()) {
-						this.key_ = other.key_;
-						this.bitField0_ = (this.bitField0_ & ~0x00000002);
-					} else {
-						this.ensureKeyIsMutable ();
-						this.key_.addAll (other.key_);
-					}
-					this.onChanged ();
-				}
-				if (other.hasEnvelope ()) {
-					this.mergeEnvelope (other.getEnvelope ());
+				if (other.hasKey ()) {
+					this.setKey (other.getKey ());
 				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
@@ -1995,37 +1729,12 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
-			public Builder setEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope value) {
-				if (this.envelopeBuilder_ == null) {
-					if (value == null) {
-						throw new NullPointerException ();
-					}
-					this.envelope_ = value;
-					this.onChanged ();
-				} else {
-					this.envelopeBuilder_.setMessage (value);
-				}
-				this.bitField0_ |= 0x00000004;
-				return this;
-			}
-			
-			public Builder setEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder builderForValue) {
-				if (this.envelopeBuilder_ == null) {
-					this.envelope_ = builderForValue.build ();
-					this.onChanged ();
-				} else {
-					this.envelopeBuilder_.setMessage (builderForValue.build ());
-				}
-				this.bitField0_ |= 0x00000004;
-				return this;
-			}
-			
-			public Builder setKey (final int index, final String value) {
+			public Builder setKey (final String value) {
 				if (value == null) {
 					throw new NullPointerException ();
 				}
-				this.ensureKeyIsMutable ();
-				this.key_.set (index, value);
+				this.bitField0_ |= 0x00000002;
+				this.key_ = value;
 				this.onChanged ();
 				return this;
 			}
@@ -2057,39 +1766,24 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_fieldAccessorTable;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_fieldAccessorTable;
 			}
 			
-			void addKey (final com.google.protobuf.ByteString value) {
-				this.ensureKeyIsMutable ();
-				this.key_.add (value);
+			void setKey (final com.google.protobuf.ByteString value) {
+				this.bitField0_ |= 0x00000002;
+				this.key_ = value;
 				this.onChanged ();
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.DeleteRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
-			private void ensureKeyIsMutable () {
-				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-					this.key_ = new com.google.protobuf.LazyStringArrayList (this.key_);
-					this.bitField0_ |= 0x00000002;
-				}
-			}
-			
-			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> getEnvelopeFieldBuilder () {
-				if (this.envelopeBuilder_ == null) {
-					this.envelopeBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> (this.envelope_, this.getParentForChildren (), this.isClean ());
-					this.envelope_ = null;
-				}
-				return this.envelopeBuilder_;
-			}
-			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -2101,88 +1795,85 @@ public final class KeyValuePayloads
 			private void maybeForceBuilderInitialization () {
 				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
 					this.getTokenFieldBuilder ();
-					this.getEnvelopeFieldBuilder ();
 				}
 			}
 			
 			private int bitField0_;
-			// required .mosaic_cloud.idl.common.Envelope envelope = 3;
-			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
-			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> envelopeBuilder_;
-			// repeated string key = 2;
-			private com.google.protobuf.LazyStringList key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+			// required string key = 2;
+			private java.lang.Object key_ = "";
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.GetRequest)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.DeleteRequest)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_DeleteRequest_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.GetRequest)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.DeleteRequest)
 	}
 	
-	public interface GetRequestOrBuilder
+	public interface DeleteRequestOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope ();
-		
-		eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder ();
-		
-		String getKey (int index);
-		
-		int getKeyCount ();
-		
-		// repeated string key = 2;
-		java.util.List<String> getKeyList ();
+		String getKey ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
 		
-		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
-		boolean hasEnvelope ();
+		// required string key = 2;
+		boolean hasKey ();
 		
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		boolean hasToken ();
 	}
 	
-	public static final class InitRequest
+	public static final class GetReply
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					InitRequestOrBuilder
+					GetReplyOrBuilder
 	{
-		private InitRequest (final boolean noInit) {}
+		private GetReply (final boolean noInit) {}
 		
-		// Use InitRequest.newBuilder() to construct.
-		private InitRequest (final Builder builder) {
+		// Use GetReply.newBuilder() to construct.
+		private GetReply (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public String getBucket () {
-			final java.lang.Object ref = this.bucket_;
-			if (ref instanceof String) {
-				return (String) ref;
-			} else {
-				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
-				final String s = bs.toStringUtf8 ();
-				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
-					this.bucket_ = s;
-				}
-				return s;
-			}
+		public GetReply getDefaultInstanceForType () {
+			return GetReply.defaultInstance;
 		}
 		
 		@Override
-		public InitRequest getDefaultInstanceForType () {
-			return InitRequest.defaultInstance;
+		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (final int index) {
+			return this.results_.get (index);
+		}
+		
+		@Override
+		public int getResultsCount () {
+			return this.results_.size ();
+		}
+		
+		@Override
+		public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList () {
+			return this.results_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (final int index) {
+			return this.results_.get (index);
+		}
+		
+		@Override
+		public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList () {
+			return this.results_;
 		}
 		
 		@Override
@@ -2194,8 +1885,8 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.getBucketBytes ());
+			for (int i = 0; i < this.results_.size (); i++) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (2, this.results_.get (i));
 			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
@@ -2212,11 +1903,6 @@ public final class KeyValuePayloads
 			return this.token_;
 		}
 		
-		@Override
-		public boolean hasBucket () {
-			return ((this.bitField0_ & 0x00000002) == 0x00000002);
-		}
-		
 		@Override
 		public boolean hasToken () {
 			return ((this.bitField0_ & 0x00000001) == 0x00000001);
@@ -2231,26 +1917,28 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.hasBucket ()) {
-				this.memoizedIsInitialized = 0;
-				return false;
-			}
 			if (!this.getToken ().isInitialized ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
+			for (int i = 0; i < this.getResultsCount (); i++) {
+				if (!this.getResults (i).isInitialized ()) {
+					this.memoizedIsInitialized = 0;
+					return false;
+				}
+			}
 			this.memoizedIsInitialized = 1;
 			return true;
 		}
 		
 		@Override
 		public Builder newBuilderForType () {
-			return InitRequest.newBuilder ();
+			return GetReply.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return InitRequest.newBuilder (this);
+			return GetReply.newBuilder (this);
 		}
 		
 		@Override
@@ -2260,15 +1948,15 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				output.writeBytes (2, this.getBucketBytes ());
+			for (int i = 0; i < this.results_.size (); i++) {
+				output.writeMessage (2, this.results_.get (i));
 			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -2283,47 +1971,36 @@ public final class KeyValuePayloads
 			return super.writeReplace ();
 		}
 		
-		private com.google.protobuf.ByteString getBucketBytes () {
-			final java.lang.Object ref = this.bucket_;
-			if (ref instanceof String) {
-				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
-				this.bucket_ = b;
-				return b;
-			} else {
-				return (com.google.protobuf.ByteString) ref;
-			}
-		}
-		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
-			this.bucket_ = "";
+			this.results_ = java.util.Collections.emptyList ();
 		}
 		
 		private int bitField0_;
-		private java.lang.Object bucket_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
+		private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> results_;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static InitRequest getDefaultInstance () {
-			return InitRequest.defaultInstance;
+		public static GetReply getDefaultInstance () {
+			return GetReply.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest prototype) {
-			return InitRequest.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply prototype) {
+			return GetReply.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = InitRequest.newBuilder ();
+			final Builder builder = GetReply.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -2331,9 +2008,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = InitRequest.newBuilder ();
+			final Builder builder = GetReply.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -2341,63 +2018,63 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return InitRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return InitRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return InitRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return InitRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return InitRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return InitRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return InitRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return InitRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return GetReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new InitRequest (true);
-			InitRequest.defaultInstance.initFields ();
+			defaultInstance = new GetReply (true);
+			GetReply.defaultInstance.initFields ();
 		}
-		// required string bucket = 2;
-		public static final int BUCKET_FIELD_NUMBER = 2;
+		// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
+		public static final int RESULTS_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final InitRequest defaultInstance;
+		private static final GetReply defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequestOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReplyOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -2407,9 +2084,78 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
+			public Builder addAllResults (final java.lang.Iterable<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> values) {
+				if (this.resultsBuilder_ == null) {
+					this.ensureResultsIsMutable ();
+					super.addAll (values, this.results_);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.addAllMessages (values);
+				}
+				return this;
+			}
+			
+			public Builder addResults (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.resultsBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureResultsIsMutable ();
+					this.results_.add (value);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.addMessage (value);
+				}
+				return this;
+			}
+			
+			public Builder addResults (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.resultsBuilder_ == null) {
+					this.ensureResultsIsMutable ();
+					this.results_.add (builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.addMessage (builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public Builder addResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.resultsBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureResultsIsMutable ();
+					this.results_.add (index, value);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.addMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder addResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.resultsBuilder_ == null) {
+					this.ensureResultsIsMutable ();
+					this.results_.add (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.addMessage (index, builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addResultsBuilder () {
+				return this.getResultsFieldBuilder ().addBuilder (eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addResultsBuilder (final int index) {
+				return this.getResultsFieldBuilder ().addBuilder (index, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
+			}
+			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -2417,8 +2163,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -2429,10 +2175,15 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
-				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-					to_bitField0_ |= 0x00000002;
+				if (this.resultsBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+						this.results_ = java.util.Collections.unmodifiableList (this.results_);
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					}
+					result.results_ = this.results_;
+				} else {
+					result.results_ = this.resultsBuilder_.build ();
 				}
-				result.bucket_ = this.bucket_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -2447,15 +2198,23 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.bucket_ = "";
-				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				if (this.resultsBuilder_ == null) {
+					this.results_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				} else {
+					this.resultsBuilder_.clear ();
+				}
 				return this;
 			}
 			
-			public Builder clearBucket () {
-				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				this.bucket_ = InitRequest.getDefaultInstance ().getBucket ();
-				this.onChanged ();
+			public Builder clearResults () {
+				if (this.resultsBuilder_ == null) {
+					this.results_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.clear ();
+				}
 				return this;
 			}
 			
@@ -2476,58 +2235,94 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public String getBucket () {
-				final java.lang.Object ref = this.bucket_;
-				if (!(ref instanceof String)) {
-					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
-					this.bucket_ = s;
-					return s;
-				} else {
-					return (String) ref;
-				}
-			}
-			
-			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDescriptor ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDescriptor ();
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
-				if (this.tokenBuilder_ == null) {
-					return this.token_;
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (final int index) {
+				if (this.resultsBuilder_ == null) {
+					return this.results_.get (index);
 				} else {
-					return this.tokenBuilder_.getMessage ();
+					return this.resultsBuilder_.getMessage (index);
 				}
 			}
 			
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder getTokenBuilder () {
-				this.bitField0_ |= 0x00000001;
-				this.onChanged ();
-				return this.getTokenFieldBuilder ().getBuilder ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder getResultsBuilder (final int index) {
+				return this.getResultsFieldBuilder ().getBuilder (index);
 			}
 			
-			@Override
-			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
-				if (this.tokenBuilder_ != null) {
-					return this.tokenBuilder_.getMessageOrBuilder ();
-				} else {
-					return this.token_;
-				}
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder> getResultsBuilderList () {
+				return this.getResultsFieldBuilder ().getBuilderList ();
 			}
 			
 			@Override
-			public boolean hasBucket () {
-				return ((this.bitField0_ & 0x00000002) == 0x00000002);
+			public int getResultsCount () {
+				if (this.resultsBuilder_ == null) {
+					return this.results_.size ();
+				} else {
+					return this.resultsBuilder_.getCount ();
+				}
 			}
 			
 			@Override
-			public boolean hasToken () {
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList () {
+				if (this.resultsBuilder_ == null) {
+					return java.util.Collections.unmodifiableList (this.results_);
+				} else {
+					return this.resultsBuilder_.getMessageList ();
+				}
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (final int index) {
+				if (this.resultsBuilder_ == null) {
+					return this.results_.get (index);
+				} else {
+					return this.resultsBuilder_.getMessageOrBuilder (index);
+				}
+			}
+			
+			@Override
+			public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList () {
+				if (this.resultsBuilder_ != null) {
+					return this.resultsBuilder_.getMessageOrBuilderList ();
+				} else {
+					return java.util.Collections.unmodifiableList (this.results_);
+				}
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+				if (this.tokenBuilder_ == null) {
+					return this.token_;
+				} else {
+					return this.tokenBuilder_.getMessage ();
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder getTokenBuilder () {
+				this.bitField0_ |= 0x00000001;
+				this.onChanged ();
+				return this.getTokenFieldBuilder ().getBuilder ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+				if (this.tokenBuilder_ != null) {
+					return this.tokenBuilder_.getMessageOrBuilder ();
+				} else {
+					return this.token_;
+				}
+			}
+			
+			@Override
+			public boolean hasToken () {
 				return ((this.bitField0_ & 0x00000001) == 0x00000001);
 			}
 			
@@ -2536,12 +2331,14 @@ public final class KeyValuePayloads
 				if (!this.hasToken ()) {
 					return false;
 				}
-				if (!this.hasBucket ()) {
-					return false;
-				}
 				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
+				for (int i = 0; i < this.getResultsCount (); i++) {
+					if (!this.getResults (i).isInitialized ()) {
+						return false;
+					}
+				}
 				return true;
 			}
 			
@@ -2574,8 +2371,9 @@ public final class KeyValuePayloads
 							break;
 						}
 						case 18 : {
-							this.bitField0_ |= 0x00000002;
-							this.bucket_ = input.readBytes ();
+							final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.newBuilder ();
+							input.readMessage (subBuilder, extensionRegistry);
+							this.addResults (subBuilder.buildPartial ());
 							break;
 						}
 					}
@@ -2584,22 +2382,43 @@ public final class KeyValuePayloads
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
-				if (other.hasBucket ()) {
-					this.setBucket (other.getBucket ());
+				if (this.resultsBuilder_ == null) {
+					if (!other.results_.isEmpty ()) {
+						if (this.results_.isEmpty ()) {
+							this.results_ = other.results_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000002);
+						} else {
+							this.ensureResultsIsMutable ();
+							this.results_.addAll (other.results_);
+						}
+						this.onChanged ();
+					}
+				} else {
+					if (!other.results_.isEmpty ()) {
+						if (this.resultsBuilder_.isEmpty ()) {
+							this.resultsBuilder_.dispose ();
+							this.resultsBuilder_ = null;
+							this.results_ = other.results_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000002);
+							this.resultsBuilder_ = com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ? this.getResultsFieldBuilder () : null;
+						} else {
+							this.resultsBuilder_.addAllMessages (other.results_);
+						}
+					}
 				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
@@ -2620,13 +2439,39 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
-			public Builder setBucket (final String value) {
-				if (value == null) {
-					throw new NullPointerException ();
+			public Builder removeResults (final int index) {
+				if (this.resultsBuilder_ == null) {
+					this.ensureResultsIsMutable ();
+					this.results_.remove (index);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.remove (index);
+				}
+				return this;
+			}
+			
+			public Builder setResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.resultsBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureResultsIsMutable ();
+					this.results_.set (index, value);
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.setMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder setResults (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.resultsBuilder_ == null) {
+					this.ensureResultsIsMutable ();
+					this.results_.set (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.resultsBuilder_.setMessage (index, builderForValue.build ());
 				}
-				this.bitField0_ |= 0x00000002;
-				this.bucket_ = value;
-				this.onChanged ();
 				return this;
 			}
 			
@@ -2657,24 +2502,33 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_fieldAccessorTable;
-			}
-			
-			void setBucket (final com.google.protobuf.ByteString value) {
-				this.bitField0_ |= 0x00000002;
-				this.bucket_ = value;
-				this.onChanged ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_fieldAccessorTable;
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetReply result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
+			private void ensureResultsIsMutable () {
+				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.results_ = new java.util.ArrayList<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> (this.results_);
+					this.bitField0_ |= 0x00000002;
+				}
+			}
+			
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsFieldBuilder () {
+				if (this.resultsBuilder_ == null) {
+					this.resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> (this.results_, ((this.bitField0_ & 0x00000002) == 0x00000002), this.getParentForChildren (), this.isClean ());
+					this.results_ = null;
+				}
+				return this.resultsBuilder_;
+			}
+			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -2686,60 +2540,68 @@ public final class KeyValuePayloads
 			private void maybeForceBuilderInitialization () {
 				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
 					this.getTokenFieldBuilder ();
+					this.getResultsFieldBuilder ();
 				}
 			}
 			
 			private int bitField0_;
-			// required string bucket = 2;
-			private java.lang.Object bucket_ = "";
+			// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
+			private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> results_ = java.util.Collections.emptyList ();
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> resultsBuilder_;
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.InitRequest)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.GetReply)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetReply_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.InitRequest)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.GetReply)
 	}
 	
-	public interface InitRequestOrBuilder
+	public interface GetReplyOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		String getBucket ();
+		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getResults (int index);
+		
+		int getResultsCount ();
+		
+		// repeated .mosaic_cloud.idl.kvstore.KVEntry results = 2;
+		java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getResultsList ();
+		
+		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getResultsOrBuilder (int index);
+		
+		java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getResultsOrBuilderList ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
 		
-		// required string bucket = 2;
-		boolean hasBucket ();
-		
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		boolean hasToken ();
 	}
 	
-	public static final class KVEntry
+	public static final class GetRequest
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					KVEntryOrBuilder
+					GetRequestOrBuilder
 	{
-		private KVEntry (final boolean noInit) {}
+		private GetRequest (final boolean noInit) {}
 		
-		// Use KVEntry.newBuilder() to construct.
-		private KVEntry (final Builder builder) {
+		// Use GetRequest.newBuilder() to construct.
+		private GetRequest (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public KVEntry getDefaultInstanceForType () {
-			return KVEntry.defaultInstance;
+		public GetRequest getDefaultInstanceForType () {
+			return GetRequest.defaultInstance;
 		}
 		
 		@Override
@@ -2753,18 +2615,18 @@ public final class KeyValuePayloads
 		}
 		
 		@Override
-		public String getKey () {
-			final java.lang.Object ref = this.key_;
-			if (ref instanceof String) {
-				return (String) ref;
-			} else {
-				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
-				final String s = bs.toStringUtf8 ();
-				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
-					this.key_ = s;
-				}
-				return s;
-			}
+		public String getKey (final int index) {
+			return this.key_.get (index);
+		}
+		
+		@Override
+		public int getKeyCount () {
+			return this.key_.size ();
+		}
+		
+		@Override
+		public java.util.List<String> getKeyList () {
+			return this.key_;
 		}
 		
 		@Override
@@ -2774,12 +2636,17 @@ public final class KeyValuePayloads
 				return size;
 			size = 0;
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-				size += com.google.protobuf.CodedOutputStream.computeBytesSize (1, this.getKeyBytes ());
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.value_);
+			{
+				int dataSize = 0;
+				for (int i = 0; i < this.key_.size (); i++) {
+					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.key_.getByteString (i));
+				}
+				size += dataSize;
+				size += 1 * this.getKeyList ().size ();
 			}
-			if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (3, this.envelope_);
 			}
 			size += this.getUnknownFields ().getSerializedSize ();
@@ -2788,39 +2655,39 @@ public final class KeyValuePayloads
 		}
 		
 		@Override
-		public com.google.protobuf.ByteString getValue () {
-			return this.value_;
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+			return this.token_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+			return this.token_;
 		}
 		
 		@Override
 		public boolean hasEnvelope () {
-			return ((this.bitField0_ & 0x00000004) == 0x00000004);
+			return ((this.bitField0_ & 0x00000002) == 0x00000002);
 		}
 		
 		@Override
-		public boolean hasKey () {
+		public boolean hasToken () {
 			return ((this.bitField0_ & 0x00000001) == 0x00000001);
 		}
 		
-		@Override
-		public boolean hasValue () {
-			return ((this.bitField0_ & 0x00000002) == 0x00000002);
-		}
-		
 		@Override
 		public final boolean isInitialized () {
 			final byte isInitialized = this.memoizedIsInitialized;
 			if (isInitialized != -1)
 				return isInitialized == 1;
-			if (!this.hasKey ()) {
+			if (!this.hasToken ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.hasValue ()) {
+			if (!this.hasEnvelope ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
-			if (!this.hasEnvelope ()) {
+			if (!this.getToken ().isInitialized ()) {
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
@@ -2834,12 +2701,12 @@ public final class KeyValuePayloads
 		
 		@Override
 		public Builder newBuilderForType () {
-			return KVEntry.newBuilder ();
+			return GetRequest.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return KVEntry.newBuilder (this);
+			return GetRequest.newBuilder (this);
 		}
 		
 		@Override
@@ -2847,12 +2714,12 @@ public final class KeyValuePayloads
 					throws java.io.IOException {
 			this.getSerializedSize ();
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
-				output.writeBytes (1, this.getKeyBytes ());
+				output.writeMessage (1, this.token_);
 			}
-			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-				output.writeBytes (2, this.value_);
+			for (int i = 0; i < this.key_.size (); i++) {
+				output.writeBytes (2, this.key_.getByteString (i));
 			}
-			if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
 				output.writeMessage (3, this.envelope_);
 			}
 			this.getUnknownFields ().writeTo (output);
@@ -2860,7 +2727,7 @@ public final class KeyValuePayloads
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -2875,49 +2742,38 @@ public final class KeyValuePayloads
 			return super.writeReplace ();
 		}
 		
-		private com.google.protobuf.ByteString getKeyBytes () {
-			final java.lang.Object ref = this.key_;
-			if (ref instanceof String) {
-				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
-				this.key_ = b;
-				return b;
-			} else {
-				return (com.google.protobuf.ByteString) ref;
-			}
-		}
-		
 		private void initFields () {
-			this.key_ = "";
-			this.value_ = com.google.protobuf.ByteString.EMPTY;
+			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 			this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
 		}
 		
 		private int bitField0_;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_;
-		private java.lang.Object key_;
+		private com.google.protobuf.LazyStringList key_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
-		private com.google.protobuf.ByteString value_;
+		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static KVEntry getDefaultInstance () {
-			return KVEntry.defaultInstance;
+		public static GetRequest getDefaultInstance () {
+			return GetRequest.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry prototype) {
-			return KVEntry.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest prototype) {
+			return GetRequest.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = KVEntry.newBuilder ();
+			final Builder builder = GetRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -2925,9 +2781,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = KVEntry.newBuilder ();
+			final Builder builder = GetRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -2935,65 +2791,65 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return KVEntry.newBuilder ().mergeFrom (data).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return KVEntry.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return KVEntry.newBuilder ().mergeFrom (data).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return KVEntry.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return KVEntry.newBuilder ().mergeFrom (input).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return KVEntry.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return KVEntry.newBuilder ().mergeFrom (input).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return KVEntry.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return GetRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new KVEntry (true);
-			KVEntry.defaultInstance.initFields ();
+			defaultInstance = new GetRequest (true);
+			GetRequest.defaultInstance.initFields ();
 		}
 		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
 		public static final int ENVELOPE_FIELD_NUMBER = 3;
-		// required string key = 1;
-		public static final int KEY_FIELD_NUMBER = 1;
-		// required bytes value = 2;
-		public static final int VALUE_FIELD_NUMBER = 2;
-		private static final KVEntry defaultInstance;
+		// repeated string key = 2;
+		public static final int KEY_FIELD_NUMBER = 2;
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		public static final int TOKEN_FIELD_NUMBER = 1;
+		private static final GetRequest defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequestOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -3003,9 +2859,26 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
+			public Builder addAllKey (final java.lang.Iterable<String> values) {
+				this.ensureKeyIsMutable ();
+				super.addAll (values, this.key_);
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder addKey (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.ensureKeyIsMutable ();
+				this.key_.add (value);
+				this.onChanged ();
+				return this;
+			}
+			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -3013,20 +2886,25 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
 					to_bitField0_ |= 0x00000001;
 				}
-				result.key_ = this.key_;
-				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-					to_bitField0_ |= 0x00000002;
+				if (this.tokenBuilder_ == null) {
+					result.token_ = this.token_;
+				} else {
+					result.token_ = this.tokenBuilder_.build ();
 				}
-				result.value_ = this.value_;
+				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.key_ = new com.google.protobuf.UnmodifiableLazyStringList (this.key_);
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				}
+				result.key_ = this.key_;
 				if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-					to_bitField0_ |= 0x00000004;
+					to_bitField0_ |= 0x00000002;
 				}
 				if (this.envelopeBuilder_ == null) {
 					result.envelope_ = this.envelope_;
@@ -3041,9 +2919,13 @@ public final class KeyValuePayloads
 			@Override
 			public Builder clear () {
 				super.clear ();
-				this.key_ = "";
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.value_ = com.google.protobuf.ByteString.EMPTY;
+				this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 				this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				if (this.envelopeBuilder_ == null) {
 					this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
@@ -3066,16 +2948,20 @@ public final class KeyValuePayloads
 			}
 			
 			public Builder clearKey () {
-				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.key_ = KVEntry.getDefaultInstance ().getKey ();
+				this.key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
 				this.onChanged ();
 				return this;
 			}
 			
-			public Builder clearValue () {
-				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				this.value_ = KVEntry.getDefaultInstance ().getValue ();
-				this.onChanged ();
+			public Builder clearToken () {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
 				return this;
 			}
 			
@@ -3085,13 +2971,13 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDescriptor ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDescriptor ();
 			}
 			
 			@Override
@@ -3119,20 +3005,42 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public String getKey () {
-				final java.lang.Object ref = this.key_;
-				if (!(ref instanceof String)) {
-					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
-					this.key_ = s;
-					return s;
+			public String getKey (final int index) {
+				return this.key_.get (index);
+			}
+			
+			@Override
+			public int getKeyCount () {
+				return this.key_.size ();
+			}
+			
+			@Override
+			public java.util.List<String> getKeyList () {
+				return java.util.Collections.unmodifiableList (this.key_);
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+				if (this.tokenBuilder_ == null) {
+					return this.token_;
 				} else {
-					return (String) ref;
+					return this.tokenBuilder_.getMessage ();
 				}
 			}
 			
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder getTokenBuilder () {
+				this.bitField0_ |= 0x00000001;
+				this.onChanged ();
+				return this.getTokenFieldBuilder ().getBuilder ();
+			}
+			
 			@Override
-			public com.google.protobuf.ByteString getValue () {
-				return this.value_;
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+				if (this.tokenBuilder_ != null) {
+					return this.tokenBuilder_.getMessageOrBuilder ();
+				} else {
+					return this.token_;
+				}
 			}
 			
 			@Override
@@ -3141,24 +3049,19 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public boolean hasKey () {
+			public boolean hasToken () {
 				return ((this.bitField0_ & 0x00000001) == 0x00000001);
 			}
 			
-			@Override
-			public boolean hasValue () {
-				return ((this.bitField0_ & 0x00000002) == 0x00000002);
-			}
-			
 			@Override
 			public final boolean isInitialized () {
-				if (!this.hasKey ()) {
+				if (!this.hasToken ()) {
 					return false;
 				}
-				if (!this.hasValue ()) {
+				if (!this.hasEnvelope ()) {
 					return false;
 				}
-				if (!this.hasEnvelope ()) {
+				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
 				if (!this.getEnvelope ().isInitialized ()) {
@@ -3202,13 +3105,17 @@ public final class KeyValuePayloads
 							break;
 						}
 						case 10 : {
-							this.bitField0_ |= 0x00000001;
-							this.key_ = input.readBytes ();
+							final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder ();
+							if (this.hasToken ()) {
+								subBuilder.mergeFrom (this.getToken ());
+							}
+							input.readMessage (subBuilder, extensionRegistry);
+							this.setToken (subBuilder.buildPartial ());
 							break;
 						}
 						case 18 : {
-							this.bitField0_ |= 0x00000002;
-							this.value_ = input.readBytes ();
+							this.ensureKeyIsMutable ();
+							this.key_.add (input.readBytes ());
 							break;
 						}
 						case 26 : {
@@ -3226,22 +3133,29 @@ public final class KeyValuePayloads
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest.getDefaultInstance ())
 					return this;
-				if (other.hasKey ()) {
-					this.setKey (other.getKey ());
+				if (other.hasToken ()) {
+					this.mergeToken (other.getToken ());
 				}
-				if (other.hasValue ()) {
-					this.setValue (other.getValue ());
+				if (!other.key_.isEmpty ()) {
+					if (this.key_.isEmpty ()) {
+						this.key_ = other.key_;
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					} else {
+						this.ensureKeyIsMutable ();
+						this.key_.addAll (other.key_);
+					}
+					this.onChanged ();
 				}
 				if (other.hasEnvelope ()) {
 					this.mergeEnvelope (other.getEnvelope ());
@@ -3250,6 +3164,21 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
+			public Builder mergeToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000001) == 0x00000001) && (this.token_ != eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ())) {
+						this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder (this.token_).mergeFrom (value).buildPartial ();
+					} else {
+						this.token_ = value;
+					}
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.mergeFrom (value);
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
 			public Builder setEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope value) {
 				if (this.envelopeBuilder_ == null) {
 					if (value == null) {
@@ -3275,133 +3204,1959 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
-			public Builder setKey (final String value) {
+			public Builder setKey (final int index, final String value) {
 				if (value == null) {
 					throw new NullPointerException ();
 				}
-				this.bitField0_ |= 0x00000001;
-				this.key_ = value;
+				this.ensureKeyIsMutable ();
+				this.key_.set (index, value);
 				this.onChanged ();
 				return this;
 			}
 			
-			public Builder setValue (final com.google.protobuf.ByteString value) {
-				if (value == null) {
-					throw new NullPointerException ();
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.token_ = value;
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (value);
 				}
-				this.bitField0_ |= 0x00000002;
-				this.value_ = value;
-				this.onChanged ();
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder builderForValue) {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = builderForValue.build ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (builderForValue.build ());
+				}
+				this.bitField0_ |= 0x00000001;
 				return this;
 			}
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_fieldAccessorTable;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_fieldAccessorTable;
 			}
 			
-			void setKey (final com.google.protobuf.ByteString value) {
-				this.bitField0_ |= 0x00000001;
-				this.key_ = value;
+			void addKey (final com.google.protobuf.ByteString value) {
+				this.ensureKeyIsMutable ();
+				this.key_.add (value);
 				this.onChanged ();
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.GetRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
-				return result;
+				return result;
+			}
+			
+			private void ensureKeyIsMutable () {
+				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.key_ = new com.google.protobuf.LazyStringArrayList (this.key_);
+					this.bitField0_ |= 0x00000002;
+				}
+			}
+			
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> getEnvelopeFieldBuilder () {
+				if (this.envelopeBuilder_ == null) {
+					this.envelopeBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> (this.envelope_, this.getParentForChildren (), this.isClean ());
+					this.envelope_ = null;
+				}
+				return this.envelopeBuilder_;
+			}
+			
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
+				if (this.tokenBuilder_ == null) {
+					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
+					this.token_ = null;
+				}
+				return this.tokenBuilder_;
+			}
+			
+			private void maybeForceBuilderInitialization () {
+				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+					this.getTokenFieldBuilder ();
+					this.getEnvelopeFieldBuilder ();
+				}
+			}
+			
+			private int bitField0_;
+			// required .mosaic_cloud.idl.common.Envelope envelope = 3;
+			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> envelopeBuilder_;
+			// repeated string key = 2;
+			private com.google.protobuf.LazyStringList key_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
+			
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.GetRequest)
+			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_GetRequest_descriptor;
+			}
+			
+			private static Builder create () {
+				return new Builder ();
+			}
+		}
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.GetRequest)
+	}
+	
+	public interface GetRequestOrBuilder
+				extends
+					com.google.protobuf.MessageOrBuilder
+	{
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder ();
+		
+		String getKey (int index);
+		
+		int getKeyCount ();
+		
+		// repeated string key = 2;
+		java.util.List<String> getKeyList ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
+		
+		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
+		boolean hasEnvelope ();
+		
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		boolean hasToken ();
+	}
+	
+	public static final class InitRequest
+				extends com.google.protobuf.GeneratedMessage
+				implements
+					InitRequestOrBuilder
+	{
+		private InitRequest (final boolean noInit) {}
+		
+		// Use InitRequest.newBuilder() to construct.
+		private InitRequest (final Builder builder) {
+			super (builder);
+		}
+		
+		@Override
+		public String getBucket () {
+			final java.lang.Object ref = this.bucket_;
+			if (ref instanceof String) {
+				return (String) ref;
+			} else {
+				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+				final String s = bs.toStringUtf8 ();
+				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
+					this.bucket_ = s;
+				}
+				return s;
+			}
+		}
+		
+		@Override
+		public InitRequest getDefaultInstanceForType () {
+			return InitRequest.defaultInstance;
+		}
+		
+		@Override
+		public int getSerializedSize () {
+			int size = this.memoizedSerializedSize;
+			if (size != -1)
+				return size;
+			size = 0;
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
+			}
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.getBucketBytes ());
+			}
+			size += this.getUnknownFields ().getSerializedSize ();
+			this.memoizedSerializedSize = size;
+			return size;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+			return this.token_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+			return this.token_;
+		}
+		
+		@Override
+		public boolean hasBucket () {
+			return ((this.bitField0_ & 0x00000002) == 0x00000002);
+		}
+		
+		@Override
+		public boolean hasToken () {
+			return ((this.bitField0_ & 0x00000001) == 0x00000001);
+		}
+		
+		@Override
+		public final boolean isInitialized () {
+			final byte isInitialized = this.memoizedIsInitialized;
+			if (isInitialized != -1)
+				return isInitialized == 1;
+			if (!this.hasToken ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.hasBucket ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.getToken ().isInitialized ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			this.memoizedIsInitialized = 1;
+			return true;
+		}
+		
+		@Override
+		public Builder newBuilderForType () {
+			return InitRequest.newBuilder ();
+		}
+		
+		@Override
+		public Builder toBuilder () {
+			return InitRequest.newBuilder (this);
+		}
+		
+		@Override
+		public void writeTo (final com.google.protobuf.CodedOutputStream output)
+					throws java.io.IOException {
+			this.getSerializedSize ();
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				output.writeMessage (1, this.token_);
+			}
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+				output.writeBytes (2, this.getBucketBytes ());
+			}
+			this.getUnknownFields ().writeTo (output);
+		}
+		
+		@Override
+		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_fieldAccessorTable;
+		}
+		
+		@java.lang.Override
+		protected Builder newBuilderForType (final com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+			final Builder builder = new Builder (parent);
+			return builder;
+		}
+		
+		@java.lang.Override
+		protected java.lang.Object writeReplace ()
+					throws java.io.ObjectStreamException {
+			return super.writeReplace ();
+		}
+		
+		private com.google.protobuf.ByteString getBucketBytes () {
+			final java.lang.Object ref = this.bucket_;
+			if (ref instanceof String) {
+				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
+				this.bucket_ = b;
+				return b;
+			} else {
+				return (com.google.protobuf.ByteString) ref;
+			}
+		}
+		
+		private void initFields () {
+			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			this.bucket_ = "";
+		}
+		
+		private int bitField0_;
+		private java.lang.Object bucket_;
+		private byte memoizedIsInitialized = -1;
+		private int memoizedSerializedSize = -1;
+		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
+		
+		public static InitRequest getDefaultInstance () {
+			return InitRequest.defaultInstance;
+		}
+		
+		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_descriptor;
+		}
+		
+		public static Builder newBuilder () {
+			return Builder.create ();
+		}
+		
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest prototype) {
+			return InitRequest.newBuilder ().mergeFrom (prototype);
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseDelimitedFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			final Builder builder = InitRequest.newBuilder ();
+			if (builder.mergeDelimitedFrom (input)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			final Builder builder = InitRequest.newBuilder ();
+			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final byte[] data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return InitRequest.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return InitRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.ByteString data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return InitRequest.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return InitRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.CodedInputStream input)
+					throws java.io.IOException {
+			return InitRequest.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return InitRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			return InitRequest.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return InitRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		static {
+			defaultInstance = new InitRequest (true);
+			InitRequest.defaultInstance.initFields ();
+		}
+		// required string bucket = 2;
+		public static final int BUCKET_FIELD_NUMBER = 2;
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		public static final int TOKEN_FIELD_NUMBER = 1;
+		private static final InitRequest defaultInstance;
+		private static final long serialVersionUID = 0L;
+		
+		public static final class Builder
+					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
+					implements
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequestOrBuilder
+		{
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.newBuilder()
+			private Builder () {
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			private Builder (final BuilderParent parent) {
+				super (parent);
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
+				}
+				return result;
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest (this);
+				final int from_bitField0_ = this.bitField0_;
+				int to_bitField0_ = 0;
+				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+					to_bitField0_ |= 0x00000001;
+				}
+				if (this.tokenBuilder_ == null) {
+					result.token_ = this.token_;
+				} else {
+					result.token_ = this.tokenBuilder_.build ();
+				}
+				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+					to_bitField0_ |= 0x00000002;
+				}
+				result.bucket_ = this.bucket_;
+				result.bitField0_ = to_bitField0_;
+				this.onBuilt ();
+				return result;
+			}
+			
+			@Override
+			public Builder clear () {
+				super.clear ();
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				this.bucket_ = "";
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				return this;
+			}
+			
+			public Builder clearBucket () {
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				this.bucket_ = InitRequest.getDefaultInstance ().getBucket ();
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder clearToken () {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				return this;
+			}
+			
+			@Override
+			public Builder clone () {
+				return Builder.create ().mergeFrom (this.buildPartial ());
+			}
+			
+			@Override
+			public String getBucket () {
+				final java.lang.Object ref = this.bucket_;
+				if (!(ref instanceof String)) {
+					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
+					this.bucket_ = s;
+					return s;
+				} else {
+					return (String) ref;
+				}
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDefaultInstance ();
+			}
+			
+			@Override
+			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDescriptor ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+				if (this.tokenBuilder_ == null) {
+					return this.token_;
+				} else {
+					return this.tokenBuilder_.getMessage ();
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder getTokenBuilder () {
+				this.bitField0_ |= 0x00000001;
+				this.onChanged ();
+				return this.getTokenFieldBuilder ().getBuilder ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+				if (this.tokenBuilder_ != null) {
+					return this.tokenBuilder_.getMessageOrBuilder ();
+				} else {
+					return this.token_;
+				}
+			}
+			
+			@Override
+			public boolean hasBucket () {
+				return ((this.bitField0_ & 0x00000002) == 0x00000002);
+			}
+			
+			@Override
+			public boolean hasToken () {
+				return ((this.bitField0_ & 0x00000001) == 0x00000001);
+			}
+			
+			@Override
+			public final boolean isInitialized () {
+				if (!this.hasToken ()) {
+					return false;
+				}
+				if (!this.hasBucket ()) {
+					return false;
+				}
+				if (!this.getToken ().isInitialized ()) {
+					return false;
+				}
+				return true;
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+						throws java.io.IOException {
+				final com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder (this.getUnknownFields ());
+				while (true) {
+					final int tag = input.readTag ();
+					switch (tag) {
+						case 0 :
+							this.setUnknownFields (unknownFields.build ());
+							this.onChanged ();
+							return this;
+						default : {
+							if (!this.parseUnknownField (input, unknownFields, extensionRegistry, tag)) {
+								this.setUnknownFields (unknownFields.build ());
+								this.onChanged ();
+								return this;
+							}
+							break;
+						}
+						case 10 : {
+							final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder ();
+							if (this.hasToken ()) {
+								subBuilder.mergeFrom (this.getToken ());
+							}
+							input.readMessage (subBuilder, extensionRegistry);
+							this.setToken (subBuilder.buildPartial ());
+							break;
+						}
+						case 18 : {
+							this.bitField0_ |= 0x00000002;
+							this.bucket_ = input.readBytes ();
+							break;
+						}
+					}
+				}
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.Message other) {
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest) other);
+				} else {
+					super.mergeFrom (other);
+					return this;
+				}
+			}
+			
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest.getDefaultInstance ())
+					return this;
+				if (other.hasToken ()) {
+					this.mergeToken (other.getToken ());
+				}
+				if (other.hasBucket ()) {
+					this.setBucket (other.getBucket ());
+				}
+				this.mergeUnknownFields (other.getUnknownFields ());
+				return this;
+			}
+			
+			public Builder mergeToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000001) == 0x00000001) && (this.token_ != eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ())) {
+						this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder (this.token_).mergeFrom (value).buildPartial ();
+					} else {
+						this.token_ = value;
+					}
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.mergeFrom (value);
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			public Builder setBucket (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.bitField0_ |= 0x00000002;
+				this.bucket_ = value;
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.token_ = value;
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (value);
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder builderForValue) {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = builderForValue.build ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (builderForValue.build ());
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			@Override
+			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_fieldAccessorTable;
+			}
+			
+			void setBucket (final com.google.protobuf.ByteString value) {
+				this.bitField0_ |= 0x00000002;
+				this.bucket_ = value;
+				this.onChanged ();
+			}
+			
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest buildParsed ()
+						throws com.google.protobuf.InvalidProtocolBufferException {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.InitRequest result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
+				}
+				return result;
+			}
+			
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
+				if (this.tokenBuilder_ == null) {
+					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
+					this.token_ = null;
+				}
+				return this.tokenBuilder_;
+			}
+			
+			private void maybeForceBuilderInitialization () {
+				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+					this.getTokenFieldBuilder ();
+				}
+			}
+			
+			private int bitField0_;
+			// required string bucket = 2;
+			private java.lang.Object bucket_ = "";
+			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
+			
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.InitRequest)
+			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_InitRequest_descriptor;
+			}
+			
+			private static Builder create () {
+				return new Builder ();
+			}
+		}
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.InitRequest)
+	}
+	
+	public interface InitRequestOrBuilder
+				extends
+					com.google.protobuf.MessageOrBuilder
+	{
+		String getBucket ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
+		
+		// required string bucket = 2;
+		boolean hasBucket ();
+		
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		boolean hasToken ();
+	}
+	
+	public static final class KVEntry
+				extends com.google.protobuf.GeneratedMessage
+				implements
+					KVEntryOrBuilder
+	{
+		private KVEntry (final boolean noInit) {}
+		
+		// Use KVEntry.newBuilder() to construct.
+		private KVEntry (final Builder builder) {
+			super (builder);
+		}
+		
+		@Override
+		public KVEntry getDefaultInstanceForType () {
+			return KVEntry.defaultInstance;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope () {
+			return this.envelope_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder () {
+			return this.envelope_;
+		}
+		
+		@Override
+		public String getKey () {
+			final java.lang.Object ref = this.key_;
+			if (ref instanceof String) {
+				return (String) ref;
+			} else {
+				final com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+				final String s = bs.toStringUtf8 ();
+				if (com.google.protobuf.Internal.isValidUtf8 (bs)) {
+					this.key_ = s;
+				}
+				return s;
+			}
+		}
+		
+		@Override
+		public int getSerializedSize () {
+			int size = this.memoizedSerializedSize;
+			if (size != -1)
+				return size;
+			size = 0;
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				size += com.google.protobuf.CodedOutputStream.computeBytesSize (1, this.getKeyBytes ());
+			}
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+				size += com.google.protobuf.CodedOutputStream.computeBytesSize (2, this.value_);
+			}
+			if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (3, this.envelope_);
+			}
+			size += this.getUnknownFields ().getSerializedSize ();
+			this.memoizedSerializedSize = size;
+			return size;
+		}
+		
+		@Override
+		public com.google.protobuf.ByteString getValue () {
+			return this.value_;
+		}
+		
+		@Override
+		public boolean hasEnvelope () {
+			return ((this.bitField0_ & 0x00000004) == 0x00000004);
+		}
+		
+		@Override
+		public boolean hasKey () {
+			return ((this.bitField0_ & 0x00000001) == 0x00000001);
+		}
+		
+		@Override
+		public boolean hasValue () {
+			return ((this.bitField0_ & 0x00000002) == 0x00000002);
+		}
+		
+		@Override
+		public final boolean isInitialized () {
+			final byte isInitialized = this.memoizedIsInitialized;
+			if (isInitialized != -1)
+				return isInitialized == 1;
+			if (!this.hasKey ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.hasValue ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.hasEnvelope ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.getEnvelope ().isInitialized ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			this.memoizedIsInitialized = 1;
+			return true;
+		}
+		
+		@Override
+		public Builder newBuilderForType () {
+			return KVEntry.newBuilder ();
+		}
+		
+		@Override
+		public Builder toBuilder () {
+			return KVEntry.newBuilder (this);
+		}
+		
+		@Override
+		public void writeTo (final com.google.protobuf.CodedOutputStream output)
+					throws java.io.IOException {
+			this.getSerializedSize ();
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				output.writeBytes (1, this.getKeyBytes ());
+			}
+			if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+				output.writeBytes (2, this.value_);
+			}
+			if (((this.bitField0_ & 0x00000004) == 0x00000004)) {
+				output.writeMessage (3, this.envelope_);
+			}
+			this.getUnknownFields ().writeTo (output);
+		}
+		
+		@Override
+		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_fieldAccessorTable;
+		}
+		
+		@java.lang.Override
+		protected Builder newBuilderForType (final com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+			final Builder builder = new Builder (parent);
+			return builder;
+		}
+		
+		@java.lang.Override
+		protected java.lang.Object writeReplace ()
+					throws java.io.ObjectStreamException {
+			return super.writeReplace ();
+		}
+		
+		private com.google.protobuf.ByteString getKeyBytes () {
+			final java.lang.Object ref = this.key_;
+			if (ref instanceof String) {
+				final com.google.protobuf.ByteString b = com.google.protobuf.ByteString.copyFromUtf8 ((String) ref);
+				this.key_ = b;
+				return b;
+			} else {
+				return (com.google.protobuf.ByteString) ref;
+			}
+		}
+		
+		private void initFields () {
+			this.key_ = "";
+			this.value_ = com.google.protobuf.ByteString.EMPTY;
+			this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+		}
+		
+		private int bitField0_;
+		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_;
+		private java.lang.Object key_;
+		private byte memoizedIsInitialized = -1;
+		private int memoizedSerializedSize = -1;
+		private com.google.protobuf.ByteString value_;
+		
+		public static KVEntry getDefaultInstance () {
+			return KVEntry.defaultInstance;
+		}
+		
+		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_descriptor;
+		}
+		
+		public static Builder newBuilder () {
+			return Builder.create ();
+		}
+		
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry prototype) {
+			return KVEntry.newBuilder ().mergeFrom (prototype);
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseDelimitedFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			final Builder builder = KVEntry.newBuilder ();
+			if (builder.mergeDelimitedFrom (input)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			final Builder builder = KVEntry.newBuilder ();
+			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final byte[] data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return KVEntry.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return KVEntry.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.ByteString data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return KVEntry.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return KVEntry.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.CodedInputStream input)
+					throws java.io.IOException {
+			return KVEntry.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return KVEntry.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			return KVEntry.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return KVEntry.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		static {
+			defaultInstance = new KVEntry (true);
+			KVEntry.defaultInstance.initFields ();
+		}
+		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
+		public static final int ENVELOPE_FIELD_NUMBER = 3;
+		// required string key = 1;
+		public static final int KEY_FIELD_NUMBER = 1;
+		// required bytes value = 2;
+		public static final int VALUE_FIELD_NUMBER = 2;
+		private static final KVEntry defaultInstance;
+		private static final long serialVersionUID = 0L;
+		
+		public static final class Builder
+					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
+					implements
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder
+		{
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.newBuilder()
+			private Builder () {
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			private Builder (final BuilderParent parent) {
+				super (parent);
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
+				}
+				return result;
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry (this);
+				final int from_bitField0_ = this.bitField0_;
+				int to_bitField0_ = 0;
+				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+					to_bitField0_ |= 0x00000001;
+				}
+				result.key_ = this.key_;
+				if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+					to_bitField0_ |= 0x00000002;
+				}
+				result.value_ = this.value_;
+				if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+					to_bitField0_ |= 0x00000004;
+				}
+				if (this.envelopeBuilder_ == null) {
+					result.envelope_ = this.envelope_;
+				} else {
+					result.envelope_ = this.envelopeBuilder_.build ();
+				}
+				result.bitField0_ = to_bitField0_;
+				this.onBuilt ();
+				return result;
+			}
+			
+			@Override
+			public Builder clear () {
+				super.clear ();
+				this.key_ = "";
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				this.value_ = com.google.protobuf.ByteString.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				if (this.envelopeBuilder_ == null) {
+					this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+				} else {
+					this.envelopeBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000004);
+				return this;
+			}
+			
+			public Builder clearEnvelope () {
+				if (this.envelopeBuilder_ == null) {
+					this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+					this.onChanged ();
+				} else {
+					this.envelopeBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000004);
+				return this;
+			}
+			
+			public Builder clearKey () {
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				this.key_ = KVEntry.getDefaultInstance ().getKey ();
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder clearValue () {
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				this.value_ = KVEntry.getDefaultInstance ().getValue ();
+				this.onChanged ();
+				return this;
+			}
+			
+			@Override
+			public Builder clone () {
+				return Builder.create ().mergeFrom (this.buildPartial ());
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ();
+			}
+			
+			@Override
+			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDescriptor ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope () {
+				if (this.envelopeBuilder_ == null) {
+					return this.envelope_;
+				} else {
+					return this.envelopeBuilder_.getMessage ();
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder getEnvelopeBuilder () {
+				this.bitField0_ |= 0x00000004;
+				this.onChanged ();
+				return this.getEnvelopeFieldBuilder ().getBuilder ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder () {
+				if (this.envelopeBuilder_ != null) {
+					return this.envelopeBuilder_.getMessageOrBuilder ();
+				} else {
+					return this.envelope_;
+				}
+			}
+			
+			@Override
+			public String getKey () {
+				final java.lang.Object ref = this.key_;
+				if (!(ref instanceof String)) {
+					final String s = ((com.google.protobuf.ByteString) ref).toStringUtf8 ();
+					this.key_ = s;
+					return s;
+				} else {
+					return (String) ref;
+				}
+			}
+			
+			@Override
+			public com.google.protobuf.ByteString getValue () {
+				return this.value_;
+			}
+			
+			@Override
+			public boolean hasEnvelope () {
+				return ((this.bitField0_ & 0x00000004) == 0x00000004);
+			}
+			
+			@Override
+			public boolean hasKey () {
+				return ((this.bitField0_ & 0x00000001) == 0x00000001);
+			}
+			
+			@Override
+			public boolean hasValue () {
+				return ((this.bitField0_ & 0x00000002) == 0x00000002);
+			}
+			
+			@Override
+			public final boolean isInitialized () {
+				if (!this.hasKey ()) {
+					return false;
+				}
+				if (!this.hasValue ()) {
+					return false;
+				}
+				if (!this.hasEnvelope ()) {
+					return false;
+				}
+				if (!this.getEnvelope ().isInitialized ()) {
+					return false;
+				}
+				return true;
+			}
+			
+			public Builder mergeEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope value) {
+				if (this.envelopeBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000004) == 0x00000004) && (this.envelope_ != eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ())) {
+						this.envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.newBuilder (this.envelope_).mergeFrom (value).buildPartial ();
+					} else {
+						this.envelope_ = value;
+					}
+					this.onChanged ();
+				} else {
+					this.envelopeBuilder_.mergeFrom (value);
+				}
+				this.bitField0_ |= 0x00000004;
+				return this;
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+						throws java.io.IOException {
+				final com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder (this.getUnknownFields ());
+				while (true) {
+					final int tag = input.readTag ();
+					switch (tag) {
+						case 0 :
+							this.setUnknownFields (unknownFields.build ());
+							this.onChanged ();
+							return this;
+						default : {
+							if (!this.parseUnknownField (input, unknownFields, extensionRegistry, tag)) {
+								this.setUnknownFields (unknownFields.build ());
+								this.onChanged ();
+								return this;
+							}
+							break;
+						}
+						case 10 : {
+							this.bitField0_ |= 0x00000001;
+							this.key_ = input.readBytes ();
+							break;
+						}
+						case 18 : {
+							this.bitField0_ |= 0x00000002;
+							this.value_ = input.readBytes ();
+							break;
+						}
+						case 26 : {
+							final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.newBuilder ();
+							if (this.hasEnvelope ()) {
+								subBuilder.mergeFrom (this.getEnvelope ());
+							}
+							input.readMessage (subBuilder, extensionRegistry);
+							this.setEnvelope (subBuilder.buildPartial ());
+							break;
+						}
+					}
+				}
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.Message other) {
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry) other);
+				} else {
+					super.mergeFrom (other);
+					return this;
+				}
+			}
+			
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ())
+					return this;
+				if (other.hasKey ()) {
+					this.setKey (other.getKey ());
+				}
+				if (other.hasValue ()) {
+					this.setValue (other.getValue ());
+				}
+				if (other.hasEnvelope ()) {
+					this.mergeEnvelope (other.getEnvelope ());
+				}
+				this.mergeUnknownFields (other.getUnknownFields ());
+				return this;
+			}
+			
+			public Builder setEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope value) {
+				if (this.envelopeBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.envelope_ = value;
+					this.onChanged ();
+				} else {
+					this.envelopeBuilder_.setMessage (value);
+				}
+				this.bitField0_ |= 0x00000004;
+				return this;
+			}
+			
+			public Builder setEnvelope (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder builderForValue) {
+				if (this.envelopeBuilder_ == null) {
+					this.envelope_ = builderForValue.build ();
+					this.onChanged ();
+				} else {
+					this.envelopeBuilder_.setMessage (builderForValue.build ());
+				}
+				this.bitField0_ |= 0x00000004;
+				return this;
+			}
+			
+			public Builder setKey (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.bitField0_ |= 0x00000001;
+				this.key_ = value;
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder setValue (final com.google.protobuf.ByteString value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.bitField0_ |= 0x00000002;
+				this.value_ = value;
+				this.onChanged ();
+				return this;
+			}
+			
+			@Override
+			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_fieldAccessorTable;
+			}
+			
+			void setKey (final com.google.protobuf.ByteString value) {
+				this.bitField0_ |= 0x00000001;
+				this.key_ = value;
+				this.onChanged ();
+			}
+			
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry buildParsed ()
+						throws com.google.protobuf.InvalidProtocolBufferException {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
+				}
+				return result;
+			}
+			
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> getEnvelopeFieldBuilder () {
+				if (this.envelopeBuilder_ == null) {
+					this.envelopeBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> (this.envelope_, this.getParentForChildren (), this.isClean ());
+					this.envelope_ = null;
+				}
+				return this.envelopeBuilder_;
+			}
+			
+			private void maybeForceBuilderInitialization () {
+				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+					this.getEnvelopeFieldBuilder ();
+				}
+			}
+			
+			private int bitField0_;
+			// required .mosaic_cloud.idl.common.Envelope envelope = 3;
+			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> envelopeBuilder_;
+			// required string key = 1;
+			private java.lang.Object key_ = "";
+			// required bytes value = 2;
+			private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+			
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.KVEntry)
+			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_descriptor;
+			}
+			
+			private static Builder create () {
+				return new Builder ();
+			}
+		}
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.KVEntry)
+	}
+	
+	public interface KVEntryOrBuilder
+				extends
+					com.google.protobuf.MessageOrBuilder
+	{
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope ();
+		
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder ();
+		
+		String getKey ();
+		
+		com.google.protobuf.ByteString getValue ();
+		
+		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
+		boolean hasEnvelope ();
+		
+		// required string key = 1;
+		boolean hasKey ();
+		
+		// required bytes value = 2;
+		boolean hasValue ();
+	}
+	
+	public static final class ListReply
+				extends com.google.protobuf.GeneratedMessage
+				implements
+					ListReplyOrBuilder
+	{
+		private ListReply (final boolean noInit) {}
+		
+		// Use ListReply.newBuilder() to construct.
+		private ListReply (final Builder builder) {
+			super (builder);
+		}
+		
+		@Override
+		public ListReply getDefaultInstanceForType () {
+			return ListReply.defaultInstance;
+		}
+		
+		@Override
+		public String getKeys (final int index) {
+			return this.keys_.get (index);
+		}
+		
+		@Override
+		public int getKeysCount () {
+			return this.keys_.size ();
+		}
+		
+		@Override
+		public java.util.List<String> getKeysList () {
+			return this.keys_;
+		}
+		
+		@Override
+		public int getSerializedSize () {
+			int size = this.memoizedSerializedSize;
+			if (size != -1)
+				return size;
+			size = 0;
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
+			}
+			{
+				int dataSize = 0;
+				for (int i = 0; i < this.keys_.size (); i++) {
+					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.keys_.getByteString (i));
+				}
+				size += dataSize;
+				size += 1 * this.getKeysList ().size ();
+			}
+			size += this.getUnknownFields ().getSerializedSize ();
+			this.memoizedSerializedSize = size;
+			return size;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+			return this.token_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+			return this.token_;
+		}
+		
+		@Override
+		public boolean hasToken () {
+			return ((this.bitField0_ & 0x00000001) == 0x00000001);
+		}
+		
+		@Override
+		public final boolean isInitialized () {
+			final byte isInitialized = this.memoizedIsInitialized;
+			if (isInitialized != -1)
+				return isInitialized == 1;
+			if (!this.hasToken ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			if (!this.getToken ().isInitialized ()) {
+				this.memoizedIsInitialized = 0;
+				return false;
+			}
+			this.memoizedIsInitialized = 1;
+			return true;
+		}
+		
+		@Override
+		public Builder newBuilderForType () {
+			return ListReply.newBuilder ();
+		}
+		
+		@Override
+		public Builder toBuilder () {
+			return ListReply.newBuilder (this);
+		}
+		
+		@Override
+		public void writeTo (final com.google.protobuf.CodedOutputStream output)
+					throws java.io.IOException {
+			this.getSerializedSize ();
+			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
+				output.writeMessage (1, this.token_);
+			}
+			for (int i = 0; i < this.keys_.size (); i++) {
+				output.writeBytes (2, this.keys_.getByteString (i));
+			}
+			this.getUnknownFields ().writeTo (output);
+		}
+		
+		@Override
+		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable;
+		}
+		
+		@java.lang.Override
+		protected Builder newBuilderForType (final com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+			final Builder builder = new Builder (parent);
+			return builder;
+		}
+		
+		@java.lang.Override
+		protected java.lang.Object writeReplace ()
+					throws java.io.ObjectStreamException {
+			return super.writeReplace ();
+		}
+		
+		private void initFields () {
+			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+		}
+		
+		private int bitField0_;
+		private com.google.protobuf.LazyStringList keys_;
+		private byte memoizedIsInitialized = -1;
+		private int memoizedSerializedSize = -1;
+		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
+		
+		public static ListReply getDefaultInstance () {
+			return ListReply.defaultInstance;
+		}
+		
+		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor;
+		}
+		
+		public static Builder newBuilder () {
+			return Builder.create ();
+		}
+		
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply prototype) {
+			return ListReply.newBuilder ().mergeFrom (prototype);
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseDelimitedFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			final Builder builder = ListReply.newBuilder ();
+			if (builder.mergeDelimitedFrom (input)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			final Builder builder = ListReply.newBuilder ();
+			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
+				return builder.buildParsed ();
+			} else {
+				return null;
+			}
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final byte[] data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return ListReply.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return ListReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.ByteString data)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return ListReply.newBuilder ().mergeFrom (data).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws com.google.protobuf.InvalidProtocolBufferException {
+			return ListReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.CodedInputStream input)
+					throws java.io.IOException {
+			return ListReply.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return ListReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final java.io.InputStream input)
+					throws java.io.IOException {
+			return ListReply.newBuilder ().mergeFrom (input).buildParsed ();
+		}
+		
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+					throws java.io.IOException {
+			return ListReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+		}
+		
+		static {
+			defaultInstance = new ListReply (true);
+			ListReply.defaultInstance.initFields ();
+		}
+		// repeated string keys = 2;
+		public static final int KEYS_FIELD_NUMBER = 2;
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		public static final int TOKEN_FIELD_NUMBER = 1;
+		private static final ListReply defaultInstance;
+		private static final long serialVersionUID = 0L;
+		
+		public static final class Builder
+					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
+					implements
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReplyOrBuilder
+		{
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.newBuilder()
+			private Builder () {
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			private Builder (final BuilderParent parent) {
+				super (parent);
+				this.maybeForceBuilderInitialization ();
+			}
+			
+			public Builder addAllKeys (final java.lang.Iterable<String> values) {
+				this.ensureKeysIsMutable ();
+				super.addAll (values, this.keys_);
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder addKeys (final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.ensureKeysIsMutable ();
+				this.keys_.add (value);
+				this.onChanged ();
+				return this;
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
+				}
+				return result;
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply (this);
+				final int from_bitField0_ = this.bitField0_;
+				int to_bitField0_ = 0;
+				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+					to_bitField0_ |= 0x00000001;
+				}
+				if (this.tokenBuilder_ == null) {
+					result.token_ = this.token_;
+				} else {
+					result.token_ = this.tokenBuilder_.build ();
+				}
+				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.keys_ = new com.google.protobuf.UnmodifiableLazyStringList (this.keys_);
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				}
+				result.keys_ = this.keys_;
+				result.bitField0_ = to_bitField0_;
+				this.onBuilt ();
+				return result;
+			}
+			
+			@Override
+			public Builder clear () {
+				super.clear ();
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				return this;
+			}
+			
+			public Builder clearKeys () {
+				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+				this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder clearToken () {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.clear ();
+				}
+				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				return this;
+			}
+			
+			@Override
+			public Builder clone () {
+				return Builder.create ().mergeFrom (this.buildPartial ());
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDefaultInstance ();
+			}
+			
+			@Override
+			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDescriptor ();
+			}
+			
+			@Override
+			public String getKeys (final int index) {
+				return this.keys_.get (index);
+			}
+			
+			@Override
+			public int getKeysCount () {
+				return this.keys_.size ();
+			}
+			
+			@Override
+			public java.util.List<String> getKeysList () {
+				return java.util.Collections.unmodifiableList (this.keys_);
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken () {
+				if (this.tokenBuilder_ == null) {
+					return this.token_;
+				} else {
+					return this.tokenBuilder_.getMessage ();
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder getTokenBuilder () {
+				this.bitField0_ |= 0x00000001;
+				this.onChanged ();
+				return this.getTokenFieldBuilder ().getBuilder ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder () {
+				if (this.tokenBuilder_ != null) {
+					return this.tokenBuilder_.getMessageOrBuilder ();
+				} else {
+					return this.token_;
+				}
+			}
+			
+			@Override
+			public boolean hasToken () {
+				return ((this.bitField0_ & 0x00000001) == 0x00000001);
+			}
+			
+			@Override
+			public final boolean isInitialized () {
+				if (!this.hasToken ()) {
+					return false;
+				}
+				if (!this.getToken ().isInitialized ()) {
+					return false;
+				}
+				return true;
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+						throws java.io.IOException {
+				final com.google.protobuf.UnknownFieldSet.Builder unknownFields = com.google.protobuf.UnknownFieldSet.newBuilder (this.getUnknownFields ());
+				while (true) {
+					final int tag = input.readTag ();
+					switch (tag) {
+						case 0 :
+							this.setUnknownFields (unknownFields.build ());
+							this.onChanged ();
+							return this;
+						default : {
+							if (!this.parseUnknownField (input, unknownFields, extensionRegistry, tag)) {
+								this.setUnknownFields (unknownFields.build ());
+								this.onChanged ();
+								return this;
+							}
+							break;
+						}
+						case 10 : {
+							final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder ();
+							if (this.hasToken ()) {
+								subBuilder.mergeFrom (this.getToken ());
+							}
+							input.readMessage (subBuilder, extensionRegistry);
+							this.setToken (subBuilder.buildPartial ());
+							break;
+						}
+						case 18 : {
+							this.ensureKeysIsMutable ();
+							this.keys_.add (input.readBytes ());
+							break;
+						}
+					}
+				}
+			}
+			
+			@Override
+			public Builder mergeFrom (final com.google.protobuf.Message other) {
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply) other);
+				} else {
+					super.mergeFrom (other);
+					return this;
+				}
+			}
+			
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDefaultInstance ())
+					return this;
+				if (other.hasToken ()) {
+					this.mergeToken (other.getToken ());
+				}
+				if (!other.keys_.isEmpty ()) {
+					if (this.keys_.isEmpty ()) {
+						this.keys_ = other.keys_;
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					} else {
+						this.ensureKeysIsMutable ();
+						this.keys_.addAll (other.keys_);
+					}
+					this.onChanged ();
+				}
+				this.mergeUnknownFields (other.getUnknownFields ());
+				return this;
+			}
+			
+			public Builder mergeToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000001) == 0x00000001) && (this.token_ != eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ())) {
+						this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.newBuilder (this.token_).mergeFrom (value).buildPartial ();
+					} else {
+						this.token_ = value;
+					}
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.mergeFrom (value);
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			public Builder setKeys (final int index, final String value) {
+				if (value == null) {
+					throw new NullPointerException ();
+				}
+				this.ensureKeysIsMutable ();
+				this.keys_.set (index, value);
+				this.onChanged ();
+				return this;
+			}
+			
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
+				if (this.tokenBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.token_ = value;
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (value);
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder builderForValue) {
+				if (this.tokenBuilder_ == null) {
+					this.token_ = builderForValue.build ();
+					this.onChanged ();
+				} else {
+					this.tokenBuilder_.setMessage (builderForValue.build ());
+				}
+				this.bitField0_ |= 0x00000001;
+				return this;
+			}
+			
+			@Override
+			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable;
+			}
+			
+			void addKeys (final com.google.protobuf.ByteString value) {
+				this.ensureKeysIsMutable ();
+				this.keys_.add (value);
+				this.onChanged ();
+			}
+			
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply buildParsed ()
+						throws com.google.protobuf.InvalidProtocolBufferException {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = this.buildPartial ();
+				if (!result.isInitialized ()) {
+					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
+				}
+				return result;
+			}
+			
+			private void ensureKeysIsMutable () {
+				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.keys_ = new com.google.protobuf.LazyStringArrayList (this.keys_);
+					this.bitField0_ |= 0x00000002;
+				}
 			}
 			
-			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> getEnvelopeFieldBuilder () {
-				if (this.envelopeBuilder_ == null) {
-					this.envelopeBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> (this.envelope_, this.getParentForChildren (), this.isClean ());
-					this.envelope_ = null;
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
+				if (this.tokenBuilder_ == null) {
+					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
+					this.token_ = null;
 				}
-				return this.envelopeBuilder_;
+				return this.tokenBuilder_;
 			}
 			
 			private void maybeForceBuilderInitialization () {
 				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-					this.getEnvelopeFieldBuilder ();
+					this.getTokenFieldBuilder ();
 				}
 			}
 			
 			private int bitField0_;
-			// required .mosaic_cloud.idl.common.Envelope envelope = 3;
-			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope envelope_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.getDefaultInstance ();
-			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope, eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder> envelopeBuilder_;
-			// required string key = 1;
-			private java.lang.Object key_ = "";
-			// required bytes value = 2;
-			private com.google.protobuf.ByteString value_ = com.google.protobuf.ByteString.EMPTY;
+			// repeated string keys = 2;
+			private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.KVEntry)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.ListReply)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_KVEntry_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.KVEntry)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.ListReply)
 	}
 	
-	public interface KVEntryOrBuilder
+	public interface ListReplyOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		eu.mosaic_cloud.platform.interop.idl.IdlCommon.Envelope getEnvelope ();
-		
-		eu.mosaic_cloud.platform.interop.idl.IdlCommon.EnvelopeOrBuilder getEnvelopeOrBuilder ();
+		String getKeys (int index);
 		
-		String getKey ();
+		int getKeysCount ();
 		
-		com.google.protobuf.ByteString getValue ();
+		// repeated string keys = 2;
+		java.util.List<String> getKeysList ();
 		
-		// required .mosaic_cloud.idl.common.Envelope envelope = 3;
-		boolean hasEnvelope ();
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
-		// required string key = 1;
-		boolean hasKey ();
+		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
 		
-		// required bytes value = 2;
-		boolean hasValue ();
+		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
+		boolean hasToken ();
 	}
 	
-	public static final class ListReply
+	public static final class ListRequest
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					ListReplyOrBuilder
+					ListRequestOrBuilder
 	{
-		private ListReply (final boolean noInit) {}
+		private ListRequest (final boolean noInit) {}
 		
-		// Use ListReply.newBuilder() to construct.
-		private ListReply (final Builder builder) {
+		// Use ListRequest.newBuilder() to construct.
+		private ListRequest (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public ListReply getDefaultInstanceForType () {
-			return ListReply.defaultInstance;
-		}
-		
-		@Override
-		public String getKeys (final int index) {
-			return this.keys_.get (index);
-		}
-		
-		@Override
-		public int getKeysCount () {
-			return this.keys_.size ();
-		}
-		
-		@Override
-		public java.util.List<String> getKeysList () {
-			return this.keys_;
+		public ListRequest getDefaultInstanceForType () {
+			return ListRequest.defaultInstance;
 		}
 		
 		@Override
@@ -3413,14 +5168,6 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
-			{
-				int dataSize = 0;
-				for (int i = 0; i < this.keys_.size (); i++) {
-					dataSize += com.google.protobuf.CodedOutputStream.computeBytesSizeNoTag (this.keys_.getByteString (i));
-				}
-				size += dataSize;
-				size += 1 * this.getKeysList ().size ();
-			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
 			return size;
@@ -3460,12 +5207,12 @@ public final class KeyValuePayloads
 		
 		@Override
 		public Builder newBuilderForType () {
-			return ListReply.newBuilder ();
+			return ListRequest.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return ListReply.newBuilder (this);
+			return ListRequest.newBuilder (this);
 		}
 		
 		@Override
@@ -3475,15 +5222,12 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
-			for (int i = 0; i < this.keys_.size (); i++) {
-				output.writeBytes (2, this.keys_.getByteString (i));
-			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -3500,34 +5244,32 @@ public final class KeyValuePayloads
 		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
-			this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 		}
 		
 		private int bitField0_;
-		private com.google.protobuf.LazyStringList keys_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static ListReply getDefaultInstance () {
-			return ListReply.defaultInstance;
+		public static ListRequest getDefaultInstance () {
+			return ListRequest.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply prototype) {
-			return ListReply.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest prototype) {
+			return ListRequest.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = ListReply.newBuilder ();
+			final Builder builder = ListRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -3535,9 +5277,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = ListReply.newBuilder ();
+			final Builder builder = ListRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -3545,63 +5287,61 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListReply.newBuilder ().mergeFrom (data).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListReply.newBuilder ().mergeFrom (data).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListReply.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return ListReply.newBuilder ().mergeFrom (input).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return ListReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return ListReply.newBuilder ().mergeFrom (input).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return ListReply.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return ListRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new ListReply (true);
-			ListReply.defaultInstance.initFields ();
+			defaultInstance = new ListRequest (true);
+			ListRequest.defaultInstance.initFields ();
 		}
-		// repeated string keys = 2;
-		public static final int KEYS_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final ListReply defaultInstance;
+		private static final ListRequest defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReplyOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequestOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -3611,26 +5351,9 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
-			public Builder addAllKeys (final java.lang.Iterable<String> values) {
-				this.ensureKeysIsMutable ();
-				super.addAll (values, this.keys_);
-				this.onChanged ();
-				return this;
-			}
-			
-			public Builder addKeys (final String value) {
-				if (value == null) {
-					throw new NullPointerException ();
-				}
-				this.ensureKeysIsMutable ();
-				this.keys_.add (value);
-				this.onChanged ();
-				return this;
-			}
-			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -3638,8 +5361,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -3650,11 +5373,6 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
-				if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
-					this.keys_ = new com.google.protobuf.UnmodifiableLazyStringList (this.keys_);
-					this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				}
-				result.keys_ = this.keys_;
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -3669,15 +5387,6 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
-				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				return this;
-			}
-			
-			public Builder clearKeys () {
-				this.keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-				this.bitField0_ = (this.bitField0_ & ~0x00000002);
-				this.onChanged ();
 				return this;
 			}
 			
@@ -3698,28 +5407,13 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDescriptor ();
-			}
-			
-			@Override
-			public String getKeys (final int index) {
-				return this.keys_.get (index);
-			}
-			
-			@Override
-			public int getKeysCount () {
-				return this.keys_.size ();
-			}
-			
-			@Override
-			public java.util.List<String> getKeysList () {
-				return java.util.Collections.unmodifiableList (this.keys_);
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDescriptor ();
 			}
 			
 			@Override
@@ -3790,41 +5484,26 @@ public final class KeyValuePayloads
 							this.setToken (subBuilder.buildPartial ());
 							break;
 						}
-						case 18 : {
-							this.ensureKeysIsMutable ();
-							this.keys_.add (input.readBytes ());
-							break;
-						}
 					}
 				}
 			}
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
-				if (!other.keys_.isEmpty ()) {
-					if (this.keys_.isEmpty ()) {
-						this.keys_ = other.keys_;
-						this.bitField0_ = (this.bitField0_ & ~0x00000002);
-					} else {
-						this.ensureKeysIsMutable ();
-						this.keys_.addAll (other.keys_);
-					}
-					this.onChanged ();
-				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
 			}
@@ -3840,17 +5519,7 @@ public final class KeyValuePayloads
 				} else {
 					this.tokenBuilder_.mergeFrom (value);
 				}
-				this.bitField0_ |= 0x00000001;
-				return this;
-			}
-			
-			public Builder setKeys (final int index, final String value) {
-				if (value == null) {
-					throw new NullPointerException ();
-				}
-				this.ensureKeysIsMutable ();
-				this.keys_.set (index, value);
-				this.onChanged ();
+				this.bitField0_ |= 0x00000001;
 				return this;
 			}
 			
@@ -3881,31 +5550,18 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_fieldAccessorTable;
-			}
-			
-			void addKeys (final com.google.protobuf.ByteString value) {
-				this.ensureKeysIsMutable ();
-				this.keys_.add (value);
-				this.onChanged ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable;
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListReply result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
-			private void ensureKeysIsMutable () {
-				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
-					this.keys_ = new com.google.protobuf.LazyStringArrayList (this.keys_);
-					this.bitField0_ |= 0x00000002;
-				}
-			}
-			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -3921,35 +5577,26 @@ public final class KeyValuePayloads
 			}
 			
 			private int bitField0_;
-			// repeated string keys = 2;
-			private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.ListReply)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.ListRequest)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListReply_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.ListReply)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.ListRequest)
 	}
 	
-	public interface ListReplyOrBuilder
+	public interface ListRequestOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
-		String getKeys (int index);
-		
-		int getKeysCount ();
-		
-		// repeated string keys = 2;
-		java.util.List<String> getKeysList ();
-		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
@@ -3958,21 +5605,46 @@ public final class KeyValuePayloads
 		boolean hasToken ();
 	}
 	
-	public static final class ListRequest
+	public static final class SetBulkRequest
 				extends com.google.protobuf.GeneratedMessage
 				implements
-					ListRequestOrBuilder
+					SetBulkRequestOrBuilder
 	{
-		private ListRequest (final boolean noInit) {}
+		private SetBulkRequest (final boolean noInit) {}
 		
-		// Use ListRequest.newBuilder() to construct.
-		private ListRequest (final Builder builder) {
+		// Use SetBulkRequest.newBuilder() to construct.
+		private SetBulkRequest (final Builder builder) {
 			super (builder);
 		}
 		
 		@Override
-		public ListRequest getDefaultInstanceForType () {
-			return ListRequest.defaultInstance;
+		public SetBulkRequest getDefaultInstanceForType () {
+			return SetBulkRequest.defaultInstance;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getEntries (final int index) {
+			return this.entries_.get (index);
+		}
+		
+		@Override
+		public int getEntriesCount () {
+			return this.entries_.size ();
+		}
+		
+		@Override
+		public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getEntriesList () {
+			return this.entries_;
+		}
+		
+		@Override
+		public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getEntriesOrBuilder (final int index) {
+			return this.entries_.get (index);
+		}
+		
+		@Override
+		public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getEntriesOrBuilderList () {
+			return this.entries_;
 		}
 		
 		@Override
@@ -3984,6 +5656,9 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				size += com.google.protobuf.CodedOutputStream.computeMessageSize (1, this.token_);
 			}
+			for (int i = 0; i < this.entries_.size (); i++) {
+				size += com.google.protobuf.CodedOutputStream.computeMessageSize (2, this.entries_.get (i));
+			}
 			size += this.getUnknownFields ().getSerializedSize ();
 			this.memoizedSerializedSize = size;
 			return size;
@@ -4017,18 +5692,24 @@ public final class KeyValuePayloads
 				this.memoizedIsInitialized = 0;
 				return false;
 			}
+			for (int i = 0; i < this.getEntriesCount (); i++) {
+				if (!this.getEntries (i).isInitialized ()) {
+					this.memoizedIsInitialized = 0;
+					return false;
+				}
+			}
 			this.memoizedIsInitialized = 1;
 			return true;
 		}
 		
 		@Override
 		public Builder newBuilderForType () {
-			return ListRequest.newBuilder ();
+			return SetBulkRequest.newBuilder ();
 		}
 		
 		@Override
 		public Builder toBuilder () {
-			return ListRequest.newBuilder (this);
+			return SetBulkRequest.newBuilder (this);
 		}
 		
 		@Override
@@ -4038,12 +5719,15 @@ public final class KeyValuePayloads
 			if (((this.bitField0_ & 0x00000001) == 0x00000001)) {
 				output.writeMessage (1, this.token_);
 			}
+			for (int i = 0; i < this.entries_.size (); i++) {
+				output.writeMessage (2, this.entries_.get (i));
+			}
 			this.getUnknownFields ().writeTo (output);
 		}
 		
 		@Override
 		protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_fieldAccessorTable;
 		}
 		
 		@java.lang.Override
@@ -4060,32 +5744,34 @@ public final class KeyValuePayloads
 		
 		private void initFields () {
 			this.token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
+			this.entries_ = java.util.Collections.emptyList ();
 		}
 		
 		private int bitField0_;
 		private byte memoizedIsInitialized = -1;
 		private int memoizedSerializedSize = -1;
+		private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> entries_;
 		private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_;
 		
-		public static ListRequest getDefaultInstance () {
-			return ListRequest.defaultInstance;
+		public static SetBulkRequest getDefaultInstance () {
+			return SetBulkRequest.defaultInstance;
 		}
 		
 		public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor;
+			return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_descriptor;
 		}
 		
 		public static Builder newBuilder () {
 			return Builder.create ();
 		}
 		
-		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest prototype) {
-			return ListRequest.newBuilder ().mergeFrom (prototype);
+		public static Builder newBuilder (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest prototype) {
+			return SetBulkRequest.newBuilder ().mergeFrom (prototype);
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseDelimitedFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseDelimitedFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			final Builder builder = ListRequest.newBuilder ();
+			final Builder builder = SetBulkRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input)) {
 				return builder.buildParsed ();
 			} else {
@@ -4093,9 +5779,9 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseDelimitedFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			final Builder builder = ListRequest.newBuilder ();
+			final Builder builder = SetBulkRequest.newBuilder ();
 			if (builder.mergeDelimitedFrom (input, extensionRegistry)) {
 				return builder.buildParsed ();
 			} else {
@@ -4103,61 +5789,63 @@ public final class KeyValuePayloads
 			}
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final byte[] data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final byte[] data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final byte[] data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.ByteString data)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final com.google.protobuf.ByteString data)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListRequest.newBuilder ().mergeFrom (data).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (data).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final com.google.protobuf.ByteString data, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws com.google.protobuf.InvalidProtocolBufferException {
-			return ListRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (data, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.CodedInputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final com.google.protobuf.CodedInputStream input)
 					throws java.io.IOException {
-			return ListRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final com.google.protobuf.CodedInputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return ListRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final java.io.InputStream input)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final java.io.InputStream input)
 					throws java.io.IOException {
-			return ListRequest.newBuilder ().mergeFrom (input).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (input).buildParsed ();
 		}
 		
-		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+		public static eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest parseFrom (final java.io.InputStream input, final com.google.protobuf.ExtensionRegistryLite extensionRegistry)
 					throws java.io.IOException {
-			return ListRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
+			return SetBulkRequest.newBuilder ().mergeFrom (input, extensionRegistry).buildParsed ();
 		}
 		
 		static {
-			defaultInstance = new ListRequest (true);
-			ListRequest.defaultInstance.initFields ();
+			defaultInstance = new SetBulkRequest (true);
+			SetBulkRequest.defaultInstance.initFields ();
 		}
+		// repeated .mosaic_cloud.idl.kvstore.KVEntry entries = 2;
+		public static final int ENTRIES_FIELD_NUMBER = 2;
 		// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 		public static final int TOKEN_FIELD_NUMBER = 1;
-		private static final ListRequest defaultInstance;
+		private static final SetBulkRequest defaultInstance;
 		private static final long serialVersionUID = 0L;
 		
 		public static final class Builder
 					extends com.google.protobuf.GeneratedMessage.Builder<Builder>
 					implements
-						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequestOrBuilder
+						eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequestOrBuilder
 		{
-			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.newBuilder()
+			// Construct using eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.newBuilder()
 			private Builder () {
 				this.maybeForceBuilderInitialization ();
 			}
@@ -4167,9 +5855,78 @@ public final class KeyValuePayloads
 				this.maybeForceBuilderInitialization ();
 			}
 			
+			public Builder addAllEntries (final java.lang.Iterable<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> values) {
+				if (this.entriesBuilder_ == null) {
+					this.ensureEntriesIsMutable ();
+					super.addAll (values, this.entries_);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.addAllMessages (values);
+				}
+				return this;
+			}
+			
+			public Builder addEntries (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.entriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureEntriesIsMutable ();
+					this.entries_.add (value);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.addMessage (value);
+				}
+				return this;
+			}
+			
+			public Builder addEntries (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.entriesBuilder_ == null) {
+					this.ensureEntriesIsMutable ();
+					this.entries_.add (builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.addMessage (builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public Builder addEntries (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.entriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureEntriesIsMutable ();
+					this.entries_.add (index, value);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.addMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder addEntries (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.entriesBuilder_ == null) {
+					this.ensureEntriesIsMutable ();
+					this.entries_.add (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.addMessage (index, builderForValue.build ());
+				}
+				return this;
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addEntriesBuilder () {
+				return this.getEntriesFieldBuilder ().addBuilder (eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder addEntriesBuilder (final int index) {
+				return this.getEntriesFieldBuilder ().addBuilder (index, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.getDefaultInstance ());
+			}
+			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest build () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = this.buildPartial ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest build () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result);
 				}
@@ -4177,8 +5934,8 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest buildPartial () {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest (this);
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest buildPartial () {
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest result = new eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest (this);
 				final int from_bitField0_ = this.bitField0_;
 				int to_bitField0_ = 0;
 				if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
@@ -4189,6 +5946,15 @@ public final class KeyValuePayloads
 				} else {
 					result.token_ = this.tokenBuilder_.build ();
 				}
+				if (this.entriesBuilder_ == null) {
+					if (((this.bitField0_ & 0x00000002) == 0x00000002)) {
+						this.entries_ = java.util.Collections.unmodifiableList (this.entries_);
+						this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					}
+					result.entries_ = this.entries_;
+				} else {
+					result.entries_ = this.entriesBuilder_.build ();
+				}
 				result.bitField0_ = to_bitField0_;
 				this.onBuilt ();
 				return result;
@@ -4203,6 +5969,23 @@ public final class KeyValuePayloads
 					this.tokenBuilder_.clear ();
 				}
 				this.bitField0_ = (this.bitField0_ & ~0x00000001);
+				if (this.entriesBuilder_ == null) {
+					this.entries_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+				} else {
+					this.entriesBuilder_.clear ();
+				}
+				return this;
+			}
+			
+			public Builder clearEntries () {
+				if (this.entriesBuilder_ == null) {
+					this.entries_ = java.util.Collections.emptyList ();
+					this.bitField0_ = (this.bitField0_ & ~0x00000002);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.clear ();
+				}
 				return this;
 			}
 			
@@ -4223,13 +6006,66 @@ public final class KeyValuePayloads
 			}
 			
 			@Override
-			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest getDefaultInstanceForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDefaultInstance ();
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest getDefaultInstanceForType () {
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.getDefaultInstance ();
 			}
 			
 			@Override
 			public com.google.protobuf.Descriptors.Descriptor getDescriptorForType () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDescriptor ();
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.getDescriptor ();
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getEntries (final int index) {
+				if (this.entriesBuilder_ == null) {
+					return this.entries_.get (index);
+				} else {
+					return this.entriesBuilder_.getMessage (index);
+				}
+			}
+			
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder getEntriesBuilder (final int index) {
+				return this.getEntriesFieldBuilder ().getBuilder (index);
+			}
+			
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder> getEntriesBuilderList () {
+				return this.getEntriesFieldBuilder ().getBuilderList ();
+			}
+			
+			@Override
+			public int getEntriesCount () {
+				if (this.entriesBuilder_ == null) {
+					return this.entries_.size ();
+				} else {
+					return this.entriesBuilder_.getCount ();
+				}
+			}
+			
+			@Override
+			public java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getEntriesList () {
+				if (this.entriesBuilder_ == null) {
+					return java.util.Collections.unmodifiableList (this.entries_);
+				} else {
+					return this.entriesBuilder_.getMessageList ();
+				}
+			}
+			
+			@Override
+			public eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getEntriesOrBuilder (final int index) {
+				if (this.entriesBuilder_ == null) {
+					return this.entries_.get (index);
+				} else {
+					return this.entriesBuilder_.getMessageOrBuilder (index);
+				}
+			}
+			
+			@Override
+			public java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getEntriesOrBuilderList () {
+				if (this.entriesBuilder_ != null) {
+					return this.entriesBuilder_.getMessageOrBuilderList ();
+				} else {
+					return java.util.Collections.unmodifiableList (this.entries_);
+				}
 			}
 			
 			@Override
@@ -4269,6 +6105,11 @@ public final class KeyValuePayloads
 				if (!this.getToken ().isInitialized ()) {
 					return false;
 				}
+				for (int i = 0; i < this.getEntriesCount (); i++) {
+					if (!this.getEntries (i).isInitialized ()) {
+						return false;
+					}
+				}
 				return true;
 			}
 			
@@ -4300,26 +6141,56 @@ public final class KeyValuePayloads
 							this.setToken (subBuilder.buildPartial ());
 							break;
 						}
+						case 18 : {
+							final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder subBuilder = eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.newBuilder ();
+							input.readMessage (subBuilder, extensionRegistry);
+							this.addEntries (subBuilder.buildPartial ());
+							break;
+						}
 					}
 				}
 			}
 			
 			@Override
 			public Builder mergeFrom (final com.google.protobuf.Message other) {
-				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest) {
-					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest) other);
+				if (other instanceof eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest) {
+					return this.mergeFrom ((eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest) other);
 				} else {
 					super.mergeFrom (other);
 					return this;
 				}
 			}
 			
-			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest other) {
-				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest.getDefaultInstance ())
+			public Builder mergeFrom (final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest other) {
+				if (other == eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest.getDefaultInstance ())
 					return this;
 				if (other.hasToken ()) {
 					this.mergeToken (other.getToken ());
 				}
+				if (this.entriesBuilder_ == null) {
+					if (!other.entries_.isEmpty ()) {
+						if (this.entries_.isEmpty ()) {
+							this.entries_ = other.entries_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000002);
+						} else {
+							this.ensureEntriesIsMutable ();
+							this.entries_.addAll (other.entries_);
+						}
+						this.onChanged ();
+					}
+				} else {
+					if (!other.entries_.isEmpty ()) {
+						if (this.entriesBuilder_.isEmpty ()) {
+							this.entriesBuilder_.dispose ();
+							this.entriesBuilder_ = null;
+							this.entries_ = other.entries_;
+							this.bitField0_ = (this.bitField0_ & ~0x00000002);
+							this.entriesBuilder_ = com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ? this.getEntriesFieldBuilder () : null;
+						} else {
+							this.entriesBuilder_.addAllMessages (other.entries_);
+						}
+					}
+				}
 				this.mergeUnknownFields (other.getUnknownFields ());
 				return this;
 			}
@@ -4339,6 +6210,42 @@ public final class KeyValuePayloads
 				return this;
 			}
 			
+			public Builder removeEntries (final int index) {
+				if (this.entriesBuilder_ == null) {
+					this.ensureEntriesIsMutable ();
+					this.entries_.remove (index);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.remove (index);
+				}
+				return this;
+			}
+			
+			public Builder setEntries (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry value) {
+				if (this.entriesBuilder_ == null) {
+					if (value == null) {
+						throw new NullPointerException ();
+					}
+					this.ensureEntriesIsMutable ();
+					this.entries_.set (index, value);
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.setMessage (index, value);
+				}
+				return this;
+			}
+			
+			public Builder setEntries (final int index, final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder builderForValue) {
+				if (this.entriesBuilder_ == null) {
+					this.ensureEntriesIsMutable ();
+					this.entries_.set (index, builderForValue.build ());
+					this.onChanged ();
+				} else {
+					this.entriesBuilder_.setMessage (index, builderForValue.build ());
+				}
+				return this;
+			}
+			
 			public Builder setToken (final eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken value) {
 				if (this.tokenBuilder_ == null) {
 					if (value == null) {
@@ -4366,18 +6273,33 @@ public final class KeyValuePayloads
 			
 			@Override
 			protected com.google.protobuf.GeneratedMessage.FieldAccessorTable internalGetFieldAccessorTable () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_fieldAccessorTable;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_fieldAccessorTable;
 			}
 			
-			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest buildParsed ()
+			private eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest buildParsed ()
 						throws com.google.protobuf.InvalidProtocolBufferException {
-				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.ListRequest result = this.buildPartial ();
+				final eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.SetBulkRequest result = this.buildPartial ();
 				if (!result.isInitialized ()) {
 					throw com.google.protobuf.AbstractMessage.Builder.newUninitializedMessageException (result).asInvalidProtocolBufferException ();
 				}
 				return result;
 			}
 			
+			private void ensureEntriesIsMutable () {
+				if (!((this.bitField0_ & 0x00000002) == 0x00000002)) {
+					this.entries_ = new java.util.ArrayList<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> (this.entries_);
+					this.bitField0_ |= 0x00000002;
+				}
+			}
+			
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getEntriesFieldBuilder () {
+				if (this.entriesBuilder_ == null) {
+					this.entriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> (this.entries_, ((this.bitField0_ & 0x00000002) == 0x00000002), this.getParentForChildren (), this.isClean ());
+					this.entries_ = null;
+				}
+				return this.entriesBuilder_;
+			}
+			
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> getTokenFieldBuilder () {
 				if (this.tokenBuilder_ == null) {
 					this.tokenBuilder_ = new com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> (this.token_, this.getParentForChildren (), this.isClean ());
@@ -4389,30 +6311,45 @@ public final class KeyValuePayloads
 			private void maybeForceBuilderInitialization () {
 				if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
 					this.getTokenFieldBuilder ();
+					this.getEntriesFieldBuilder ();
 				}
 			}
 			
 			private int bitField0_;
+			// repeated .mosaic_cloud.idl.kvstore.KVEntry entries = 2;
+			private java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> entries_ = java.util.Collections.emptyList ();
+			private com.google.protobuf.RepeatedFieldBuilder<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry.Builder, eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> entriesBuilder_;
 			// required .mosaic_cloud.idl.common.CompletionToken token = 1;
 			private eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken token_ = eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.getDefaultInstance ();
 			private com.google.protobuf.SingleFieldBuilder<eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken.Builder, eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder> tokenBuilder_;
 			
-			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.ListRequest)
+			// @@protoc_insertion_point(builder_scope:mosaic_cloud.idl.kvstore.SetBulkRequest)
 			public static final com.google.protobuf.Descriptors.Descriptor getDescriptor () {
-				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_ListRequest_descriptor;
+				return eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.internal_static_mosaic_cloud_idl_kvstore_SetBulkRequest_descriptor;
 			}
 			
 			private static Builder create () {
 				return new Builder ();
 			}
 		}
-		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.ListRequest)
+		// @@protoc_insertion_point(class_scope:mosaic_cloud.idl.kvstore.SetBulkRequest)
 	}
 	
-	public interface ListRequestOrBuilder
+	public interface SetBulkRequestOrBuilder
 				extends
 					com.google.protobuf.MessageOrBuilder
 	{
+		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry getEntries (int index);
+		
+		int getEntriesCount ();
+		
+		// repeated .mosaic_cloud.idl.kvstore.KVEntry entries = 2;
+		java.util.List<eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntry> getEntriesList ();
+		
+		eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder getEntriesOrBuilder (int index);
+		
+		java.util.List<? extends eu.mosaic_cloud.platform.interop.idl.kvstore.KeyValuePayloads.KVEntryOrBuilder> getEntriesOrBuilderList ();
+		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionToken getToken ();
 		
 		eu.mosaic_cloud.platform.interop.idl.IdlCommon.CompletionTokenOrBuilder getTokenOrBuilder ();
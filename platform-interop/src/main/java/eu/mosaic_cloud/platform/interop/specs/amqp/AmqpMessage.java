@@ -53,6 +53,7 @@ public enum AmqpMessage
 	DECL_EXCHANGE_REQUEST (MessageType.Exchange, AmqpPayloads.DeclareExchangeRequest.class),
 	DECL_QUEUE_REQUEST (MessageType.Exchange, AmqpPayloads.DeclareQueueRequest.class),
 	DELIVERY (MessageType.Exchange, AmqpPayloads.DeliveryMessage.class),
+	DELIVERY_BATCH (MessageType.Exchange, AmqpPayloads.DeliveryBatchMessage.class),
 	ERROR (MessageType.Exchange, IdlCommon.Error.class),
 	GET_REQUEST (MessageType.Exchange, AmqpPayloads.GetRequest.class),
 	NOK (MessageType.Exchange, IdlCommon.NotOk.class),
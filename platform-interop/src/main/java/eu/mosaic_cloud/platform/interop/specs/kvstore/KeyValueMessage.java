@@ -43,6 +43,8 @@ public enum KeyValueMessage
 {
 	ABORTED (MessageType.Termination, IdlCommon.AbortRequest.class),
 	ACCESS (MessageType.Initiation, KeyValuePayloads.InitRequest.class),
+	BULK_REPLY (MessageType.Exchange, KeyValuePayloads.BulkReply.class),
+	DELETE_BULK_REQUEST (MessageType.Exchange, KeyValuePayloads.DeleteBulkRequest.class),
 	DELETE_REQUEST (MessageType.Exchange, KeyValuePayloads.DeleteRequest.class),
 	ERROR (MessageType.Exchange, IdlCommon.Error.class),
 	GET_REPLY (MessageType.Exchange, KeyValuePayloads.GetReply.class),
@@ -51,6 +53,7 @@ public enum KeyValueMessage
 	LIST_REQUEST (MessageType.Exchange, KeyValuePayloads.ListRequest.class),
 	NOK (MessageType.Exchange, IdlCommon.NotOk.class),
 	OK (MessageType.Exchange, IdlCommon.Ok.class),
+	SET_BULK_REQUEST (MessageType.Exchange, KeyValuePayloads.SetBulkRequest.class),
 	SET_REQUEST (MessageType.Exchange, KeyValuePayloads.SetRequest.class);
 	/**
 	 * Creates a new Key-Value message.
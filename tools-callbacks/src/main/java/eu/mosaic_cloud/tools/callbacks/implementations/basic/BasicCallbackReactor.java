@@ -22,17 +22,20 @@ package eu.mosaic_cloud.tools.callbacks.implementations.basic;
 
 
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCanceled;
@@ -53,6 +56,7 @@ import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
 import eu.mosaic_cloud.tools.miscellaneous.Monitor;
 import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
+import eu.mosaic_cloud.tools.threading.tools.WorkStealingExecutor;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
@@ -68,9 +72,9 @@ public final class BasicCallbackReactor
 			implements
 				CallbackReactor
 {
-	BasicCallbackReactor (final ThreadingContext threading, final ExceptionTracer exceptions) {
+	BasicCallbackReactor (final ThreadingContext threading, final ExecutionMode executionMode, final int workers, final int fairnessBudget, final ExceptionTracer exceptions) {
 		super ();
-		this.reactor = new Reactor (this, threading, exceptions);
+		this.reactor = new Reactor (this, threading, executionMode, workers, fairnessBudget, exceptions);
 	}
 	
 	@Override
@@ -134,7 +138,25 @@ public final class BasicCallbackReactor
 	final Reactor reactor;
 	
 	public static final BasicCallbackReactor create (final ThreadingContext threading, final ExceptionTracer exceptions) {
-		return (new BasicCallbackReactor (threading, exceptions));
+		return (BasicCallbackReactor.create (threading, BasicCallbackReactor.defaultExecutionMode, exceptions));
+	}
+	
+	public static final BasicCallbackReactor create (final ThreadingContext threading, final ExecutionMode executionMode, final ExceptionTracer exceptions) {
+		return (BasicCallbackReactor.create (threading, executionMode, BasicCallbackReactor.defaultWorkers, BasicCallbackReactor.defaultFairnessBudget, exceptions));
+	}
+	
+	public static final BasicCallbackReactor create (final ThreadingContext threading, final ExecutionMode executionMode, final int workers, final int fairnessBudget, final ExceptionTracer exceptions) {
+		return (new BasicCallbackReactor (threading, executionMode, workers, fairnessBudget, exceptions));
+	}
+	
+	public static final ExecutionMode defaultExecutionMode = ExecutionMode.Cached;
+	public static final int defaultFairnessBudget = 128;
+	public static final int defaultWorkers = Runtime.getRuntime ().availableProcessors ();
+	
+	public static enum ExecutionMode
+	{
+		Cached (),
+		WorkStealing ();
 	}
 	
 	static abstract class Action<_Target_ extends ActionTarget, _Outcome_ extends Object>
@@ -167,8 +189,9 @@ public final class BasicCallbackReactor
 			synchronized (this.monitor) {
 				this.reactor = reactor;
 				this.specification = specification;
+				this.descriptor = this.reactor.resolveDescriptor (specification);
 				this.destroyFuture = new Future<Void> (this.reactor);
-				this.proxy = (CallbackProxy) Proxy.newProxyInstance (specification.getClassLoader (), new Class[] {specification, CallbackProxy.class}, this);
+				this.proxy = this.descriptor.createProxy (this);
 				this.actions = new ConcurrentLinkedQueue<ActorAction<?>> ();
 				this.handler = Atomics.newReference (null);
 				this.scheduler = Atomics.newReference (null);
@@ -185,46 +208,51 @@ public final class BasicCallbackReactor
 		}
 		
 		@Override
-		public final Object invoke (final Object callbacks, final Method method, final Object[] arguments)
+		public final Object invoke (final Object callbacks, final Method method_, final Object[] arguments)
 					throws Throwable {
-			if (method.getDeclaringClass () == Object.class)
+			final ActorMethod method = this.descriptor.resolve (method_);
+			if (method.type == ActorMethod.Type.Object)
 				try {
-					return (method.invoke (this, arguments));
+					return (method.method.invoke (this, arguments));
 				} catch (final InvocationTargetException wrapper) {
 					final Throwable exception = wrapper.getCause ();
 					this.reactor.exceptions.traceHandledException (wrapper);
 					this.reactor.exceptions.traceDeferredException (exception);
 					throw (exception);
 				}
-			// FIXME: This is a VERY BIG HACK... This code should be refactored...
-			//-- The problem is that those methods annotated with `CallbackPassthrough` should enter the `monitor`,
-			//-- but the other methods shouldn't acquire the monitor.
-			//-- The other problem is that the code is very hard to read (too many return points, etc.)
+			this.reactor.transcript.traceDebugging ("invocking (triggered) for proxy `%{object:identity}` the method `%{method}` with arguments `%{array}`...", this.proxy, method.method, arguments);
+			// NOTE: only those methods annotated with `CallbackPassthrough` enter the monitor; the callbacks are
+			//-- enqueued without it (see `enqueueAction`).
+			if (method.type == ActorMethod.Type.Callback) {
+				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+				if (this.handlerStatus.get () != HandlerStatus.Delegated) {
+					final ActorCallbackAction<?> action = new ActorCallbackAction<Object> (this, method.method, arguments);
+					this.enqueueAction (action);
+					return (action.future.completion);
+				}
+				return (this.delegateInvokeCallback (method.method, arguments, null));
+			}
 			synchronized (this.monitor) {
-				this.reactor.transcript.traceDebugging ("invocking (triggered) for proxy `%{object:identity}` the method `%{method}` with arguments `%{array}`...", this.proxy, method, arguments);
 				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
 				if (this.handlerStatus.get () != HandlerStatus.Delegated) {
-					if (method.getReturnType () == CallbackCompletion.class) {
-						final ActorCallbackAction<?> action = new ActorCallbackAction<Object> (this, method, arguments);
-						this.enqueueAction (action);
-						return (action.future.completion);
-					}
-					if (method.isAnnotationPresent (CallbackPassthrough.class)) {
-						if (this.handlerStatus.get () == HandlerStatus.Assigned)
-							try {
-								return (method.invoke (this.handler.get (), arguments));
-							} catch (final InvocationTargetException wrapper) {
-								final Throwable exception = wrapper.getCause ();
-								this.reactor.exceptions.traceHandledException (wrapper);
-								this.reactor.exceptions.traceDeferredException (exception);
-								throw (exception);
-							}
-						throw (new IllegalAccessError ());
+					switch (method.type) {
+						case Passthrough :
+							if (this.handlerStatus.get () == HandlerStatus.Assigned)
+								try {
+									return (method.method.invoke (this.handler.get (), arguments));
+								} catch (final InvocationTargetException wrapper) {
+									final Throwable exception = wrapper.getCause ();
+									this.reactor.exceptions.traceHandledException (wrapper);
+									this.reactor.exceptions.traceDeferredException (exception);
+									throw (exception);
+								}
+							throw (new IllegalAccessError ());
+						default :
+							throw (new IllegalAccessError ());
 					}
-					throw (new IllegalAccessError ());
 				}
 			}
-			return (this.delegateInvokeCallback (method, arguments, null));
+			return (this.delegateInvokeCallback (method.method, arguments, null));
 		}
 		
 		final void delegateInvokeCallback (final ActorCallbackAction<?> action) {
@@ -268,13 +296,22 @@ public final class BasicCallbackReactor
 		}
 		
 		final void enqueueAction (final ActorAction<?> action) {
-			synchronized (this.monitor) {
-				this.reactor.transcript.traceDebugging ("enqueueing action `%{object}` on actor `%{object:identity}`...", action, this);
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				if (action instanceof ActorCallbackAction) {
-					Preconditions.checkState (this.actions.offer (action));
+			this.reactor.transcript.traceDebugging ("enqueueing action `%{object}` on actor `%{object:identity}`...", action, this);
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			if (action instanceof ActorCallbackAction) {
+				Preconditions.checkState (this.actions.offer (action));
+				// NOTE: callbacks are enqueued without the monitor, thus a concurrent delegation or destruction
+				//-- might have already drained the queue; whoever removes the action from the queue owns it.
+				if ((this.handlerStatus.get () == HandlerStatus.Delegated) && this.actions.remove (action))
+					this.delegateInvokeCallback ((ActorCallbackAction<?>) action);
+				else if ((this.status.get () == Status.Destroyed) && this.actions.remove (action))
+					action.future.triggerFailure (new CallbackCanceled ());
+				else
 					this.schedule (false);
-				} else if (action instanceof ActorAssignAction) {
+				return;
+			}
+			synchronized (this.monitor) {
+				if (action instanceof ActorAssignAction) {
 					Preconditions.checkState (this.assignAction.compareAndSet (null, (ActorAssignAction) action));
 					this.schedule (true);
 				} else if (action instanceof ActorDestroyAction) {
@@ -288,6 +325,7 @@ public final class BasicCallbackReactor
 		final void executeActions () {
 			this.reactor.transcript.traceDebugging ("executing enqueued actions on actor `%{object:identity}`...", this);
 			Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Scheduled, ScheduleStatus.Running));
+			int budget = this.reactor.fairnessBudget;
 			while (true) {
 				boolean reschedule = false;
 				if ((this.assignAction.get () != null) && (this.failed.get () == null)) {
@@ -297,11 +335,14 @@ public final class BasicCallbackReactor
 				while (true) {
 					if (this.failed.get () != null)
 						break;
+					if (budget <= 0)
+						break;
 					final ActorAction<?> action = this.actions.poll ();
 					if (action == null)
 						break;
 					if (action instanceof ActorCallbackAction) {
 						this.executeInvokeCallback ((ActorCallbackAction<?>) action);
+						budget--;
 						reschedule |= true;
 					} else
 						throw (new IllegalStateException ());
@@ -310,10 +351,23 @@ public final class BasicCallbackReactor
 					this.executeDestroy ();
 					reschedule |= true;
 				}
-				if (!reschedule)
+				if ((budget <= 0) && (this.failed.get () == null) && !this.actions.isEmpty ()) {
+					// NOTE: the actor yields the isolate, by going at the end of the scheduler's queue, so that
+					//-- a flood of callbacks on one proxy does not starve the other actors sharing the same isolate;
+					//-- any concurrent reschedule request is subsumed.
+					final Scheduler scheduler = this.scheduler.get ();
+					Preconditions.checkNotNull (scheduler);
+					this.scheduleStatus.set (ScheduleStatus.Scheduled);
+					scheduler.enqueueActor (this);
+					this.reactor.transcript.traceDebugging ("yielded actor `%{object:identity}`...", this);
+					return;
+				}
+				if (reschedule)
+					continue;
+				if (this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.Idle))
 					break;
+				Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.RunningReschedule, ScheduleStatus.Running));
 			}
-			Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.Idle));
 			this.reactor.transcript.traceDebugging ("executed enqueued actions on actor `%{object:identity}`...", this);
 		}
 		
@@ -384,9 +438,12 @@ public final class BasicCallbackReactor
 							assign.future.triggerFailure (new CallbackCanceled ());
 							Preconditions.checkState (this.assignAction.compareAndSet (assign, null));
 						}
-						for (final ActorAction<?> action : this.actions)
+						while (true) {
+							final ActorAction<?> action = this.actions.poll ();
+							if (action == null)
+								break;
 							action.future.triggerFailure (new CallbackCanceled ());
-						this.actions.clear ();
+						}
 					}
 				} else {
 					final ActorAssignAction assign = this.assignAction.get ();
@@ -409,9 +466,12 @@ public final class BasicCallbackReactor
 						assign.future.triggerFailure (failure);
 						Preconditions.checkState (this.assignAction.compareAndSet (assign, null));
 					}
-					for (final ActorAction<?> action : this.actions)
+					while (true) {
+						final ActorAction<?> action = this.actions.poll ();
+						if (action == null)
+							break;
 						action.future.triggerFailure (failure);
-					this.actions.clear ();
+					}
 				}
 				Preconditions.checkState (this.assignAction.get () == null);
 				Preconditions.checkState (this.handler.get () == null);
@@ -423,6 +483,13 @@ public final class BasicCallbackReactor
 					destroy.future.triggerFailure (failure);
 				Preconditions.checkState (this.destroyAction.compareAndSet (destroy, null));
 				Preconditions.checkState (this.status.compareAndSet (Status.Destroying, Status.Destroyed));
+				// NOTE: the callbacks that were enqueued concurrently with the destruction are canceled.
+				while (true) {
+					final ActorAction<?> action = this.actions.poll ();
+					if (action == null)
+						break;
+					action.future.triggerFailure ((failure != null) ? failure : new CallbackCanceled ());
+				}
 				this.reactor.transcript.traceDebugging ("destroyed proxy `%{object:identity}` (owned by actor `%{object:identity}`).", this.proxy, this);
 				this.reactor.transcript.traceDebugging ("executed action `%{object}` on actor `%{object:identity}`.", destroy, this);
 			}
@@ -431,16 +498,13 @@ public final class BasicCallbackReactor
 		final void executeInvokeCallback (final ActorCallbackAction<?> action) {
 			Preconditions.checkState (action != null);
 			this.reactor.transcript.traceDebugging ("executing action `%{object}` on actor `%{object:identity}`...", action, this);
-			final CallbackHandler handler;
-			final Scheduler scheduler;
-			synchronized (this.monitor) {
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				Preconditions.checkState (this.handlerStatus.get () == HandlerStatus.Assigned);
-				handler = this.handler.get ();
-				Preconditions.checkState (handler != null);
-				scheduler = this.scheduler.get ();
-				Preconditions.checkState (scheduler != null);
-			}
+			// NOTE: the handler and scheduler are changed only while the actor is running, thus on this same thread.
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			Preconditions.checkState (this.handlerStatus.get () == HandlerStatus.Assigned);
+			final CallbackHandler handler = this.handler.get ();
+			Preconditions.checkState (handler != null);
+			final Scheduler scheduler = this.scheduler.get ();
+			Preconditions.checkState (scheduler != null);
 			this.reactor.transcript.traceDebugging ("invocking method callback on handler `%{object}` for proxy `%{object:identity}` (owned by actor `%{object:identity}`) backed by isolate `%{object:identity}` (owned by scheduler `%{object:identity}`) the method `%{method}` with arguments `%{array}`...", handler, this.proxy, this, scheduler.isolate, scheduler, action.method, action.arguments);
 			final CallbackCompletion<?> returnedCompletion;
 			try {
@@ -473,28 +537,43 @@ public final class BasicCallbackReactor
 		}
 		
 		final void schedule (final boolean force) {
-			synchronized (this.monitor) {
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				if (!force) {
-					switch (this.handlerStatus.get ()) {
-						case Assigned :
-						case Registering :
-							break;
-						case Unassigned :
-							return;
-						default :
-							throw (new IllegalStateException ());
-					}
-					if (this.handler.get () == null)
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			if (!force) {
+				// NOTE: an unassigned (or delegated) actor is scheduled by the assignment itself (or has its
+				//-- actions delegated), thus there is no point in scheduling it now.
+				switch (this.handlerStatus.get ()) {
+					case Assigned :
+					case Registering :
+						break;
+					case Unassigned :
+					case Delegated :
 						return;
+					default :
+						throw (new IllegalStateException ());
 				}
-				if ((this.scheduleStatus.get () == ScheduleStatus.Scheduled) || (this.scheduleStatus.get () == ScheduleStatus.Running))
+				if ((this.handler.get () == null) || (this.scheduler.get () == null))
 					return;
-				final Scheduler scheduler = this.scheduler.get ();
-				Preconditions.checkNotNull (scheduler);
-				Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Idle, ScheduleStatus.Scheduled));
-				scheduler.enqueueActor (this);
-				this.reactor.transcript.traceDebugging ("scheduled actor `%{object:identity}`.", this);
+			}
+			while (true) {
+				switch (this.scheduleStatus.get ()) {
+					case Idle :
+						if (!this.scheduleStatus.compareAndSet (ScheduleStatus.Idle, ScheduleStatus.Scheduled))
+							continue;
+						final Scheduler scheduler = this.scheduler.get ();
+						Preconditions.checkNotNull (scheduler);
+						scheduler.enqueueActor (this);
+						this.reactor.transcript.traceDebugging ("scheduled actor `%{object:identity}`.", this);
+						return;
+					case Running :
+						if (!this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.RunningReschedule))
+							continue;
+						return;
+					case Scheduled :
+					case RunningReschedule :
+						return;
+					default :
+						throw (new IllegalStateException ());
+				}
 			}
 		}
 		
@@ -522,15 +601,22 @@ public final class BasicCallbackReactor
 			synchronized (this.monitor) {
 				this.reactor.transcript.traceDebugging ("assigning (triggered) delegate `%{object}` for proxy `%{object:identity}` (owned by actor `%{object:identity}`)...", delegate, this.proxy, this);
 				Preconditions.checkState (this.status.get () == Status.Active);
-				Preconditions.checkState (this.handlerStatus.compareAndSet (HandlerStatus.Unassigned, HandlerStatus.Delegated));
-				Preconditions.checkState (this.delegate.compareAndSet (null, (_Callbacks_) delegate));
+				Preconditions.checkState (this.handlerStatus.get () == HandlerStatus.Unassigned);
 				Preconditions.checkState (this.handler.get () == null);
 				Preconditions.checkState (this.scheduler.get () == null);
-				for (final Action<?, ?> action : this.actions)
+				// NOTE: callbacks are invoked without the monitor, and once they observe the `Delegated` status they
+				//-- read the delegate directly; thus the delegate must be published before the status is switched.
+				Preconditions.checkState (this.delegate.compareAndSet (null, (_Callbacks_) delegate));
+				Preconditions.checkState (this.handlerStatus.compareAndSet (HandlerStatus.Unassigned, HandlerStatus.Delegated));
+				while (true) {
+					final ActorAction<?> action = this.actions.poll ();
+					if (action == null)
+						break;
 					if (action instanceof ActorCallbackAction)
 						this.delegateInvokeCallback ((ActorCallbackAction<?>) action);
 					else
 						throw (new IllegalStateException ());
+				}
 				return (CallbackCompletion.createOutcome ());
 			}
 		}
@@ -576,6 +662,7 @@ public final class BasicCallbackReactor
 		final ConcurrentLinkedQueue<ActorAction<?>> actions;
 		final AtomicReference<ActorAssignAction> assignAction;
 		final AtomicReference<_Callbacks_> delegate;
+		final ActorDescriptor<_Callbacks_> descriptor;
 		final AtomicReference<ActorDestroyAction> destroyAction;
 		final Future<Void> destroyFuture;
 		final AtomicReference<Throwable> failed;
@@ -647,6 +734,50 @@ public final class BasicCallbackReactor
 		final Method method;
 	}
 	
+	static final class ActorDescriptor<_Callbacks_ extends Callbacks>
+				extends Object
+	{
+		ActorDescriptor (final Class<_Callbacks_> specification) {
+			super ();
+			this.specification = specification;
+			try {
+				this.proxyConstructor = Proxy.getProxyClass (specification.getClassLoader (), new Class[] {specification, CallbackProxy.class}).getConstructor (InvocationHandler.class);
+			} catch (final NoSuchMethodException exception) {
+				throw (new AssertionError (exception));
+			}
+			this.methods = new HashMap<Method, ActorMethod> ();
+			for (final Method method : Object.class.getMethods ())
+				this.methods.put (method, new ActorMethod (method));
+			for (final Method method : specification.getMethods ())
+				this.methods.put (method, new ActorMethod (method));
+		}
+		
+		final CallbackProxy createProxy (final InvocationHandler handler) {
+			try {
+				return ((CallbackProxy) this.proxyConstructor.newInstance (handler));
+			} catch (final InvocationTargetException exception) {
+				throw (new IllegalStateException (exception.getCause ()));
+			} catch (final InstantiationException exception) {
+				throw (new IllegalStateException (exception));
+			} catch (final IllegalAccessException exception) {
+				throw (new IllegalStateException (exception));
+			}
+		}
+		
+		final ActorMethod resolve (final Method method) {
+			// NOTE: the proxy always invokes with (equal) methods of the specification, thus a miss is unexpected,
+			//-- but in such a case we just resolve it without caching, as the map is not synchronized.
+			final ActorMethod descriptor = this.methods.get (method);
+			if (descriptor != null)
+				return (descriptor);
+			return (new ActorMethod (method));
+		}
+		
+		final HashMap<Method, ActorMethod> methods;
+		final Constructor<?> proxyConstructor;
+		final Class<_Callbacks_> specification;
+	}
+	
 	static final class ActorDestroyAction
 				extends ActorAction<Void>
 	{
@@ -655,6 +786,41 @@ public final class BasicCallbackReactor
 		}
 	}
 	
+	static final class ActorMethod
+				extends Object
+	{
+		ActorMethod (final Method method) {
+			super ();
+			this.method = method;
+			if (method.getDeclaringClass () == Object.class)
+				this.type = Type.Object;
+			else if (method.getReturnType () == CallbackCompletion.class)
+				this.type = Type.Callback;
+			else if (method.isAnnotationPresent (CallbackPassthrough.class))
+				this.type = Type.Passthrough;
+			else
+				this.type = Type.Illegal;
+			// NOTE: the specifications are not necessarily public, and without this each invocation is access checked.
+			if (this.type != Type.Object)
+				try {
+					this.method.setAccessible (true);
+				} catch (final SecurityException exception) {
+					// NOTE: the invocations will be access checked as usual.
+				}
+		}
+		
+		final Method method;
+		final Type type;
+		
+		static enum Type
+		{
+			Callback (),
+			Illegal (),
+			Object (),
+			Passthrough ();
+		}
+	}
+	
 	static final class Future<_Outcome_ extends Object>
 				extends AbstractFuture<_Outcome_>
 				implements
@@ -822,10 +988,13 @@ public final class BasicCallbackReactor
 				implements
 					ActionTarget
 	{
-		Reactor (final BasicCallbackReactor facade, final ThreadingContext threading, final ExceptionTracer exceptions) {
+		Reactor (final BasicCallbackReactor facade, final ThreadingContext threading, final ExecutionMode executionMode, final int workers, final int fairnessBudget, final ExceptionTracer exceptions) {
 			super ();
 			Preconditions.checkNotNull (facade);
 			Preconditions.checkNotNull (threading);
+			Preconditions.checkNotNull (executionMode);
+			Preconditions.checkArgument (workers > 0);
+			Preconditions.checkArgument (fairnessBudget > 0);
 			Preconditions.checkNotNull (exceptions);
 			this.monitor = Monitor.create (this);
 			synchronized (this.monitor) {
@@ -834,9 +1003,24 @@ public final class BasicCallbackReactor
 				this.threading = threading;
 				this.transcript = Transcript.create (this.facade, true);
 				this.exceptions = TranscriptExceptionTracer.create (this.transcript, exceptions);
-				this.executor = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this.facade, "isolates", true));
+				this.fairnessBudget = fairnessBudget;
+				this.affinities = new AtomicInteger (0);
+				switch (executionMode) {
+					case Cached :
+						this.executor = this.threading.createCachedThreadPool (this.threading.getThreadConfiguration ().override (this.facade, "isolates", true));
+						this.workers = null;
+						break;
+					case WorkStealing :
+						// NOTE: the callbacks are expected not to block, as each worker thread is shared by many isolates.
+						this.workers = WorkStealingExecutor.create (this.threading, this.threading.getThreadConfiguration ().override (this.facade, "isolates", true), workers, this.exceptions);
+						this.executor = this.workers;
+						break;
+					default :
+						throw (new IllegalArgumentException ());
+				}
 				this.schedulers = new ConcurrentHashMap<CallbackIsolate, BasicCallbackReactor.Scheduler> ();
 				this.actors = new ConcurrentHashMap<CallbackProxy, BasicCallbackReactor.Actor<?>> ();
+				this.descriptors = new ConcurrentHashMap<Class<?>, ActorDescriptor<?>> ();
 				this.status = Atomics.newReference (Status.Active);
 				this.transcript.traceDebugging ("created reactor `%{object:identity}`.", this.facade);
 			}
@@ -866,12 +1050,24 @@ public final class BasicCallbackReactor
 			}
 		}
 		
+		// NOTE: the executor is shut down only after all the schedulers and actors are gone, thus there is
+		//-- nobody left to race with it, and the monitor is not needed on this path.
 		final void enqueueRunnable (final Runnable runnable) {
-			synchronized (this.monitor) {
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				this.transcript.traceDebugging ("enqueueing runnable `%{object}` on reactor `%{object:identity}`...", runnable, this.facade);
-				this.executor.execute (runnable);
-			}
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			this.transcript.traceDebugging ("enqueueing runnable `%{object}` on reactor `%{object:identity}`...", runnable, this.facade);
+			this.executor.execute (runnable);
+		}
+		
+		final void enqueueScheduler (final Scheduler scheduler) {
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			this.transcript.traceDebugging ("enqueueing scheduler `%{object:identity}` on reactor `%{object:identity}`...", scheduler, this.facade);
+			final SchedulerExecuteAction action = new SchedulerExecuteAction (scheduler);
+			// NOTE: an isolate is always enqueued on the same worker, thus keeping its actors warm in that
+			//-- worker's cache, unless an idle worker steals it.
+			if (this.workers != null)
+				this.workers.execute (action, scheduler.affinity);
+			else
+				this.executor.execute (action);
 		}
 		
 		final void executeDestroy () {
@@ -997,6 +1193,19 @@ public final class BasicCallbackReactor
 			}
 		}
 		
+		// NOTE: the descriptors are cached per reactor (and not globally), so that they don't outlive the class-loaders
+		//-- of the specifications (as is the case with cloudlets, each with its own class-loader).
+		final <_Callbacks_ extends Callbacks> ActorDescriptor<_Callbacks_> resolveDescriptor (final Class<_Callbacks_> specification) {
+			final ActorDescriptor<?> descriptor = this.descriptors.get (specification);
+			if (descriptor != null)
+				return ((ActorDescriptor<_Callbacks_>) descriptor);
+			final ActorDescriptor<_Callbacks_> newDescriptor = new ActorDescriptor<_Callbacks_> (specification);
+			final ActorDescriptor<?> oldDescriptor = this.descriptors.putIfAbsent (specification, newDescriptor);
+			if (oldDescriptor != null)
+				return ((ActorDescriptor<_Callbacks_>) oldDescriptor);
+			return (newDescriptor);
+		}
+		
 		final void unregisterScheduler (final Scheduler scheduler) {
 			synchronized (this.monitor) {
 				this.transcript.traceDebugging ("unregistering scheduler `%{object:identity}` from reactor `%{object:identity}`...", scheduler, this.facade);
@@ -1006,15 +1215,19 @@ public final class BasicCallbackReactor
 		}
 		
 		final ConcurrentHashMap<CallbackProxy, Actor<?>> actors;
+		final AtomicInteger affinities;
+		final ConcurrentHashMap<Class<?>, ActorDescriptor<?>> descriptors;
 		final TranscriptExceptionTracer exceptions;
 		final ExecutorService executor;
 		final BasicCallbackReactor facade;
+		final int fairnessBudget;
 		final Monitor monitor;
 		final Reference reference;
 		final ConcurrentHashMap<CallbackIsolate, Scheduler> schedulers;
 		final AtomicReference<Status> status;
 		final ThreadingContext threading;
 		final Transcript transcript;
+		final WorkStealingExecutor workers;
 		
 		static enum Status
 		{
@@ -1090,6 +1303,7 @@ public final class BasicCallbackReactor
 			this.monitor = Monitor.create (this);
 			synchronized (this.monitor) {
 				this.reactor = reactor;
+				this.affinity = this.reactor.affinities.getAndIncrement ();
 				this.destroyFuture = new Future<Void> (this.reactor);
 				this.isolate = CallbackIsolate.create (this);
 				this.actorsRegistered = new ConcurrentSkipListSet<BasicCallbackReactor.Actor<?>> (new IdentityComparator ());
@@ -1119,14 +1333,16 @@ public final class BasicCallbackReactor
 		public final CallbackCompletion<Void> enqueueOnIsolate (final CallbackIsolate isolate, final Runnable runnable) {
 			Preconditions.checkState (isolate == this.isolate);
 			Preconditions.checkNotNull (runnable);
-			synchronized (this.monitor) {
-				this.reactor.transcript.traceDebugging ("enqueueing runnable `%{object:identity}` on scheduler `%{object:identity}`...", runnable, this);
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				final SchedulerRunnableAction action = new SchedulerRunnableAction (this, runnable);
-				this.actionsEnqueued.add (action);
+			this.reactor.transcript.traceDebugging ("enqueueing runnable `%{object:identity}` on scheduler `%{object:identity}`...", runnable, this);
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			final SchedulerRunnableAction action = new SchedulerRunnableAction (this, runnable);
+			this.actionsEnqueued.add (action);
+			// NOTE: the runnable is enqueued without the monitor, thus it might have raced with the destruction.
+			if ((this.status.get () == Status.Destroyed) && this.actionsEnqueued.remove (action))
+				action.future.triggerFailure (new CallbackCanceled ());
+			else
 				this.schedule ();
-				return (action.future.completion);
-			}
+			return (action.future.completion);
 		}
 		
 		@Override
@@ -1135,21 +1351,23 @@ public final class BasicCallbackReactor
 		}
 		
 		final void enqueueActor (final Actor<?> actor) {
-			synchronized (this.monitor) {
-				this.reactor.transcript.traceDebugging ("enqueueing actor `%{object:identity}` on scheduler `%{object:identity}`...", actor, this);
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
-				this.actorsEnqueued.add (actor);
-				this.schedule ();
-			}
+			this.reactor.transcript.traceDebugging ("enqueueing actor `%{object:identity}` on scheduler `%{object:identity}`...", actor, this);
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			this.actorsEnqueued.add (actor);
+			this.schedule ();
 		}
 		
 		final void executeActions () {
-			synchronized (this.monitor) {
-				Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Scheduled, ScheduleStatus.Running));
-			}
+			Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Scheduled, ScheduleStatus.Running));
+			// NOTE: each turn executes a bounded number of actors and runnables, then yields the worker thread.
+			boolean exhausted = false;
 			{
 				this.reactor.transcript.traceDebugging ("executing enqueued actors on scheduler `%{object:identity}`...", this);
-				while (true) {
+				for (int budget = this.reactor.fairnessBudget; true; budget--) {
+					if (budget <= 0) {
+						exhausted |= !this.actorsEnqueued.isEmpty ();
+						break;
+					}
 					final Actor<?> actor = this.actorsEnqueued.poll ();
 					if (actor == null)
 						break;
@@ -1159,7 +1377,11 @@ public final class BasicCallbackReactor
 			}
 			{
 				this.reactor.transcript.traceDebugging ("executing enqueued runnables on scheduler `%{object:identity}`...", this);
-				while (true) {
+				for (int budget = this.reactor.fairnessBudget; true; budget--) {
+					if (budget <= 0) {
+						exhausted |= !this.actionsEnqueued.isEmpty ();
+						break;
+					}
 					final SchedulerRunnableAction action = this.actionsEnqueued.poll ();
 					if (action == null)
 						break;
@@ -1176,16 +1398,25 @@ public final class BasicCallbackReactor
 				this.reactor.transcript.traceDebugging ("executed enqueued runnables on scheduler `%{object:identity}.`", this);
 			}
 			{
-				if (this.destroyAction.get () != null)
+				if (exhausted)
+					this.schedule ();
+				else if (this.destroyAction.get () != null)
 					this.executeDestroy ();
 			}
-			synchronized (this.monitor) {
-				if (this.scheduleStatus.get () == ScheduleStatus.RunningReschedule) {
-					Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.RunningReschedule, ScheduleStatus.Scheduled));
-					this.reactor.enqueueRunnable (new SchedulerExecuteAction (this));
+			// NOTE: once destroyed the scheduler was already unregistered, thus the reactor might be gone too;
+			//-- any reschedule request that raced with the destruction has nothing left to execute.
+			if (this.status.get () == Status.Destroyed) {
+				this.scheduleStatus.set (ScheduleStatus.Idle);
+				return;
+			}
+			while (true) {
+				if (this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.Idle))
+					break;
+				if (this.scheduleStatus.compareAndSet (ScheduleStatus.RunningReschedule, ScheduleStatus.Scheduled)) {
+					this.reactor.enqueueScheduler (this);
 					this.reactor.transcript.traceDebugging ("scheduled scheduler `%{object:identity}`.", this);
-				} else
-					Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.Idle));
+					break;
+				}
 			}
 		}
 		
@@ -1206,6 +1437,13 @@ public final class BasicCallbackReactor
 				Preconditions.checkState (this.actorsEnqueued.isEmpty ());
 				Preconditions.checkState (this.destroyAction.compareAndSet (action, null));
 				Preconditions.checkState (this.status.compareAndSet (Status.Destroying, Status.Destroyed));
+				// NOTE: the runnables that were enqueued concurrently with the destruction are canceled.
+				while (true) {
+					final SchedulerRunnableAction runnable = this.actionsEnqueued.poll ();
+					if (runnable == null)
+						break;
+					runnable.future.triggerFailure (new CallbackCanceled ());
+				}
 				this.reactor.unregisterScheduler (this);
 				action.future.triggerSuccess (null);
 				this.reactor.transcript.traceDebugging ("destroyed isolate `%{object:identity}` (owned by scheduler `%{object:identity}).`", this.isolate, this);
@@ -1221,21 +1459,22 @@ public final class BasicCallbackReactor
 		}
 		
 		final void schedule () {
-			synchronized (this.monitor) {
-				Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			Preconditions.checkState ((this.status.get () == Status.Active) || (this.status.get () == Status.Destroying));
+			while (true) {
 				switch (this.scheduleStatus.get ()) {
 					case Idle :
-						Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Idle, ScheduleStatus.Scheduled));
-						this.reactor.enqueueRunnable (new SchedulerExecuteAction (this));
+						if (!this.scheduleStatus.compareAndSet (ScheduleStatus.Idle, ScheduleStatus.Scheduled))
+							continue;
+						this.reactor.enqueueScheduler (this);
 						this.reactor.transcript.traceDebugging ("scheduled scheduler `%{object:identity}`.", this);
-						break;
-					case Scheduled :
-						break;
+						return;
 					case Running :
-						Preconditions.checkState (this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.RunningReschedule));
-						break;
+						if (!this.scheduleStatus.compareAndSet (ScheduleStatus.Running, ScheduleStatus.RunningReschedule))
+							continue;
+						return;
+					case Scheduled :
 					case RunningReschedule :
-						break;
+						return;
 					default :
 						throw (new IllegalStateException ());
 				}
@@ -1272,6 +1511,7 @@ public final class BasicCallbackReactor
 		final ConcurrentLinkedQueue<SchedulerRunnableAction> actionsEnqueued;
 		final ConcurrentLinkedQueue<Actor<?>> actorsEnqueued;
 		final ConcurrentSkipListSet<Actor<?>> actorsRegistered;
+		final int affinity;
 		final AtomicReference<SchedulerDestroyAction> destroyAction;
 		final Future<Void> destroyFuture;
 		final CallbackIsolate isolate;
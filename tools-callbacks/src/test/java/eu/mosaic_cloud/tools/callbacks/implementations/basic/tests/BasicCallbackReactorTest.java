@@ -21,7 +21,10 @@
 package eu.mosaic_cloud.tools.callbacks.implementations.basic.tests;
 
 
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
 
 import eu.mosaic_cloud.tools.callbacks.core.CallbackCompletion;
 import eu.mosaic_cloud.tools.callbacks.core.CallbackIsolate;
@@ -32,6 +35,7 @@ import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
 import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
 import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.Threading;
 import eu.mosaic_cloud.tools.transcript.core.Transcript;
 import eu.mosaic_cloud.tools.transcript.tools.TranscriptExceptionTracer;
 
@@ -43,13 +47,74 @@ public final class BasicCallbackReactorTest
 {
 	@Test
 	public final void test () {
+		this.test (BasicCallbackReactor.ExecutionMode.Cached);
+	}
+	
+	@Test
+	public final void testDelegateConcurrent () {
+		final Transcript transcript = Transcript.create (this);
+		BasicThreadingSecurityManager.initialize ();
+		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		final TranscriptExceptionTracer exceptions = TranscriptExceptionTracer.create (transcript, exceptionsQueue);
+		final BasicThreadingContext threading = BasicThreadingContext.create (this, exceptions, exceptions.catcher);
+		Assert.assertTrue (threading.initialize (BasicCallbackReactorTest.defaultPollTimeout));
+		final BasicCallbackReactor reactor = BasicCallbackReactor.create (threading, BasicCallbackReactor.ExecutionMode.Cached, exceptions);
+		Assert.assertTrue (reactor.initialize (BasicCallbackReactorTest.defaultPollTimeout));
+		final CallbackIsolate isolate = reactor.createIsolate ();
+		Assert.assertNotNull (isolate);
+		// NOTE: the delegate is assigned while another thread is invoking callbacks on the same proxy; each
+		//-- callback must be delivered exactly once, either drained by the assignment or invoked directly.
+		for (int round = 0; round < BasicCallbackReactorTest.defaultQueueCount; round++) {
+			final QueueCallbacks<Integer> proxy = reactor.createProxy (QueueCallbacks.class);
+			final QueueCallbacks<Integer> delegate = reactor.createProxy (QueueCallbacks.class);
+			final QueueingQueueCallbackHandler<Integer> handler = QueueingQueueCallbackHandler.create (exceptions);
+			Assert.assertTrue (reactor.assignHandler (delegate, handler, isolate).await (BasicCallbackReactorTest.defaultPollTimeout));
+			final ConcurrentLinkedQueue<CallbackCompletion<Void>> completions = new ConcurrentLinkedQueue<CallbackCompletion<Void>> ();
+			final CyclicBarrier barrier = new CyclicBarrier (2);
+			final Thread invoker = Threading.createAndStartNormalThread (threading, this, "invoker", new Runnable () {
+				@Override
+				public final void run () {
+					Threading.await (barrier, BasicCallbackReactorTest.defaultPollTimeout);
+					for (int index = 0; index < BasicCallbackReactorTest.defaultCallCount; index++)
+						completions.add (proxy.enqueue (Integer.valueOf (index)));
+				}
+			});
+			Threading.await (barrier, BasicCallbackReactorTest.defaultPollTimeout);
+			Assert.assertTrue (reactor.assignDelegate (proxy, delegate).await (BasicCallbackReactorTest.defaultPollTimeout));
+			Assert.assertTrue (Threading.join (invoker, BasicCallbackReactorTest.defaultPollTimeout));
+			Assert.assertEquals (BasicCallbackReactorTest.defaultCallCount, completions.size ());
+			for (final CallbackCompletion<Void> completion : completions) {
+				Assert.assertTrue (completion.await (BasicCallbackReactorTest.defaultPollTimeout));
+				Assert.assertNull (completion.getException ());
+			}
+			final HashSet<Integer> values = new HashSet<Integer> ();
+			while (true) {
+				final Integer value = handler.queue.poll ();
+				if (value == null)
+					break;
+				Assert.assertTrue (values.add (value));
+			}
+			Assert.assertEquals (BasicCallbackReactorTest.defaultCallCount, values.size ());
+		}
+		Assert.assertTrue (isolate.destroy ().await (BasicCallbackReactorTest.defaultPollTimeout));
+		Assert.assertTrue (reactor.destroy (BasicCallbackReactorTest.defaultPollTimeout));
+		Assert.assertTrue (threading.destroy (BasicCallbackReactorTest.defaultPollTimeout));
+		Assert.assertNull (exceptionsQueue.queue.poll ());
+	}
+	
+	@Test
+	public final void testWorkStealing () {
+		this.test (BasicCallbackReactor.ExecutionMode.WorkStealing);
+	}
+	
+	private final void test (final BasicCallbackReactor.ExecutionMode executionMode) {
 		final Transcript transcript = Transcript.create (this);
 		BasicThreadingSecurityManager.initialize ();
 		final QueueingExceptionTracer exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
 		final TranscriptExceptionTracer exceptions = TranscriptExceptionTracer.create (transcript, exceptionsQueue);
 		final BasicThreadingContext threading = BasicThreadingContext.create (this, exceptions, exceptions.catcher);
 		Assert.assertTrue (threading.initialize (BasicCallbackReactorTest.defaultPollTimeout));
-		final BasicCallbackReactor reactor = BasicCallbackReactor.create (threading, exceptions);
+		final BasicCallbackReactor reactor = BasicCallbackReactor.create (threading, executionMode, exceptions);
 		Assert.assertTrue (reactor.initialize (BasicCallbackReactorTest.defaultPollTimeout));
 		final CallbackIsolate isolate = reactor.createIsolate ();
 		Assert.assertNotNull (isolate);
@@ -48,6 +48,8 @@ public interface ThreadingContext
 	
 	public abstract ThreadConfiguration getThreadConfiguration ();
 	
+	public abstract ThreadingMode getThreadingMode ();
+	
 	public abstract boolean isActive ();
 	
 	public abstract boolean isManaged (final Thread thread);
@@ -69,4 +71,10 @@ public interface ThreadingContext
 	{
 		public abstract ThreadingContext getContext ();
 	}
+	
+	public static enum ThreadingMode
+	{
+		Platform (),
+		Virtual ();
+	}
 }
@@ -23,11 +23,18 @@ package eu.mosaic_cloud.tools.threading.implementations.basic;
 
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -40,6 +47,7 @@ import eu.mosaic_cloud.tools.threading.tools.ThreadBundle;
 import eu.mosaic_cloud.tools.threading.tools.Threading;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.MapMaker;
 
 
 public final class BasicThreadingContext
@@ -48,10 +56,11 @@ public final class BasicThreadingContext
 				ThreadController,
 				Iterable<Thread>
 {
-	private BasicThreadingContext (final ThreadGroup group, final ThreadConfiguration configuration) {
+	private BasicThreadingContext (final ThreadGroup group, final ThreadConfiguration configuration, final ThreadingMode mode) {
 		super ();
 		Preconditions.checkNotNull (group);
 		Preconditions.checkNotNull (configuration);
+		Preconditions.checkNotNull (mode);
 		Preconditions.checkNotNull (configuration.owner);
 		Preconditions.checkNotNull (configuration.exceptions);
 		Preconditions.checkNotNull (configuration.catcher);
@@ -61,6 +70,9 @@ public final class BasicThreadingContext
 		this.group = new BasicThreadGroup (group, this.configuration);
 		this.defaultGroup = new BasicThreadGroup (this.group, configuration.overrideName ("default"));
 		this.threads = ThreadBundle.create ();
+		// NOTE: on runtimes without virtual threads we fall back to platform ones.
+		this.mode = ((mode == ThreadingMode.Virtual) && !VirtualThreads.supported) ? ThreadingMode.Platform : mode;
+		this.virtualThreads = Collections.newSetFromMap (new MapMaker ().weakKeys ().<Thread, Boolean> makeMap ());
 		this.initialized = new AtomicBoolean (false);
 		this.sealed = new AtomicBoolean (false);
 	}
@@ -79,7 +91,11 @@ public final class BasicThreadingContext
 	// FIXME: Returned executors should extend `ThreadPoolExecutor` (or the like) and override certain methods for logging and error handling.
 	@Override
 	public final ExecutorService createCachedThreadPool (final ThreadConfiguration configuration) {
-		return (Executors.unconfigurableExecutorService (Executors.newCachedThreadPool (this.createThreadFactory (configuration, true))));
+		final ThreadFactory factory = this.createThreadFactory (configuration, true);
+		// NOTE: virtual threads are cheap to create, thus not worth keeping around once idle.
+		if (factory instanceof BasicVirtualThreadFactory)
+			return (Executors.unconfigurableExecutorService (new ThreadPoolExecutor (0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<Runnable> (), factory)));
+		return (Executors.unconfigurableExecutorService (Executors.newCachedThreadPool (factory)));
 	}
 	
 	@Override
@@ -106,6 +122,8 @@ public final class BasicThreadingContext
 	public final Thread createThread (final ThreadConfiguration configuration, final Runnable runnable) {
 		Preconditions.checkState (this.isActive ());
 		Preconditions.checkState (!this.isSealed ());
+		if (this.isVirtual (configuration))
+			return (this.createVirtualThread (VirtualThreads.createFactory (), this.group, configuration, runnable, -1));
 		return (new BasicThread (this.group, configuration, runnable, -1));
 	}
 	
@@ -117,6 +135,8 @@ public final class BasicThreadingContext
 	public final ThreadFactory createThreadFactory (final ThreadConfiguration configuration, final boolean index) {
 		Preconditions.checkState (this.isActive ());
 		Preconditions.checkState (!this.isSealed ());
+		if (this.isVirtual (configuration))
+			return (new BasicVirtualThreadFactory (new BasicThreadGroup (this.group, configuration), configuration, index));
 		return (new BasicThreadFactory (new BasicThreadGroup (this.group, configuration), configuration, index));
 	}
 	
@@ -139,6 +159,11 @@ public final class BasicThreadingContext
 		return (this.configuration);
 	}
 	
+	@Override
+	public final ThreadingMode getThreadingMode () {
+		return (this.mode);
+	}
+	
 	public final void initialize () {
 		Preconditions.checkState (this.initialize (-1));
 	}
@@ -167,6 +192,8 @@ public final class BasicThreadingContext
 	@Override
 	public final boolean isManaged (final Thread thread) {
 		Preconditions.checkNotNull (thread);
+		if (this.virtualThreads.contains (thread))
+			return (true);
 		// FIXME: It seems that "terminated" threads have no thread group...
 		final ThreadGroup group = thread.getThreadGroup ();
 		if (group == null)
@@ -281,17 +308,36 @@ public final class BasicThreadingContext
 		return (null);
 	}
 	
+	private final Thread createVirtualThread (final ThreadFactory factory, final BasicThreadGroup group, final ThreadConfiguration configuration, final Runnable runnable, final int index) {
+		Preconditions.checkNotNull (runnable);
+		final Thread thread = factory.newThread (new BasicVirtualRunnable (configuration, runnable));
+		// NOTE: virtual threads are all part of the same (JVM owned) thread group, thus we account for them explicitly.
+		this.virtualThreads.add (thread);
+		thread.setName (BasicThreadingContext.buildThreadName (group, configuration, index));
+		if (configuration.classLoader != null)
+			thread.setContextClassLoader (configuration.classLoader);
+		this.registerThread (thread);
+		return (thread);
+	}
+	
 	private final void handleException (final UncaughtExceptionHandler catcher, final Thread thread, final Throwable exception) {
 		catcher.uncaughtException (thread, exception);
 	}
 	
+	// NOTE: virtual threads are always daemons (and have a fixed priority), thus non-daemon threads stay platform ones.
+	private final boolean isVirtual (final ThreadConfiguration configuration) {
+		return ((this.mode == ThreadingMode.Virtual) && configuration.daemon && (configuration.priority == -1));
+	}
+	
 	private final ThreadConfiguration configuration;
 	private final BasicThreadGroup defaultGroup;
 	private final BasicThreadGroup group;
 	private final AtomicBoolean initialized;
+	private final ThreadingMode mode;
 	private final WeakReference<Object> owner;
 	private final AtomicBoolean sealed;
 	private final ThreadBundle<Thread> threads;
+	private final Set<Thread> virtualThreads;
 	
 	public static final WeakReference<Object> buildOwner (final ThreadConfiguration configuration) {
 		Preconditions.checkNotNull (configuration.owner);
@@ -345,13 +391,27 @@ public final class BasicThreadingContext
 	}
 	
 	public static final BasicThreadingContext create (final Object owner, final ExceptionTracer exceptions, final Thread.UncaughtExceptionHandler catcher) {
-		return (BasicThreadingContext.create (owner, exceptions, catcher, null));
+		return (BasicThreadingContext.create (owner, exceptions, catcher, BasicThreadingContext.defaultMode));
 	}
 	
 	public static final BasicThreadingContext create (final Object owner, final ExceptionTracer exceptions, final Thread.UncaughtExceptionHandler catcher, final ClassLoader classLoader) {
-		return (new BasicThreadingContext (Threading.getRootThreadGroup (), ThreadConfiguration.create (owner, null, true, exceptions, catcher, classLoader)));
+		return (BasicThreadingContext.create (owner, exceptions, catcher, classLoader, BasicThreadingContext.defaultMode));
 	}
 	
+	public static final BasicThreadingContext create (final Object owner, final ExceptionTracer exceptions, final Thread.UncaughtExceptionHandler catcher, final ClassLoader classLoader, final ThreadingMode mode) {
+		return (new BasicThreadingContext (Threading.getRootThreadGroup (), ThreadConfiguration.create (owner, null, true, exceptions, catcher, classLoader), mode));
+	}
+	
+	public static final BasicThreadingContext create (final Object owner, final ExceptionTracer exceptions, final Thread.UncaughtExceptionHandler catcher, final ThreadingMode mode) {
+		return (BasicThreadingContext.create (owner, exceptions, catcher, (ClassLoader) null, mode));
+	}
+	
+	public static final boolean isVirtualThreadingSupported () {
+		return (VirtualThreads.supported);
+	}
+	
+	public static final ThreadingMode defaultMode = ThreadingMode.Platform;
+	
 	public final class BasicThread
 				extends Thread
 				implements
@@ -540,4 +600,116 @@ public final class BasicThreadingContext
 		
 		private final ThreadConfiguration configuration;
 	}
+	
+	public final class BasicVirtualRunnable
+				extends Object
+				implements
+					Runnable
+	{
+		BasicVirtualRunnable (final ThreadConfiguration configuration, final Runnable runnable) {
+			super ();
+			Preconditions.checkNotNull (configuration);
+			Preconditions.checkNotNull (runnable);
+			this.configuration = configuration;
+			this.runnable = runnable;
+		}
+		
+		public final BasicThreadingContext getContext () {
+			return (BasicThreadingContext.this);
+		}
+		
+		// NOTE: this mirrors `BasicThread.run`, and the uncaught exception handling of `BasicThreadGroup`, as
+		//-- virtual threads can be neither subclassed, nor placed in our thread groups.
+		@Override
+		public final void run () {
+			final Thread thread = Thread.currentThread ();
+			Preconditions.checkState (BasicThreadingContext.this.isManaged (thread));
+			Threading.bindCurrentContext (BasicThreadingContext.this);
+			final ExceptionTracer exceptions = (this.configuration.exceptions != null) ? this.configuration.exceptions : BasicThreadingContext.this.configuration.exceptions;
+			if ((exceptions != null) && (exceptions != FallbackExceptionTracer.defaultInstance))
+				FallbackExceptionTracer.defaultInstance.setThreadTracer (exceptions);
+			try {
+				this.runnable.run ();
+			} catch (final Throwable exception) {
+				final UncaughtExceptionHandler catcher = (this.configuration.catcher != null) ? this.configuration.catcher : BasicThreadingContext.this.configuration.catcher;
+				if (catcher != null)
+					BasicThreadingContext.this.handleException (catcher, thread, exception);
+			}
+		}
+		
+		private final ThreadConfiguration configuration;
+		private final Runnable runnable;
+	}
+	
+	public final class BasicVirtualThreadFactory
+				extends Object
+				implements
+					ThreadFactory
+	{
+		BasicVirtualThreadFactory (final BasicThreadGroup group, final ThreadConfiguration configuration, final boolean index) {
+			super ();
+			Preconditions.checkNotNull (group);
+			Preconditions.checkNotNull (configuration);
+			this.group = group;
+			this.configuration = configuration;
+			this.index = index ? new AtomicInteger (0) : null;
+			this.factory = VirtualThreads.createFactory ();
+		}
+		
+		public final BasicThreadingContext getContext () {
+			return (BasicThreadingContext.this);
+		}
+		
+		@Override
+		public final Thread newThread (final Runnable runnable) {
+			return (BasicThreadingContext.this.createVirtualThread (this.factory, this.group, this.configuration.overrideName (null), runnable, this.index != null ? this.index.incrementAndGet () : -1));
+		}
+		
+		private final ThreadConfiguration configuration;
+		private final ThreadFactory factory;
+		private final BasicThreadGroup group;
+		private final AtomicInteger index;
+	}
+	
+	// NOTE: the virtual threads API (available starting with Java 21) is accessed reflectively, as we target older runtimes.
+	private static final class VirtualThreads
+				extends Object
+	{
+		private VirtualThreads () {
+			super ();
+			throw (new UnsupportedOperationException ());
+		}
+		
+		static final ThreadFactory createFactory () {
+			Preconditions.checkState (VirtualThreads.supported);
+			try {
+				final Object builder = VirtualThreads.ofVirtual.invoke (null);
+				return ((ThreadFactory) VirtualThreads.factory.invoke (builder));
+			} catch (final IllegalAccessException exception) {
+				throw (new IllegalStateException (exception));
+			} catch (final InvocationTargetException exception) {
+				throw (new IllegalStateException (exception.getCause ()));
+			}
+		}
+		
+		static final Method factory;
+		static final Method ofVirtual;
+		static final boolean supported;
+		
+		static {
+			Method ofVirtualMethod = null;
+			Method factoryMethod = null;
+			try {
+				ofVirtualMethod = Thread.class.getMethod ("ofVirtual");
+				factoryMethod = Class.forName ("java.lang.Thread$Builder").getMethod ("factory");
+			} catch (final ClassNotFoundException exception) {
+				ofVirtualMethod = null;
+			} catch (final NoSuchMethodException exception) {
+				ofVirtualMethod = null;
+			}
+			ofVirtual = ofVirtualMethod;
+			factory = factoryMethod;
+			supported = (ofVirtualMethod != null) && (factoryMethod != null);
+		}
+	}
 }
@@ -0,0 +1,326 @@
+/*
+ * #%L
+ * mosaic-tools-threading
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.threading.tools;
+
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
+import eu.mosaic_cloud.tools.threading.core.ThreadConfiguration;
+import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+
+import com.google.common.base.Preconditions;
+
+
+public final class EventLoopGroup
+			extends Object
+			implements
+				Executor
+{
+	private EventLoopGroup (final ThreadingContext threading, final ThreadConfiguration configuration, final int size, final int batchSize, final ExceptionTracer exceptions) {
+		super ();
+		Preconditions.checkNotNull (threading);
+		Preconditions.checkNotNull (configuration);
+		Preconditions.checkArgument (size > 0);
+		Preconditions.checkArgument (batchSize > 0);
+		Preconditions.checkNotNull (exceptions);
+		this.exceptions = exceptions;
+		this.batchSize = batchSize;
+		this.destroyed = new AtomicBoolean (false);
+		this.next = new AtomicInteger (0);
+		this.threads = ThreadBundle.create ();
+		this.blocking = threading.createCachedThreadPool (configuration.overrideName (configuration.name + "-blocking"));
+		this.loops = new EventLoop[size];
+		for (int index = 0; index < size; index++) {
+			final Selector selector;
+			try {
+				selector = Selector.open ();
+			} catch (final IOException exception) {
+				this.exceptions.trace (ExceptionResolution.Deferred, exception);
+				throw (new IllegalStateException (exception));
+			}
+			this.loops[index] = new EventLoop (this, selector);
+		}
+		for (final EventLoop loop : this.loops) {
+			final Thread thread = Threading.createThread (threading, configuration, new Loop (loop));
+			loop.thread = thread;
+			this.threads.register (thread);
+			thread.start ();
+		}
+	}
+	
+	public final void destroy () {
+		Preconditions.checkState (this.destroy (-1));
+	}
+	
+	public final boolean destroy (final long timeout) {
+		if (this.destroyed.compareAndSet (false, true)) {
+			for (final EventLoop loop : this.loops)
+				loop.selector.wakeup ();
+			this.blocking.shutdown ();
+		}
+		return (this.threads.await (timeout) && Threading.join (this.blocking, timeout));
+	}
+	
+	@Override
+	public final void execute (final Runnable runnable) {
+		this.next ().execute (runnable);
+	}
+	
+	// NOTE: the work which might block (thus unsuitable for the loops) is executed on a cached pool shared by all the users of the group.
+	public final ExecutorService getBlockingExecutor () {
+		return (this.blocking);
+	}
+	
+	public final int getSize () {
+		return (this.loops.length);
+	}
+	
+	public final boolean isDestroyed () {
+		return (this.destroyed.get ());
+	}
+	
+	// NOTE: loops are handed out round-robin; everything attached to a loop (registered channels and
+	//-- executed tasks) is executed on that loop's single thread, thus needing no further synchronization.
+	public final EventLoop next () {
+		final int index = (this.next.getAndIncrement () & Integer.MAX_VALUE) % this.loops.length;
+		return (this.loops[index]);
+	}
+	
+	public final void schedule (final Runnable runnable, final long delay) {
+		this.next ().schedule (runnable, delay);
+	}
+	
+	final int batchSize;
+	final ExecutorService blocking;
+	final AtomicBoolean destroyed;
+	final ExceptionTracer exceptions;
+	final EventLoop[] loops;
+	final AtomicInteger next;
+	final ThreadBundle<Thread> threads;
+	
+	public static final EventLoopGroup create (final ThreadingContext threading, final Object owner, final ExceptionTracer exceptions) {
+		return (EventLoopGroup.create (threading, owner, EventLoopGroup.defaultSize, exceptions));
+	}
+	
+	public static final EventLoopGroup create (final ThreadingContext threading, final Object owner, final int size, final ExceptionTracer exceptions) {
+		return (EventLoopGroup.create (threading, threading.getThreadConfiguration ().override (owner, "event-loops", true), size, exceptions));
+	}
+	
+	public static final EventLoopGroup create (final ThreadingContext threading, final ThreadConfiguration configuration, final int size, final ExceptionTracer exceptions) {
+		return (new EventLoopGroup (threading, configuration, size, EventLoopGroup.defaultBatchSize, exceptions));
+	}
+	
+	public static final int defaultBatchSize = 1024;
+	public static final int defaultSize = Runtime.getRuntime ().availableProcessors ();
+	
+	public static final class EventLoop
+				extends Object
+				implements
+					Executor
+	{
+		EventLoop (final EventLoopGroup group, final Selector selector) {
+			super ();
+			this.group = group;
+			this.selector = selector;
+			this.tasks = new ConcurrentLinkedQueue<Runnable> ();
+			this.timers = new PriorityBlockingQueue<Timer> ();
+			this.awake = new AtomicBoolean (true);
+			this.thread = null;
+		}
+		
+		@Override
+		public final void execute (final Runnable runnable) {
+			Preconditions.checkNotNull (runnable);
+			if (this.group.destroyed.get ())
+				throw (new RejectedExecutionException ());
+			this.tasks.add (runnable);
+			if (!this.isCurrentThread () && this.awake.compareAndSet (false, true))
+				this.selector.wakeup ();
+		}
+		
+		public final EventLoopGroup getGroup () {
+			return (this.group);
+		}
+		
+		public final boolean isCurrentThread () {
+			return (Thread.currentThread () == this.thread);
+		}
+		
+		// NOTE: the task is executed (once) on the loop's thread, after at least the given delay (in milliseconds).
+		public final void schedule (final Runnable runnable, final long delay) {
+			Preconditions.checkNotNull (runnable);
+			Preconditions.checkArgument (delay >= 0);
+			if (this.group.destroyed.get ())
+				throw (new RejectedExecutionException ());
+			this.timers.add (new Timer (runnable, System.nanoTime () + TimeUnit.MILLISECONDS.toNanos (delay)));
+			if (!this.isCurrentThread () && this.awake.compareAndSet (false, true))
+				this.selector.wakeup ();
+		}
+		
+		// NOTE: the handler is executed on the loop's thread each time the returned key is selected;
+		//-- the registration (and any later change of the key's interest set) must happen on the same thread.
+		public final SelectionKey register (final SelectableChannel channel, final int operations, final Runnable handler)
+					throws ClosedChannelException {
+			Preconditions.checkNotNull (channel);
+			Preconditions.checkNotNull (handler);
+			Preconditions.checkState (this.isCurrentThread ());
+			return (channel.register (this.selector, operations, handler));
+		}
+		
+		final void loop () {
+			while (true) {
+				this.executeTasks (this.group.batchSize);
+				if (this.group.destroyed.get ())
+					break;
+				this.awake.set (false);
+				try {
+					final long timersDelay = this.timersDelay ();
+					if (!this.tasks.isEmpty () || (timersDelay == 0))
+						this.selector.selectNow ();
+					else if (timersDelay == -1)
+						this.selector.select ();
+					else
+						this.selector.select (timersDelay);
+				} catch (final IOException exception) {
+					this.group.exceptions.trace (ExceptionResolution.Ignored, exception);
+				}
+				this.awake.set (true);
+				this.executeTimers ();
+				final Iterator<SelectionKey> keys = this.selector.selectedKeys ().iterator ();
+				while (keys.hasNext ()) {
+					final SelectionKey key = keys.next ();
+					keys.remove ();
+					if (!key.isValid ())
+						continue;
+					this.executeTask ((Runnable) key.attachment ());
+				}
+			}
+			this.executeTasks (Integer.MAX_VALUE);
+			this.timers.clear ();
+			for (final SelectionKey key : this.selector.keys ())
+				key.cancel ();
+			try {
+				this.selector.close ();
+			} catch (final IOException exception) {
+				this.group.exceptions.trace (ExceptionResolution.Ignored, exception);
+			}
+		}
+		
+		private final void executeTask (final Runnable task) {
+			try {
+				task.run ();
+			} catch (final Throwable exception) {
+				this.group.exceptions.trace (ExceptionResolution.Ignored, exception);
+			}
+		}
+		
+		private final void executeTasks (final int limit) {
+			for (int index = 0; index < limit; index++) {
+				final Runnable task = this.tasks.poll ();
+				if (task == null)
+					break;
+				this.executeTask (task);
+			}
+		}
+		
+		private final void executeTimers () {
+			final long now = System.nanoTime ();
+			while (true) {
+				final Timer timer = this.timers.peek ();
+				if ((timer == null) || ((timer.deadline - now) > 0))
+					break;
+				this.timers.remove (timer);
+				this.executeTask (timer.runnable);
+			}
+		}
+		
+		private final long timersDelay () {
+			final Timer timer = this.timers.peek ();
+			if (timer == null)
+				return (-1);
+			final long delay = timer.deadline - System.nanoTime ();
+			if (delay <= 0)
+				return (0);
+			return (Math.max (1, TimeUnit.NANOSECONDS.toMillis (delay)));
+		}
+		
+		final AtomicBoolean awake;
+		final EventLoopGroup group;
+		final Selector selector;
+		final ConcurrentLinkedQueue<Runnable> tasks;
+		volatile Thread thread;
+		final PriorityBlockingQueue<Timer> timers;
+	}
+	
+	private static final class Loop
+				extends Object
+				implements
+					Runnable
+	{
+		Loop (final EventLoop loop) {
+			super ();
+			this.loop = loop;
+		}
+		
+		@Override
+		public final void run () {
+			this.loop.loop ();
+		}
+		
+		final EventLoop loop;
+	}
+	
+	private static final class Timer
+				extends Object
+				implements
+					Comparable<Timer>
+	{
+		Timer (final Runnable runnable, final long deadline) {
+			super ();
+			this.runnable = runnable;
+			this.deadline = deadline;
+		}
+		
+		@Override
+		public final int compareTo (final Timer other) {
+			final long delta = this.deadline - other.deadline;
+			return ((delta < 0) ? -1 : ((delta > 0) ? 1 : 0));
+		}
+		
+		final long deadline;
+		final Runnable runnable;
+	}
+}
@@ -78,7 +78,7 @@ public final class Threading
 			if (timeout > 0)
 				return (semaphore.tryAcquire (tokens, timeout, TimeUnit.MILLISECONDS));
 			else if (timeout == 0)
-				return (semaphore.tryAcquire ());
+				return (semaphore.tryAcquire (tokens));
 			else if (timeout == -1) {
 				semaphore.acquire (tokens);
 				return (true);
@@ -216,6 +216,14 @@ public final class Threading
 		}
 	}
 	
+	// NOTE: this is needed only by those threads that are neither `ManagedThread` instances, nor part of a
+	//-- `ManagedThreadGroup` (i.e. virtual threads), thus their context can not be resolved otherwise.
+	public static final void bindCurrentContext (final ThreadingContext context) {
+		Preconditions.checkNotNull (context);
+		Preconditions.checkArgument (context.isManaged (Thread.currentThread ()));
+		CurrentContext.instance.bind (context);
+	}
+	
 	public static final Thread createAndStartDaemonThread (final ThreadingContext threading, final Object owner, final String name, final Runnable runnable) {
 		return (Threading.createAndStartThread (threading, threading.getThreadConfiguration ().override (owner, name, true), runnable));
 	}
@@ -712,6 +720,14 @@ public final class Threading
 			this.initialValueActive = false;
 		}
 		
+		public final void bind (final ThreadingContext context) {
+			synchronized (this) {
+				final ThreadingContext current = this.get ();
+				Preconditions.checkState ((current == null) || (current == context));
+				super.set (context);
+			}
+		}
+		
 		@Override
 		public final ThreadingContext get () {
 			synchronized (this) {
@@ -0,0 +1,237 @@
+/*
+ * #%L
+ * mosaic-tools-threading
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.threading.tools;
+
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionTracer;
+import eu.mosaic_cloud.tools.threading.core.ThreadConfiguration;
+import eu.mosaic_cloud.tools.threading.core.ThreadingContext;
+
+import com.google.common.base.Preconditions;
+
+
+public final class WorkStealingExecutor
+			extends AbstractExecutorService
+{
+	private WorkStealingExecutor (final ThreadingContext threading, final ThreadConfiguration configuration, final int size, final ExceptionTracer exceptions) {
+		super ();
+		Preconditions.checkNotNull (threading);
+		Preconditions.checkNotNull (configuration);
+		Preconditions.checkArgument (size > 0);
+		Preconditions.checkNotNull (exceptions);
+		this.exceptions = exceptions;
+		this.shutdown = new AtomicBoolean (false);
+		this.terminated = new CountDownLatch (size);
+		this.next = new AtomicInteger (0);
+		this.current = new ThreadLocal<Worker> ();
+		this.workers = new Worker[size];
+		for (int index = 0; index < size; index++)
+			this.workers[index] = new Worker (this, index);
+		for (final Worker worker : this.workers) {
+			final Thread thread = Threading.createThread (threading, configuration, worker);
+			worker.thread = thread;
+			thread.start ();
+		}
+	}
+	
+	@Override
+	public final boolean awaitTermination (final long timeout, final TimeUnit unit)
+				throws InterruptedException {
+		return (this.terminated.await (timeout, unit));
+	}
+	
+	@Override
+	public final void execute (final Runnable runnable) {
+		// NOTE: tasks submitted from a worker stay on that worker, as they most likely touch the same data.
+		final Worker worker = this.current.get ();
+		if (worker != null)
+			this.enqueue (worker, runnable);
+		else
+			this.enqueue (this.workers[(this.next.getAndIncrement () & Integer.MAX_VALUE) % this.workers.length], runnable);
+	}
+	
+	public final void execute (final Runnable runnable, final int affinity) {
+		this.enqueue (this.workers[(affinity & Integer.MAX_VALUE) % this.workers.length], runnable);
+	}
+	
+	public final int getSize () {
+		return (this.workers.length);
+	}
+	
+	@Override
+	public final boolean isShutdown () {
+		return (this.shutdown.get ());
+	}
+	
+	@Override
+	public final boolean isTerminated () {
+		return (this.terminated.getCount () == 0);
+	}
+	
+	@Override
+	public final void shutdown () {
+		if (this.shutdown.compareAndSet (false, true))
+			for (final Worker worker : this.workers)
+				LockSupport.unpark (worker.thread);
+	}
+	
+	@Override
+	public final List<Runnable> shutdownNow () {
+		this.shutdown ();
+		final LinkedList<Runnable> runnables = new LinkedList<Runnable> ();
+		for (final Worker worker : this.workers)
+			worker.tasks.drainTo (runnables);
+		return (runnables);
+	}
+	
+	final Runnable steal (final Worker thief) {
+		// NOTE: the owner consumes its queue from the head, while the thieves take from the tail, thus contending less.
+		for (int offset = 1; offset < this.workers.length; offset++) {
+			final Worker victim = this.workers[(thief.index + offset) % this.workers.length];
+			final Runnable runnable = victim.tasks.pollLast ();
+			if (runnable != null)
+				return (runnable);
+		}
+		return (null);
+	}
+	
+	private final void enqueue (final Worker worker, final Runnable runnable) {
+		Preconditions.checkNotNull (runnable);
+		if (this.shutdown.get ())
+			throw (new RejectedExecutionException ());
+		worker.tasks.add (runnable);
+		// NOTE: a shutdown racing with the enqueue might have already stopped the workers, thus the task is withdrawn;
+		//-- if it is already gone, it was either executed or returned by `shutdownNow`.
+		if (this.shutdown.get () && worker.tasks.removeLastOccurrence (runnable))
+			throw (new RejectedExecutionException ());
+		if (worker.parked)
+			LockSupport.unpark (worker.thread);
+		else
+			for (final Worker thief : this.workers)
+				if (thief.parked) {
+					LockSupport.unpark (thief.thread);
+					break;
+				}
+	}
+	
+	final ThreadLocal<Worker> current;
+	final ExceptionTracer exceptions;
+	final AtomicInteger next;
+	final AtomicBoolean shutdown;
+	final CountDownLatch terminated;
+	final Worker[] workers;
+	
+	public static final WorkStealingExecutor create (final ThreadingContext threading, final Object owner, final ExceptionTracer exceptions) {
+		return (WorkStealingExecutor.create (threading, owner, WorkStealingExecutor.defaultSize, exceptions));
+	}
+	
+	public static final WorkStealingExecutor create (final ThreadingContext threading, final Object owner, final int size, final ExceptionTracer exceptions) {
+		return (WorkStealingExecutor.create (threading, threading.getThreadConfiguration ().override (owner, "workers", true), size, exceptions));
+	}
+	
+	public static final WorkStealingExecutor create (final ThreadingContext threading, final ThreadConfiguration configuration, final int size, final ExceptionTracer exceptions) {
+		return (new WorkStealingExecutor (threading, configuration, size, exceptions));
+	}
+	
+	public static final int defaultSize = Runtime.getRuntime ().availableProcessors ();
+	static final long defaultParkTimeout = TimeUnit.MILLISECONDS.toNanos (100);
+	
+	static final class Worker
+				extends Object
+				implements
+					Runnable
+	{
+		Worker (final WorkStealingExecutor executor, final int index) {
+			super ();
+			this.executor = executor;
+			this.index = index;
+			this.tasks = new LinkedBlockingDeque<Runnable> ();
+			this.parked = false;
+			this.thread = null;
+		}
+		
+		@Override
+		public final void run () {
+			this.executor.current.set (this);
+			try {
+				while (true) {
+					final Runnable runnable = this.poll ();
+					if (runnable != null) {
+						this.execute (runnable);
+						continue;
+					}
+					// NOTE: the queues are checked once more after the shutdown is observed, as the tasks enqueued right before
+					//-- it (thus not rejected) must still be executed.
+					if (this.executor.shutdown.get ()) {
+						final Runnable lastRunnable = this.poll ();
+						if (lastRunnable != null) {
+							this.execute (lastRunnable);
+							continue;
+						}
+						break;
+					}
+					// NOTE: a wake-up that races with parking is not lost, as `unpark` before `park` is remembered;
+					//-- a missed stealing opportunity is bounded by the park timeout.
+					this.parked = true;
+					if (this.tasks.isEmpty ())
+						LockSupport.parkNanos (this, WorkStealingExecutor.defaultParkTimeout);
+					this.parked = false;
+				}
+			} finally {
+				this.executor.current.remove ();
+				this.executor.terminated.countDown ();
+			}
+		}
+		
+		private final void execute (final Runnable runnable) {
+			try {
+				runnable.run ();
+			} catch (final Throwable exception) {
+				this.executor.exceptions.trace (ExceptionResolution.Ignored, exception);
+			}
+		}
+		
+		private final Runnable poll () {
+			final Runnable runnable = this.tasks.pollFirst ();
+			if (runnable != null)
+				return (runnable);
+			return (this.executor.steal (this));
+		}
+		
+		final WorkStealingExecutor executor;
+		final int index;
+		volatile boolean parked;
+		final LinkedBlockingDeque<Runnable> tasks;
+		volatile Thread thread;
+	}
+}
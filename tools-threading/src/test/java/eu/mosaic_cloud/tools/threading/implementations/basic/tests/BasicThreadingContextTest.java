@@ -56,18 +56,7 @@ public final class BasicThreadingContextTest
 	
 	@Test
 	public final void testManagedForker () {
-		final int forkCount = Forker.getCount (this.forkLevel, this.forkFanout, true);
-		final ThreadFactory creator = this.threading.createThreadFactory (this.threading.getThreadConfiguration ().override (this, "forkers", true));
-		final Waiter waiter = new Waiter (forkCount, this.waitTimeout, null);
-		final Forker forker = new Forker (creator, this.forkLevel, this.forkFanout, waiter);
-		forker.fork ();
-		forker.awaitRunning (this.waitTimeout);
-		for (final Thread child : forker.queue)
-			Assert.assertTrue (this.threading.isManaged (child));
-		waiter.trigger (forkCount);
-		Assert.assertTrue (waiter.awaitCompleted (this.waitTimeout));
-		Assert.assertTrue (forker.awaitCompleted (this.waitTimeout));
-		Assert.assertTrue (Threading.join (forker.queue));
+		this.testManagedForker (this.threading);
 	}
 	
 	@Test
@@ -106,15 +95,19 @@ public final class BasicThreadingContextTest
 		}
 	}
 	
+	@Test
+	public final void testVirtual () {
+		final BasicThreadingContext threading = BasicThreadingContext.create (this, this.exceptionsQueue, this.exceptionsQueue.catcher, ThreadingContext.ThreadingMode.Virtual);
+		Assert.assertTrue (threading.initialize (this.waitTimeout));
+		Assert.assertEquals (BasicThreadingContext.isVirtualThreadingSupported () ? ThreadingContext.ThreadingMode.Virtual : ThreadingContext.ThreadingMode.Platform, threading.getThreadingMode ());
+		this.testManagedForker (threading);
+		this.testWaiter (threading);
+		Assert.assertTrue (threading.destroy (this.waitTimeout));
+	}
+	
 	@Test
 	public final void testWaiter () {
-		final Waiter waiter = new Waiter (1, this.waitTimeout, null);
-		final ThreadingContextAsserter asserter = new ThreadingContextAsserter (this.threading, waiter);
-		final Thread thread = Threading.createAndStartDaemonThread (this.threading, this, null, asserter);
-		Assert.assertTrue (this.threading.isManaged (thread));
-		waiter.trigger ();
-		Assert.assertTrue (waiter.awaitCompleted (this.waitTimeout));
-		Assert.assertTrue (Threading.join (thread));
+		this.testWaiter (this.threading);
 	}
 	
 	@After
@@ -123,6 +116,31 @@ public final class BasicThreadingContextTest
 		Assert.assertNull (this.exceptionsQueue.queue.poll ());
 	}
 	
+	private final void testManagedForker (final BasicThreadingContext threading) {
+		final int forkCount = Forker.getCount (this.forkLevel, this.forkFanout, true);
+		final ThreadFactory creator = threading.createThreadFactory (threading.getThreadConfiguration ().override (this, "forkers", true));
+		final Waiter waiter = new Waiter (forkCount, this.waitTimeout, null);
+		final Forker forker = new Forker (creator, this.forkLevel, this.forkFanout, waiter);
+		forker.fork ();
+		forker.awaitRunning (this.waitTimeout);
+		for (final Thread child : forker.queue)
+			Assert.assertTrue (threading.isManaged (child));
+		waiter.trigger (forkCount);
+		Assert.assertTrue (waiter.awaitCompleted (this.waitTimeout));
+		Assert.assertTrue (forker.awaitCompleted (this.waitTimeout));
+		Assert.assertTrue (Threading.join (forker.queue));
+	}
+	
+	private final void testWaiter (final BasicThreadingContext threading) {
+		final Waiter waiter = new Waiter (1, this.waitTimeout, null);
+		final ThreadingContextAsserter asserter = new ThreadingContextAsserter (threading, waiter);
+		final Thread thread = Threading.createAndStartDaemonThread (threading, this, null, asserter);
+		Assert.assertTrue (threading.isManaged (thread));
+		waiter.trigger ();
+		Assert.assertTrue (waiter.awaitCompleted (this.waitTimeout));
+		Assert.assertTrue (Threading.join (thread));
+	}
+	
 	private QueueingExceptionTracer exceptionsQueue;
 	private final int forkFanout = 2;
 	private final int forkLevel = 6;
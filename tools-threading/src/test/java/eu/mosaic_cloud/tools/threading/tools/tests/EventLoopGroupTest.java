@@ -0,0 +1,128 @@
+/*
+ * #%L
+ * mosaic-tools-threading
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.threading.tools.tests;
+
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup;
+import eu.mosaic_cloud.tools.threading.tools.EventLoopGroup.EventLoop;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public final class EventLoopGroupTest
+{
+	@After
+	public final void destroy () {
+		Assert.assertTrue (this.loops.destroy (this.waitTimeout));
+		Assert.assertTrue (this.threading.destroy (this.waitTimeout));
+		Assert.assertNull (this.exceptionsQueue.queue.poll ());
+	}
+	
+	@Before
+	public final void prepare () {
+		BasicThreadingSecurityManager.initialize ();
+		this.exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		this.threading = BasicThreadingContext.create (this, this.exceptionsQueue, this.exceptionsQueue.catcher);
+		Assert.assertTrue (this.threading.initialize (this.waitTimeout));
+		this.loops = EventLoopGroup.create (this.threading, this, 2, this.exceptionsQueue);
+	}
+	
+	@Test
+	public final void testBlockingExecutor ()
+				throws Exception {
+		final LinkedBlockingQueue<Thread> executed = new LinkedBlockingQueue<Thread> ();
+		this.loops.getBlockingExecutor ().execute (new Recorder (executed, null));
+		final Thread thread = executed.poll (this.waitTimeout, TimeUnit.MILLISECONDS);
+		Assert.assertNotNull (thread);
+		Assert.assertTrue (thread.getName (), thread.getName ().contains ("event-loops-blocking"));
+		Assert.assertTrue (this.loops.destroy (this.waitTimeout));
+		Assert.assertTrue (this.loops.getBlockingExecutor ().isTerminated ());
+		try {
+			this.loops.next ().schedule (new Recorder (executed, null), 0);
+			Assert.fail ();
+		} catch (final RejectedExecutionException exception) {
+			// NOTE: expected, as the group is destroyed.
+		}
+	}
+	
+	@Test
+	public final void testSchedule ()
+				throws Exception {
+		final EventLoop loop = this.loops.next ();
+		final LinkedBlockingQueue<Integer> executed = new LinkedBlockingQueue<Integer> ();
+		final long started = System.nanoTime ();
+		loop.schedule (new Recorder (null, executed, 3, loop), this.scheduleDelay * 3);
+		loop.schedule (new Recorder (null, executed, 1, loop), this.scheduleDelay);
+		loop.schedule (new Recorder (null, executed, 2, loop), this.scheduleDelay * 2);
+		for (int index = 1; index <= 3; index++)
+			Assert.assertEquals (Integer.valueOf (index), executed.poll (this.waitTimeout, TimeUnit.MILLISECONDS));
+		Assert.assertTrue (TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - started) >= (this.scheduleDelay * 3));
+	}
+	
+	private QueueingExceptionTracer exceptionsQueue;
+	private EventLoopGroup loops;
+	private final long scheduleDelay = 50;
+	private BasicThreadingContext threading;
+	private final long waitTimeout = 1000;
+	
+	private static final class Recorder
+				extends Object
+				implements
+					Runnable
+	{
+		Recorder (final LinkedBlockingQueue<Thread> threads, final LinkedBlockingQueue<Integer> indices) {
+			this (threads, indices, 0, null);
+		}
+		
+		Recorder (final LinkedBlockingQueue<Thread> threads, final LinkedBlockingQueue<Integer> indices, final int index, final EventLoop loop) {
+			super ();
+			this.threads = threads;
+			this.indices = indices;
+			this.index = index;
+			this.loop = loop;
+		}
+		
+		@Override
+		public final void run () {
+			if (this.threads != null)
+				this.threads.add (Thread.currentThread ());
+			// NOTE: the timers must be executed on the loop's thread, thus only then the index is recorded.
+			if ((this.indices != null) && this.loop.isCurrentThread ())
+				this.indices.add (Integer.valueOf (this.index));
+		}
+		
+		final int index;
+		final LinkedBlockingQueue<Integer> indices;
+		final EventLoop loop;
+		final LinkedBlockingQueue<Thread> threads;
+	}
+}
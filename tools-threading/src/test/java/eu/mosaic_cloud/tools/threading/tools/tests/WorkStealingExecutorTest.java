@@ -0,0 +1,256 @@
+/*
+ * #%L
+ * mosaic-tools-threading
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.threading.tools.tests;
+
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import eu.mosaic_cloud.tools.exceptions.tools.NullExceptionTracer;
+import eu.mosaic_cloud.tools.exceptions.tools.QueueingExceptionTracer;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingContext;
+import eu.mosaic_cloud.tools.threading.implementations.basic.BasicThreadingSecurityManager;
+import eu.mosaic_cloud.tools.threading.tools.WorkStealingExecutor;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public final class WorkStealingExecutorTest
+{
+	@After
+	public final void destroy ()
+				throws Exception {
+		this.executor.shutdownNow ();
+		Assert.assertTrue (this.executor.awaitTermination (this.waitTimeout, TimeUnit.MILLISECONDS));
+		Assert.assertTrue (this.threading.destroy (this.waitTimeout));
+		Assert.assertNull (this.exceptionsQueue.queue.poll ());
+	}
+	
+	@Before
+	public final void prepare () {
+		BasicThreadingSecurityManager.initialize ();
+		this.exceptionsQueue = QueueingExceptionTracer.create (NullExceptionTracer.defaultInstance);
+		this.threading = BasicThreadingContext.create (this, this.exceptionsQueue, this.exceptionsQueue.catcher);
+		Assert.assertTrue (this.threading.initialize (this.waitTimeout));
+		this.executor = WorkStealingExecutor.create (this.threading, this, this.size, this.exceptionsQueue);
+	}
+	
+	@Test
+	public final void testAffinity ()
+				throws Exception {
+		final Holder[] holders = this.pin ();
+		// NOTE: each worker is now busy with its own holder, thus a worker freed later finds its own queue untouched.
+		final Holder[] placed = new Holder[this.size];
+		for (int index = 0; index < this.size; index++) {
+			placed[index] = new Holder ();
+			this.executor.execute (placed[index], index + this.size);
+		}
+		for (int index = 0; index < this.size; index++) {
+			holders[index].release ();
+			Assert.assertTrue (placed[index].awaitStarted (this.waitTimeout));
+			Assert.assertSame (holders[index].thread, placed[index].thread);
+		}
+		for (final Holder holder : placed)
+			holder.release ();
+	}
+	
+	@Test
+	public final void testResubmission ()
+				throws Exception {
+		final Holder[] holders = this.pin ();
+		final LinkedBlockingQueue<Integer> indices = new LinkedBlockingQueue<Integer> ();
+		final LinkedBlockingQueue<Thread> threads = new LinkedBlockingQueue<Thread> ();
+		final Holder parent = new Holder () {
+			@Override
+			public final void run () {
+				for (int index = 0; index < WorkStealingExecutorTest.this.tasks; index++)
+					WorkStealingExecutorTest.this.executor.execute (new Recorder (index, indices, threads));
+				super.run ();
+			}
+		};
+		this.executor.execute (parent, 0);
+		holders[0].release ();
+		Assert.assertTrue (parent.awaitStarted (this.waitTimeout));
+		Assert.assertTrue (indices.isEmpty ());
+		// NOTE: the resubmitted tasks must be queued on the parent's worker, thus the freed worker steals them all from the tail.
+		holders[1].release ();
+		for (int index = this.tasks - 1; index >= 0; index--) {
+			Assert.assertEquals (Integer.valueOf (index), indices.poll (this.waitTimeout, TimeUnit.MILLISECONDS));
+			Assert.assertSame (holders[1].thread, threads.poll ());
+		}
+		parent.release ();
+	}
+	
+	@Test
+	public final void testShutdown ()
+				throws Exception {
+		final Holder[] holders = this.pin ();
+		final LinkedBlockingQueue<Integer> indices = new LinkedBlockingQueue<Integer> ();
+		final LinkedBlockingQueue<Thread> threads = new LinkedBlockingQueue<Thread> ();
+		for (int index = 0; index < this.tasks; index++)
+			this.executor.execute (new Recorder (index, indices, threads));
+		this.executor.shutdown ();
+		Assert.assertTrue (this.executor.isShutdown ());
+		try {
+			this.executor.execute (new Recorder (-1, indices, threads));
+			Assert.fail ();
+		} catch (final RejectedExecutionException exception) {
+			// NOTE: expected, as the executor is shut down.
+		}
+		Assert.assertFalse (this.executor.awaitTermination (this.settleDelay, TimeUnit.MILLISECONDS));
+		for (final Holder holder : holders)
+			holder.release ();
+		// NOTE: the tasks already enqueued are still executed before the workers terminate.
+		Assert.assertTrue (this.executor.awaitTermination (this.waitTimeout, TimeUnit.MILLISECONDS));
+		Assert.assertTrue (this.executor.isTerminated ());
+		Assert.assertEquals (this.tasks, indices.size ());
+		Assert.assertFalse (indices.contains (Integer.valueOf (-1)));
+	}
+	
+	@Test
+	public final void testShutdownNow ()
+				throws Exception {
+		final Holder[] holders = this.pin ();
+		final LinkedBlockingQueue<Integer> indices = new LinkedBlockingQueue<Integer> ();
+		final LinkedBlockingQueue<Thread> threads = new LinkedBlockingQueue<Thread> ();
+		for (int index = 0; index < this.tasks; index++)
+			this.executor.execute (new Recorder (index, indices, threads));
+		final List<Runnable> drained = this.executor.shutdownNow ();
+		Assert.assertEquals (this.tasks, drained.size ());
+		for (final Holder holder : holders)
+			holder.release ();
+		Assert.assertTrue (this.executor.awaitTermination (this.waitTimeout, TimeUnit.MILLISECONDS));
+		Assert.assertTrue (this.executor.isTerminated ());
+		Assert.assertTrue (indices.isEmpty ());
+	}
+	
+	@Test
+	public final void testStealing ()
+				throws Exception {
+		final Holder[] holders = this.pin ();
+		final LinkedBlockingQueue<Integer> indices = new LinkedBlockingQueue<Integer> ();
+		final LinkedBlockingQueue<Thread> threads = new LinkedBlockingQueue<Thread> ();
+		for (int index = 0; index < this.tasks; index++)
+			this.executor.execute (new Recorder (index, indices, threads), 0);
+		// NOTE: the owner of the queue is still busy, thus the freed worker steals all the tasks, starting from the tail.
+		holders[1].release ();
+		for (int index = this.tasks - 1; index >= 0; index--) {
+			Assert.assertEquals (Integer.valueOf (index), indices.poll (this.waitTimeout, TimeUnit.MILLISECONDS));
+			Assert.assertSame (holders[1].thread, threads.poll ());
+		}
+		holders[0].release ();
+	}
+	
+	private final Holder[] pin ()
+				throws Exception {
+		// NOTE: first all the workers are occupied by blockers, then each queue receives one holder, thus once the blockers
+		//-- are released each worker takes the holder from its own queue (instead of stealing), pinning it to that worker.
+		final Holder[] blockers = new Holder[this.size];
+		for (int index = 0; index < this.size; index++) {
+			blockers[index] = new Holder ();
+			this.executor.execute (blockers[index]);
+		}
+		for (final Holder blocker : blockers)
+			Assert.assertTrue (blocker.awaitStarted (this.waitTimeout));
+		final Holder[] holders = new Holder[this.size];
+		for (int index = 0; index < this.size; index++) {
+			holders[index] = new Holder ();
+			this.executor.execute (holders[index], index);
+		}
+		for (final Holder blocker : blockers)
+			blocker.release ();
+		for (final Holder holder : holders)
+			Assert.assertTrue (holder.awaitStarted (this.waitTimeout));
+		return (holders);
+	}
+	
+	private WorkStealingExecutor executor;
+	private QueueingExceptionTracer exceptionsQueue;
+	private final long settleDelay = 100;
+	private final int size = 2;
+	private final int tasks = 8;
+	private BasicThreadingContext threading;
+	private final long waitTimeout = 1000;
+	
+	private static class Holder
+				extends Object
+				implements
+					Runnable
+	{
+		Holder () {
+			super ();
+			this.started = new CountDownLatch (1);
+			this.released = new Semaphore (0);
+			this.thread = null;
+		}
+		
+		@Override
+		public void run () {
+			this.thread = Thread.currentThread ();
+			this.started.countDown ();
+			this.released.acquireUninterruptibly ();
+		}
+		
+		final boolean awaitStarted (final long timeout)
+					throws InterruptedException {
+			return (this.started.await (timeout, TimeUnit.MILLISECONDS));
+		}
+		
+		final void release () {
+			this.released.release ();
+		}
+		
+		final Semaphore released;
+		final CountDownLatch started;
+		volatile Thread thread;
+	}
+	
+	private static final class Recorder
+				extends Object
+				implements
+					Runnable
+	{
+		Recorder (final int index, final LinkedBlockingQueue<Integer> indices, final LinkedBlockingQueue<Thread> threads) {
+			super ();
+			this.index = index;
+			this.indices = indices;
+			this.threads = threads;
+		}
+		
+		@Override
+		public final void run () {
+			// NOTE: the thread is recorded first, as the test polls the index and then expects the thread.
+			this.threads.add (Thread.currentThread ());
+			this.indices.add (Integer.valueOf (this.index));
+		}
+		
+		final int index;
+		final LinkedBlockingQueue<Integer> indices;
+		final LinkedBlockingQueue<Thread> threads;
+	}
+}
@@ -25,6 +25,8 @@ package eu.mosaic_cloud.tools.transcript.core;
 
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
 import eu.mosaic_cloud.tools.transcript.implementations.logback.LogbackTranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.tools.AsynchronousTranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.tools.AsynchronousTranscriptDispatcher;
 
 import com.google.common.base.Preconditions;
 
@@ -50,6 +52,32 @@ public final class Transcript
 		}
 	}
 	
+	public final boolean isDebuggingEnabled () {
+		return (this.isEnabled (TranscriptTraceType.Debugging));
+	}
+	
+	@Override
+	public final boolean isEnabled (final TranscriptTraceType type) {
+		try {
+			return (this.backend.isEnabled (type));
+		} catch (final Throwable exception1) {
+			// NOTE: intentional
+			return (false);
+		}
+	}
+	
+	public final boolean isErrorEnabled () {
+		return (this.isEnabled (TranscriptTraceType.Error));
+	}
+	
+	public final boolean isInformationEnabled () {
+		return (this.isEnabled (TranscriptTraceType.Information));
+	}
+	
+	public final boolean isWarningEnabled () {
+		return (this.isEnabled (TranscriptTraceType.Warning));
+	}
+	
 	@Override
 	public final void trace (final ExceptionResolution resolution, final Throwable exception) {
 		try {
@@ -99,10 +127,28 @@ public final class Transcript
 		this.trace (TranscriptTraceType.Debugging, message);
 	}
 	
+	// NOTE: the fixed-arity overloads below check the level before allocating the tokens array; for the
+	//-- variable-arity ones (and those sites that box or compute their tokens) the callers should guard
+	//-- with `isDebuggingEnabled` (or the like).
 	public final void traceDebugging (final String format, final Object ... tokens) {
 		this.trace (TranscriptTraceType.Debugging, format, tokens);
 	}
 	
+	public final void traceDebugging (final String format, final Object token1) {
+		if (this.isEnabled (TranscriptTraceType.Debugging))
+			this.trace (TranscriptTraceType.Debugging, format, new Object[] {token1});
+	}
+	
+	public final void traceDebugging (final String format, final Object token1, final Object token2) {
+		if (this.isEnabled (TranscriptTraceType.Debugging))
+			this.trace (TranscriptTraceType.Debugging, format, new Object[] {token1, token2});
+	}
+	
+	public final void traceDebugging (final String format, final Object token1, final Object token2, final Object token3) {
+		if (this.isEnabled (TranscriptTraceType.Debugging))
+			this.trace (TranscriptTraceType.Debugging, format, new Object[] {token1, token2, token3});
+	}
+	
 	public final void traceError (final String message) {
 		this.trace (TranscriptTraceType.Error, message);
 	}
@@ -111,6 +157,21 @@ public final class Transcript
 		this.trace (TranscriptTraceType.Error, format, tokens);
 	}
 	
+	public final void traceError (final String format, final Object token1) {
+		if (this.isEnabled (TranscriptTraceType.Error))
+			this.trace (TranscriptTraceType.Error, format, new Object[] {token1});
+	}
+	
+	public final void traceError (final String format, final Object token1, final Object token2) {
+		if (this.isEnabled (TranscriptTraceType.Error))
+			this.trace (TranscriptTraceType.Error, format, new Object[] {token1, token2});
+	}
+	
+	public final void traceError (final String format, final Object token1, final Object token2, final Object token3) {
+		if (this.isEnabled (TranscriptTraceType.Error))
+			this.trace (TranscriptTraceType.Error, format, new Object[] {token1, token2, token3});
+	}
+	
 	public final void traceInformation (final String message) {
 		this.trace (TranscriptTraceType.Information, message);
 	}
@@ -119,6 +180,21 @@ public final class Transcript
 		this.trace (TranscriptTraceType.Information, format, tokens);
 	}
 	
+	public final void traceInformation (final String format, final Object token1) {
+		if (this.isEnabled (TranscriptTraceType.Information))
+			this.trace (TranscriptTraceType.Information, format, new Object[] {token1});
+	}
+	
+	public final void traceInformation (final String format, final Object token1, final Object token2) {
+		if (this.isEnabled (TranscriptTraceType.Information))
+			this.trace (TranscriptTraceType.Information, format, new Object[] {token1, token2});
+	}
+	
+	public final void traceInformation (final String format, final Object token1, final Object token2, final Object token3) {
+		if (this.isEnabled (TranscriptTraceType.Information))
+			this.trace (TranscriptTraceType.Information, format, new Object[] {token1, token2, token3});
+	}
+	
 	public final void traceWarning (final String message) {
 		this.trace (TranscriptTraceType.Warning, message);
 	}
@@ -127,20 +203,48 @@ public final class Transcript
 		this.trace (TranscriptTraceType.Warning, format, tokens);
 	}
 	
+	public final void traceWarning (final String format, final Object token1) {
+		if (this.isEnabled (TranscriptTraceType.Warning))
+			this.trace (TranscriptTraceType.Warning, format, new Object[] {token1});
+	}
+	
+	public final void traceWarning (final String format, final Object token1, final Object token2) {
+		if (this.isEnabled (TranscriptTraceType.Warning))
+			this.trace (TranscriptTraceType.Warning, format, new Object[] {token1, token2});
+	}
+	
+	public final void traceWarning (final String format, final Object token1, final Object token2, final Object token3) {
+		if (this.isEnabled (TranscriptTraceType.Warning))
+			this.trace (TranscriptTraceType.Warning, format, new Object[] {token1, token2, token3});
+	}
+	
 	private final TranscriptBackend backend;
 	
 	public static final Transcript create (final Class<?> owner) {
 		Preconditions.checkNotNull (owner);
-		return (new Transcript (LogbackTranscriptBackend.create (owner)));
+		return (new Transcript (Transcript.wrap (LogbackTranscriptBackend.create (owner))));
 	}
 	
 	public static final Transcript create (final Object owner) {
 		Preconditions.checkNotNull (owner);
-		return (new Transcript (LogbackTranscriptBackend.create (owner, false)));
+		return (new Transcript (Transcript.wrap (LogbackTranscriptBackend.create (owner, false))));
 	}
 	
 	public static final Transcript create (final Object owner, final boolean individual) {
 		Preconditions.checkNotNull (owner);
-		return (new Transcript (LogbackTranscriptBackend.create (owner, individual)));
+		return (new Transcript (Transcript.wrap (LogbackTranscriptBackend.create (owner, individual))));
+	}
+	
+	public static final Transcript create (final TranscriptBackend backend) {
+		return (new Transcript (backend));
+	}
+	
+	private static final TranscriptBackend wrap (final TranscriptBackend backend) {
+		// NOTE: the default transcripts are asynchronous only when a default dispatcher was configured (see
+		//-- `AsynchronousTranscriptDispatcher.getDefaultInstance`).
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.getDefaultInstance ();
+		if (dispatcher == null)
+			return (backend);
+		return (AsynchronousTranscriptBackend.create (backend, dispatcher));
 	}
 }
@@ -30,6 +30,8 @@ public interface TranscriptBackend
 {
 	public abstract <_Logger_ extends Object> _Logger_ adaptAs (final Class<_Logger_> loggerClass);
 	
+	public abstract boolean isEnabled (final TranscriptTraceType type);
+	
 	public abstract void trace (final TranscriptTraceType type, final String message);
 	
 	public abstract void trace (final TranscriptTraceType type, final String format, final Object ... tokens);
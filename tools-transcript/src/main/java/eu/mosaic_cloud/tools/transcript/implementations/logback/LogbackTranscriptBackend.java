@@ -21,16 +21,24 @@
 package eu.mosaic_cloud.tools.transcript.implementations.logback;
 
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
 import eu.mosaic_cloud.tools.miscellaneous.ExtendedFormatter;
 import eu.mosaic_cloud.tools.transcript.core.TranscriptBackend;
 import eu.mosaic_cloud.tools.transcript.core.TranscriptTraceType;
 
+import org.slf4j.ILoggerFactory;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.CallerData;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import ch.qos.logback.classic.spi.LoggingEvent;
 
 
 public final class LogbackTranscriptBackend
@@ -44,6 +52,7 @@ public final class LogbackTranscriptBackend
 		Preconditions.checkNotNull (formatter);
 		this.logger = logger;
 		this.formatter = formatter;
+		this.enabled = LogbackTranscriptBackend.packEnabled (-1, 0);
 	}
 	
 	@Override
@@ -58,6 +67,56 @@ public final class LogbackTranscriptBackend
 		return (loggerClass.cast (logger));
 	}
 	
+	// NOTE: the enabled levels are cached, and refreshed only when the logging configuration changes (as
+	//-- notified by Logback); when turbo filters are configured the decision is left to the logger itself.
+	//-- The levels mask and the generation it was computed for are packed in a single volatile, so that
+	//-- a reader never pairs a stale mask with a fresh generation.
+	@Override
+	public final boolean isEnabled (final TranscriptTraceType type) {
+		Preconditions.checkNotNull (type);
+		final int generation = LogbackTranscriptBackend.generation.get ();
+		long enabled = this.enabled;
+		if ((int) (enabled >>> 32) != generation) {
+			int mask = 0;
+			final boolean filtered = !this.logger.getLoggerContext ().getTurboFilterList ().isEmpty ();
+			for (final TranscriptTraceType candidate : TranscriptTraceType.values ())
+				if (filtered || this.isEnabled_ (candidate))
+					mask |= 1 << candidate.ordinal ();
+			enabled = LogbackTranscriptBackend.packEnabled (generation, mask);
+			this.enabled = enabled;
+		}
+		return ((enabled & (1L << type.ordinal ())) != 0);
+	}
+	
+	// NOTE: the deferred tracing is split in two: the event is prepared on the caller's thread (thus capturing the
+	//-- timestamp, the thread name and the MDC), and later the message is formatted and the event appended,
+	//-- possibly on another thread.
+	public final LoggingEvent prepare (final ExceptionResolution resolution, final Throwable exception) {
+		Preconditions.checkNotNull (resolution);
+		return (this.prepare (this.map (resolution), exception));
+	}
+	
+	public final LoggingEvent prepare (final TranscriptTraceType type, final Throwable exception) {
+		Preconditions.checkNotNull (type);
+		if (!this.isEnabled (type))
+			return (null);
+		final Level level = this.level (type);
+		if (!this.logger.isEnabledFor (level))
+			return (null);
+		final LoggingEvent event = new LoggingEvent (LogbackTranscriptBackend.class.getName (), this.logger, level, null, exception, null);
+		event.getThreadName ();
+		event.getMDCPropertyMap ();
+		// NOTE: the caller data would be extracted from the appending thread's stack, thus it is omitted.
+		event.setCallerData (CallerData.EMPTY_CALLER_DATA_ARRAY);
+		return (event);
+	}
+	
+	public final void trace (final LoggingEvent event, final String format, final Object[] tokens) {
+		Preconditions.checkNotNull (event);
+		event.setMessage (this.format (format, tokens));
+		this.logger.callAppenders (event);
+	}
+	
 	@Override
 	public final void trace (final ExceptionResolution resolution, final Throwable exception) {
 		this.trace (this.map (resolution), null, null, exception);
@@ -94,6 +153,40 @@ public final class LogbackTranscriptBackend
 		return (this.formatter.format (format, tokens));
 	}
 	
+	private final boolean isEnabled_ (final TranscriptTraceType type) {
+		switch (type) {
+			case Information :
+				return (this.logger.isInfoEnabled ());
+			case Warning :
+				return (this.logger.isWarnEnabled ());
+			case Error :
+				return (this.logger.isErrorEnabled ());
+			case Debugging :
+				return (this.logger.isDebugEnabled ());
+			case Trace :
+				return (this.logger.isTraceEnabled ());
+			default :
+				throw (new AssertionError ());
+		}
+	}
+	
+	private final Level level (final TranscriptTraceType type) {
+		switch (type) {
+			case Information :
+				return (Level.INFO);
+			case Warning :
+				return (Level.WARN);
+			case Error :
+				return (Level.ERROR);
+			case Debugging :
+				return (Level.DEBUG);
+			case Trace :
+				return (Level.TRACE);
+			default :
+				throw (new AssertionError ());
+		}
+	}
+	
 	private final TranscriptTraceType map (final ExceptionResolution resolution) {
 		switch (resolution) {
 			case Handled :
@@ -109,6 +202,8 @@ public final class LogbackTranscriptBackend
 	
 	private final void trace (final TranscriptTraceType type, final String format, final Object[] tokens, final Throwable exception) {
 		Preconditions.checkNotNull (type);
+		if (!this.isEnabled (type))
+			return;
 		switch (type) {
 			case Information :
 				if (this.logger.isInfoEnabled ()) {
@@ -158,6 +253,7 @@ public final class LogbackTranscriptBackend
 		}
 	}
 	
+	private volatile long enabled;
 	private final ExtendedFormatter formatter;
 	private final Logger logger;
 	
@@ -176,4 +272,51 @@ public final class LogbackTranscriptBackend
 			loggerName = owner.getClass ().getName ().replace ('$', '.');
 		return (new LogbackTranscriptBackend ((Logger) LoggerFactory.getLogger (loggerName), ExtendedFormatter.defaultInstance));
 	}
+	
+	private static final long packEnabled (final int generation, final int mask) {
+		return ((((long) generation) << 32) | (mask & 0xffffffffL));
+	}
+	
+	static final AtomicInteger generation = new AtomicInteger (0);
+	
+	static {
+		final ILoggerFactory factory = LoggerFactory.getILoggerFactory ();
+		if (factory instanceof LoggerContext)
+			((LoggerContext) factory).addListener (new GenerationListener ());
+	}
+	
+	private static final class GenerationListener
+				extends Object
+				implements
+					LoggerContextListener
+	{
+		GenerationListener () {
+			super ();
+		}
+		
+		@Override
+		public final boolean isResetResistant () {
+			return (true);
+		}
+		
+		@Override
+		public final void onLevelChange (final Logger logger, final Level level) {
+			LogbackTranscriptBackend.generation.incrementAndGet ();
+		}
+		
+		@Override
+		public final void onReset (final LoggerContext context) {
+			LogbackTranscriptBackend.generation.incrementAndGet ();
+		}
+		
+		@Override
+		public final void onStart (final LoggerContext context) {
+			LogbackTranscriptBackend.generation.incrementAndGet ();
+		}
+		
+		@Override
+		public final void onStop (final LoggerContext context) {
+			LogbackTranscriptBackend.generation.incrementAndGet ();
+		}
+	}
 }
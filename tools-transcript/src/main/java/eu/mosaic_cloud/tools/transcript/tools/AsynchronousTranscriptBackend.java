@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * mosaic-tools-transcript
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.transcript.tools;
+
+
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptTraceType;
+import eu.mosaic_cloud.tools.transcript.implementations.logback.LogbackTranscriptBackend;
+
+import com.google.common.base.Preconditions;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+
+// NOTE: the tokens are captured by reference and formatted later on the dispatcher thread; thus callers
+//-- should not pass tokens which are mutated after the trace call.
+//-- For Logback delegates the event is built on the caller's thread, thus keeping the caller's timestamp,
+//-- thread name and MDC.
+public final class AsynchronousTranscriptBackend
+			extends Object
+			implements
+				TranscriptBackend
+{
+	private AsynchronousTranscriptBackend (final TranscriptBackend delegate, final AsynchronousTranscriptDispatcher dispatcher) {
+		super ();
+		Preconditions.checkNotNull (delegate);
+		Preconditions.checkNotNull (dispatcher);
+		this.delegate = delegate;
+		this.dispatcher = dispatcher;
+		this.logback = (delegate instanceof LogbackTranscriptBackend) ? (LogbackTranscriptBackend) delegate : null;
+	}
+	
+	@Override
+	public final <_Logger_ extends Object> _Logger_ adaptAs (final Class<_Logger_> loggerClass) {
+		return (this.delegate.adaptAs (loggerClass));
+	}
+	
+	@Override
+	public final boolean isEnabled (final TranscriptTraceType type) {
+		return (this.delegate.isEnabled (type));
+	}
+	
+	@Override
+	public final void trace (final ExceptionResolution resolution, final Throwable exception) {
+		Preconditions.checkNotNull (resolution);
+		if (this.logback != null) {
+			this.trace (this.logback.prepare (resolution, exception), null, null);
+			return;
+		}
+		if (!this.dispatcher.enqueue (this.delegate, null, resolution, exception, null, null, null))
+			this.delegate.trace (resolution, exception);
+	}
+	
+	@Override
+	public final void trace (final ExceptionResolution resolution, final Throwable exception, final String message) {
+		Preconditions.checkNotNull (resolution);
+		if (this.logback != null) {
+			this.trace (this.logback.prepare (resolution, exception), message, null);
+			return;
+		}
+		if (!this.dispatcher.enqueue (this.delegate, null, resolution, exception, message, null, null))
+			this.delegate.trace (resolution, exception, message);
+	}
+	
+	@Override
+	public final void trace (final ExceptionResolution resolution, final Throwable exception, final String format, final Object ... tokens) {
+		Preconditions.checkNotNull (resolution);
+		if (this.logback != null) {
+			this.trace (this.logback.prepare (resolution, exception), format, tokens);
+			return;
+		}
+		if (!this.dispatcher.enqueue (this.delegate, null, resolution, exception, format, tokens, null))
+			this.delegate.trace (resolution, exception, format, tokens);
+	}
+	
+	@Override
+	public final void trace (final TranscriptTraceType type, final String message) {
+		Preconditions.checkNotNull (type);
+		if (this.logback != null) {
+			this.trace (this.logback.prepare (type, null), message, null);
+			return;
+		}
+		if (!this.delegate.isEnabled (type))
+			return;
+		if (!this.dispatcher.enqueue (this.delegate, type, null, null, message, null, null))
+			this.delegate.trace (type, message);
+	}
+	
+	@Override
+	public final void trace (final TranscriptTraceType type, final String format, final Object ... tokens) {
+		Preconditions.checkNotNull (type);
+		if (this.logback != null) {
+			this.trace (this.logback.prepare (type, null), format, tokens);
+			return;
+		}
+		if (!this.delegate.isEnabled (type))
+			return;
+		if (!this.dispatcher.enqueue (this.delegate, type, null, null, format, tokens, null))
+			this.delegate.trace (type, format, tokens);
+	}
+	
+	private final void trace (final LoggingEvent event, final String format, final Object[] tokens) {
+		if (event == null)
+			return;
+		if (!this.dispatcher.enqueue (this.delegate, null, null, null, format, tokens, event))
+			this.logback.trace (event, format, tokens);
+	}
+	
+	private final TranscriptBackend delegate;
+	private final AsynchronousTranscriptDispatcher dispatcher;
+	private final LogbackTranscriptBackend logback;
+	
+	public static final AsynchronousTranscriptBackend create (final TranscriptBackend delegate, final AsynchronousTranscriptDispatcher dispatcher) {
+		return (new AsynchronousTranscriptBackend (delegate, dispatcher));
+	}
+}
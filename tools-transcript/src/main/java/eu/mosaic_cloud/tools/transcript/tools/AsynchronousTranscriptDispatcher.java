@@ -0,0 +1,328 @@
+/*
+ * #%L
+ * mosaic-tools-transcript
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.transcript.tools;
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptTraceType;
+import eu.mosaic_cloud.tools.transcript.implementations.logback.LogbackTranscriptBackend;
+
+import com.google.common.base.Preconditions;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+
+public final class AsynchronousTranscriptDispatcher
+			extends Object
+{
+	private AsynchronousTranscriptDispatcher (final ThreadGroup group, final int capacity, final OverflowPolicy policy, final int sampling) {
+		super ();
+		Preconditions.checkNotNull (group);
+		Preconditions.checkArgument ((capacity > 1) && (Integer.bitCount (capacity) == 1));
+		Preconditions.checkNotNull (policy);
+		Preconditions.checkArgument (sampling > 0);
+		this.policy = policy;
+		this.sampling = sampling;
+		this.mask = capacity - 1;
+		this.events = new Event[capacity];
+		for (int index = 0; index < capacity; index++)
+			this.events[index] = new Event (index);
+		this.head = new AtomicLong (0);
+		this.tail = new AtomicLong (0);
+		this.dropped = new AtomicLong (0);
+		this.samples = new AtomicLong (0);
+		this.destroyed = new AtomicBoolean (false);
+		this.parked = false;
+		this.terminated = false;
+		this.thread = new Thread (group, new Runnable () {
+			@Override
+			public final void run () {
+				AsynchronousTranscriptDispatcher.this.loop ();
+			}
+		}, "mosaic-transcript-dispatcher");
+		this.thread.setDaemon (true);
+		this.thread.start ();
+	}
+	
+	public final boolean destroy (final long timeout) {
+		Preconditions.checkArgument (timeout >= -1);
+		this.destroyed.set (true);
+		LockSupport.unpark (this.thread);
+		try {
+			if (timeout == -1)
+				this.thread.join ();
+			else
+				this.thread.join (Math.max (timeout, 1));
+		} catch (final InterruptedException exception) {
+			Thread.currentThread ().interrupt ();
+			return (false);
+		}
+		return (!this.thread.isAlive ());
+	}
+	
+	public final long getDroppedEvents () {
+		return (this.dropped.get ());
+	}
+	
+	public final long getPendingEvents () {
+		return (this.head.get () - this.tail.get ());
+	}
+	
+	public final OverflowPolicy getPolicy () {
+		return (this.policy);
+	}
+	
+	final boolean enqueue (final TranscriptBackend backend, final TranscriptTraceType type, final ExceptionResolution resolution, final Throwable exception, final String format, final Object[] tokens, final LoggingEvent prepared) {
+		// NOTE: once destroyed (or when called back from the dispatcher itself) the caller traces synchronously.
+		if (this.destroyed.get () || (Thread.currentThread () == this.thread))
+			return (false);
+		switch (this.policy) {
+			case Sample :
+				if ((this.getPendingEvents () >= ((this.mask + 1) / 2)) && ((this.samples.getAndIncrement () % this.sampling) != 0)) {
+					this.dropped.incrementAndGet ();
+					return (true);
+				}
+				break;
+			default :
+				break;
+		}
+		long position = this.head.get ();
+		int spins = 0;
+		while (true) {
+			final Event event = this.events[(int) (position & this.mask)];
+			final long difference = event.sequence - position;
+			if (difference == 0) {
+				if (this.head.compareAndSet (position, position + 1)) {
+					event.backend = backend;
+					event.type = type;
+					event.resolution = resolution;
+					event.exception = exception;
+					event.format = format;
+					event.tokens = tokens;
+					event.prepared = prepared;
+					event.sequence = position + 1;
+					break;
+				}
+				position = this.head.get ();
+			} else if (difference < 0) {
+				if (this.policy != OverflowPolicy.Block) {
+					this.dropped.incrementAndGet ();
+					return (true);
+				}
+				if (this.destroyed.get ())
+					return (false);
+				LockSupport.unpark (this.thread);
+				if (spins < AsynchronousTranscriptDispatcher.defaultSpins) {
+					spins++;
+					Thread.yield ();
+				} else
+					LockSupport.parkNanos (AsynchronousTranscriptDispatcher.defaultBlockTimeout);
+				position = this.head.get ();
+			} else
+				position = this.head.get ();
+		}
+		if (this.parked)
+			LockSupport.unpark (this.thread);
+		// NOTE: an event that raced with the dispatcher termination is dispatched by its producer.
+		if (this.terminated)
+			this.drain (Integer.MAX_VALUE);
+		return (true);
+	}
+	
+	private final synchronized int drain (final int limit) {
+		// NOTE: there is a single consumer at any time, as the dispatcher thread and (after its termination)
+		//-- the late producers serialize on the monitor.
+		long position = this.tail.get ();
+		int count = 0;
+		while (count < limit) {
+			final Event event = this.events[(int) (position & this.mask)];
+			if (event.sequence != (position + 1))
+				break;
+			final TranscriptBackend backend = event.backend;
+			final TranscriptTraceType type = event.type;
+			final ExceptionResolution resolution = event.resolution;
+			final Throwable exception = event.exception;
+			final String format = event.format;
+			final Object[] tokens = event.tokens;
+			final LoggingEvent prepared = event.prepared;
+			event.backend = null;
+			event.type = null;
+			event.resolution = null;
+			event.exception = null;
+			event.format = null;
+			event.tokens = null;
+			event.prepared = null;
+			event.sequence = position + this.events.length;
+			position++;
+			this.tail.lazySet (position);
+			count++;
+			this.dispatch (backend, type, resolution, exception, format, tokens, prepared);
+		}
+		return (count);
+	}
+	
+	private final void dispatch (final TranscriptBackend backend, final TranscriptTraceType type, final ExceptionResolution resolution, final Throwable exception, final String format, final Object[] tokens, final LoggingEvent prepared) {
+		try {
+			if (prepared != null)
+				((LogbackTranscriptBackend) backend).trace (prepared, format, tokens);
+			else if (resolution != null) {
+				if (format == null)
+					backend.trace (resolution, exception);
+				else if (tokens == null)
+					backend.trace (resolution, exception, format);
+				else
+					backend.trace (resolution, exception, format, tokens);
+			} else {
+				if (tokens == null)
+					backend.trace (type, format);
+				else
+					backend.trace (type, format, tokens);
+			}
+		} catch (final Throwable exception1) {
+			// NOTE: intentional
+		}
+	}
+	
+	private final void loop () {
+		try {
+			while (true) {
+				// NOTE: the events are handled in batches, and the producers wake the dispatcher only when it is parked.
+				if (this.drain (AsynchronousTranscriptDispatcher.defaultBatch) > 0)
+					continue;
+				if (this.destroyed.get ())
+					break;
+				this.parked = true;
+				if (this.getPendingEvents () == 0)
+					LockSupport.parkNanos (this, AsynchronousTranscriptDispatcher.defaultParkTimeout);
+				this.parked = false;
+			}
+		} finally {
+			this.terminated = true;
+			this.drain (Integer.MAX_VALUE);
+		}
+	}
+	
+	private final AtomicBoolean destroyed;
+	private final AtomicLong dropped;
+	private final Event[] events;
+	private final AtomicLong head;
+	private final int mask;
+	private volatile boolean parked;
+	private final OverflowPolicy policy;
+	private final AtomicLong samples;
+	private final int sampling;
+	private final AtomicLong tail;
+	private volatile boolean terminated;
+	private final Thread thread;
+	
+	public static final AsynchronousTranscriptDispatcher create () {
+		return (AsynchronousTranscriptDispatcher.create (AsynchronousTranscriptDispatcher.defaultCapacity, AsynchronousTranscriptDispatcher.defaultPolicy));
+	}
+	
+	public static final AsynchronousTranscriptDispatcher create (final int capacity, final OverflowPolicy policy) {
+		return (AsynchronousTranscriptDispatcher.create (capacity, policy, AsynchronousTranscriptDispatcher.defaultSampling));
+	}
+	
+	public static final AsynchronousTranscriptDispatcher create (final int capacity, final OverflowPolicy policy, final int sampling) {
+		// NOTE: the dispatcher thread is placed in the root group, as it must outlive any (managed) threading context.
+		ThreadGroup group = Thread.currentThread ().getThreadGroup ();
+		while (group.getParent () != null)
+			group = group.getParent ();
+		return (AsynchronousTranscriptDispatcher.create (group, capacity, policy, sampling));
+	}
+	
+	public static final AsynchronousTranscriptDispatcher create (final ThreadGroup group, final int capacity, final OverflowPolicy policy, final int sampling) {
+		return (new AsynchronousTranscriptDispatcher (group, capacity, policy, sampling));
+	}
+	
+	public static final AsynchronousTranscriptDispatcher getDefaultInstance () {
+		return (DefaultInstance.instance);
+	}
+	
+	static final AsynchronousTranscriptDispatcher createDefaultInstance () {
+		// NOTE: the default dispatcher is opt-in, by setting the system property to the name of an overflow
+		//-- policy; any other value leaves the default transcripts synchronous.
+		final String value = System.getProperty (AsynchronousTranscriptDispatcher.defaultPolicyProperty);
+		if (value == null)
+			return (null);
+		final OverflowPolicy policy;
+		try {
+			policy = OverflowPolicy.valueOf (value);
+		} catch (final IllegalArgumentException exception) {
+			return (null);
+		}
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (AsynchronousTranscriptDispatcher.defaultCapacity, policy);
+		Runtime.getRuntime ().addShutdownHook (new Thread (new Runnable () {
+			@Override
+			public final void run () {
+				dispatcher.destroy (AsynchronousTranscriptDispatcher.defaultDrainTimeout);
+			}
+		}, "mosaic-transcript-dispatcher-drain"));
+		return (dispatcher);
+	}
+	
+	public static final int defaultCapacity = 8192;
+	public static final OverflowPolicy defaultPolicy = OverflowPolicy.Drop;
+	public static final String defaultPolicyProperty = "eu.mosaic_cloud.tools.transcript.asynchronous";
+	public static final int defaultSampling = 16;
+	static final int defaultBatch = 256;
+	static final long defaultBlockTimeout = TimeUnit.MICROSECONDS.toNanos (50);
+	static final long defaultDrainTimeout = 1000;
+	static final long defaultParkTimeout = TimeUnit.MILLISECONDS.toNanos (100);
+	static final int defaultSpins = 64;
+	
+	private static final class DefaultInstance
+				extends Object
+	{
+		static final AsynchronousTranscriptDispatcher instance = AsynchronousTranscriptDispatcher.createDefaultInstance ();
+	}
+	
+	public static enum OverflowPolicy
+	{
+		Block (),
+		Drop (),
+		Sample ();
+	}
+	
+	static final class Event
+				extends Object
+	{
+		Event (final long sequence) {
+			super ();
+			this.sequence = sequence;
+		}
+		
+		TranscriptBackend backend;
+		Throwable exception;
+		String format;
+		LoggingEvent prepared;
+		ExceptionResolution resolution;
+		volatile long sequence;
+		Object[] tokens;
+		TranscriptTraceType type;
+	}
+}
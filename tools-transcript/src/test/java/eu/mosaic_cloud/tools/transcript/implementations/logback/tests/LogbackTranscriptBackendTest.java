@@ -0,0 +1,72 @@
+/*
+ * #%L
+ * mosaic-tools-transcript
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.transcript.implementations.logback.tests;
+
+
+import eu.mosaic_cloud.tools.transcript.core.TranscriptTraceType;
+import eu.mosaic_cloud.tools.transcript.implementations.logback.LogbackTranscriptBackend;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+
+public final class LogbackTranscriptBackendTest
+{
+	@Test
+	public final void testLevelChanges () {
+		final LogbackTranscriptBackend backend = LogbackTranscriptBackend.create (this, true);
+		final Logger logger = backend.adaptAs (Logger.class);
+		Assert.assertNotNull (logger);
+		final Level level = logger.getLevel ();
+		try {
+			logger.setLevel (Level.WARN);
+			this.assertEnabled (backend, TranscriptTraceType.Warning);
+			logger.setLevel (Level.TRACE);
+			this.assertEnabled (backend, TranscriptTraceType.Trace);
+			logger.setLevel (Level.INFO);
+			this.assertEnabled (backend, TranscriptTraceType.Information);
+			logger.setLevel (Level.ERROR);
+			this.assertEnabled (backend, TranscriptTraceType.Error);
+			logger.setLevel (Level.OFF);
+			this.assertEnabled (backend, null);
+			logger.setLevel (Level.DEBUG);
+			this.assertEnabled (backend, TranscriptTraceType.Debugging);
+		} finally {
+			logger.setLevel (level);
+		}
+	}
+	
+	private final void assertEnabled (final LogbackTranscriptBackend backend, final TranscriptTraceType threshold) {
+		// NOTE: the trace types are checked in decreasing order of severity; all those up to (and including)
+		//-- the threshold must be enabled, while the rest must be disabled.
+		boolean enabled = threshold != null;
+		for (final TranscriptTraceType type : LogbackTranscriptBackendTest.severities) {
+			Assert.assertEquals (enabled, backend.isEnabled (type));
+			if (type == threshold)
+				enabled = false;
+		}
+	}
+	
+	private static final TranscriptTraceType[] severities = new TranscriptTraceType[] {TranscriptTraceType.Error, TranscriptTraceType.Warning, TranscriptTraceType.Information, TranscriptTraceType.Debugging, TranscriptTraceType.Trace};
+}
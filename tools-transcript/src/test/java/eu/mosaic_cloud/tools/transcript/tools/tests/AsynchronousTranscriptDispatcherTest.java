@@ -0,0 +1,307 @@
+/*
+ * #%L
+ * mosaic-tools-transcript
+ * %%
+ * Copyright (C) 2010 - 2013 Institute e-Austria Timisoara (Romania)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+package eu.mosaic_cloud.tools.transcript.tools.tests;
+
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import eu.mosaic_cloud.tools.exceptions.core.ExceptionResolution;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.core.TranscriptTraceType;
+import eu.mosaic_cloud.tools.transcript.implementations.logback.LogbackTranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.tools.AsynchronousTranscriptBackend;
+import eu.mosaic_cloud.tools.transcript.tools.AsynchronousTranscriptDispatcher;
+import eu.mosaic_cloud.tools.transcript.tools.AsynchronousTranscriptDispatcher.OverflowPolicy;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+
+public final class AsynchronousTranscriptDispatcherTest
+{
+	@Test
+	public final void testBlock () throws Exception {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (2, OverflowPolicy.Block);
+		final RecordingBackend delegate = new RecordingBackend ();
+		final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (delegate, dispatcher);
+		this.stall (backend, delegate);
+		backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (1));
+		backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (2));
+		// NOTE: the ring is now full, thus the next producer must wait until the dispatcher frees a slot.
+		final CountDownLatch traced = new CountDownLatch (1);
+		final Thread producer = new Thread (new Runnable () {
+			@Override
+			public final void run () {
+				backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (3));
+				traced.countDown ();
+			}
+		});
+		producer.start ();
+		Assert.assertFalse (traced.await (AsynchronousTranscriptDispatcherTest.defaultSettleDelay, TimeUnit.MILLISECONDS));
+		delegate.resume ();
+		Assert.assertTrue (traced.await (AsynchronousTranscriptDispatcherTest.defaultPollTimeout, TimeUnit.MILLISECONDS));
+		producer.join (AsynchronousTranscriptDispatcherTest.defaultPollTimeout);
+		Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+		Assert.assertEquals (0, dispatcher.getDroppedEvents ());
+		this.assertTraced (delegate, 0, 1, 2, 3);
+	}
+	
+	@Test
+	public final void testCallerContext () throws Exception {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (AsynchronousTranscriptDispatcherTest.defaultCapacity, OverflowPolicy.Block);
+		final RecordingBackend delegate = new RecordingBackend ();
+		this.stall (AsynchronousTranscriptBackend.create (delegate, dispatcher), delegate);
+		final LogbackTranscriptBackend logback = LogbackTranscriptBackend.create (AsynchronousTranscriptDispatcherTest.class);
+		final Logger logger = logback.adaptAs (Logger.class);
+		final ListAppender<ILoggingEvent> appender = new ListAppender<ILoggingEvent> ();
+		appender.setContext (logger.getLoggerContext ());
+		appender.start ();
+		logger.addAppender (appender);
+		logger.setAdditive (false);
+		logger.setLevel (Level.INFO);
+		try {
+			final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (logback, dispatcher);
+			MDC.put ("caller", "value");
+			try {
+				backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (1));
+			} finally {
+				MDC.remove ("caller");
+			}
+			final long traced = System.currentTimeMillis ();
+			// NOTE: the dispatcher is still stalled, thus the event is appended only later, and on another thread.
+			Thread.sleep (AsynchronousTranscriptDispatcherTest.defaultSettleDelay);
+			Assert.assertTrue (appender.list.isEmpty ());
+			delegate.resume ();
+			Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+			Assert.assertEquals (1, appender.list.size ());
+			final ILoggingEvent event = appender.list.get (0);
+			Assert.assertEquals ("1", event.getFormattedMessage ());
+			Assert.assertEquals (Thread.currentThread ().getName (), event.getThreadName ());
+			Assert.assertEquals ("value", event.getMDCPropertyMap ().get ("caller"));
+			Assert.assertTrue (event.getTimeStamp () <= traced);
+		} finally {
+			logger.detachAppender (appender);
+			logger.setAdditive (true);
+			logger.setLevel (null);
+		}
+	}
+	
+	@Test
+	public final void testDestroy () {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (AsynchronousTranscriptDispatcherTest.defaultCapacity, OverflowPolicy.Block);
+		final RecordingBackend delegate = new RecordingBackend ();
+		final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (delegate, dispatcher);
+		this.stall (backend, delegate);
+		for (int index = 1; index < AsynchronousTranscriptDispatcherTest.defaultCapacity; index++)
+			backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (index));
+		// NOTE: all the pending events must be drained before the dispatcher terminates.
+		delegate.resume ();
+		Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+		Assert.assertEquals (0, dispatcher.getPendingEvents ());
+		Assert.assertEquals (AsynchronousTranscriptDispatcherTest.defaultCapacity, delegate.traced.size ());
+		// NOTE: once destroyed, the events are traced synchronously.
+		backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (AsynchronousTranscriptDispatcherTest.defaultCapacity));
+		Assert.assertEquals (AsynchronousTranscriptDispatcherTest.defaultCapacity + 1, delegate.traced.size ());
+		Assert.assertEquals (0, dispatcher.getDroppedEvents ());
+	}
+	
+	@Test
+	public final void testDrop () {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (4, OverflowPolicy.Drop);
+		final RecordingBackend delegate = new RecordingBackend ();
+		final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (delegate, dispatcher);
+		this.stall (backend, delegate);
+		for (int index = 1; index <= 7; index++)
+			backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (index));
+		Assert.assertEquals (3, dispatcher.getDroppedEvents ());
+		delegate.resume ();
+		Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+		this.assertTraced (delegate, 0, 1, 2, 3, 4);
+	}
+	
+	@Test
+	public final void testOrdering () throws Exception {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (AsynchronousTranscriptDispatcherTest.defaultCapacity, OverflowPolicy.Block);
+		final RecordingBackend delegate = new RecordingBackend ();
+		final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (delegate, dispatcher);
+		final ArrayList<Thread> producers = new ArrayList<Thread> ();
+		for (int producer = 0; producer < AsynchronousTranscriptDispatcherTest.defaultProducers; producer++) {
+			final String format = Integer.toString (producer);
+			producers.add (new Thread (new Runnable () {
+				@Override
+				public final void run () {
+					for (int index = 0; index < AsynchronousTranscriptDispatcherTest.defaultEvents; index++)
+						backend.trace (TranscriptTraceType.Information, format, Integer.valueOf (index));
+				}
+			}));
+		}
+		for (final Thread producer : producers)
+			producer.start ();
+		for (final Thread producer : producers)
+			producer.join (AsynchronousTranscriptDispatcherTest.defaultPollTimeout);
+		Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+		Assert.assertEquals (0, dispatcher.getDroppedEvents ());
+		// NOTE: the events of each producer must be dispatched in the order they were traced.
+		final int[] expected = new int[AsynchronousTranscriptDispatcherTest.defaultProducers];
+		for (final Object[] event : delegate.traced) {
+			final int producer = Integer.parseInt ((String) event[0]);
+			Assert.assertEquals (Integer.valueOf (expected[producer]), event[1]);
+			expected[producer]++;
+		}
+		for (int producer = 0; producer < AsynchronousTranscriptDispatcherTest.defaultProducers; producer++)
+			Assert.assertEquals (AsynchronousTranscriptDispatcherTest.defaultEvents, expected[producer]);
+	}
+	
+	@Test
+	public final void testSample () {
+		final AsynchronousTranscriptDispatcher dispatcher = AsynchronousTranscriptDispatcher.create (8, OverflowPolicy.Sample, 2);
+		final RecordingBackend delegate = new RecordingBackend ();
+		final AsynchronousTranscriptBackend backend = AsynchronousTranscriptBackend.create (delegate, dispatcher);
+		this.stall (backend, delegate);
+		// NOTE: below half capacity every event is kept; above it only one in two, until the ring is full.
+		for (int index = 1; index <= 13; index++)
+			backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (index));
+		Assert.assertEquals (5, dispatcher.getDroppedEvents ());
+		delegate.resume ();
+		Assert.assertTrue (dispatcher.destroy (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+		this.assertTraced (delegate, 0, 1, 2, 3, 4, 5, 7, 9, 11);
+	}
+	
+	private final void assertTraced (final RecordingBackend delegate, final int ... expected) {
+		final ArrayList<Object> traced = new ArrayList<Object> ();
+		for (final Object[] event : delegate.traced)
+			traced.add (event[1]);
+		final ArrayList<Object> expected_ = new ArrayList<Object> ();
+		for (final int value : expected)
+			expected_.add (Integer.valueOf (value));
+		Assert.assertEquals (expected_, traced);
+	}
+	
+	private final void stall (final AsynchronousTranscriptBackend backend, final RecordingBackend delegate) {
+		// NOTE: the first event blocks the dispatcher inside the delegate, so that the following ones stay in the ring.
+		delegate.stall ();
+		backend.trace (TranscriptTraceType.Information, "%d", Integer.valueOf (0));
+		Assert.assertTrue (delegate.awaitStalled (AsynchronousTranscriptDispatcherTest.defaultPollTimeout));
+	}
+	
+	static final int defaultCapacity = 64;
+	static final int defaultEvents = 4096;
+	static final long defaultPollTimeout = 1000;
+	static final int defaultProducers = 4;
+	static final long defaultSettleDelay = 200;
+	
+	static final class RecordingBackend
+				extends Object
+				implements
+					TranscriptBackend
+	{
+		RecordingBackend () {
+			super ();
+			this.traced = new ConcurrentLinkedQueue<Object[]> ();
+			this.stalled = new Semaphore (0);
+			this.gate = new AtomicReference<CountDownLatch> ();
+			this.stalling = new AtomicReference<CountDownLatch> ();
+		}
+		
+		@Override
+		public final <_Logger_ extends Object> _Logger_ adaptAs (final Class<_Logger_> loggerClass) {
+			return (null);
+		}
+		
+		@Override
+		public final boolean isEnabled (final TranscriptTraceType type) {
+			return (true);
+		}
+		
+		@Override
+		public final void trace (final ExceptionResolution resolution, final Throwable exception) {
+			this.record (null, null);
+		}
+		
+		@Override
+		public final void trace (final ExceptionResolution resolution, final Throwable exception, final String message) {
+			this.record (message, null);
+		}
+		
+		@Override
+		public final void trace (final ExceptionResolution resolution, final Throwable exception, final String format, final Object ... tokens) {
+			this.record (format, tokens);
+		}
+		
+		@Override
+		public final void trace (final TranscriptTraceType type, final String message) {
+			this.record (message, null);
+		}
+		
+		@Override
+		public final void trace (final TranscriptTraceType type, final String format, final Object ... tokens) {
+			this.record (format, tokens);
+		}
+		
+		final boolean awaitStalled (final long timeout) {
+			try {
+				return (this.stalled.tryAcquire (timeout, TimeUnit.MILLISECONDS));
+			} catch (final InterruptedException exception) {
+				Thread.currentThread ().interrupt ();
+				return (false);
+			}
+		}
+		
+		final void resume () {
+			this.gate.getAndSet (null).countDown ();
+		}
+		
+		final void stall () {
+			final CountDownLatch gate = new CountDownLatch (1);
+			this.gate.set (gate);
+			this.stalling.set (gate);
+		}
+		
+		private final void record (final String format, final Object[] tokens) {
+			this.traced.add (new Object[] {format, ((tokens != null) && (tokens.length > 0)) ? tokens[0] : null});
+			final CountDownLatch gate = this.stalling.getAndSet (null);
+			if (gate != null) {
+				this.stalled.release ();
+				try {
+					gate.await ();
+				} catch (final InterruptedException exception) {
+					Thread.currentThread ().interrupt ();
+				}
+			}
+		}
+		
+		private final AtomicReference<CountDownLatch> gate;
+		private final Semaphore stalled;
+		private final AtomicReference<CountDownLatch> stalling;
+		final ConcurrentLinkedQueue<Object[]> traced;
+	}
+}